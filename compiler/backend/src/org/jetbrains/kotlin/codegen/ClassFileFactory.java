@@ -21,19 +21,28 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.Function;
 import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.containers.MultiMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
+import org.jetbrains.kotlin.diagnostics.Diagnostic;
+import org.jetbrains.kotlin.diagnostics.DiagnosticSink;
 import org.jetbrains.kotlin.psi.JetFile;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin;
 import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.kotlin.progress.ProgressIndicatorAndCompilationCanceledStatus;
+import org.jetbrains.kotlin.utils.UtilsPackage;
 import org.jetbrains.kotlin.backend.common.output.OutputFile;
 import org.jetbrains.kotlin.backend.common.output.OutputFileCollection;
 import org.jetbrains.org.objectweb.asm.Type;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class ClassFileFactory implements OutputFileCollection {
     private final GenerationState state;
@@ -41,6 +50,9 @@ public class ClassFileFactory implements OutputFileCollection {
     private final Map<FqName, PackageCodegen> package2codegen = new HashMap<FqName, PackageCodegen>();
     private final Map<String, ClassBuilderAndSourceFileList> generators = new LinkedHashMap<String, ClassBuilderAndSourceFileList>();
 
+    // Set while a package is generated on a worker thread, see generateInParallel
+    private final ThreadLocal<PackageOutput> currentPackageOutput = new ThreadLocal<PackageOutput>();
+
     private boolean isDone = false;
 
     public ClassFileFactory(@NotNull GenerationState state, @NotNull ClassBuilderFactory builderFactory) {
@@ -63,12 +75,98 @@ public class ClassFileFactory implements OutputFileCollection {
             @NotNull Collection<? extends PsiFile> sourceFiles) {
         String outputFilePath = asmType.getInternalName() + ".class";
         List<File> ioSourceFiles = toIoFilesIgnoringNonPhysical(sourceFiles);
-        state.getProgress().reportOutput(ioSourceFiles, new File(outputFilePath));
         ClassBuilder answer = builderFactory.newClassBuilder(origin);
-        generators.put(outputFilePath, new ClassBuilderAndSourceFileList(answer, ioSourceFiles));
+        ClassBuilderAndSourceFileList generator = new ClassBuilderAndSourceFileList(answer, ioSourceFiles);
+
+        PackageOutput packageOutput = currentPackageOutput.get();
+        if (packageOutput != null) {
+            packageOutput.put(outputFilePath, generator);
+        }
+        else {
+            addGenerator(outputFilePath, generator);
+        }
         return answer;
     }
 
+    private void addGenerator(@NotNull String outputFilePath, @NotNull ClassBuilderAndSourceFileList generator) {
+        state.getProgress().reportOutput(generator.sourceFiles, new File(outputFilePath));
+        generators.put(outputFilePath, generator);
+    }
+
+    /**
+     * Generates the given packages on the executor. Classes and diagnostics of each package are collected separately and then added
+     * to this factory package by package in the order of the list, so that the result is exactly the same as if the packages were
+     * generated one after another.
+     *
+     * Note that classes of a package are not visible to other packages until all of them are generated, and an exception thrown by
+     * a package is only rethrown after all packages are finished.
+     */
+    void generateInParallel(
+            @NotNull List<FqName> packages,
+            @NotNull final MultiMap<FqName, JetFile> packageFqNameToFiles,
+            @NotNull final CompilationErrorHandler errorHandler,
+            @NotNull ExecutorService executor
+    ) {
+        List<Future<PackageOutput>> results = new ArrayList<Future<PackageOutput>>(packages.size());
+        for (FqName fqName : packages) {
+            // Package codegens are created here, so that package2codegen is only accessed from this thread
+            final PackageCodegen codegen = forPackage(fqName, packageFqNameToFiles.get(fqName));
+            results.add(executor.submit(new Callable<PackageOutput>() {
+                @Override
+                public PackageOutput call() {
+                    PackageOutput output = new PackageOutput();
+                    currentPackageOutput.set(output);
+                    try {
+                        ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+                        codegen.generate(errorHandler);
+                    }
+                    catch (Throwable e) {
+                        output.exception = e;
+                    }
+                    finally {
+                        currentPackageOutput.remove();
+                    }
+                    return output;
+                }
+            }));
+        }
+
+        // Workers may read generators, so nothing is merged until all of them are finished
+        List<PackageOutput> outputs = new ArrayList<PackageOutput>(results.size());
+        try {
+            for (Future<PackageOutput> result : results) {
+                outputs.add(result.get());
+            }
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw UtilsPackage.rethrow(e.getCause());
+        }
+        finally {
+            for (Future<PackageOutput> result : results) {
+                result.cancel(true);
+            }
+        }
+
+        for (PackageOutput output : outputs) {
+            output.mergeInto(this);
+        }
+    }
+
+    /**
+     * Reports the diagnostic to the package being generated on the current thread, if any.
+     * @return false if the diagnostic should be reported as is
+     */
+    public boolean reportToCurrentPackage(@NotNull Diagnostic diagnostic) {
+        PackageOutput packageOutput = currentPackageOutput.get();
+        if (packageOutput == null) return false;
+
+        packageOutput.diagnostics.add(diagnostic);
+        return true;
+    }
+
     void done() {
         if (!isDone) {
             isDone = true;
@@ -93,6 +191,11 @@ public class ClassFileFactory implements OutputFileCollection {
     @Override
     @Nullable
     public OutputFile get(@NotNull String relativePath) {
+        PackageOutput packageOutput = currentPackageOutput.get();
+        if (packageOutput != null && packageOutput.generators.containsKey(relativePath)) {
+            ClassBuilderAndSourceFileList generator = packageOutput.generators.get(relativePath);
+            return generator != null ? new PendingOutputClassFile(relativePath, generator) : null;
+        }
         return generators.containsKey(relativePath) ? new OutputClassFile(relativePath) : null;
     }
 
@@ -178,6 +281,90 @@ public class ClassFileFactory implements OutputFileCollection {
         }
     }
 
+    // A class generated on a worker thread which is not yet added to the factory
+    private class PendingOutputClassFile implements OutputFile {
+        private final String relativeClassFilePath;
+        private final ClassBuilderAndSourceFileList generator;
+
+        public PendingOutputClassFile(@NotNull String relativeClassFilePath, @NotNull ClassBuilderAndSourceFileList generator) {
+            this.relativeClassFilePath = relativeClassFilePath;
+            this.generator = generator;
+        }
+
+        @NotNull
+        @Override
+        public String getRelativePath() {
+            return relativeClassFilePath;
+        }
+
+        @NotNull
+        @Override
+        public List<File> getSourceFiles() {
+            return generator.sourceFiles;
+        }
+
+        @NotNull
+        @Override
+        public byte[] asByteArray() {
+            return builderFactory.asBytes(generator.classBuilder);
+        }
+
+        @NotNull
+        @Override
+        public String asText() {
+            return builderFactory.asText(generator.classBuilder);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return getRelativePath() + " (compiled from " + getSourceFiles() + ")";
+        }
+    }
+
+    // Everything a package generated on a worker thread has done to the factory, in the order it was done
+    private static final class PackageOutput {
+        // null value means that the class was removed
+        private final Map<String, ClassBuilderAndSourceFileList> generators = new HashMap<String, ClassBuilderAndSourceFileList>();
+        private final List<String> operations = new ArrayList<String>();
+        private final List<ClassBuilderAndSourceFileList> added = new ArrayList<ClassBuilderAndSourceFileList>();
+        private final List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+        private Throwable exception;
+
+        private void put(@NotNull String outputFilePath, @NotNull ClassBuilderAndSourceFileList generator) {
+            generators.put(outputFilePath, generator);
+            operations.add(outputFilePath);
+            added.add(generator);
+        }
+
+        private void remove(@NotNull String outputFilePath) {
+            generators.put(outputFilePath, null);
+            operations.add(outputFilePath);
+            added.add(null);
+        }
+
+        private void mergeInto(@NotNull ClassFileFactory factory) {
+            for (int i = 0; i < operations.size(); i++) {
+                ClassBuilderAndSourceFileList generator = added.get(i);
+                if (generator != null) {
+                    factory.addGenerator(operations.get(i), generator);
+                }
+                else {
+                    factory.generators.remove(operations.get(i));
+                }
+            }
+
+            DiagnosticSink diagnosticSink = factory.state.getDiagnostics();
+            for (Diagnostic diagnostic : diagnostics) {
+                diagnosticSink.report(diagnostic);
+            }
+
+            if (exception != null) {
+                throw UtilsPackage.rethrow(exception);
+            }
+        }
+    }
+
     private static final class ClassBuilderAndSourceFileList {
         private final ClassBuilder classBuilder;
         private final List<File> sourceFiles;
@@ -189,8 +376,14 @@ public class ClassFileFactory implements OutputFileCollection {
     }
 
     public void removeInlinedClasses(Set<String> classNamesToRemove) {
+        PackageOutput packageOutput = currentPackageOutput.get();
         for (String classInternalName : classNamesToRemove) {
-            generators.remove(classInternalName + ".class");
+            if (packageOutput != null) {
+                packageOutput.remove(classInternalName + ".class");
+            }
+            else {
+                generators.remove(classInternalName + ".class");
+            }
         }
     }
 
@@ -534,6 +534,16 @@ public class ExpressionCodegen extends JetVisitor<StackValue, StackValue> implem
                     generateForLoop(new ForInRangeLiteralLoopGenerator(forExpression, binaryCall));
                     return StackValue.none();
                 }
+
+                // Is it a "1..10 step 2" or so
+                if (RangeCodegenUtil.isOptimizableStep(resolvedCall.getResultingDescriptor())) {
+                    RangeCodegenUtil.BinaryCall rangeCall = RangeCodegenUtil.getRangeAsBinaryCall(binaryCall.left);
+                    ResolvedCall<?> rangeToCall = rangeCall != null ? getResolvedCall(rangeCall.op, bindingContext) : null;
+                    if (rangeToCall != null && RangeCodegenUtil.isOptimizableRangeTo(rangeToCall.getResultingDescriptor())) {
+                        generateForLoop(new ForInSteppedRangeLiteralLoopGenerator(forExpression, rangeCall, binaryCall.right));
+                        return StackValue.none();
+                    }
+                }
             }
         }
 
@@ -1050,8 +1060,8 @@ public class ExpressionCodegen extends JetVisitor<StackValue, StackValue> implem
     }
 
     private class ForInProgressionExpressionLoopGenerator extends AbstractForInProgressionOrRangeLoopGenerator {
-        private int incrementVar;
-        private Type incrementType;
+        protected int incrementVar;
+        protected Type incrementType;
 
         private int finalVar;
 
@@ -1079,6 +1089,12 @@ public class ExpressionCodegen extends JetVisitor<StackValue, StackValue> implem
             assert incrementProp.size() == 1 : loopRangeType + " " + incrementProp.size();
             incrementType = asmType(incrementProp.iterator().next().getType());
 
+            storeProgressionStartEndAndIncrement(asmLoopRangeType);
+
+            storeFinalVar();
+        }
+
+        protected void storeProgressionStartEndAndIncrement(@NotNull Type asmLoopRangeType) {
             gen(forExpression.getLoopRange(), asmLoopRangeType);
             v.dup();
             v.dup();
@@ -1086,8 +1102,6 @@ public class ExpressionCodegen extends JetVisitor<StackValue, StackValue> implem
             generateRangeOrProgressionProperty(asmLoopRangeType, "getStart", asmElementType, loopParameterVar);
             generateRangeOrProgressionProperty(asmLoopRangeType, "getEnd", asmElementType, endVar);
             generateRangeOrProgressionProperty(asmLoopRangeType, "getIncrement", incrementType, incrementVar);
-
-            storeFinalVar();
         }
 
         private void storeFinalVar() {
@@ -1203,6 +1217,56 @@ public class ExpressionCodegen extends JetVisitor<StackValue, StackValue> implem
         }
     }
 
+    // Iterates over "start..end step increment" without creating the range and the progression
+    private class ForInSteppedRangeLiteralLoopGenerator extends ForInProgressionExpressionLoopGenerator {
+        private final RangeCodegenUtil.BinaryCall rangeCall;
+        private final JetExpression step;
+
+        private ForInSteppedRangeLiteralLoopGenerator(
+                @NotNull JetForExpression forExpression,
+                @NotNull RangeCodegenUtil.BinaryCall rangeCall,
+                @NotNull JetExpression step
+        ) {
+            super(forExpression);
+            this.rangeCall = rangeCall;
+            this.step = step;
+        }
+
+        @Override
+        protected void storeProgressionStartEndAndIncrement(@NotNull Type asmLoopRangeType) {
+            gen(rangeCall.left, asmElementType);
+            v.store(loopParameterVar, asmElementType);
+
+            gen(rangeCall.right, asmElementType);
+            v.store(endVar, asmElementType);
+
+            gen(step, incrementType);
+            v.store(incrementVar, incrementType);
+
+            // The same check as in step()
+            Label stepIsPositive = new Label();
+            v.load(incrementVar, incrementType);
+            if (incrementType.getSort() == Type.LONG) {
+                v.lconst(0L);
+                v.lcmp();
+            }
+            v.ifgt(stepIsPositive);
+
+            v.anew(Type.getObjectType("java/lang/IllegalArgumentException"));
+            v.dup();
+            genStringBuilderConstructor(v);
+            v.aconst("Step must be positive, was: ");
+            genInvokeAppendMethod(v, JAVA_STRING_TYPE);
+            v.load(incrementVar, incrementType);
+            genInvokeAppendMethod(v, incrementType);
+            v.invokevirtual("java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
+            v.invokespecial("java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+            v.athrow();
+
+            v.mark(stepIsPositive);
+        }
+    }
+
 
     @Override
     public StackValue visitBreakExpression(@NotNull JetBreakExpression expression, StackValue receiver) {
@@ -27,9 +27,9 @@ import org.jetbrains.kotlin.psi.JetScript;
 import org.jetbrains.kotlin.resolve.ScriptNameUtil;
 import org.jetbrains.org.objectweb.asm.Type;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.jetbrains.kotlin.codegen.binding.CodegenBinding.registerClassNameForScript;
 
@@ -54,6 +54,18 @@ public class KotlinCodegenFacade {
     public static void compileCorrectFiles(
             @NotNull GenerationState state,
             @NotNull CompilationErrorHandler errorHandler
+    ) {
+        compileCorrectFiles(state, errorHandler, 1);
+    }
+
+    /**
+     * @param threads number of threads to generate packages on. Output of the parallel generation is the same as of the sequential one,
+     *                but the error handler must tolerate being called from any thread
+     */
+    public static void compileCorrectFiles(
+            @NotNull GenerationState state,
+            @NotNull CompilationErrorHandler errorHandler,
+            int threads
     ) {
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
 
@@ -68,9 +80,22 @@ public class KotlinCodegenFacade {
         }
 
         Set<FqName> packagesWithObsoleteParts = new HashSet<FqName>(state.getPackagesWithObsoleteParts());
-        for (FqName fqName : Sets.union(packagesWithObsoleteParts, packageFqNameToFiles.keySet())) {
-            ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
-            generatePackage(state, fqName, packageFqNameToFiles.get(fqName), errorHandler);
+        List<FqName> packages = new ArrayList<FqName>(Sets.union(packagesWithObsoleteParts, packageFqNameToFiles.keySet()));
+
+        if (threads > 1 && packages.size() > 1) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, packages.size()));
+            try {
+                state.getFactory().generateInParallel(packages, packageFqNameToFiles, errorHandler, executor);
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+        else {
+            for (FqName fqName : packages) {
+                ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+                generatePackage(state, fqName, packageFqNameToFiles.get(fqName), errorHandler);
+            }
         }
 
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
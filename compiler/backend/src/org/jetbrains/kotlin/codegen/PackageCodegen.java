@@ -57,6 +57,7 @@ import org.jetbrains.kotlin.serialization.deserialization.descriptors.Deserializ
 import org.jetbrains.kotlin.serialization.deserialization.descriptors.DeserializedPropertyDescriptor;
 import org.jetbrains.kotlin.serialization.deserialization.descriptors.DeserializedSimpleFunctionDescriptor;
 import org.jetbrains.kotlin.serialization.jvm.BitEncoding;
+import org.jetbrains.kotlin.util.PhaseProfiler;
 import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
 import org.jetbrains.org.objectweb.asm.MethodVisitor;
 import org.jetbrains.org.objectweb.asm.Type;
@@ -213,6 +214,7 @@ public class PackageCodegen {
 
         for (JetFile file : files) {
             ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+            PhaseProfiler.INSTANCE$.start("File codegen", file);
             try {
                 ClassBuilder builder = generate(file, generateCallableMemberTasks);
                 if (builder != null) {
@@ -231,6 +233,9 @@ public class PackageCodegen {
                     e.printStackTrace();
                 }
             }
+            finally {
+                PhaseProfiler.INSTANCE$.finish();
+            }
         }
 
         generateDelegationsToPreviouslyCompiled(generateCallableMemberTasks);
@@ -22,6 +22,9 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.builtins.PrimitiveType;
 import org.jetbrains.kotlin.descriptors.CallableDescriptor;
 import org.jetbrains.kotlin.descriptors.ClassifierDescriptor;
+import org.jetbrains.kotlin.descriptors.DeclarationDescriptor;
+import org.jetbrains.kotlin.descriptors.PackageFragmentDescriptor;
+import org.jetbrains.kotlin.descriptors.ReceiverParameterDescriptor;
 import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.name.FqNameUnsafe;
 import org.jetbrains.kotlin.name.Name;
@@ -67,6 +70,11 @@ public class RangeCodegenUtil {
         // Other binary operations will succeed too, but will be filtered out later (by examining a resolvedCall)
         JetExpression rangeExpression = forExpression.getLoopRange();
         assert rangeExpression != null;
+        return getRangeAsBinaryCall(rangeExpression);
+    }
+
+    @Nullable
+    public static BinaryCall getRangeAsBinaryCall(@Nullable JetExpression rangeExpression) {
         JetExpression loopRange = JetPsiUtil.deparenthesize(rangeExpression);
         if (loopRange instanceof JetQualifiedExpression) {
             // a.rangeTo(b)
@@ -132,6 +140,23 @@ public class RangeCodegenUtil {
         return false;
     }
 
+    // step() on IntRange or LongRange from the standard library, which checks that the step is positive
+    public static boolean isOptimizableStep(CallableDescriptor step) {
+        if (!"step".equals(step.getName().asString())) return false;
+
+        DeclarationDescriptor container = step.getContainingDeclaration();
+        if (!(container instanceof PackageFragmentDescriptor) ||
+            !((PackageFragmentDescriptor) container).getFqName().equals(BUILT_INS_PACKAGE_FQ_NAME)) {
+            return false;
+        }
+
+        ReceiverParameterDescriptor receiver = step.getExtensionReceiverParameter();
+        if (receiver == null) return false;
+
+        PrimitiveType elementType = getPrimitiveRangeElementType(receiver.getType());
+        return elementType == PrimitiveType.INT || elementType == PrimitiveType.LONG;
+    }
+
     public static class BinaryCall {
         public final JetExpression left;
         public final JetExpression op;
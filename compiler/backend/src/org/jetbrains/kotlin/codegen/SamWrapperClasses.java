@@ -16,7 +16,6 @@
 
 package org.jetbrains.kotlin.codegen;
 
-import com.google.common.collect.Maps;
 import com.intellij.openapi.util.Factory;
 import com.intellij.openapi.util.Pair;
 import com.intellij.util.containers.ContainerUtil;
@@ -30,7 +29,8 @@ import java.util.Map;
 public class SamWrapperClasses {
     private final GenerationState state;
 
-    private final Map<Pair<SamType, JetFile>, Type> samInterfaceToWrapperClass = Maps.newHashMap();
+    // Wrappers are generated per file, so concurrent generation of different packages never creates the same wrapper twice
+    private final Map<Pair<SamType, JetFile>, Type> samInterfaceToWrapperClass = ContainerUtil.newConcurrentMap();
 
     public SamWrapperClasses(@NotNull GenerationState state) {
         this.state = state;
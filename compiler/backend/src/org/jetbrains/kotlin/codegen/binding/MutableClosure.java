@@ -32,12 +32,14 @@ public final class MutableClosure implements CalculatedClosure {
     private final ClassDescriptor enclosingClass;
     private final CallableDescriptor enclosingFunWithReceiverDescriptor;
 
-    private boolean captureThis;
-    private boolean captureReceiver;
+    // A closure of a class declared in an inline function may be updated by codegens of different packages at the same time (when the
+    // function body is generated for inlining), so collections are copied on write and never changed after they are published
+    private volatile boolean captureThis;
+    private volatile boolean captureReceiver;
 
-    private Map<DeclarationDescriptor, EnclosedValueDescriptor> captureVariables;
-    private Map<DeclarationDescriptor, Integer> parameterOffsetInConstructor;
-    private List<Pair<String, Type>> recordedFields;
+    private volatile Map<DeclarationDescriptor, EnclosedValueDescriptor> captureVariables;
+    private volatile Map<DeclarationDescriptor, Integer> parameterOffsetInConstructor;
+    private volatile List<Pair<String, Type>> recordedFields;
 
     MutableClosure(@NotNull ClassDescriptor classDescriptor, @Nullable ClassDescriptor enclosingClass) {
         this.enclosingClass = enclosingClass;
@@ -91,37 +93,44 @@ public final class MutableClosure implements CalculatedClosure {
     @NotNull
     @Override
     public Map<DeclarationDescriptor, EnclosedValueDescriptor> getCaptureVariables() {
+        Map<DeclarationDescriptor, EnclosedValueDescriptor> captureVariables = this.captureVariables;
         return captureVariables != null ? captureVariables : Collections.<DeclarationDescriptor, EnclosedValueDescriptor>emptyMap();
     }
 
     @NotNull
     @Override
     public List<Pair<String, Type>> getRecordedFields() {
+        List<Pair<String, Type>> recordedFields = this.recordedFields;
         return recordedFields != null ? recordedFields : Collections.<Pair<String, Type>>emptyList();
     }
 
-    public void recordField(String name, Type type) {
-        if (recordedFields == null) {
-            recordedFields = new LinkedList<Pair<String, Type>>();
-        }
-        recordedFields.add(new Pair<String, Type>(name, type));
+    public synchronized void recordField(String name, Type type) {
+        List<Pair<String, Type>> newRecordedFields =
+                recordedFields == null ? new ArrayList<Pair<String, Type>>(1) : new ArrayList<Pair<String, Type>>(recordedFields);
+        newRecordedFields.add(new Pair<String, Type>(name, type));
+        recordedFields = newRecordedFields;
     }
 
-    public void captureVariable(EnclosedValueDescriptor value) {
-        if (captureVariables == null) {
-            captureVariables = new LinkedHashMap<DeclarationDescriptor, EnclosedValueDescriptor>();
-        }
-        captureVariables.put(value.getDescriptor(), value);
+    public synchronized void captureVariable(EnclosedValueDescriptor value) {
+        Map<DeclarationDescriptor, EnclosedValueDescriptor> newCaptureVariables =
+                captureVariables == null
+                ? new LinkedHashMap<DeclarationDescriptor, EnclosedValueDescriptor>()
+                : new LinkedHashMap<DeclarationDescriptor, EnclosedValueDescriptor>(captureVariables);
+        newCaptureVariables.put(value.getDescriptor(), value);
+        captureVariables = newCaptureVariables;
     }
 
-    public void setCapturedParameterOffsetInConstructor(DeclarationDescriptor descriptor, int offset) {
-        if (parameterOffsetInConstructor == null) {
-            parameterOffsetInConstructor = new LinkedHashMap<DeclarationDescriptor, Integer>();
-        }
-        parameterOffsetInConstructor.put(descriptor, offset);
+    public synchronized void setCapturedParameterOffsetInConstructor(DeclarationDescriptor descriptor, int offset) {
+        Map<DeclarationDescriptor, Integer> newParameterOffsetInConstructor =
+                parameterOffsetInConstructor == null
+                ? new LinkedHashMap<DeclarationDescriptor, Integer>()
+                : new LinkedHashMap<DeclarationDescriptor, Integer>(parameterOffsetInConstructor);
+        newParameterOffsetInConstructor.put(descriptor, offset);
+        parameterOffsetInConstructor = newParameterOffsetInConstructor;
     }
 
     public int getCapturedParameterOffsetInConstructor(DeclarationDescriptor descriptor) {
+        Map<DeclarationDescriptor, Integer> parameterOffsetInConstructor = this.parameterOffsetInConstructor;
         Integer result = parameterOffsetInConstructor != null ? parameterOffsetInConstructor.get(descriptor) : null;
         return result != null ? result.intValue() : -1;
     }
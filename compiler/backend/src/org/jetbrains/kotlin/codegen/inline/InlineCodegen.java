@@ -196,10 +196,10 @@ public class InlineCodegen extends CallGenerator {
                 /*use facade class*/
                 containerClassId = PackageClassUtils.getPackageClassId(containerClassId.getPackageFqName());
             }
-            nodeAndSMAP = InlineCodegenUtil.getMethodNode(file.contentsToByteArray(),
-                                                          asmMethod.getName(),
-                                                          asmMethod.getDescriptor(),
-                                                          containerClassId);
+            nodeAndSMAP = state.getInlineMethodNodeCache().getMethodNode(file,
+                                                                         containerClassId,
+                                                                         asmMethod.getName(),
+                                                                         asmMethod.getDescriptor());
 
             if (nodeAndSMAP == null) {
                 throw new RuntimeException("Couldn't obtain compiled function body for " + descriptorName(functionDescriptor));
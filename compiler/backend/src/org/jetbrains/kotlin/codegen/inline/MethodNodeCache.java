@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.inline;
+
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.name.ClassId;
+import org.jetbrains.kotlin.util.PerformanceCounter;
+import org.jetbrains.org.objectweb.asm.ClassReader;
+import org.jetbrains.org.objectweb.asm.ClassVisitor;
+import org.jetbrains.org.objectweb.asm.Label;
+import org.jetbrains.org.objectweb.asm.MethodVisitor;
+import org.jetbrains.org.objectweb.asm.tree.MethodNode;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jetbrains.kotlin.codegen.inline.InlineCodegenUtil.API;
+import static org.jetbrains.kotlin.codegen.inline.InlineCodegenUtil.GENERATE_SMAP;
+
+/**
+ * Bodies of compiled inline functions for the time of one compilation, so that a class file is read and indexed once rather than
+ * once per call of each of its inline functions.
+ *
+ * A method is parsed on its first use into a template, which is never given out: each call gets a copy of it with fresh labels.
+ * SMAP is parsed anew for each copy as well since inlining may attach it to other mappings.
+ * At most MAX_CLASSES most recently used classes are kept, and they are softly reachable, so the cache is dropped under memory pressure.
+ */
+public class MethodNodeCache {
+    private static final int MAX_CLASSES = 256;
+
+    private static final PerformanceCounter hitCounter = PerformanceCounter.create("Inline function body taken from cache");
+    private static final PerformanceCounter missCounter = PerformanceCounter.create("Inline function body read from class file");
+
+    private final Map<String, SoftReference<ClassMethods>> classes =
+            new LinkedHashMap<String, SoftReference<ClassMethods>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SoftReference<ClassMethods>> eldest) {
+                    return size() > MAX_CLASSES;
+                }
+            };
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    @Nullable
+    public SMAPAndMethodNode getMethodNode(
+            @NotNull final VirtualFile file,
+            @NotNull ClassId classId,
+            @NotNull String methodName,
+            @NotNull String methodDescriptor
+    ) throws IOException {
+        return getMethodNode(file.getUrl(), classId, methodName, methodDescriptor, new ThrowableComputable<byte[], IOException>() {
+            @Override
+            public byte[] compute() throws IOException {
+                return file.contentsToByteArray();
+            }
+        });
+    }
+
+    // classKey identifies the class file, classData is only computed if the class is not in the cache
+    @Nullable
+    public SMAPAndMethodNode getMethodNode(
+            @NotNull String classKey,
+            @NotNull ClassId classId,
+            @NotNull String methodName,
+            @NotNull String methodDescriptor,
+            @NotNull ThrowableComputable<byte[], IOException> classData
+    ) throws IOException {
+        ClassMethods methods = getClassMethods(classKey + "#" + classId, classData);
+
+        MethodTemplate template = methods.getTemplate(methodName, methodDescriptor);
+        if (template == null) return null;
+
+        return template.copy(methods, classId);
+    }
+
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    public int getMissCount() {
+        return misses.get();
+    }
+
+    @NotNull
+    private ClassMethods getClassMethods(@NotNull String key, @NotNull ThrowableComputable<byte[], IOException> classData) throws IOException {
+        synchronized (classes) {
+            SoftReference<ClassMethods> reference = classes.get(key);
+            ClassMethods methods = reference != null ? reference.get() : null;
+            if (methods != null) return methods;
+        }
+
+        // the class is read outside of the lock, several threads may read the same class at once but only one result is kept
+        ClassMethods methods = new ClassMethods(new ClassReader(classData.compute()));
+
+        synchronized (classes) {
+            SoftReference<ClassMethods> reference = classes.get(key);
+            ClassMethods existing = reference != null ? reference.get() : null;
+            if (existing != null) return existing;
+
+            classes.put(key, new SoftReference<ClassMethods>(methods));
+            return methods;
+        }
+    }
+
+    private class ClassMethods {
+        private final ClassReader reader;
+        private final Set<String> methodKeys = new HashSet<String>();
+        private String source;
+        private String debug;
+
+        // null values stand for methods failed to be read
+        private final Map<String, MethodTemplate> templates = new HashMap<String, MethodTemplate>();
+
+        public ClassMethods(@NotNull ClassReader reader) {
+            this.reader = reader;
+            reader.accept(new ClassVisitor(API) {
+                @Override
+                public void visitSource(String source, String debug) {
+                    ClassMethods.this.source = source;
+                    ClassMethods.this.debug = debug;
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int access, @NotNull String name, @NotNull String desc, String signature, String[] exceptions) {
+                    methodKeys.add(name + desc);
+                    return null;
+                }
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+        }
+
+        @Nullable
+        public synchronized MethodTemplate getTemplate(@NotNull String methodName, @NotNull String methodDescriptor) {
+            String key = methodName + methodDescriptor;
+            if (!methodKeys.contains(key)) return null;
+
+            if (templates.containsKey(key)) {
+                hits.incrementAndGet();
+                hitCounter.increment();
+                return templates.get(key);
+            }
+
+            misses.incrementAndGet();
+            missCounter.increment();
+            MethodTemplate template = readTemplate(methodName, methodDescriptor);
+            templates.put(key, template);
+            return template;
+        }
+
+        @Nullable
+        private MethodTemplate readTemplate(@NotNull final String methodName, @NotNull final String methodDescriptor) {
+            final MethodTemplate[] result = new MethodTemplate[1];
+            reader.accept(new ClassVisitor(API) {
+                @Override
+                public MethodVisitor visitMethod(
+                        int access,
+                        @NotNull String name,
+                        @NotNull String desc,
+                        String signature,
+                        String[] exceptions
+                ) {
+                    if (result[0] != null || !methodName.equals(name) || !methodDescriptor.equals(desc)) return null;
+
+                    final MethodTemplate template = new MethodTemplate(new MethodNode(API, access, name, desc, signature, exceptions) {
+                        @Override
+                        public void visitLineNumber(int line, @NotNull Label start) {
+                            super.visitLineNumber(line, start);
+                            result[0].minLine = Math.min(result[0].minLine, line);
+                            result[0].maxLine = Math.max(result[0].maxLine, line);
+                        }
+                    });
+                    result[0] = template;
+                    return template.node;
+                }
+            }, ClassReader.SKIP_FRAMES | (GENERATE_SMAP ? 0 : ClassReader.SKIP_DEBUG));
+            return result[0];
+        }
+    }
+
+    private static class MethodTemplate {
+        private final MethodNode node;
+        private int minLine = Integer.MAX_VALUE;
+        private int maxLine = Integer.MIN_VALUE;
+
+        public MethodTemplate(@NotNull MethodNode node) {
+            this.node = node;
+        }
+
+        @NotNull
+        public SMAPAndMethodNode copy(@NotNull ClassMethods methods, @NotNull ClassId classId) {
+            List<String> exceptions = node.exceptions;
+            MethodNode copy = new MethodNode(API, node.access, node.name, node.desc, node.signature,
+                                             exceptions.toArray(new String[exceptions.size()]));
+            // accept() resets labels of the template, so copies of the same template are made one at a time
+            synchronized (this) {
+                node.accept(copy);
+            }
+
+            SMAP smap = SMAPParser.parseOrCreateDefault(methods.debug, methods.source, classId.toString(), minLine, maxLine);
+            return new SMAPAndMethodNode(copy, smap);
+        }
+    }
+}
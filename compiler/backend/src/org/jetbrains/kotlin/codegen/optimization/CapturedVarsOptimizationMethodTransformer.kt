@@ -0,0 +1,246 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.common.InsnSequence
+import org.jetbrains.kotlin.codegen.optimization.common.MethodFrames
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.HashSet
+import java.util.LinkedHashSet
+
+/**
+ * Replaces shared variables (kotlin.jvm.internal.Ref.*Ref) which don't escape the method with plain local variables.
+ *
+ * Once lambdas are inlined, a Ref of a captured var is usually only stored to local variables (the var itself and copies
+ * made by the inliner), and these variables are only used to read and write the element. Such a Ref is not created at all,
+ * its element is kept in a new local variable instead. A Ref used in any other way (passed somewhere, merged with another value,
+ * duplicated on the stack etc.) is left as is.
+ */
+public class CapturedVarsOptimizationMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        val insns = methodNode.instructions.toArray()
+        if (insns.none { it.isNewRef() }) return
+
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, SourceInterpreter())
+        val usages = ValueUsages(insns, frames)
+
+        val refs = insns.indices.filter { insns[it].isNewRef() && frames[it] != null }.map { usages.findNonEscapingRef(insns[it]) }
+        for (ref in refs) {
+            if (ref != null) {
+                scalarize(methodNode, ref)
+            }
+        }
+    }
+
+    private class Usage(val insn: AbstractInsnNode, val depth: Int)
+
+    private class SharedRef(val newInsn: TypeInsnNode) {
+        var dup: AbstractInsnNode? = null
+        var init: AbstractInsnNode? = null
+        val stores = LinkedHashSet<VarInsnNode>()
+        val loads = LinkedHashSet<VarInsnNode>()
+        val getFields = ArrayList<AbstractInsnNode>()
+        val putFields = ArrayList<AbstractInsnNode>()
+    }
+
+    private class ValueUsages(insns: Array<AbstractInsnNode>, frames: MethodFrames<SourceValue>) {
+        // Instructions taking a value produced by the given instruction from the stack
+        private val usages = HashMap<AbstractInsnNode, MutableList<Usage>>()
+        // Producers of values which are merged with values of other producers
+        private val merged = HashSet<AbstractInsnNode>()
+        private val loadsOfStore = HashMap<AbstractInsnNode, MutableList<VarInsnNode>>()
+        private val storesOfLoad = HashMap<VarInsnNode, Set<AbstractInsnNode>>()
+
+        init {
+            for (index in insns.indices) {
+                val insn = insns[index]
+                val frame = frames[index] ?: continue
+
+                val stackSize = frame.getStackSize()
+                for (depth in 0..Math.min(consumedStackValues(insn), stackSize) - 1) {
+                    val value = frame.getStack(stackSize - 1 - depth)
+                    if (value.insns.size() > 1) {
+                        merged.addAll(value.insns)
+                    }
+                    for (producer in value.insns) {
+                        usages.getOrPut(producer) { ArrayList() }.add(Usage(insn, depth))
+                    }
+                }
+
+                if (insn.getOpcode() == Opcodes.ALOAD) {
+                    val load = insn as VarInsnNode
+                    val stores = frame.getLocal(load.`var`).insns
+                    storesOfLoad[load] = stores
+                    for (store in stores) {
+                        loadsOfStore.getOrPut(store) { ArrayList() }.add(load)
+                    }
+                }
+            }
+        }
+
+        fun findNonEscapingRef(newInsn: AbstractInsnNode): SharedRef? {
+            val ref = SharedRef(newInsn as TypeInsnNode)
+            val producers = arrayListOf<AbstractInsnNode>(newInsn)
+
+            while (producers.isNotEmpty()) {
+                val producer = producers.remove(producers.size() - 1)
+                if (producer in merged) return null
+
+                for (usage in usages[producer] ?: listOf<Usage>()) {
+                    val insn = usage.insn
+                    when {
+                        producer == newInsn && insn.getOpcode() == Opcodes.DUP && ref.dup == null -> {
+                            ref.dup = insn
+                            producers.add(insn)
+                        }
+                        producer == ref.dup -> {
+                            if (!insn.isRefInit(newInsn.desc) || ref.init != null) return null
+                            ref.init = insn
+                        }
+                        insn.getOpcode() == Opcodes.ASTORE -> {
+                            val store = insn as VarInsnNode
+                            if (ref.stores.add(store)) {
+                                for (load in loadsOfStore[store] ?: listOf<VarInsnNode>()) {
+                                    if (ref.loads.add(load)) {
+                                        producers.add(load)
+                                    }
+                                }
+                            }
+                        }
+                        producer == newInsn -> return null
+                        insn.isElementAccess(Opcodes.GETFIELD, newInsn.desc) && usage.depth == 0 -> ref.getFields.add(insn)
+                        insn.isElementAccess(Opcodes.PUTFIELD, newInsn.desc) && usage.depth == 1 -> ref.putFields.add(insn)
+                        else -> return null
+                    }
+                }
+            }
+
+            if (ref.init == null) return null
+
+            // A variable which sometimes holds this Ref and sometimes something else can't be replaced
+            if (ref.loads.any { load -> storesOfLoad[load]!!.any { it !in ref.stores } }) return null
+
+            return ref
+        }
+
+        private fun AbstractInsnNode.isRefInit(refType: String): Boolean =
+                this is MethodInsnNode && getOpcode() == Opcodes.INVOKESPECIAL && owner == refType && name == "<init>" && desc == "()V"
+
+        private fun AbstractInsnNode.isElementAccess(opcode: Int, refType: String): Boolean =
+                this is FieldInsnNode && getOpcode() == opcode && owner == refType && name == "element"
+    }
+
+    private fun scalarize(methodNode: MethodNode, ref: SharedRef) {
+        val elementType = REF_ELEMENT_TYPES[ref.newInsn.desc]!!
+        val elementVar = methodNode.maxLocals
+        methodNode.maxLocals += elementType.getSize()
+
+        val instructions = methodNode.instructions
+        instructions.insertBefore(ref.newInsn, defaultValue(elementType))
+        instructions.insertBefore(ref.newInsn, VarInsnNode(elementType.getOpcode(Opcodes.ISTORE), elementVar))
+        instructions.remove(ref.newInsn)
+        instructions.remove(ref.dup)
+        instructions.remove(ref.init)
+
+        for (getField in ref.getFields) {
+            instructions.set(getField, VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), elementVar))
+        }
+        for (putField in ref.putFields) {
+            instructions.set(putField, VarInsnNode(elementType.getOpcode(Opcodes.ISTORE), elementVar))
+        }
+
+        // Variables which held only this Ref now show its element in the debugger
+        val refVars = ref.stores.map { it.`var` }.toSet()
+        val otherStoredVars = InsnSequence(instructions).filter { it.getOpcode() == Opcodes.ASTORE && it !in ref.stores }
+                .map { (it as VarInsnNode).`var` }.toSet()
+        val refDescriptor = Type.getObjectType(ref.newInsn.desc).getDescriptor()
+        for (localVariable in methodNode.localVariables ?: listOf<LocalVariableNode>()) {
+            if (localVariable.index in refVars && localVariable.index !in otherStoredVars && localVariable.desc == refDescriptor) {
+                localVariable.index = elementVar
+                localVariable.desc = elementType.getDescriptor()
+            }
+        }
+
+        ref.stores.forEach { instructions.remove(it) }
+        ref.loads.forEach { instructions.remove(it) }
+    }
+
+    private fun defaultValue(type: Type): AbstractInsnNode =
+            when (type.getSort()) {
+                Type.LONG -> InsnNode(Opcodes.LCONST_0)
+                Type.FLOAT -> InsnNode(Opcodes.FCONST_0)
+                Type.DOUBLE -> InsnNode(Opcodes.DCONST_0)
+                Type.OBJECT -> InsnNode(Opcodes.ACONST_NULL)
+                else -> InsnNode(Opcodes.ICONST_0)
+            }
+
+    private fun AbstractInsnNode.isNewRef(): Boolean =
+            getOpcode() == Opcodes.NEW && (this as TypeInsnNode).desc in REF_ELEMENT_TYPES
+
+    companion object {
+        private val REF_ELEMENT_TYPES: Map<String, Type> = hashMapOf(
+                "kotlin/jvm/internal/Ref\$ObjectRef" to Type.getObjectType("java/lang/Object"),
+                "kotlin/jvm/internal/Ref\$BooleanRef" to Type.BOOLEAN_TYPE,
+                "kotlin/jvm/internal/Ref\$CharRef" to Type.CHAR_TYPE,
+                "kotlin/jvm/internal/Ref\$ByteRef" to Type.BYTE_TYPE,
+                "kotlin/jvm/internal/Ref\$ShortRef" to Type.SHORT_TYPE,
+                "kotlin/jvm/internal/Ref\$IntRef" to Type.INT_TYPE,
+                "kotlin/jvm/internal/Ref\$FloatRef" to Type.FLOAT_TYPE,
+                "kotlin/jvm/internal/Ref\$LongRef" to Type.LONG_TYPE,
+                "kotlin/jvm/internal/Ref\$DoubleRef" to Type.DOUBLE_TYPE
+        )
+    }
+}
+
+// Number of stack values an instruction takes, the largest one for instructions working with values of different sizes
+private fun consumedStackValues(insn: AbstractInsnNode): Int {
+    val opcode = insn.getOpcode()
+    return when (insn) {
+        is MethodInsnNode -> Type.getArgumentTypes(insn.desc).size() + (if (opcode == Opcodes.INVOKESTATIC) 0 else 1)
+        is InvokeDynamicInsnNode -> Type.getArgumentTypes(insn.desc).size()
+        is MultiANewArrayInsnNode -> insn.dims
+        is FieldInsnNode -> when (opcode) {
+            Opcodes.GETSTATIC -> 0
+            Opcodes.PUTSTATIC, Opcodes.GETFIELD -> 1
+            else -> 2
+        }
+        else -> when (opcode) {
+            in Opcodes.IALOAD..Opcodes.SALOAD, in Opcodes.IADD..Opcodes.DREM, in Opcodes.ISHL..Opcodes.LXOR,
+            in Opcodes.LCMP..Opcodes.DCMPG, in Opcodes.IF_ICMPEQ..Opcodes.IF_ACMPNE,
+            Opcodes.POP2, Opcodes.DUP_X1, Opcodes.DUP2, Opcodes.SWAP -> 2
+
+            in Opcodes.IASTORE..Opcodes.SASTORE, Opcodes.DUP_X2, Opcodes.DUP2_X1 -> 3
+
+            Opcodes.DUP2_X2 -> 4
+
+            in Opcodes.ISTORE..Opcodes.ASTORE, Opcodes.POP, Opcodes.DUP, in Opcodes.INEG..Opcodes.DNEG, in Opcodes.I2L..Opcodes.I2S,
+            in Opcodes.IFEQ..Opcodes.IFLE, Opcodes.IFNULL, Opcodes.IFNONNULL, Opcodes.TABLESWITCH, Opcodes.LOOKUPSWITCH,
+            in Opcodes.IRETURN..Opcodes.ARETURN, Opcodes.ATHROW, Opcodes.MONITORENTER, Opcodes.MONITOREXIT,
+            Opcodes.CHECKCAST, Opcodes.INSTANCEOF, Opcodes.NEWARRAY, Opcodes.ANEWARRAY, Opcodes.ARRAYLENGTH -> 1
+
+            else -> 0
+        }
+    }
+}
+
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.common.OptimizationBasicInterpreter
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.BasicValue
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+
+/**
+ * Propagates int constants through the stack and local variables and folds arithmetic and conditional jumps on them.
+ *
+ * An instruction whose operands are known constants is replaced by POP/POP2 of the operands followed by its result
+ * (or by a GOTO for a jump which is always taken), then pushes of constants and loads immediately followed by pops are removed.
+ * Unreachable branches are left for DeadCodeEliminationMethodTransformer.
+ */
+public class ConstantFoldingMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        // A folded jump may leave only one way to a merge point, so a constant can be known there on the next round
+        while (foldConstants(internalClassName, methodNode)) {
+        }
+    }
+
+    private fun foldConstants(internalClassName: String, methodNode: MethodNode): Boolean {
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, ConstantPropagationInterpreter())
+        val insns = methodNode.instructions.toArray()
+
+        // Frames are computed for the original instructions, so the method is changed only after all of them are inspected
+        val replacements = linkedMapOf<AbstractInsnNode, List<AbstractInsnNode>>()
+        for (index in insns.indices) {
+            val insn = insns[index]
+            val frame = frames[index] ?: continue
+            val replacement = fold(insn, frame) ?: continue
+            replacements[insn] = replacement
+        }
+
+        if (replacements.isEmpty()) return false
+
+        for ((insn, replacement) in replacements) {
+            for (newInsn in replacement) {
+                methodNode.instructions.insertBefore(insn, newInsn)
+            }
+            methodNode.instructions.remove(insn)
+        }
+
+        removePoppedPushes(methodNode.instructions)
+        return true
+    }
+
+    private fun fold(insn: AbstractInsnNode, frame: Frame<BasicValue>): List<AbstractInsnNode>? {
+        val opcode = insn.getOpcode()
+        return when (opcode) {
+            Opcodes.INEG, Opcodes.I2B, Opcodes.I2C, Opcodes.I2S -> {
+                val operand = frame.peek(0) ?: return null
+                val result = foldUnary(opcode, operand) ?: return null
+                listOf(InsnNode(Opcodes.POP), pushInt(result))
+            }
+
+            Opcodes.IADD, Opcodes.ISUB, Opcodes.IMUL, Opcodes.IDIV, Opcodes.IREM,
+            Opcodes.ISHL, Opcodes.ISHR, Opcodes.IUSHR, Opcodes.IAND, Opcodes.IOR, Opcodes.IXOR -> {
+                val left = frame.peek(1) ?: return null
+                val right = frame.peek(0) ?: return null
+                val result = foldBinary(opcode, left, right) ?: return null
+                listOf(InsnNode(Opcodes.POP2), pushInt(result))
+            }
+
+            Opcodes.IFEQ, Opcodes.IFNE, Opcodes.IFLT, Opcodes.IFGE, Opcodes.IFGT, Opcodes.IFLE -> {
+                val operand = frame.peek(0) as? IntConstantValue ?: return null
+                jumpReplacement(Opcodes.POP, insn as JumpInsnNode, compare(opcode - Opcodes.IFEQ, operand.value, 0))
+            }
+
+            Opcodes.IF_ICMPEQ, Opcodes.IF_ICMPNE, Opcodes.IF_ICMPLT, Opcodes.IF_ICMPGE, Opcodes.IF_ICMPGT, Opcodes.IF_ICMPLE -> {
+                val left = frame.peek(1) as? IntConstantValue ?: return null
+                val right = frame.peek(0) as? IntConstantValue ?: return null
+                jumpReplacement(Opcodes.POP2, insn as JumpInsnNode, compare(opcode - Opcodes.IF_ICMPEQ, left.value, right.value))
+            }
+
+            else -> null
+        }
+    }
+
+    private fun jumpReplacement(popOpcode: Int, jump: JumpInsnNode, isTaken: Boolean): List<AbstractInsnNode> =
+            if (isTaken) listOf(InsnNode(popOpcode), JumpInsnNode(Opcodes.GOTO, jump.label)) else listOf(InsnNode(popOpcode))
+
+    // Conditions are in the order of IFEQ..IFLE and IF_ICMPEQ..IF_ICMPLE
+    private fun compare(condition: Int, left: Int, right: Int): Boolean =
+            when (condition) {
+                0 -> left == right
+                1 -> left != right
+                2 -> left < right
+                3 -> left >= right
+                4 -> left > right
+                5 -> left <= right
+                else -> throw IllegalArgumentException("Unknown condition: $condition")
+            }
+
+    private fun Frame<BasicValue>.peek(depth: Int): BasicValue? {
+        val index = getStackSize() - 1 - depth
+        return if (index >= 0) getStack(index) else null
+    }
+
+    private fun removePoppedPushes(instructions: InsnList) {
+        var insn: AbstractInsnNode? = instructions.getFirst()
+        while (insn != null) {
+            val next = insn.getNext()
+            when (insn.getOpcode()) {
+                Opcodes.POP -> {
+                    val pushed = insn.getPrevious()
+                    if (pushed != null && isSingleWordPush(pushed)) {
+                        instructions.remove(pushed)
+                        instructions.remove(insn)
+                    }
+                }
+                Opcodes.POP2 -> {
+                    val second = insn.getPrevious()
+                    val first = second?.getPrevious()
+                    if (second != null && first != null && isSingleWordPush(first) && isSingleWordPush(second)) {
+                        instructions.remove(first)
+                        instructions.remove(second)
+                        instructions.remove(insn)
+                    }
+                }
+            }
+            insn = next
+        }
+    }
+
+    private fun isSingleWordPush(insn: AbstractInsnNode): Boolean =
+            when (insn.getOpcode()) {
+                in Opcodes.ICONST_M1..Opcodes.ICONST_5, Opcodes.BIPUSH, Opcodes.SIPUSH, Opcodes.ILOAD, Opcodes.ACONST_NULL -> true
+                Opcodes.LDC -> (insn as LdcInsnNode).cst is Int
+                else -> false
+            }
+}
+
+private fun foldUnary(opcode: Int, operand: BasicValue): Int? {
+    if (operand !is IntConstantValue) return null
+    val value = operand.value
+    return when (opcode) {
+        Opcodes.INEG -> -value
+        Opcodes.I2B -> value.toByte().toInt()
+        Opcodes.I2C -> value.toChar().toInt()
+        Opcodes.I2S -> value.toShort().toInt()
+        else -> null
+    }
+}
+
+private fun foldBinary(opcode: Int, left: BasicValue, right: BasicValue): Int? {
+    if (left !is IntConstantValue || right !is IntConstantValue) return null
+    val a = left.value
+    val b = right.value
+    return when (opcode) {
+        Opcodes.IADD -> a + b
+        Opcodes.ISUB -> a - b
+        Opcodes.IMUL -> a * b
+        // Division by zero must still throw
+        Opcodes.IDIV -> if (b != 0) a / b else null
+        Opcodes.IREM -> if (b != 0) a % b else null
+        Opcodes.ISHL -> a shl b
+        Opcodes.ISHR -> a shr b
+        Opcodes.IUSHR -> a ushr b
+        Opcodes.IAND -> a and b
+        Opcodes.IOR -> a or b
+        Opcodes.IXOR -> a xor b
+        else -> null
+    }
+}
+
+private fun pushInt(value: Int): AbstractInsnNode =
+        when (value) {
+            in -1..5 -> InsnNode(Opcodes.ICONST_0 + value)
+            in Byte.MIN_VALUE.toInt()..Byte.MAX_VALUE.toInt() -> IntInsnNode(Opcodes.BIPUSH, value)
+            in Short.MIN_VALUE.toInt()..Short.MAX_VALUE.toInt() -> IntInsnNode(Opcodes.SIPUSH, value)
+            else -> LdcInsnNode(value)
+        }
+
+private class IntConstantValue(val value: Int) : BasicValue(Type.INT_TYPE) {
+    override fun equals(other: Any?): Boolean = other is IntConstantValue && other.value == value
+
+    override fun hashCode(): Int = value
+
+    override fun toString(): String = "I($value)"
+}
+
+// BasicValue.equals compares only types, so INT_VALUE would be considered equal to a constant and the analyzer would not notice
+// that a constant merged with an unknown int is not a constant anymore. This value is equal only to itself.
+private object NonConstantIntValue : BasicValue(Type.INT_TYPE) {
+    override fun equals(other: Any?): Boolean = other === this
+
+    override fun hashCode(): Int = System.identityHashCode(this)
+}
+
+private class ConstantPropagationInterpreter : OptimizationBasicInterpreter() {
+    override fun newOperation(insn: AbstractInsnNode): BasicValue? {
+        val opcode = insn.getOpcode()
+        return when {
+            opcode in Opcodes.ICONST_M1..Opcodes.ICONST_5 -> IntConstantValue(opcode - Opcodes.ICONST_0)
+            opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH -> IntConstantValue((insn as IntInsnNode).operand)
+            opcode == Opcodes.LDC && (insn as LdcInsnNode).cst is Int -> IntConstantValue((insn as LdcInsnNode).cst as Int)
+            else -> super.newOperation(insn)
+        }
+    }
+
+    override fun unaryOperation(insn: AbstractInsnNode, value: BasicValue): BasicValue? =
+            foldUnary(insn.getOpcode(), value)?.let { IntConstantValue(it) } ?: super.unaryOperation(insn, value)
+
+    override fun binaryOperation(insn: AbstractInsnNode, value1: BasicValue, value2: BasicValue): BasicValue? =
+            foldBinary(insn.getOpcode(), value1, value2)?.let { IntConstantValue(it) } ?: super.binaryOperation(insn, value1, value2)
+
+    override fun merge(v: BasicValue, w: BasicValue): BasicValue {
+        if (v is IntConstantValue || w is IntConstantValue) {
+            if (v is IntConstantValue && w is IntConstantValue && v.value == w.value) return v
+            if (v.isStoredInIntVariable() && w.isStoredInIntVariable()) return NonConstantIntValue
+        }
+        return super.merge(v, w)
+    }
+
+    private fun BasicValue.isStoredInIntVariable(): Boolean = getType()?.getOpcode(Opcodes.ISTORE) == Opcodes.ISTORE
+}
@@ -30,8 +30,8 @@ public class DeadCodeEliminationMethodTransformer : MethodTransformer() {
         // Do not remove not meaningful nodes (labels/linenumbers) because they can be referred
         // by try/catch blocks or local variables table
         // We remove unneeded ones further after all optimizations by calling CommonPackage.prepareForEmitting(methodNode)
-        insnsArray.zip(frames).filter {
-            it.second == null && it.first.isMeaningful
-        }.forEach { insnList.remove(it.first) }
+        insnsArray.indices.filter {
+            frames[it] == null && insnsArray[it].isMeaningful
+        }.forEach { insnList.remove(insnsArray[it]) }
     }
 }
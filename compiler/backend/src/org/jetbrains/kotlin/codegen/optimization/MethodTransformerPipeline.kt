@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantBoxingMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantNullCheckMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.kotlin.util.PerformanceCounter
+import org.jetbrains.kotlin.util.PhaseProfiler
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Optimization passes applied one after another to every generated method.
+ *
+ * Each pass records how many times it ran, how long it took and how the number of instructions changed,
+ * and is also reported to PhaseProfiler as a separate phase.
+ * Passes may run on several threads at once, so transformers must not keep any state between methods.
+ */
+public class MethodTransformerPipeline(transformers: List<MethodTransformer>) {
+    public val passes: List<Pass> = transformers.map { Pass(it) }
+
+    public val transformers: List<MethodTransformer>
+        get() = passes.map { it.transformer }
+
+    // Statistics are not shared with the new pipeline
+    public fun with(vararg additional: MethodTransformer): MethodTransformerPipeline =
+            MethodTransformerPipeline(transformers + additional.toList())
+
+    public fun without(transformerClass: Class<out MethodTransformer>): MethodTransformerPipeline =
+            MethodTransformerPipeline(transformers.filter { !transformerClass.isInstance(it) })
+
+    public fun transform(internalClassName: String, methodNode: MethodNode) {
+        for (pass in passes) {
+            pass.run(internalClassName, methodNode)
+        }
+    }
+
+    public fun report(consumer: (String) -> Unit) {
+        passes.forEach { it.report(consumer) }
+    }
+
+    public fun resetStatistics() {
+        passes.forEach { it.reset() }
+    }
+
+    public class Pass(public val transformer: MethodTransformer) {
+        public val name: String = "Optimization: " + transformer.javaClass.getSimpleName()
+
+        private val runs = AtomicInteger()
+        private val totalNanos = AtomicLong()
+        private val instructionsBefore = AtomicLong()
+        private val instructionsAfter = AtomicLong()
+
+        public val runCount: Int get() = runs.get()
+        public val totalTimeNanos: Long get() = totalNanos.get()
+
+        // Negative if the pass added instructions
+        public val removedInstructions: Long get() = instructionsBefore.get() - instructionsAfter.get()
+
+        public fun run(internalClassName: String, methodNode: MethodNode) {
+            val sizeBefore = methodNode.instructions.size()
+            val startNanos = PerformanceCounter.currentTime()
+
+            PhaseProfiler.phase(name, null) {
+                transformer.transform(internalClassName, methodNode)
+            }
+
+            totalNanos.addAndGet(PerformanceCounter.currentTime() - startNanos)
+            runs.incrementAndGet()
+            instructionsBefore.addAndGet(sizeBefore.toLong())
+            instructionsAfter.addAndGet(methodNode.instructions.size().toLong())
+        }
+
+        public fun report(consumer: (String) -> Unit) {
+            val millis = TimeUnit.NANOSECONDS.toMillis(totalNanos.get())
+            consumer("$name performed ${runs.get()} times, total time $millis ms, " +
+                     "instructions ${instructionsBefore.get()} -> ${instructionsAfter.get()}")
+        }
+
+        public fun reset() {
+            runs.set(0)
+            totalNanos.set(0)
+            instructionsBefore.set(0)
+            instructionsAfter.set(0)
+        }
+    }
+
+    companion object {
+        public val DEFAULT: MethodTransformerPipeline = MethodTransformerPipeline(listOf(
+                RedundantNullCheckMethodTransformer(),
+                CapturedVarsOptimizationMethodTransformer(),
+                RedundantBoxingMethodTransformer(),
+                ConstantFoldingMethodTransformer(),
+                RedundantRefElementLoadMethodTransformer(),
+                DeadCodeEliminationMethodTransformer(),
+                RedundantGotoMethodTransformer()
+        ))
+
+        public val EMPTY: MethodTransformerPipeline = MethodTransformerPipeline(listOf<MethodTransformer>())
+    }
+}
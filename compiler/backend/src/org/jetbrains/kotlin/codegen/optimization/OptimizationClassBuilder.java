@@ -23,13 +23,32 @@ import org.jetbrains.kotlin.codegen.DelegatingClassBuilder;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin;
 import org.jetbrains.org.objectweb.asm.MethodVisitor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 public class OptimizationClassBuilder extends DelegatingClassBuilder {
     private final ClassBuilder delegate;
-    private final boolean disableOptimization;
+    private final MethodTransformerPipeline pipeline;
+    @Nullable
+    private final ExecutorService executor;
+    private final List<OptimizationMethodVisitor> pendingMethods = new ArrayList<OptimizationMethodVisitor>();
+
+    public OptimizationClassBuilder(@NotNull ClassBuilder delegate, @NotNull MethodTransformerPipeline pipeline) {
+        this(delegate, pipeline, null);
+    }
 
-    public OptimizationClassBuilder(@NotNull ClassBuilder delegate, boolean disableOptimization) {
+    /**
+     * @param executor if not null, methods are optimized on it and written to the delegate only when the class is done
+     */
+    public OptimizationClassBuilder(
+            @NotNull ClassBuilder delegate,
+            @NotNull MethodTransformerPipeline pipeline,
+            @Nullable ExecutorService executor
+    ) {
         this.delegate = delegate;
-        this.disableOptimization = disableOptimization;
+        this.pipeline = pipeline;
+        this.executor = executor;
     }
 
     @NotNull
@@ -48,10 +67,26 @@ public class OptimizationClassBuilder extends DelegatingClassBuilder {
             @Nullable String signature,
             @Nullable String[] exceptions
     ) {
-        return new OptimizationMethodVisitor(
+        OptimizationMethodVisitor method = new OptimizationMethodVisitor(
                 super.newMethod(origin, access, name, desc, signature, exceptions),
-                disableOptimization,
+                pipeline, executor,
                 access, name, desc, signature, exceptions
         );
+        if (executor != null) {
+            pendingMethods.add(method);
+        }
+        return method;
+    }
+
+    @Override
+    public void done() {
+        // Class writers are not thread-safe, so optimized methods are written here rather than on workers.
+        // The order of methods is kept anyway, since the delegate has created their visitors in the original order
+        for (OptimizationMethodVisitor method : pendingMethods) {
+            method.writeOptimized();
+        }
+        pendingMethods.clear();
+
+        super.done();
     }
 }
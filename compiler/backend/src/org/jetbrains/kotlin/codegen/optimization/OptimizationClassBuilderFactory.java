@@ -17,18 +17,49 @@
 package org.jetbrains.kotlin.codegen.optimization;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.codegen.ClassBuilder;
 import org.jetbrains.kotlin.codegen.ClassBuilderFactory;
 import org.jetbrains.kotlin.codegen.ClassBuilderMode;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class OptimizationClassBuilderFactory implements ClassBuilderFactory {
     private final ClassBuilderFactory delegate;
-    private final boolean disableOptimization;
+    private final MethodTransformerPipeline pipeline;
+    @Nullable
+    private final ExecutorService executor;
 
     public OptimizationClassBuilderFactory(ClassBuilderFactory delegate, boolean disableOptimization) {
+        this(delegate, disableOptimization ? MethodTransformerPipeline.EMPTY : MethodTransformerPipeline.DEFAULT);
+    }
+
+    public OptimizationClassBuilderFactory(ClassBuilderFactory delegate, @NotNull MethodTransformerPipeline pipeline) {
+        this(delegate, pipeline, 1);
+    }
+
+    /**
+     * @param threads number of threads to optimize methods on. With more than one thread, a finished method is optimized on a worker
+     *                while the following ones are generated, and is written to its class when the class is done
+     */
+    public OptimizationClassBuilderFactory(ClassBuilderFactory delegate, @NotNull MethodTransformerPipeline pipeline, int threads) {
         this.delegate = delegate;
-        this.disableOptimization = disableOptimization;
+        this.pipeline = pipeline;
+        this.executor = threads > 1 ? Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NotNull Runnable runnable) {
+                Thread thread = new Thread(runnable, "Method optimization " + count.incrementAndGet());
+                // Not every user of GenerationState destroys it
+                thread.setDaemon(true);
+                return thread;
+            }
+        }) : null;
     }
 
     @NotNull
@@ -40,7 +71,7 @@ public class OptimizationClassBuilderFactory implements ClassBuilderFactory {
     @NotNull
     @Override
     public ClassBuilder newClassBuilder(@NotNull JvmDeclarationOrigin origin) {
-        return new OptimizationClassBuilder(delegate.newClassBuilder(origin), disableOptimization);
+        return new OptimizationClassBuilder(delegate.newClassBuilder(origin), pipeline, executor);
     }
 
     @Override
@@ -55,6 +86,9 @@ public class OptimizationClassBuilderFactory implements ClassBuilderFactory {
 
     @Override
     public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         delegate.close();
     }
 }
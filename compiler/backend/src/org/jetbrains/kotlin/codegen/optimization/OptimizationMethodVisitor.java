@@ -19,11 +19,9 @@ package org.jetbrains.kotlin.codegen.optimization;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.codegen.inline.InlineCodegenUtil;
-import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantBoxingMethodTransformer;
-import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantNullCheckMethodTransformer;
 import org.jetbrains.kotlin.codegen.optimization.common.CommonPackage;
-import org.jetbrains.kotlin.codegen.optimization.fixStack.FixStackMethodTransformer;
-import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer;
+import org.jetbrains.kotlin.util.PhaseProfiler;
+import org.jetbrains.kotlin.utils.UtilsPackage;
 import org.jetbrains.org.objectweb.asm.MethodVisitor;
 import org.jetbrains.org.objectweb.asm.Opcodes;
 import org.jetbrains.org.objectweb.asm.tree.LocalVariableNode;
@@ -33,24 +31,38 @@ import org.jetbrains.org.objectweb.asm.util.TraceMethodVisitor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class OptimizationMethodVisitor extends MethodVisitor {
-    private static final int MEMORY_LIMIT_BY_METHOD_MB = 50;
-
-    private static final MethodTransformer[] OPTIMIZATION_TRANSFORMERS = new MethodTransformer[] {
-            new RedundantNullCheckMethodTransformer(),
-            new RedundantBoxingMethodTransformer(),
-            new DeadCodeEliminationMethodTransformer(),
-            new RedundantGotoMethodTransformer()
-    };
-
     private final MethodNode methodNode;
     private final MethodVisitor delegate;
-    private final boolean disableOptimization;
+    private final MethodTransformerPipeline pipeline;
+    @Nullable
+    private final ExecutorService executor;
+    @Nullable
+    private Future<?> pendingOptimization;
 
     public OptimizationMethodVisitor(
             @NotNull MethodVisitor delegate,
-            boolean disableOptimization,
+            @NotNull MethodTransformerPipeline pipeline,
+            int access,
+            @NotNull String name,
+            @NotNull String desc,
+            @Nullable String signature,
+            @Nullable String[] exceptions
+    ) {
+        this(delegate, pipeline, null, access, name, desc, signature, exceptions);
+    }
+
+    /**
+     * @param executor if not null, the method is optimized on it after visitEnd, and is written to the delegate by writeOptimized
+     */
+    public OptimizationMethodVisitor(
+            @NotNull MethodVisitor delegate,
+            @NotNull MethodTransformerPipeline pipeline,
+            @Nullable ExecutorService executor,
             int access,
             @NotNull String name,
             @NotNull String desc,
@@ -62,7 +74,8 @@ public class OptimizationMethodVisitor extends MethodVisitor {
         this.methodNode = new MethodNode(access, name, desc, signature, exceptions);
         this.methodNode.localVariables = new ArrayList<LocalVariableNode>(5);
         this.mv = InlineCodegenUtil.wrapWithMaxLocalCalc(methodNode);
-        this.disableOptimization = disableOptimization;
+        this.pipeline = pipeline;
+        this.executor = executor;
     }
 
     @Override
@@ -74,16 +87,60 @@ public class OptimizationMethodVisitor extends MethodVisitor {
 
         super.visitEnd();
 
-        if (shouldBeTransformed(methodNode)) {
-            MandatoryMethodTransformer.INSTANCE$.transform("fake", methodNode);
-            if (canBeOptimized(methodNode) && !disableOptimization) {
-                for (MethodTransformer transformer : OPTIMIZATION_TRANSFORMERS) {
-                    transformer.transform("fake", methodNode);
+        if (executor == null) {
+            optimize();
+            write();
+        }
+        else {
+            pendingOptimization = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    optimize();
                 }
+            });
+        }
+    }
+
+    /**
+     * Waits for the optimization started by visitEnd and writes the method to the delegate.
+     * Does nothing if the method is not finished or is already written.
+     */
+    public void writeOptimized() {
+        Future<?> optimization = pendingOptimization;
+        if (optimization == null) return;
+        pendingOptimization = null;
+
+        try {
+            optimization.get();
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Couldn't optimize method " + methodNode.name + methodNode.desc, e.getCause());
+        }
+
+        write();
+    }
+
+    private void optimize() {
+        if (shouldBeTransformed(methodNode)) {
+            PhaseProfiler profiler = PhaseProfiler.INSTANCE$;
+
+            profiler.start("Optimization: MandatoryMethodTransformer", null);
+            try {
+                MandatoryMethodTransformer.INSTANCE$.transform("fake", methodNode);
+            }
+            finally {
+                profiler.finish();
             }
+
+            pipeline.transform("fake", methodNode);
             CommonPackage.prepareForEmitting(methodNode);
         }
+    }
 
+    private void write() {
         methodNode.accept(new EndIgnoringMethodVisitorDecorator(Opcodes.ASM5, delegate));
 
 
@@ -131,9 +188,4 @@ public class OptimizationMethodVisitor extends MethodVisitor {
     private static boolean shouldBeTransformed(@NotNull MethodNode node) {
         return node.instructions.size() > 0;
     }
-
-    private static boolean canBeOptimized(@NotNull MethodNode node) {
-        int totalFramesSizeMb = node.instructions.size() * (node.maxLocals + node.maxStack) / (1024 * 1024);
-        return totalFramesSizeMb < MEMORY_LIMIT_BY_METHOD_MB;
-    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.optimization.common.isMeaningful
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+import java.util.HashSet
+
+/**
+ * Removes loads of the element of a shared variable (kotlin.jvm.internal.Ref.*Ref) which has just been read or written:
+ *
+ *   ALOAD r; GETFIELD element; ALOAD r; GETFIELD element     ->  ALOAD r; GETFIELD element; DUP
+ *   ALOAD r; ...; PUTFIELD element; ALOAD r; GETFIELD element ->  ALOAD r; ...; DUP_X1; PUTFIELD element
+ *
+ * Only instructions which are always executed one after another are considered, so the element can't be changed in between
+ * (Ref fields are not volatile, so changes from other threads don't have to be seen).
+ */
+public class RedundantRefElementLoadMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        val insns = methodNode.instructions.toArray()
+        if (insns.none { it.isRefElementAccess(Opcodes.PUTFIELD) || it.isRefElementAccess(Opcodes.GETFIELD) }) return
+
+        val jumpTargets = collectJumpTargets(methodNode)
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, SourceInterpreter())
+
+        // Frames are computed for the original instructions, so the method is changed only after all of them are inspected
+        val actions = arrayListOf<() -> Unit>()
+        val removed = HashSet<AbstractInsnNode>()
+        for (index in insns.indices) {
+            val access = insns[index]
+            if (access in removed) continue
+            val isGet = access.isRefElementAccess(Opcodes.GETFIELD)
+            if (!isGet && !access.isRefElementAccess(Opcodes.PUTFIELD)) continue
+
+            val load = access.nextInSameBlock(jumpTargets) as? VarInsnNode ?: continue
+            if (load.getOpcode() != Opcodes.ALOAD) continue
+            val get = load.nextInSameBlock(jumpTargets) as? FieldInsnNode ?: continue
+            if (!get.isRefElementAccess(Opcodes.GETFIELD) || (access as FieldInsnNode).owner != get.owner) continue
+
+            val frame = frames[index] ?: continue
+            // For GETFIELD the reference is on the top of the stack, for PUTFIELD it's under the value
+            val ref = frame.getStack(frame.getStackSize() - (if (isGet) 1 else 2))
+            if (!isLoadedBefore(ref, load.`var`, access, jumpTargets)) continue
+
+            val isWide = Type.getType(get.desc).getSize() == 2
+            removed.add(load)
+            removed.add(get)
+            actions.add {
+                if (isGet) {
+                    methodNode.instructions.insert(access, InsnNode(if (isWide) Opcodes.DUP2 else Opcodes.DUP))
+                }
+                else {
+                    methodNode.instructions.insertBefore(access, InsnNode(if (isWide) Opcodes.DUP2_X1 else Opcodes.DUP_X1))
+                }
+                methodNode.instructions.remove(load)
+                methodNode.instructions.remove(get)
+            }
+        }
+
+        if (actions.isEmpty()) return
+
+        actions.forEach { it() }
+        methodNode.maxStack += 2
+    }
+
+    // Reference must come from ALOAD of the same variable which is not changed before the access, and nothing may jump in between
+    private fun isLoadedBefore(ref: SourceValue, variable: Int, access: AbstractInsnNode, jumpTargets: Set<AbstractInsnNode>): Boolean {
+        val source = ref.insns.singleOrNull() as? VarInsnNode ?: return false
+        if (source.getOpcode() != Opcodes.ALOAD || source.`var` != variable) return false
+
+        var current = source.getNext()
+        while (current != null && current != access) {
+            when {
+                current in jumpTargets,
+                current is JumpInsnNode,
+                current is TableSwitchInsnNode,
+                current is LookupSwitchInsnNode -> return false
+                current is VarInsnNode && current.getOpcode() == Opcodes.ASTORE && current.`var` == variable -> return false
+            }
+            current = current.getNext()
+        }
+        return current == access
+    }
+
+    private fun AbstractInsnNode.nextInSameBlock(jumpTargets: Set<AbstractInsnNode>): AbstractInsnNode? {
+        var current = getNext()
+        while (current != null && !current.isMeaningful) {
+            if (current in jumpTargets) return null
+            current = current.getNext()
+        }
+        return current
+    }
+
+    private fun collectJumpTargets(methodNode: MethodNode): Set<AbstractInsnNode> {
+        val result = HashSet<AbstractInsnNode>()
+        for (insn in methodNode.instructions.toArray()) {
+            when (insn) {
+                is JumpInsnNode -> result.add(insn.label)
+                is TableSwitchInsnNode -> {
+                    result.add(insn.dflt)
+                    result.addAll(insn.labels)
+                }
+                is LookupSwitchInsnNode -> {
+                    result.add(insn.dflt)
+                    result.addAll(insn.labels)
+                }
+            }
+        }
+        for (tryCatchBlock in methodNode.tryCatchBlocks) {
+            result.add(tryCatchBlock.start)
+            result.add(tryCatchBlock.end)
+            result.add(tryCatchBlock.handler)
+        }
+        return result
+    }
+
+    private fun AbstractInsnNode.isRefElementAccess(opcode: Int): Boolean =
+            this is FieldInsnNode && getOpcode() == opcode && name == "element" && owner.startsWith(REF_CLASS_PREFIX)
+
+    companion object {
+        private val REF_CLASS_PREFIX = "kotlin/jvm/internal/Ref\$"
+    }
+}
@@ -20,6 +20,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
 import com.intellij.openapi.util.Pair;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.codegen.optimization.common.MethodFrames;
 import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer;
 import org.jetbrains.org.objectweb.asm.Opcodes;
 import org.jetbrains.org.objectweb.asm.Type;
@@ -35,7 +36,7 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
     @Override
     public void transform(@NotNull String internalClassName, @NotNull MethodNode node) {
         RedundantBoxingInterpreter interpreter = new RedundantBoxingInterpreter(node.instructions);
-        Frame<BasicValue>[] frames = analyze(
+        MethodFrames<BasicValue> frames = analyze(
                 internalClassName, node, interpreter
         );
         interpretPopInstructionsForBoxedValues(interpreter, node, frames);
@@ -43,10 +44,12 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
         RedundantBoxedValuesCollection valuesToOptimize = interpreter.getCandidatesBoxedValues();
 
         if (!valuesToOptimize.isEmpty()) {
+            Map<LocalVariableNode, List<BasicValue>> variableValues = getValuesStoredOrLoadedToVariables(node, frames);
+
             // has side effect on valuesToOptimize and frames, containing BoxedBasicValues that are unsafe to remove
-            removeValuesClashingWithVariables(valuesToOptimize, node, frames);
+            removeValuesClashingWithVariables(valuesToOptimize, node, variableValues);
 
-            adaptLocalVariableTableForBoxedValues(node, frames);
+            adaptLocalVariableTableForBoxedValues(node, variableValues);
 
             applyVariablesRemapping(node, buildVariablesRemapping(valuesToOptimize, node));
 
@@ -57,19 +60,20 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
     private static void interpretPopInstructionsForBoxedValues(
             @NotNull RedundantBoxingInterpreter interpreter,
             @NotNull MethodNode node,
-            @NotNull Frame<BasicValue>[] frames
+            @NotNull MethodFrames<BasicValue> frames
     ) {
         for (int i = 0; i < node.instructions.size(); i++) {
             AbstractInsnNode insn = node.instructions.get(i);
-            if ((insn.getOpcode() != Opcodes.POP && insn.getOpcode() != Opcodes.POP2) || frames[i] == null) {
-                continue;
-            }
+            if (insn.getOpcode() != Opcodes.POP && insn.getOpcode() != Opcodes.POP2) continue;
+
+            Frame<BasicValue> frame = frames.get(i);
+            if (frame == null) continue;
 
-            BasicValue top = frames[i].getStack(frames[i].getStackSize() - 1);
+            BasicValue top = frame.getStack(frame.getStackSize() - 1);
             interpreter.processPopInstruction(insn, top);
 
             if (top.getSize() == 1 && insn.getOpcode() == Opcodes.POP2) {
-                interpreter.processPopInstruction(insn, frames[i].getStack(frames[i].getStackSize() - 2));
+                interpreter.processPopInstruction(insn, frame.getStack(frame.getStackSize() - 2));
             }
         }
     }
@@ -77,9 +81,9 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
     private static void removeValuesClashingWithVariables(
             @NotNull RedundantBoxedValuesCollection values,
             @NotNull MethodNode node,
-            @NotNull Frame<BasicValue>[] frames
+            @NotNull Map<LocalVariableNode, List<BasicValue>> variableValues
     ) {
-        while (removeValuesClashingWithVariablesPass(values, node, frames)) {
+        while (removeValuesClashingWithVariablesPass(values, node, variableValues)) {
             // do nothing
         }
     }
@@ -87,16 +91,13 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
     private static boolean removeValuesClashingWithVariablesPass(
             @NotNull RedundantBoxedValuesCollection values,
             @NotNull MethodNode node,
-            @NotNull Frame<BasicValue>[] frames
+            @NotNull Map<LocalVariableNode, List<BasicValue>> variableValues
     ) {
         boolean needToRepeat = false;
 
         for (LocalVariableNode localVariableNode : node.localVariables) {
-            if (Type.getType(localVariableNode.desc).getSort() != Type.OBJECT) {
-                continue;
-            }
-
-            List<BasicValue> usedValues = getValuesStoredOrLoadedToVariable(localVariableNode, node, frames);
+            List<BasicValue> usedValues = variableValues.get(localVariableNode);
+            if (usedValues == null) continue;
 
             Collection<BasicValue> boxed = Collections2.filter(usedValues, new Predicate<BasicValue>() {
                 @Override
@@ -130,60 +131,99 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
         return needToRepeat;
     }
 
-    private static void adaptLocalVariableTableForBoxedValues(@NotNull MethodNode node, @NotNull Frame<BasicValue>[] frames) {
+    private static void adaptLocalVariableTableForBoxedValues(
+            @NotNull MethodNode node,
+            @NotNull Map<LocalVariableNode, List<BasicValue>> variableValues
+    ) {
         for (LocalVariableNode localVariableNode : node.localVariables) {
-            if (Type.getType(localVariableNode.desc).getSort() != Type.OBJECT) {
-                continue;
-            }
+            List<BasicValue> usedValues = variableValues.get(localVariableNode);
+            if (usedValues == null) continue;
 
-            for (BasicValue value : getValuesStoredOrLoadedToVariable(localVariableNode, node, frames)) {
+            for (BasicValue value : usedValues) {
                 if (value == null || !(value instanceof BoxedBasicValue) || !((BoxedBasicValue) value).isSafeToRemove()) continue;
                 localVariableNode.desc = ((BoxedBasicValue) value).getPrimitiveType().getDescriptor();
             }
         }
     }
 
+    // values of object variables; frames are requested in the order of instructions, so that sparse frames execute each block once
     @NotNull
-    private static List<BasicValue> getValuesStoredOrLoadedToVariable(
-            @NotNull LocalVariableNode localVariableNode,
+    private static Map<LocalVariableNode, List<BasicValue>> getValuesStoredOrLoadedToVariables(
             @NotNull MethodNode node,
-            @NotNull Frame<BasicValue>[] frames
+            @NotNull MethodFrames<BasicValue> frames
     ) {
-        List<BasicValue> values = new ArrayList<BasicValue>();
+        Map<LocalVariableNode, List<BasicValue>> result = new HashMap<LocalVariableNode, List<BasicValue>>();
+        SortedMap<Integer, List<LocalVariableNode>> variablesByInsnIndex = new TreeMap<Integer, List<LocalVariableNode>>();
         InsnList insnList = node.instructions;
-        int from = insnList.indexOf(localVariableNode.start) + 1;
-        int to = insnList.indexOf(localVariableNode.end) - 1;
-
-        Frame<BasicValue> frameForFromInstr = frames[from];
-        if (frameForFromInstr != null) {
-            BasicValue localVarValue = frameForFromInstr.getLocal(localVariableNode.index);
-            if (localVarValue != null) {
-                values.add(localVarValue);
+
+        for (LocalVariableNode localVariableNode : node.localVariables) {
+            if (Type.getType(localVariableNode.desc).getSort() != Type.OBJECT) {
+                continue;
+            }
+            result.put(localVariableNode, new ArrayList<BasicValue>());
+
+            int from = insnList.indexOf(localVariableNode.start) + 1;
+            int to = insnList.indexOf(localVariableNode.end) - 1;
+            addVariableAtInsn(variablesByInsnIndex, from, localVariableNode);
+            for (int i = Math.max(from + 1, 0); i <= to && i < insnList.size(); i++) {
+                if (isStoreOrLoad(insnList.get(i), localVariableNode.index)) {
+                    addVariableAtInsn(variablesByInsnIndex, i, localVariableNode);
+                }
             }
         }
 
-        for (int i = from; i <= to; i++) {
-            if (i < 0 || i >= insnList.size()) continue;
+        for (Map.Entry<Integer, List<LocalVariableNode>> entry : variablesByInsnIndex.entrySet()) {
+            int index = entry.getKey();
+            if (index < 0 || index >= insnList.size()) continue;
+
+            Frame<BasicValue> frame = frames.get(index);
+            if (frame == null) {
+                //unreachable code
+                continue;
+            }
 
-            AbstractInsnNode insn = insnList.get(i);
-            if ((insn.getOpcode() == Opcodes.ASTORE || insn.getOpcode() == Opcodes.ALOAD) &&
-                ((VarInsnNode) insn).var == localVariableNode.index) {
+            AbstractInsnNode insn = insnList.get(index);
+            for (LocalVariableNode localVariableNode : entry.getValue()) {
+                List<BasicValue> values = result.get(localVariableNode);
+                int from = insnList.indexOf(localVariableNode.start) + 1;
+                int to = insnList.indexOf(localVariableNode.end) - 1;
 
-                if (frames[i] == null) {
-                    //unreachable code
-                    continue;
+                if (index == from) {
+                    BasicValue localVarValue = frame.getLocal(localVariableNode.index);
+                    if (localVarValue != null) {
+                        values.add(localVarValue);
+                    }
                 }
 
-                if (insn.getOpcode() == Opcodes.ASTORE) {
-                    values.add(frames[i].getStack(frames[i].getStackSize() - 1));
-                }
-                else {
-                    values.add(frames[i].getLocal(((VarInsnNode) insn).var));
+                if (index <= to && isStoreOrLoad(insn, localVariableNode.index)) {
+                    if (insn.getOpcode() == Opcodes.ASTORE) {
+                        values.add(frame.getStack(frame.getStackSize() - 1));
+                    }
+                    else {
+                        values.add(frame.getLocal(((VarInsnNode) insn).var));
+                    }
                 }
             }
         }
 
-        return values;
+        return result;
+    }
+
+    private static void addVariableAtInsn(
+            @NotNull Map<Integer, List<LocalVariableNode>> variablesByInsnIndex,
+            int index,
+            @NotNull LocalVariableNode localVariableNode
+    ) {
+        List<LocalVariableNode> variables = variablesByInsnIndex.get(index);
+        if (variables == null) {
+            variables = new ArrayList<LocalVariableNode>(1);
+            variablesByInsnIndex.put(index, variables);
+        }
+        variables.add(localVariableNode);
+    }
+
+    private static boolean isStoreOrLoad(@NotNull AbstractInsnNode insn, int var) {
+        return (insn.getOpcode() == Opcodes.ASTORE || insn.getOpcode() == Opcodes.ALOAD) && ((VarInsnNode) insn).var == var;
     }
 
     @NotNull
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization.common
+
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.Value
+
+/**
+ * Result of a dataflow analysis of a method: the frame before each instruction, null for unreachable instructions.
+ * Frames are indexed as instructions were at the time of the analysis.
+ */
+public interface MethodFrames<V : Value> {
+    public fun get(index: Int): Frame<V>?
+}
+
+public class DenseMethodFrames<V : Value>(private val frames: Array<Frame<V>?>) : MethodFrames<V> {
+    override fun get(index: Int): Frame<V>? = frames[index]
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization.common
+
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.AnalyzerException
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.Interpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.Value
+import java.util.ArrayList
+import java.util.Arrays
+
+/**
+ * Computes the same frames as ASM Analyzer, but keeps only frames at the beginning of basic blocks, so that memory doesn't depend
+ * on the number of instructions times the frame size. The worklist consists of blocks: a block is re-executed from its entry frame
+ * when that frame changes.
+ *
+ * A frame of an instruction inside a block is recomputed on request by executing the block from its entry up to the instruction.
+ * Requests for increasing indices within a block continue from the previous one, so a sequential pass over all instructions costs
+ * about as much as one more iteration of the analysis. The interpreter sees these executions again and has to tolerate
+ * re-execution of an instruction with the same frame, as it has to with Analyzer anyway.
+ *
+ * Each call of [get] returns a new frame.
+ */
+public class SparseMethodFrames<V : Value> private constructor(
+        private val owner: String,
+        private val method: MethodNode,
+        private val interpreter: Interpreter<V>
+) : MethodFrames<V> {
+    private val insns: Array<AbstractInsnNode> = method.instructions.toArray()
+    private val nInsns = insns.size()
+
+    private val handlers: Array<MutableList<TryCatchBlockNode>?> = arrayOfNulls(nInsns)
+
+    // indices of first instructions of basic blocks, ascending
+    private val blockStarts: IntArray = computeBlockStarts()
+    private val entryFrames: Array<Frame<V>?> = arrayOfNulls(blockStarts.size())
+
+    private val queued = BooleanArray(blockStarts.size())
+    private val queue = IntArray(blockStarts.size())
+    private var top = 0
+
+    // frame before the instruction cursorIndex, or null if there's no such frame computed
+    private var cursorFrame: Frame<V>? = null
+    private var cursorIndex = -1
+
+    override fun get(index: Int): Frame<V>? {
+        val block = blockOf(index)
+        val cursor = cursorFrame
+        val frame: Frame<V>
+        if (cursor != null && cursorIndex <= index && blockOf(cursorIndex) == block) {
+            frame = cursor
+        }
+        else {
+            val entry = entryFrames[block] ?: return null
+            frame = cursor ?: newFrame()
+            frame.init(entry)
+            cursorIndex = blockStarts[block]
+        }
+
+        while (cursorIndex < index) {
+            val insn = insns[cursorIndex]
+            if (insn.isMeaningful) {
+                execute(frame, insn, cursorIndex)
+            }
+            cursorIndex++
+        }
+        cursorFrame = frame
+
+        return newFrame().init(frame)
+    }
+
+    private fun analyze() {
+        if (nInsns == 0) return
+
+        val current = newFrame()
+        val handler = newFrame()
+
+        initEntryFrame(current)
+        mergeInto(0, current)
+
+        while (top > 0) {
+            val block = queue[--top]
+            queued[block] = false
+
+            current.init(entryFrames[block]!!)
+            val end = if (block + 1 < blockStarts.size()) blockStarts[block + 1] else nInsns
+
+            var fallsThrough = true
+            for (i in blockStarts[block]..end - 1) {
+                val insn = insns[i]
+
+                handlers[i]?.forEach { tcb ->
+                    handler.init(current)
+                    handler.clearStack()
+                    handler.push(interpreter.newValue(Type.getObjectType(tcb.type ?: "java/lang/Throwable")))
+                    mergeInto(blockOf(method.instructions.indexOf(tcb.handler)), handler)
+                }
+
+                if (!insn.isMeaningful) continue
+
+                execute(current, insn, i)
+
+                when (insn) {
+                    is JumpInsnNode -> {
+                        mergeInto(blockOf(method.instructions.indexOf(insn.label)), current)
+                        fallsThrough = insn.getOpcode() != Opcodes.GOTO
+                    }
+                    is TableSwitchInsnNode -> {
+                        mergeInto(blockOf(method.instructions.indexOf(insn.dflt)), current)
+                        insn.labels.forEach { mergeInto(blockOf(method.instructions.indexOf(it)), current) }
+                        fallsThrough = false
+                    }
+                    is LookupSwitchInsnNode -> {
+                        mergeInto(blockOf(method.instructions.indexOf(insn.dflt)), current)
+                        insn.labels.forEach { mergeInto(blockOf(method.instructions.indexOf(it)), current) }
+                        fallsThrough = false
+                    }
+                    else -> {
+                        val opcode = insn.getOpcode()
+                        if (opcode == Opcodes.ATHROW || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)) {
+                            fallsThrough = false
+                        }
+                    }
+                }
+            }
+
+            if (fallsThrough && end < nInsns) {
+                mergeInto(block + 1, current)
+            }
+        }
+    }
+
+    private fun execute(frame: Frame<V>, insn: AbstractInsnNode, index: Int) {
+        try {
+            frame.execute(insn, interpreter)
+        }
+        catch (e: AnalyzerException) {
+            throw AnalyzerException(e.node, "Error at instruction " + index + ": " + e.getMessage(), e)
+        }
+        catch (e: Exception) {
+            throw AnalyzerException(insn, "Error at instruction " + index + ": " + e.getMessage(), e)
+        }
+    }
+
+    private fun newFrame(): Frame<V> = Frame(method.maxLocals, method.maxStack)
+
+    private fun mergeInto(block: Int, frame: Frame<V>) {
+        val oldFrame = entryFrames[block]
+        val changes = if (oldFrame == null) {
+            entryFrames[block] = newFrame().init(frame)
+            true
+        }
+        else {
+            oldFrame.merge(frame, interpreter)
+        }
+        if (changes && !queued[block]) {
+            queued[block] = true
+            queue[top++] = block
+        }
+    }
+
+    private fun blockOf(index: Int): Int {
+        val position = Arrays.binarySearch(blockStarts, index)
+        return if (position >= 0) position else -position - 2
+    }
+
+    private fun initEntryFrame(current: Frame<V>) {
+        current.setReturn(interpreter.newValue(Type.getReturnType(method.desc)))
+        var local = 0
+        if ((method.access and Opcodes.ACC_STATIC) == 0) {
+            current.setLocal(local++, interpreter.newValue(Type.getObjectType(owner)))
+        }
+        for (arg in Type.getArgumentTypes(method.desc)) {
+            current.setLocal(local++, interpreter.newValue(arg))
+            if (arg.getSize() == 2) {
+                current.setLocal(local++, interpreter.newValue(null))
+            }
+        }
+        while (local < method.maxLocals) {
+            current.setLocal(local++, interpreter.newValue(null))
+        }
+    }
+
+    private fun computeBlockStarts(): IntArray {
+        val isStart = BooleanArray(nInsns + 1)
+        isStart[0] = true
+
+        for (tcb in method.tryCatchBlocks) {
+            val begin = method.instructions.indexOf(tcb.start)
+            val end = method.instructions.indexOf(tcb.end)
+            for (j in begin..end - 1) {
+                val insnHandlers = handlers[j] ?: ArrayList<TryCatchBlockNode>()
+                handlers[j] = insnHandlers
+                insnHandlers.add(tcb)
+            }
+            isStart[method.instructions.indexOf(tcb.handler)] = true
+        }
+
+        for (i in 0..nInsns - 1) {
+            val insn = insns[i]
+            val opcode = insn.getOpcode()
+            when (insn) {
+                is JumpInsnNode -> {
+                    isStart[method.instructions.indexOf(insn.label)] = true
+                    isStart[i + 1] = true
+                }
+                is TableSwitchInsnNode -> {
+                    isStart[method.instructions.indexOf(insn.dflt)] = true
+                    insn.labels.forEach { isStart[method.instructions.indexOf(it)] = true }
+                    isStart[i + 1] = true
+                }
+                is LookupSwitchInsnNode -> {
+                    isStart[method.instructions.indexOf(insn.dflt)] = true
+                    insn.labels.forEach { isStart[method.instructions.indexOf(it)] = true }
+                    isStart[i + 1] = true
+                }
+                else -> if (opcode == Opcodes.ATHROW || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)) {
+                    isStart[i + 1] = true
+                }
+            }
+        }
+
+        var count = 0
+        for (i in 0..nInsns - 1) {
+            if (isStart[i]) count++
+        }
+        val result = IntArray(count)
+        var position = 0
+        for (i in 0..nInsns - 1) {
+            if (isStart[i]) result[position++] = i
+        }
+        return result
+    }
+
+    companion object {
+        throws(AnalyzerException::class)
+        public fun analyze<V : Value>(owner: String, method: MethodNode, interpreter: Interpreter<V>): SparseMethodFrames<V> {
+            if (method.instructions.toArray().any { it.getOpcode() == Opcodes.JSR || it.getOpcode() == Opcodes.RET }) {
+                throw AnalyzerException(null, "Subroutines are deprecated since Java 6")
+            }
+
+            val frames = SparseMethodFrames(owner, method, interpreter)
+            frames.analyze()
+            return frames
+        }
+    }
+}
@@ -18,6 +18,10 @@ package org.jetbrains.kotlin.codegen.optimization.transformer;
 
 import kotlin.jvm.KotlinSignature;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.jetbrains.kotlin.codegen.optimization.common.DenseMethodFrames;
+import org.jetbrains.kotlin.codegen.optimization.common.MethodFrames;
+import org.jetbrains.kotlin.codegen.optimization.common.SparseMethodFrames;
 import org.jetbrains.org.objectweb.asm.tree.MethodNode;
 import org.jetbrains.org.objectweb.asm.tree.analysis.*;
 
@@ -38,14 +42,43 @@ public abstract class MethodTransformer {
         }
     }
 
-    @KotlinSignature("fun <V : Value?> analyze(internalClassName: String, node: MethodNode, interpreter: Interpreter<V>): Array<Frame<V>?>")
+    // Frames of methods which would take more memory than this are kept only at the beginning of basic blocks
+    private static final int DENSE_FRAMES_MEMORY_LIMIT_MB = 50;
+
+    private static volatile int denseFramesMemoryLimitMb = DENSE_FRAMES_MEMORY_LIMIT_MB;
+
+    // 0 makes frames of all methods sparse
+    @TestOnly
+    public static void setDenseFramesMemoryLimitMb(int limitMb) {
+        denseFramesMemoryLimitMb = limitMb;
+    }
+
+    @TestOnly
+    public static void resetDenseFramesMemoryLimit() {
+        denseFramesMemoryLimitMb = DENSE_FRAMES_MEMORY_LIMIT_MB;
+    }
+
+    @KotlinSignature("fun <V : Value?> analyze(internalClassName: String, node: MethodNode, interpreter: Interpreter<V>): MethodFrames<V>")
     @NotNull
-    protected static <V extends Value> Frame<V>[] analyze(
+    protected static <V extends Value> MethodFrames<V> analyze(
             @NotNull String internalClassName,
             @NotNull MethodNode node,
             @NotNull Interpreter<V> interpreter
     ) {
-        return runAnalyzer(new Analyzer<V>(interpreter), internalClassName, node);
+        if (!canKeepAllFrames(node)) {
+            try {
+                return SparseMethodFrames.Companion.analyze(internalClassName, node, interpreter);
+            }
+            catch (AnalyzerException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return new DenseMethodFrames<V>(runAnalyzer(new Analyzer<V>(interpreter), internalClassName, node));
+    }
+
+    private static boolean canKeepAllFrames(@NotNull MethodNode node) {
+        long totalFramesSizeMb = (long) node.instructions.size() * (node.maxLocals + node.maxStack) / (1024 * 1024);
+        return totalFramesSizeMb < denseFramesMemoryLimitMb;
     }
 
     abstract public void transform(@NotNull String internalClassName, @NotNull MethodNode methodNode);
@@ -23,11 +23,14 @@ import org.jetbrains.kotlin.builtins.ReflectionTypes;
 import org.jetbrains.kotlin.codegen.*;
 import org.jetbrains.kotlin.codegen.binding.CodegenBinding;
 import org.jetbrains.kotlin.codegen.extensions.ClassBuilderInterceptorExtension;
+import org.jetbrains.kotlin.codegen.inline.MethodNodeCache;
 import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicMethods;
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline;
 import org.jetbrains.kotlin.codegen.optimization.OptimizationClassBuilderFactory;
 import org.jetbrains.kotlin.codegen.when.MappingsClassesForWhenByEnum;
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor;
 import org.jetbrains.kotlin.descriptors.ScriptDescriptor;
+import org.jetbrains.kotlin.diagnostics.Diagnostic;
 import org.jetbrains.kotlin.diagnostics.DiagnosticSink;
 import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.psi.JetClassOrObject;
@@ -83,6 +86,7 @@ public class GenerationState {
     private final IntrinsicMethods intrinsics;
     private final SamWrapperClasses samWrapperClasses = new SamWrapperClasses(this);
     private final InlineCycleReporter inlineCycleReporter;
+    private final MethodNodeCache inlineMethodNodeCache = new MethodNodeCache();
     private final MappingsClassesForWhenByEnum mappingsClassesForWhenByEnum = new MappingsClassesForWhenByEnum(this);
     private final BindingTrace bindingTrace;
     private final JetTypeMapper typeMapper;
@@ -131,6 +135,30 @@ public class GenerationState {
             @Nullable String moduleId,
             @NotNull DiagnosticSink diagnostics,
             @Nullable File outDirectory
+    ) {
+        this(project, builderFactory, progress, module, bindingContext, files, disableCallAssertions, disableParamAssertions,
+             generateClassFilter, disableInline,
+             disableOptimization ? MethodTransformerPipeline.EMPTY : MethodTransformerPipeline.DEFAULT, 1,
+             packagesWithObsoleteParts, moduleId, diagnostics, outDirectory);
+    }
+
+    public GenerationState(
+            @NotNull Project project,
+            @NotNull ClassBuilderFactory builderFactory,
+            @NotNull Progress progress,
+            @NotNull ModuleDescriptor module,
+            @NotNull BindingContext bindingContext,
+            @NotNull List<JetFile> files,
+            boolean disableCallAssertions,
+            boolean disableParamAssertions,
+            GenerateClassFilter generateClassFilter,
+            boolean disableInline,
+            @NotNull MethodTransformerPipeline optimizationPipeline,
+            int optimizationThreads,
+            @Nullable Collection<FqName> packagesWithObsoleteParts,
+            @Nullable String moduleId,
+            @NotNull DiagnosticSink diagnostics,
+            @Nullable File outDirectory
     ) {
         this.project = project;
         this.progress = progress;
@@ -149,21 +177,31 @@ public class GenerationState {
 
         this.intrinsics = new IntrinsicMethods();
 
-        builderFactory = new OptimizationClassBuilderFactory(builderFactory, disableOptimization);
+        builderFactory = new OptimizationClassBuilderFactory(builderFactory, optimizationPipeline, optimizationThreads);
+
+        // Diagnostics reported while packages are generated in parallel are collected by the factory and reported in the package order
+        final DiagnosticSink originalDiagnostics = diagnostics;
+        this.diagnostics = new DiagnosticSink() {
+            @Override
+            public void report(@NotNull Diagnostic diagnostic) {
+                if (!classFileFactory.reportToCurrentPackage(diagnostic)) {
+                    originalDiagnostics.report(diagnostic);
+                }
+            }
+        };
 
         ClassBuilderFactory interceptedBuilderFactory = new BuilderFactoryForDuplicateSignatureDiagnostics(
-                builderFactory, this.bindingContext, diagnostics);
+                builderFactory, this.bindingContext, this.diagnostics);
 
         Collection<ClassBuilderInterceptorExtension> interceptExtensions =
                 ClassBuilderInterceptorExtension.Companion.getInstances(project);
 
         for (ClassBuilderInterceptorExtension extension : interceptExtensions) {
-            interceptedBuilderFactory = extension.interceptClassBuilderFactory(interceptedBuilderFactory, bindingContext, diagnostics);
+            interceptedBuilderFactory = extension.interceptClassBuilderFactory(interceptedBuilderFactory, bindingContext, this.diagnostics);
         }
 
         this.interceptedBuilderFactory = interceptedBuilderFactory;
 
-        this.diagnostics = diagnostics;
         this.classFileFactory = new ClassFileFactory(this, interceptedBuilderFactory);
 
         this.disableCallAssertions = disableCallAssertions;
@@ -173,7 +211,7 @@ public class GenerationState {
         this.reflectionTypes = new ReflectionTypes(module);
         this.runtimeTypes = new JvmRuntimeTypes();
 
-        this.inlineCycleReporter = new InlineCycleReporter(diagnostics);
+        this.inlineCycleReporter = new InlineCycleReporter(this.diagnostics);
     }
 
     @NotNull
@@ -231,6 +269,11 @@ public class GenerationState {
         return inlineCycleReporter;
     }
 
+    @NotNull
+    public MethodNodeCache getInlineMethodNodeCache() {
+        return inlineMethodNodeCache;
+    }
+
     @NotNull
     public MappingsClassesForWhenByEnum getMappingsClassesForWhenByEnum() {
         return mappingsClassesForWhenByEnum;
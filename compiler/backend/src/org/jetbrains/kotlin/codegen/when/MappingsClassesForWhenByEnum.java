@@ -22,13 +22,15 @@ import org.jetbrains.kotlin.codegen.state.GenerationState;
 import org.jetbrains.kotlin.psi.JetWhenExpression;
 import org.jetbrains.org.objectweb.asm.Type;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MappingsClassesForWhenByEnum {
     private final GenerationState state;
-    private final Set<String> generatedMappingClasses = new HashSet<String>();
+    // Mapping classes are generated per outer class, so concurrent generation of different packages never generates the same one twice
+    private final Set<String> generatedMappingClasses = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     private final MappingClassesForWhenByEnumCodegen mappingsCodegen;
 
     public MappingsClassesForWhenByEnum(@NotNull GenerationState state) {
@@ -58,6 +58,13 @@ public class K2JSCompilerArguments extends CommonCompilerArguments {
     @ValueDescription("<path>")
     public String outputPostfix;
 
+    @Argument(value = "Xfragment-cache", description = "Keep JavaScript code of each file in the given directory and don't translate files which are not changed")
+    @ValueDescription("<path>")
+    public String fragmentCache;
+
+    @Argument(value = "Xtree-shaking", description = "Remove functions and classes of the module which are not used by main function, package initializers or other modules")
+    public boolean treeShaking;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
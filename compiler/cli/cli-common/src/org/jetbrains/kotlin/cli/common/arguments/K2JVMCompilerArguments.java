@@ -66,6 +66,33 @@ public class K2JVMCompilerArguments extends CommonCompilerArguments {
     @Argument(value = "Xno-optimize", description = "Disable optimizations")
     public boolean noOptimize;
 
+    @Argument(value = "Xconcurrent-lazy-resolve", description = "Allow lazy declarations to be resolved from several threads concurrently")
+    public boolean concurrentLazyResolve;
+
+    @Argument(value = "Xbody-resolve-threads", description = "\n                             Resolve function bodies of different files on the given number of threads")
+    @ValueDescription("<count>")
+    public String bodyResolveThreads;
+
+    @Argument(value = "Xclasspath-index", description = "Cache packages of classpath jars in the given file between compilations")
+    @ValueDescription("<path>")
+    public String classpathIndex;
+
+    @Argument(value = "Xlibrary-cache", description = "Cache headers of library classes in the given directory, which may be shared by compilations")
+    @ValueDescription("<path>")
+    public String libraryCache;
+
+    @Argument(value = "Xcodegen-threads", description = "Generate bytecode for different packages on the given number of threads")
+    @ValueDescription("<count>")
+    public String codegenThreads;
+
+    @Argument(value = "Xoptimization-threads", description = "\n                             Optimize generated methods on the given number of threads while generating the next ones")
+    @ValueDescription("<count>")
+    public String optimizationThreads;
+
+    @Argument(value = "Xprofile-phases", description = "Write a profile of compiler phases to the given file: Chrome trace format for *.json, CSV otherwise")
+    @ValueDescription("<path>")
+    public String profilePhases;
+
     @Argument(value = "Xreport-perf", description = "Report detailed performance statistics")
     public boolean reportPerf;
 
@@ -27,17 +27,16 @@ import com.intellij.util.containers.ContainerUtil;
 import kotlin.Unit;
 import kotlin.jvm.functions.Function0;
 import kotlin.jvm.functions.Function1;
+import kotlin.jvm.functions.Function2;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.analyzer.AnalysisResult;
-import org.jetbrains.kotlin.backend.common.output.OutputFileCollection;
 import org.jetbrains.kotlin.cli.common.CLICompiler;
 import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys;
 import org.jetbrains.kotlin.cli.common.ExitCode;
 import org.jetbrains.kotlin.cli.common.arguments.K2JSCompilerArguments;
 import org.jetbrains.kotlin.cli.common.arguments.K2JsArgumentConstants;
 import org.jetbrains.kotlin.cli.common.messages.*;
-import org.jetbrains.kotlin.cli.common.output.outputUtils.OutputUtilsPackage;
 import org.jetbrains.kotlin.cli.jvm.compiler.CompilerJarLocator;
 import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles;
 import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
@@ -50,6 +49,7 @@ import org.jetbrains.kotlin.js.analyzer.JsAnalysisResult;
 import org.jetbrains.kotlin.js.config.Config;
 import org.jetbrains.kotlin.js.config.EcmaVersion;
 import org.jetbrains.kotlin.js.config.LibrarySourcesConfig;
+import org.jetbrains.kotlin.js.facade.JsFragmentCache;
 import org.jetbrains.kotlin.js.facade.K2JSTranslator;
 import org.jetbrains.kotlin.js.facade.MainCallParameters;
 import org.jetbrains.kotlin.js.facade.TranslationResult;
@@ -57,6 +57,7 @@ import org.jetbrains.kotlin.psi.JetFile;
 import org.jetbrains.kotlin.utils.PathUtil;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.jetbrains.kotlin.cli.common.ExitCode.COMPILATION_ERROR;
@@ -174,7 +175,10 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
         MainCallParameters mainCallParameters = createMainCallParameters(arguments.main);
         TranslationResult translationResult;
 
-        K2JSTranslator translator = new K2JSTranslator(config);
+        JsFragmentCache fragmentCache = arguments.fragmentCache != null
+                                        ? new JsFragmentCache(new File(arguments.fragmentCache), Runtime.getRuntime().availableProcessors())
+                                        : null;
+        K2JSTranslator translator = new K2JSTranslator(config, fragmentCache);
         try {
             //noinspection unchecked
             translationResult = translator.translate(sourcesFiles, mainCallParameters, jsAnalysisResult);
@@ -189,7 +193,6 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
         if (!(translationResult instanceof TranslationResult.Success)) return ExitCode.COMPILATION_ERROR;
 
         TranslationResult.Success successResult = (TranslationResult.Success) translationResult;
-        OutputFileCollection outputFiles = successResult.getOutputFiles(outputFile, outputPrefixFile, outputPostfixFile);
 
         if (outputFile.isDirectory()) {
             messageSeverityCollector.report(CompilerMessageSeverity.ERROR,
@@ -205,7 +208,18 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
 
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
 
-        OutputUtilsPackage.writeAll(outputFiles, outputDir, messageSeverityCollector);
+        successResult.writeOutputFiles(
+                new File(outputDir, outputFile.getName()), outputPrefixFile, outputPostfixFile,
+                new Function2<List<? extends File>, File, Unit>() {
+                    @Override
+                    public Unit invoke(List<? extends File> sources, File output) {
+                        messageSeverityCollector.report(CompilerMessageSeverity.OUTPUT,
+                                                        OutputMessageUtil.formatOutputMessage(new ArrayList<File>(sources), output),
+                                                        CompilerMessageLocation.NO_LOCATION);
+                        return Unit.INSTANCE$;
+                    }
+                }
+        );
 
         return OK;
     }
@@ -261,6 +275,7 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
                 .sourceMap(arguments.sourceMap)
                 .inlineEnabled(inlineEnabled)
                 .metaInfo(arguments.metaInfo)
+                .removeUnreachableDeclarations(arguments.treeShaking)
                 .build();
     }
 
@@ -32,20 +32,25 @@ import org.jetbrains.kotlin.cli.jvm.config.addJavaSourceRoot
 import org.jetbrains.kotlin.cli.jvm.config.addJvmClasspathRoots
 import org.jetbrains.kotlin.cli.jvm.repl.ReplFromTerminal
 import org.jetbrains.kotlin.codegen.CompilationException
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline
 import org.jetbrains.kotlin.compiler.plugin.CliOptionProcessingException
 import org.jetbrains.kotlin.compiler.plugin.PluginCliOptionProcessingException
 import org.jetbrains.kotlin.compiler.plugin.cliPluginUsageString
 import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.config.CompilerConfigurationKey
 import org.jetbrains.kotlin.config.IncrementalCompilation
 import org.jetbrains.kotlin.config.Services
 import org.jetbrains.kotlin.config.addKotlinSourceRoot
 import org.jetbrains.kotlin.load.kotlin.incremental.components.IncrementalCompilationComponents
 import org.jetbrains.kotlin.resolve.AnalyzerScriptParameter
+import org.jetbrains.kotlin.types.checker.SubtypingCache
 import org.jetbrains.kotlin.util.PerformanceCounter
+import org.jetbrains.kotlin.util.PhaseProfiler
 import org.jetbrains.kotlin.utils.KotlinPaths
 import org.jetbrains.kotlin.utils.KotlinPathsFromHomeDir
 import org.jetbrains.kotlin.utils.PathUtil
 import java.io.File
+import java.io.IOException
 import java.lang.management.ManagementFactory
 import java.util.concurrent.TimeUnit
 import kotlin.platform.platformStatic
@@ -62,6 +67,8 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
 
         messageSeverityCollector.report(CompilerMessageSeverity.LOGGING, "Using Kotlin home directory " + paths.getHomePath(), CompilerMessageLocation.NO_LOCATION)
         PerformanceCounter.setTimeCounterEnabled(arguments.reportPerf);
+        MethodTransformerPipeline.DEFAULT.resetStatistics()
+        PhaseProfiler.setEnabled(arguments.profilePhases != null)
 
         val configuration = CompilerConfiguration()
         configuration.put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, messageSeverityCollector)
@@ -134,7 +141,9 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
         else
             emptyList<AnalyzerScriptParameter>())
 
-        putAdvancedOptions(configuration, arguments)
+        if (!putAdvancedOptions(configuration, arguments, messageSeverityCollector)) {
+            return COMPILATION_ERROR
+        }
 
         messageSeverityCollector.report(CompilerMessageSeverity.LOGGING, "Configuring the compilation environment", CompilerMessageLocation.NO_LOCATION)
         try {
@@ -194,6 +203,8 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
                 reportGCTime(environment.configuration)
                 reportCompilationTime(environment.configuration)
                 PerformanceCounter.report { s -> reportPerf(environment.configuration, s) }
+                SubtypingCache.report { s -> reportPerf(environment.configuration, s) }
+                MethodTransformerPipeline.DEFAULT.report { s -> reportPerf(environment.configuration, s) }
             }
             return OK
         }
@@ -201,7 +212,22 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
             messageSeverityCollector.report(CompilerMessageSeverity.EXCEPTION, OutputMessageUtil.renderException(e), MessageUtil.psiElementToMessageLocation(e.getElement()))
             return INTERNAL_ERROR
         }
+        finally {
+            if (arguments.profilePhases != null) {
+                dumpPhaseProfile(File(arguments.profilePhases), messageSeverityCollector)
+            }
+        }
+    }
 
+    private fun dumpPhaseProfile(file: File, messageCollector: MessageCollector) {
+        PhaseProfiler.setEnabled(false)
+        try {
+            PhaseProfiler.dump(file)
+        }
+        catch (e: IOException) {
+            messageCollector.report(CompilerMessageSeverity.WARNING, "Couldn't write phase profile to " + file + ": " + e.getMessage(),
+                                    CompilerMessageLocation.NO_LOCATION)
+        }
     }
 
     private fun createCoreEnvironment(rootDisposable: Disposable, configuration: CompilerConfiguration): KotlinCoreEnvironment {
@@ -264,11 +290,54 @@ public open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
             elapsedJITTime = currentTime
         }
 
-        private fun putAdvancedOptions(configuration: CompilerConfiguration, arguments: K2JVMCompilerArguments) {
+        // returns false if some options are invalid, errors are reported to the collector
+        private fun putAdvancedOptions(
+                configuration: CompilerConfiguration,
+                arguments: K2JVMCompilerArguments,
+                messageCollector: MessageCollector
+        ): Boolean {
+            var valid = true
+            fun putThreads(key: CompilerConfigurationKey<Int>, option: String, value: String?) {
+                if (value == null) return
+                val threads = parseThreadCount(option, value, messageCollector)
+                if (threads != null) {
+                    configuration.put(key, threads)
+                }
+                else {
+                    valid = false
+                }
+            }
+
             configuration.put(JVMConfigurationKeys.DISABLE_CALL_ASSERTIONS, arguments.noCallAssertions)
             configuration.put(JVMConfigurationKeys.DISABLE_PARAM_ASSERTIONS, arguments.noParamAssertions)
             configuration.put(JVMConfigurationKeys.DISABLE_INLINE, arguments.noInline)
             configuration.put(JVMConfigurationKeys.DISABLE_OPTIMIZATION, arguments.noOptimize)
+            configuration.put(JVMConfigurationKeys.CONCURRENT_LAZY_RESOLVE, arguments.concurrentLazyResolve)
+            putThreads(JVMConfigurationKeys.BODY_RESOLVE_THREADS, "-Xbody-resolve-threads", arguments.bodyResolveThreads)
+            if (arguments.classpathIndex != null) {
+                configuration.put(JVMConfigurationKeys.CLASSPATH_INDEX_SNAPSHOT, File(arguments.classpathIndex))
+            }
+            if (arguments.libraryCache != null) {
+                configuration.put(JVMConfigurationKeys.LIBRARY_CACHE_DIRECTORY, File(arguments.libraryCache))
+            }
+            putThreads(JVMConfigurationKeys.CODEGEN_THREADS, "-Xcodegen-threads", arguments.codegenThreads)
+            putThreads(JVMConfigurationKeys.OPTIMIZATION_THREADS, "-Xoptimization-threads", arguments.optimizationThreads)
+            return valid
+        }
+
+        private fun parseThreadCount(option: String, value: String, messageCollector: MessageCollector): Int? {
+            val threads = try {
+                value.toInt()
+            }
+            catch (e: NumberFormatException) {
+                null
+            }
+            if (threads == null || threads < 1) {
+                messageCollector.report(CompilerMessageSeverity.ERROR, "Invalid value of $option: '$value', the number of threads must be at least 1",
+                                        CompilerMessageLocation.NO_LOCATION)
+                return null
+            }
+            return threads
         }
 
         private fun getClasspath(paths: KotlinPaths, arguments: K2JVMCompilerArguments): List<File> {
@@ -20,9 +20,9 @@ import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.util.containers.IntArrayList
 import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.FqName
-import java.util.ArrayList
+import java.io.File
 import java.util.EnumSet
-import java.util.HashMap
+import java.util.concurrent.ConcurrentHashMap
 
 public data class JavaRoot(public val file: VirtualFile, public val type: JavaRoot.RootType) {
     public enum class RootType {
@@ -37,43 +37,58 @@ public data class JavaRoot(public val file: VirtualFile, public val type: JavaRo
 }
 
 // speeds up finding files/classes in classpath/java source roots
-// NOT THREADSAFE, needs to be adapted/removed if we want compiler to be multithreaded
 // the main idea of this class is for each package to store roots which contains it to avoid excessive file system traversal
-public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
+// thread-safe: the list of roots containing a package is computed once as a whole and never changes afterwards
+public class JvmDependenciesIndex(
+        _roots: List<JavaRoot>,
+        private val snapshot: JvmDependenciesIndexSnapshot = JvmDependenciesIndexSnapshot.EMPTY
+) {
 
     //these fields are computed based on _roots passed to constructor which are filled in later
     private val roots: List<JavaRoot> by lazy { _roots.toList() }
 
-    private val maxIndex: Int
-        get() = roots.size()
+    // packages of each root known from the snapshot (as relative paths), null if the root has to be traversed
+    private val knownPackages: List<Set<String>?> by lazy { roots.map { snapshot.getPackages(it) } }
 
     // each "Cache" object corresponds to a package
-    private class Cache {
-        private val innerPackageCaches = HashMap<String, Cache>()
+    private inner class Cache(private val parent: Cache?, private val path: List<String>) {
+        private val innerPackageCaches = ConcurrentHashMap<String, Cache>()
 
-        fun get(name: String) = innerPackageCaches.getOrPut(name) { Cache() }
-
-        // indices of roots that are known to contain this package
-        // if this list contains [1, 3, 5] then roots with indices 1, 3 and 5 are known to contain this package, 2 and 4 are known not to (no information about roots 6 or higher)
-        // if this list contains maxIndex that means that all roots containing this package are known
-        val rootIndices = IntArrayList()
-    }
+        fun get(name: String): Cache {
+            innerPackageCaches[name]?.let { return it }
+            val cache = Cache(this, path + name)
+            return innerPackageCaches.putIfAbsent(name, cache) ?: cache
+        }
 
-    // root "Cache" object corresponds to DefaultPackage which exists in every root
-    private val rootCache: Cache by lazy {
-        with(Cache()) {
-            roots.indices.forEach {
-                rootIndices.add(it)
+        // indices of all roots that contain this package, in increasing order
+        // a package may only be contained in the roots which contain its parent package
+        val rootIndices: IntArray by lazy {
+            val result = IntArrayList()
+            if (parent == null) {
+                roots.indices.forEach { result.add(it) }
             }
-            rootIndices.add(maxIndex)
-            rootIndices.trimToSize()
-            this
+            else {
+                val relativePath = path.joinToString("/")
+                for (rootIndex in parent.rootIndices) {
+                    val packages = knownPackages[rootIndex]
+                    val containsPackage =
+                            if (packages != null) relativePath in packages
+                            else findDirectory(rootIndex, path) != null
+                    if (containsPackage) {
+                        result.add(rootIndex)
+                    }
+                }
+            }
+            result.toArray()
         }
     }
 
+    // root "Cache" object corresponds to DefaultPackage which exists in every root
+    private val rootCache = Cache(null, listOf())
+
     // holds the request and the result last time we searched for class
     // helps improve several scenarios, LazyJavaResolverContext.findClassInJava being the most important
-    private var lastClassSearch: Pair<FindClassRequest, SearchResult>? = null
+    private volatile var lastClassSearch: Pair<FindClassRequest, SearchResult>? = null
 
 
     // findClassGivenDirectory MUST check whether the class with this classId exists in given package
@@ -98,6 +113,11 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
         }
     }
 
+    // saves packages of all jars in the classpath to be reused by the next compiler run
+    public fun saveSnapshot(file: File) {
+        snapshot.save(file, roots)
+    }
+
     private data class HandleResult<T : Any>(val result: T?, val continueSearch: Boolean)
 
     private fun <T : Any> search(
@@ -109,10 +129,11 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
         fun doSearch() = doSearch(request, handler)
 
         // make a decision based on information saved from last class search
+        val lastClassSearch = lastClassSearch
         if (request !is FindClassRequest || lastClassSearch == null) {
             return doSearch()
         }
-        val (cachedRequest, cachedResult) = lastClassSearch!!
+        val (cachedRequest, cachedResult) = lastClassSearch
         if (cachedRequest.classId != request.classId) {
             return doSearch()
         }
@@ -140,91 +161,43 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
     private fun <T : Any> doSearch(request: SearchRequest, handler: (VirtualFile, JavaRoot.RootType) -> HandleResult<T>): T? {
         val findClassRequest = request as? FindClassRequest
 
-        fun <T : Any> found(packageDirectory: VirtualFile, root: JavaRoot, result: T): T {
-            if (findClassRequest != null) {
-                lastClassSearch = Pair(findClassRequest, SearchResult.Found(packageDirectory, root))
-            }
-            return result
-        }
+        // a list of package sub names, ["org", "jb", "kotlin"]
+        val packagesPath = request.packageFqName.pathSegments().map { it.getIdentifier() }
 
-        fun <T : Any> notFound(): T? {
-            if (findClassRequest != null) {
-                lastClassSearch = Pair(findClassRequest, SearchResult.NotFound)
-            }
-            return null
+        var cache = rootCache
+        for (subPackageName in packagesPath) {
+            cache = cache[subPackageName]
         }
 
-        fun handle(root: JavaRoot, targetDirInRoot: VirtualFile): T? {
-            if (root.type in request.acceptedRootTypes) {
-                val (result, shouldContinue) = handler(targetDirInRoot, root.type)
-                if (!shouldContinue) {
-                    return result
-                }
-            }
-            return null
-        }
+        for (rootIndex in cache.rootIndices) {
+            val root = roots[rootIndex]
+            if (root.type !in request.acceptedRootTypes) continue
 
-        // a list of package sub names, ["org", "jb", "kotlin"]
-        val packagesPath = request.packageFqName.pathSegments().map { it.getIdentifier() }
-        // a list of caches corresponding to packages, [default, "org", "org.jb", "org.jb.kotlin"]
-        val caches = cachesPath(packagesPath)
-
-        var processedRootsUpTo = -1
-        // traverse caches starting from last, which contains most specific information
-        for (cacheIndex in caches.indices.reversed()) {
-            val cache = caches[cacheIndex]
-            for (i in cache.rootIndices.indices) {
-                val rootIndex = cache.rootIndices[i]
-                if (rootIndex <= processedRootsUpTo) continue // roots with those indices have been processed by now
-
-                val directoryInRoot = travelPath(rootIndex, packagesPath, cacheIndex, caches) ?: continue
-                val root = roots[rootIndex]
-                val result = handle(root, directoryInRoot)
-                if (result != null) {
-                    return found(directoryInRoot, root, result)
+            val directoryInRoot = findDirectory(rootIndex, packagesPath) ?: continue
+            val (result, shouldContinue) = handler(directoryInRoot, root.type)
+            if (!shouldContinue && result != null) {
+                if (findClassRequest != null) {
+                    lastClassSearch = Pair(findClassRequest, SearchResult.Found(directoryInRoot, root))
                 }
+                return result
             }
-            processedRootsUpTo = cache.rootIndices.lastOrNull() ?: processedRootsUpTo
         }
-        return notFound()
-    }
 
-    // try to find a target directory corresponding to package represented by packagesPath in a given root reprenting by index
-    // possibly filling "Cache" objects with new information
-    private fun travelPath(rootIndex: Int, packagesPath: List<String>, fillCachesAfter: Int, cachesPath: List<Cache>): VirtualFile? {
-        if (rootIndex >= maxIndex) {
-            for (i in (fillCachesAfter + 1)..cachesPath.size() - 1) {
-                // we all know roots that contain this package by now
-                cachesPath[i].rootIndices.add(maxIndex)
-                cachesPath[i].rootIndices.trimToSize()
-            }
-            return null
+        if (findClassRequest != null) {
+            lastClassSearch = Pair(findClassRequest, SearchResult.NotFound)
         }
+        return null
+    }
 
+    // try to find a target directory corresponding to package represented by packagesPath in a given root
+    private fun findDirectory(rootIndex: Int, packagesPath: List<String>): VirtualFile? {
         var currentFile = roots[rootIndex].file
-        for (pathIndex in packagesPath.indices) {
-            val subPackageName = packagesPath[pathIndex]
+        for (subPackageName in packagesPath) {
             currentFile = currentFile.findChild(subPackageName) ?: return null
-            val correspondingCacheIndex = pathIndex + 1
-            if (correspondingCacheIndex > fillCachesAfter) {
-                // subPackageName exists in this root
-                cachesPath[correspondingCacheIndex].rootIndices.add(rootIndex)
-            }
         }
         return currentFile
     }
 
-    private fun cachesPath(path: List<String>): List<Cache> {
-        val caches = ArrayList<Cache>()
-        caches.add(rootCache)
-        var currentCache = rootCache
-        for (subPackageName in path) {
-            currentCache = currentCache[subPackageName]
-            caches.add(currentCache)
-        }
-        return caches
-    }
-
     private data class FindClassRequest(val classId: ClassId, override val acceptedRootTypes: Set<JavaRoot.RootType>) : SearchRequest {
         override val packageFqName: FqName
             get() = classId.getPackageFqName()
@@ -246,6 +219,3 @@ public class JvmDependenciesIndex(_roots: List<JavaRoot>) {
         object NotFound : SearchResult
     }
 }
-
-private fun IntArrayList.lastOrNull() = if (isEmpty()) null else get(size() - 1)
-private val IntArrayList.indices: IntRange get() = 0..size()-1
\ No newline at end of file
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import java.io.BufferedOutputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.util.HashMap
+import java.util.HashSet
+import java.util.LinkedHashMap
+
+// Packages contained in jars of the classpath, persisted between compiler runs so that JvmDependenciesIndex doesn't have to probe
+// every jar for every package it's asked about.
+// A jar is identified by its path, timestamp and length; information about a modified jar is ignored and recomputed on save.
+public class JvmDependenciesIndexSnapshot private constructor(private val jars: Map<String, JarPackages>) {
+
+    private class JarPackages(val timeStamp: Long, val length: Long, val packages: Set<String>)
+
+    // packages are stored as relative paths inside the jar, "" stands for the default package
+    public fun getPackages(root: JavaRoot): Set<String>? {
+        val jar = root.jarFile() ?: return null
+        val packages = jars[jar.getPath()] ?: return null
+        return if (packages.isUpToDate(jar)) packages.packages else null
+    }
+
+    // writes information about all jars among roots to the file, only jars not known to this snapshot are traversed
+    public fun save(file: File, roots: List<JavaRoot>) {
+        val result = LinkedHashMap<String, JarPackages>()
+        for (root in roots) {
+            val jar = root.jarFile() ?: continue
+            val known = jars[jar.getPath()]
+            result[jar.getPath()] = if (known != null && known.isUpToDate(jar)) known else computePackages(jar, root.file)
+        }
+
+        if (result.keySet() == jars.keySet() && result.all { jars[it.getKey()] === it.getValue() }) return
+
+        // Other compiler processes may have the snapshot mapped, so it's replaced with a complete new file rather than rewritten in place
+        var tempFile: File? = null
+        try {
+            val directory = file.getAbsoluteFile().getParentFile()
+            directory.mkdirs()
+            val temp = File.createTempFile(file.getName(), ".tmp", directory)
+            tempFile = temp
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temp))).use { output ->
+                output.writeInt(MAGIC)
+                output.writeInt(VERSION)
+                output.writeInt(result.size())
+                for ((path, jar) in result) {
+                    output.writeString(path)
+                    output.writeLong(jar.timeStamp)
+                    output.writeLong(jar.length)
+                    output.writeInt(jar.packages.size())
+                    for (packagePath in jar.packages) {
+                        output.writeString(packagePath)
+                    }
+                }
+            }
+            // On Windows a file can't be renamed over an existing one, and can't be deleted while it's mapped
+            if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+                throw IOException("Could not rename $temp to $file")
+            }
+        }
+        catch (e: IOException) {
+            LOG.warn("Could not save classpath index to $file", e)
+            tempFile?.delete()
+        }
+    }
+
+    companion object {
+        private val LOG = Logger.getInstance(javaClass<JvmDependenciesIndexSnapshot>())
+
+        private val MAGIC = 0x4b4a4449 // "KJDI"
+        private val VERSION = 1
+
+        public val EMPTY: JvmDependenciesIndexSnapshot = JvmDependenciesIndexSnapshot(mapOf())
+
+        // never fails: a missing, corrupted or outdated snapshot is just an empty one
+        public fun load(file: File): JvmDependenciesIndexSnapshot {
+            if (!file.isFile()) return EMPTY
+
+            try {
+                val buffer = RandomAccessFile(file, "r").use { raf ->
+                    raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length())
+                }
+                if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return EMPTY
+
+                val jars = HashMap<String, JarPackages>()
+                val jarCount = buffer.getInt()
+                for (i in 0..jarCount - 1) {
+                    val path = buffer.readString()
+                    val timeStamp = buffer.getLong()
+                    val length = buffer.getLong()
+                    val packageCount = buffer.getInt()
+                    val packages = HashSet<String>(packageCount * 2)
+                    for (j in 0..packageCount - 1) {
+                        packages.add(buffer.readString())
+                    }
+                    jars[path] = JarPackages(timeStamp, length, packages)
+                }
+                return JvmDependenciesIndexSnapshot(jars)
+            }
+            catch (e: Exception) {
+                LOG.warn("Could not load classpath index from $file", e)
+                return EMPTY
+            }
+        }
+
+        private fun JarPackages.isUpToDate(jar: File) = timeStamp == jar.lastModified() && length == jar.length()
+
+        private fun computePackages(jar: File, jarRoot: VirtualFile): JarPackages {
+            // the timestamp is taken before traversal, so that a jar modified in between is considered outdated next time
+            val timeStamp = jar.lastModified()
+            val length = jar.length()
+            val packages = HashSet<String>()
+
+            fun collect(directory: VirtualFile, path: String) {
+                packages.add(path)
+                for (child in directory.getChildren()) {
+                    if (child.isDirectory()) {
+                        collect(child, if (path.isEmpty()) child.getName() else path + "/" + child.getName())
+                    }
+                }
+            }
+            collect(jarRoot, "")
+
+            return JarPackages(timeStamp, length, packages)
+        }
+
+        private fun JavaRoot.jarFile(): File? {
+            if (type != JavaRoot.RootType.BINARY || file.getFileSystem().getProtocol() != StandardFileSystems.JAR_PROTOCOL) return null
+            return File(file.getPath().substringBefore(StandardFileSystems.JAR_SEPARATOR))
+        }
+
+        private fun DataOutputStream.writeString(s: String) {
+            val bytes = s.toByteArray(Charsets.UTF_8)
+            writeInt(bytes.size())
+            write(bytes)
+        }
+
+        private fun ByteBuffer.readString(): String {
+            val bytes = ByteArray(getInt())
+            get(bytes)
+            return String(bytes, Charsets.UTF_8)
+        }
+    }
+}
@@ -74,6 +74,7 @@ import org.jetbrains.kotlin.extensions.ExternalDeclarationsProvider
 import org.jetbrains.kotlin.idea.JetFileType
 import org.jetbrains.kotlin.load.kotlin.JvmVirtualFileFinderFactory
 import org.jetbrains.kotlin.load.kotlin.KotlinBinaryClassCache
+import org.jetbrains.kotlin.load.kotlin.LibraryClassHeaderCache
 import org.jetbrains.kotlin.parsing.JetParserDefinition
 import org.jetbrains.kotlin.parsing.JetScriptDefinitionProvider
 import org.jetbrains.kotlin.psi.JetFile
@@ -86,6 +87,7 @@ import org.jetbrains.kotlin.utils.PathUtil
 import java.io.File
 import java.util.ArrayList
 import java.util.Comparator
+import java.util.HashMap
 import kotlin.platform.platformStatic
 
 public class KotlinCoreEnvironment private constructor(
@@ -120,9 +122,32 @@ public class KotlinCoreEnvironment private constructor(
 
         fillClasspath(configuration)
         val fileManager = ServiceManager.getService(project, javaClass<CoreJavaFileManager>())
-        val index = JvmDependenciesIndex(javaRoots)
+        val indexSnapshotFile = configuration.get(JVMConfigurationKeys.CLASSPATH_INDEX_SNAPSHOT)
+        val index = JvmDependenciesIndex(
+                javaRoots,
+                if (indexSnapshotFile != null) JvmDependenciesIndexSnapshot.load(indexSnapshotFile) else JvmDependenciesIndexSnapshot.EMPTY
+        )
+        if (indexSnapshotFile != null) {
+            Disposer.register(parentDisposable, object : Disposable {
+                override fun dispose() {
+                    index.saveSnapshot(indexSnapshotFile)
+                }
+            })
+        }
         (fileManager as KotlinCliJavaFileManagerImpl).initIndex(index)
 
+        val libraryCacheDirectory = configuration.get(JVMConfigurationKeys.LIBRARY_CACHE_DIRECTORY)
+        if (libraryCacheDirectory != null) {
+            val libraryCache = LibraryClassHeaderCache(libraryCacheDirectory)
+            KotlinBinaryClassCache.setLibraryCache(libraryCache)
+            Disposer.register(parentDisposable, object : Disposable {
+                override fun dispose() {
+                    KotlinBinaryClassCache.setLibraryCache(null)
+                    libraryCache.save()
+                }
+            })
+        }
+
         for (path in configuration.getList(JVMConfigurationKeys.ANNOTATIONS_PATH_KEY)) {
             addExternalAnnotationsRoot(path)
         }
@@ -219,6 +244,7 @@ public class KotlinCoreEnvironment private constructor(
             report(WARNING, "Classpath entry points to a file that is not a JAR archive: $path")
             return null
         }
+        jarOpened(path)
         return jarFile
     }
 
@@ -248,6 +274,16 @@ public class KotlinCoreEnvironment private constructor(
         private var ourApplicationEnvironment: JavaCoreApplicationEnvironment? = null
         private var ourProjectCount = 0
 
+        // Jars opened through the jar file system of the application environment, with their length and modification time at that moment
+        private val ourOpenedJars = HashMap<File, Pair<Long, Long>>()
+
+        /**
+         * A long-living compiler process (see CompileDaemon) keeps the application environment, and so the contents of jars
+         * and application services, between compilations. It is dropped once one of the opened jars changes,
+         * see disposeApplicationEnvironmentIfJarsChanged
+         */
+        volatile public var keepApplicationEnvironment: Boolean = false
+
         platformStatic public fun createForProduction(
                 parentDisposable: Disposable, configuration: CompilerConfiguration, configFilePaths: List<String>
         ): KotlinCoreEnvironment {
@@ -256,7 +292,7 @@ public class KotlinCoreEnvironment private constructor(
             Disposer.register(parentDisposable, object : Disposable {
                 override fun dispose() {
                     synchronized (APPLICATION_LOCK) {
-                        if (--ourProjectCount <= 0) {
+                        if (--ourProjectCount <= 0 && !keepApplicationEnvironment) {
                             disposeApplicationEnvironment()
                         }
                     }
@@ -288,6 +324,7 @@ public class KotlinCoreEnvironment private constructor(
                     override fun dispose() {
                         synchronized (APPLICATION_LOCK) {
                             ourApplicationEnvironment = null
+                            ourOpenedJars.clear()
                         }
                     }
                 })
@@ -304,6 +341,32 @@ public class KotlinCoreEnvironment private constructor(
             }
         }
 
+        /**
+         * Disposes the application environment kept between compilations if any jar opened through it was modified, since the jar
+         * file system doesn't notice such changes. Does nothing while some project uses the environment.
+         */
+        public fun disposeApplicationEnvironmentIfJarsChanged(): Boolean {
+            synchronized (APPLICATION_LOCK) {
+                if (ourApplicationEnvironment == null || ourProjectCount > 0) return false
+                if (ourOpenedJars.entrySet().none { it.getValue() != jarStamp(it.getKey()) }) return false
+
+                disposeApplicationEnvironment()
+                return true
+            }
+        }
+
+        private fun jarOpened(jar: File) {
+            if (!keepApplicationEnvironment) return
+
+            synchronized (APPLICATION_LOCK) {
+                if (!ourOpenedJars.containsKey(jar)) {
+                    ourOpenedJars.put(jar, jarStamp(jar))
+                }
+            }
+        }
+
+        private fun jarStamp(jar: File) = Pair(jar.length(), jar.lastModified())
+
         private fun createApplicationEnvironment(parentDisposable: Disposable, configuration: CompilerConfiguration, configFilePaths: List<String>): JavaCoreApplicationEnvironment {
             Extensions.cleanRootArea(parentDisposable)
             registerAppExtensionPoints()
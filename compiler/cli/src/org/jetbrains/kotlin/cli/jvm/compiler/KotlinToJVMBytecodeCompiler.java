@@ -39,6 +39,7 @@ import org.jetbrains.kotlin.cli.common.output.outputUtils.OutputUtilsPackage;
 import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler;
 import org.jetbrains.kotlin.cli.jvm.config.JVMConfigurationKeys;
 import org.jetbrains.kotlin.codegen.*;
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
 import org.jetbrains.kotlin.codegen.state.Progress;
 import org.jetbrains.kotlin.config.CompilerConfiguration;
@@ -59,6 +60,7 @@ import org.jetbrains.kotlin.resolve.ScriptNameUtil;
 import org.jetbrains.kotlin.resolve.jvm.JvmClassName;
 import org.jetbrains.kotlin.resolve.jvm.TopDownAnalyzerFacadeForJVM;
 import org.jetbrains.kotlin.util.PerformanceCounter;
+import org.jetbrains.kotlin.util.PhaseProfiler;
 import org.jetbrains.kotlin.utils.KotlinPaths;
 
 import java.io.File;
@@ -314,6 +316,19 @@ public class KotlinToJVMBytecodeCompiler {
         MessageCollector collector = environment.getConfiguration().get(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY);
         assert collector != null;
 
+        // Files are parsed lazily on first access, so for the profile they are parsed in advance
+        if (PhaseProfiler.INSTANCE$.isEnabled()) {
+            for (JetFile file : environment.getSourceFiles()) {
+                PhaseProfiler.INSTANCE$.start("Lexing and parsing", file);
+                try {
+                    file.getNode().getFirstChildNode();
+                }
+                finally {
+                    PhaseProfiler.INSTANCE$.finish();
+                }
+            }
+        }
+
         long analysisStart = PerformanceCounter.Companion.currentTime();
         AnalyzerWithCompilerReport analyzerWithCompilerReport = new AnalyzerWithCompilerReport(collector);
         analyzerWithCompilerReport.analyzeAndReport(
@@ -322,15 +337,27 @@ public class KotlinToJVMBytecodeCompiler {
                     @Override
                     public AnalysisResult invoke() {
                         BindingTrace sharedTrace = new CliLightClassGenerationSupport.NoScopeRecordCliBindingTrace();
-                        ModuleContext moduleContext = TopDownAnalyzerFacadeForJVM.createContextWithSealedModule(environment.getProject());
-
-                        return TopDownAnalyzerFacadeForJVM.analyzeFilesWithJavaIntegrationWithCustomContext(
-                                moduleContext,
-                                environment.getSourceFiles(),
-                                sharedTrace,
-                                environment.getConfiguration().get(JVMConfigurationKeys.MODULE_IDS),
-                                environment.getConfiguration().get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS)
+                        CompilerConfiguration configuration = environment.getConfiguration();
+                        int bodyResolveThreads = configuration.get(JVMConfigurationKeys.BODY_RESOLVE_THREADS, 1);
+                        ModuleContext moduleContext = TopDownAnalyzerFacadeForJVM.createContextWithSealedModule(
+                                environment.getProject(),
+                                configuration.get(JVMConfigurationKeys.CONCURRENT_LAZY_RESOLVE, false) || bodyResolveThreads > 1
                         );
+
+                        PhaseProfiler.INSTANCE$.start("Analysis", null);
+                        try {
+                            return TopDownAnalyzerFacadeForJVM.analyzeFilesWithJavaIntegrationWithCustomContext(
+                                    moduleContext,
+                                    environment.getSourceFiles(),
+                                    sharedTrace,
+                                    environment.getConfiguration().get(JVMConfigurationKeys.MODULE_IDS),
+                                    environment.getConfiguration().get(JVMConfigurationKeys.INCREMENTAL_COMPILATION_COMPONENTS),
+                                    bodyResolveThreads
+                            );
+                        }
+                        finally {
+                            PhaseProfiler.INSTANCE$.finish();
+                        }
                     }
                 }
         );
@@ -387,7 +414,10 @@ public class KotlinToJVMBytecodeCompiler {
                 configuration.get(JVMConfigurationKeys.DISABLE_PARAM_ASSERTIONS, false),
                 GenerationState.GenerateClassFilter.GENERATE_ALL,
                 configuration.get(JVMConfigurationKeys.DISABLE_INLINE, false),
-                configuration.get(JVMConfigurationKeys.DISABLE_OPTIMIZATION, false),
+                configuration.get(JVMConfigurationKeys.DISABLE_OPTIMIZATION, false)
+                ? MethodTransformerPipeline.EMPTY
+                : MethodTransformerPipeline.DEFAULT,
+                configuration.get(JVMConfigurationKeys.OPTIMIZATION_THREADS, 1),
                 packagesWithObsoleteParts,
                 moduleId,
                 diagnosticHolder,
@@ -397,7 +427,14 @@ public class KotlinToJVMBytecodeCompiler {
 
         long generationStart = PerformanceCounter.Companion.currentTime();
 
-        KotlinCodegenFacade.compileCorrectFiles(generationState, CompilationErrorHandler.THROW_EXCEPTION);
+        PhaseProfiler.INSTANCE$.start("Code generation", null);
+        try {
+            KotlinCodegenFacade.compileCorrectFiles(generationState, CompilationErrorHandler.THROW_EXCEPTION,
+                                                    configuration.get(JVMConfigurationKeys.CODEGEN_THREADS, 1));
+        }
+        finally {
+            PhaseProfiler.INSTANCE$.finish();
+        }
 
         long generationNanos = PerformanceCounter.Companion.currentTime() - generationStart;
         String desc = moduleId != null ? "module " + moduleId + " " : "";
@@ -41,6 +41,14 @@ public class JVMConfigurationKeys {
             CompilerConfigurationKey.create("disable inline");
     public static final CompilerConfigurationKey<Boolean> DISABLE_OPTIMIZATION =
             CompilerConfigurationKey.create("disable optimization");
+    public static final CompilerConfigurationKey<Boolean> CONCURRENT_LAZY_RESOLVE =
+            CompilerConfigurationKey.create("concurrent lazy resolve");
+    public static final CompilerConfigurationKey<Integer> BODY_RESOLVE_THREADS =
+            CompilerConfigurationKey.create("body resolve threads");
+    public static final CompilerConfigurationKey<Integer> CODEGEN_THREADS =
+            CompilerConfigurationKey.create("codegen threads");
+    public static final CompilerConfigurationKey<Integer> OPTIMIZATION_THREADS =
+            CompilerConfigurationKey.create("optimization threads");
 
     public static final CompilerConfigurationKey<IncrementalCompilationComponents> INCREMENTAL_COMPILATION_COMPONENTS =
             CompilerConfigurationKey.create("incremental cache provider");
@@ -48,6 +56,12 @@ public class JVMConfigurationKeys {
     public static final CompilerConfigurationKey<CompilerJarLocator> COMPILER_JAR_LOCATOR =
             CompilerConfigurationKey.create("Compiler jar locator");
 
+    public static final CompilerConfigurationKey<File> CLASSPATH_INDEX_SNAPSHOT =
+            CompilerConfigurationKey.create("classpath index snapshot");
+
+    public static final CompilerConfigurationKey<File> LIBRARY_CACHE_DIRECTORY =
+            CompilerConfigurationKey.create("library class header cache directory");
+
     public static final CompilerConfigurationKey<List<String>> MODULE_IDS =
             CompilerConfigurationKey.create("module id strings");
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.daemon
+
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.utils.PathUtil
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.PrintStream
+import java.net.InetAddress
+import java.net.ServerSocket
+import java.net.Socket
+import java.net.SocketTimeoutException
+import java.util.UUID
+import java.util.concurrent.TimeUnit
+import kotlin.platform.platformStatic
+
+/**
+ * A long-living compiler process serving requests of CompileDaemonClient, one at a time, over a loopback socket.
+ *
+ * The IntelliJ core application environment (the jar file system with contents of the opened jars, application services) is kept between
+ * compilations, as well as the loaded and JIT-compiled compiler itself. The environment is dropped as soon as one of the opened jars changes.
+ * The daemon exits after being idle for a while, when asked to, or when [compilerFile] (the compiler it was started from) changes.
+ *
+ * Usage: CompileDaemon <run file> [idle timeout in minutes]
+ */
+public class CompileDaemon(
+        private val runFile: File,
+        private val idleTimeoutMillis: Int,
+        private val compilerFile: File = compilerPath()
+) {
+    private val token = UUID.randomUUID().toString()
+    private val workingDirectory = currentWorkingDirectory()
+    private val compilerStamp = compilerStamp()
+
+    // Writes the run file and serves requests until the daemon should exit
+    public fun run() {
+        val serverSocket = ServerSocket(0, 50, InetAddress.getByName(null))
+        try {
+            serverSocket.setSoTimeout(idleTimeoutMillis)
+            writeRunFile(serverSocket.getLocalPort())
+
+            while (true) {
+                val socket = try {
+                    serverSocket.accept()
+                }
+                catch (e: SocketTimeoutException) {
+                    return
+                }
+
+                val keepRunning = try {
+                    serve(socket)
+                }
+                finally {
+                    socket.close()
+                }
+                if (!keepRunning) return
+            }
+        }
+        finally {
+            serverSocket.close()
+            // The run file may have been overwritten by another daemon started concurrently
+            if (runFile.isFile() && runFile.readText().endsWith(token)) {
+                runFile.delete()
+            }
+        }
+    }
+
+    // Returns false if the daemon should exit
+    private fun serve(socket: Socket): Boolean {
+        val input = DataInputStream(BufferedInputStream(socket.getInputStream()))
+        val output = DataOutputStream(BufferedOutputStream(socket.getOutputStream()))
+        try {
+            val requestToken = input.readString()
+            val requestDirectory = File(input.readString())
+            val command = input.readInt()
+            val args = Array(input.readInt()) { input.readString() }
+
+            if (requestToken != token || requestDirectory != workingDirectory) {
+                output.writeInt(STATUS_REJECTED)
+                return true
+            }
+
+            if (command == COMMAND_SHUTDOWN) {
+                output.writeInt(STATUS_OK)
+                return false
+            }
+
+            if (compilerStamp() != compilerStamp) {
+                output.writeInt(STATUS_STALE)
+                return false
+            }
+
+            KotlinCoreEnvironment.disposeApplicationEnvironmentIfJarsChanged()
+
+            val compilerOutput = ByteArrayOutputStream()
+            val errStream = PrintStream(compilerOutput, true, "UTF-8")
+            val exitCode = try {
+                K2JVMCompiler().exec(errStream, *args)
+            }
+            finally {
+                errStream.close()
+            }
+
+            output.writeInt(STATUS_OK)
+            output.writeString(compilerOutput.toString("UTF-8"))
+            output.writeInt(exitCode.getCode())
+            return true
+        }
+        catch (e: IOException) {
+            // The client has gone, nothing to report to
+            e.printStackTrace()
+            return true
+        }
+        finally {
+            try {
+                output.flush()
+            }
+            catch (e: IOException) {
+                // ignore
+            }
+        }
+    }
+
+    private fun compilerStamp(): Pair<Long, Long> = Pair(compilerFile.length(), compilerFile.lastModified())
+
+    private fun writeRunFile(port: Int) {
+        runFile.getParentFile()?.mkdirs()
+
+        // The token is a secret of the user who started the daemon, the file is made private before it's written
+        val tempFile = File(runFile.getPath() + ".tmp")
+        tempFile.delete()
+        tempFile.createNewFile()
+        tempFile.setReadable(false, false)
+        tempFile.setReadable(true, true)
+        tempFile.writeText("$port $token")
+
+        if (!tempFile.renameTo(runFile)) {
+            runFile.delete()
+            if (!tempFile.renameTo(runFile)) throw IOException("Could not write $runFile")
+        }
+    }
+
+    companion object {
+        private val DEFAULT_IDLE_TIMEOUT_MINUTES = 120
+
+        platformStatic public fun main(args: Array<String>) {
+            if (args.isEmpty()) {
+                System.err.println("Usage: CompileDaemon <run file> [idle timeout in minutes]")
+                System.exit(1)
+            }
+
+            val runFile = File(args[0]).getAbsoluteFile()
+            val idleTimeoutMinutes = if (args.size() > 1) args[1].toInt() else DEFAULT_IDLE_TIMEOUT_MINUTES
+
+            // Nobody reads the output of the daemon process, everything that isn't sent to clients goes to the log
+            val log = PrintStream(FileOutputStream(File(runFile.getPath() + ".log"), true), true)
+            System.setOut(log)
+            System.setErr(log)
+
+            System.setProperty("java.awt.headless", "true")
+            KotlinCoreEnvironment.keepApplicationEnvironment = true
+
+            try {
+                CompileDaemon(runFile, TimeUnit.MINUTES.toMillis(idleTimeoutMinutes.toLong()).toInt()).run()
+            }
+            catch (e: Throwable) {
+                e.printStackTrace()
+            }
+            // The compiler may leave non-daemon threads behind
+            System.exit(0)
+        }
+
+        fun currentWorkingDirectory(): File = File(System.getProperty("user.dir")).getAbsoluteFile()
+
+        fun compilerPath(): File = PathUtil.getResourcePathForClass(javaClass<CompileDaemon>())
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.daemon
+
+import com.intellij.openapi.util.text.StringUtil
+import com.sampullara.cli.Args
+import org.jetbrains.kotlin.cli.common.CLICompiler
+import org.jetbrains.kotlin.cli.common.arguments.K2JVMCompilerArguments
+import org.jetbrains.kotlin.cli.jvm.K2JVMCompiler
+import java.io.File
+import java.io.IOException
+import java.util.ArrayList
+import kotlin.platform.platformStatic
+
+/**
+ * Passes compiler arguments to a CompileDaemon started from the same compiler in the same working directory, and starts such a daemon
+ * if there's none. Compiles in its own process if the daemon can't be used, and always for scripts and REPL which need this process' console.
+ *
+ * JVM options of a new daemon are taken from the "kotlin.daemon.jvm.options" system property,
+ * "-Dkotlin.daemon.shutdown" stops the daemon instead of compiling.
+ */
+public object CompileDaemonClient {
+    private val DAEMON_START_TIMEOUT_MILLIS = 20000L
+
+    platformStatic public fun main(args: Array<String>) {
+        if (System.getProperty("kotlin.daemon.shutdown") != null) {
+            sendDaemonRequest(runFile(), CompileDaemon.currentWorkingDirectory(), COMMAND_SHUTDOWN, arrayOf())
+            return
+        }
+
+        val exitCode = if (canCompileOnDaemon(args)) compileOnDaemon(runFile(), args) { startDaemon(it) } else null
+        if (exitCode == null) {
+            CLICompiler.doMain(K2JVMCompiler(), args)
+        }
+        else if (exitCode != 0) {
+            System.exit(exitCode)
+        }
+    }
+
+    /**
+     * Returns false for scripts and REPL (no source files and no module), and for arguments the compiler can't parse,
+     * so that the error is reported by the compiler in this process.
+     */
+    public fun canCompileOnDaemon(args: Array<String>): Boolean {
+        val arguments = K2JVMCompilerArguments()
+        try {
+            arguments.freeArgs = Args.parse(arguments, args)
+        }
+        catch (e: IllegalArgumentException) {
+            return false
+        }
+        return !arguments.script && (arguments.module != null || arguments.freeArgs.isNotEmpty())
+    }
+
+    /**
+     * Returns the exit code of the compilation, or null if the daemon couldn't be used.
+     * A new daemon is started by [startDaemon] if there's none, or if the running one is stale.
+     */
+    public fun compileOnDaemon(runFile: File, args: Array<String>, startDaemon: (File) -> Boolean): Int? {
+        val workingDirectory = CompileDaemon.currentWorkingDirectory()
+
+        val firstResponse = sendDaemonRequest(runFile, workingDirectory, COMMAND_COMPILE, args)
+        val response =
+                if (firstResponse != null && firstResponse.status != STATUS_STALE) firstResponse
+                else if (startDaemon(runFile)) sendDaemonRequest(runFile, workingDirectory, COMMAND_COMPILE, args)
+                else null
+        if (response == null || response.status != STATUS_OK) return null
+
+        System.err.print(response.output)
+        System.err.flush()
+        return response.exitCode
+    }
+
+    private fun startDaemon(runFile: File): Boolean {
+        runFile.delete()
+
+        val command = ArrayList<String>()
+        command.add(File(File(System.getProperty("java.home"), "bin"), "java").getPath())
+        val jvmOptions = System.getProperty("kotlin.daemon.jvm.options")
+        if (jvmOptions != null) {
+            command.addAll(StringUtil.split(jvmOptions, " "))
+        }
+        command.add("-cp")
+        command.add(CompileDaemon.compilerPath().getPath())
+        command.add(javaClass<CompileDaemon>().getName())
+        command.add(runFile.getPath())
+
+        val process = try {
+            ProcessBuilder(command).directory(CompileDaemon.currentWorkingDirectory()).start()
+        }
+        catch (e: IOException) {
+            return false
+        }
+        // The daemon writes its output to a log next to the run file
+        process.getOutputStream().close()
+        process.getInputStream().close()
+        process.getErrorStream().close()
+
+        val deadline = System.currentTimeMillis() + DAEMON_START_TIMEOUT_MILLIS
+        while (!runFile.isFile()) {
+            if (System.currentTimeMillis() > deadline || hasExited(process)) return false
+            Thread.sleep(50)
+        }
+        return true
+    }
+
+    private fun hasExited(process: Process): Boolean {
+        try {
+            process.exitValue()
+            return true
+        }
+        catch (e: IllegalThreadStateException) {
+            return false
+        }
+    }
+
+    private fun runFile() = daemonRunFile(CompileDaemon.currentWorkingDirectory(), CompileDaemon.compilerPath())
+}
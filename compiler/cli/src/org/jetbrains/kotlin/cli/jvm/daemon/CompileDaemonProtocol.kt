@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.daemon
+
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.net.InetAddress
+import java.net.Socket
+
+// A request is: token, working directory, command, arguments. A response is: status, and for a compilation also the output and the exit code.
+// The daemon listens on a loopback port, the port and the token are written to the run file which only the user can read.
+
+val COMMAND_COMPILE = 1
+val COMMAND_SHUTDOWN = 2
+
+val STATUS_OK = 0
+// The daemon can't serve the request (wrong token or another working directory), the client should compile in its own process
+val STATUS_REJECTED = 1
+// The compiler the daemon was started from has changed on disk, the daemon exits and the client should start a new one
+val STATUS_STALE = 2
+
+// There is a daemon per working directory and compiler, since relative paths in arguments are resolved against the working directory
+fun daemonRunFile(workingDirectory: File, compilerPath: File): File {
+    val directory = System.getProperty("kotlin.daemon.dir")?.let { File(it) } ?: File(System.getProperty("user.home"), ".kotlin/daemon")
+    val key = workingDirectory.getPath() + File.pathSeparator + compilerPath.getPath()
+    return File(directory, "daemon-" + Integer.toHexString(key.hashCode()) + ".run")
+}
+
+class DaemonResponse(val status: Int, val output: String, val exitCode: Int)
+
+// Returns null if there's no daemon listening at the port from the run file
+fun sendDaemonRequest(runFile: File, workingDirectory: File, command: Int, args: Array<String>): DaemonResponse? {
+    if (!runFile.isFile()) return null
+
+    val port: Int
+    val token: String
+    try {
+        val portAndToken = runFile.readText()
+        port = portAndToken.substringBefore(' ').toInt()
+        token = portAndToken.substringAfter(' ')
+    }
+    catch (e: Exception) {
+        return null
+    }
+
+    val socket = try {
+        Socket(InetAddress.getByName(null), port)
+    }
+    catch (e: IOException) {
+        return null
+    }
+
+    try {
+        val output = DataOutputStream(BufferedOutputStream(socket.getOutputStream()))
+        output.writeString(token)
+        output.writeString(workingDirectory.getPath())
+        output.writeInt(command)
+        output.writeInt(args.size())
+        for (arg in args) {
+            output.writeString(arg)
+        }
+        output.flush()
+
+        val input = DataInputStream(BufferedInputStream(socket.getInputStream()))
+        val status = input.readInt()
+        if (status != STATUS_OK || command != COMMAND_COMPILE) return DaemonResponse(status, "", 0)
+
+        val compilerOutput = input.readString()
+        return DaemonResponse(status, compilerOutput, input.readInt())
+    }
+    catch (e: IOException) {
+        return null
+    }
+    finally {
+        socket.close()
+    }
+}
+
+fun DataOutputStream.writeString(s: String) {
+    val bytes = s.toByteArray(Charsets.UTF_8)
+    writeInt(bytes.size())
+    write(bytes)
+}
+
+fun DataInputStream.readString(): String {
+    val bytes = ByteArray(readInt())
+    readFully(bytes)
+    return String(bytes, Charsets.UTF_8)
+}
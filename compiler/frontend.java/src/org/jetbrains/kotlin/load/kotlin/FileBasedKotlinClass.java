@@ -32,6 +32,9 @@ import org.jetbrains.org.objectweb.asm.ClassVisitor;
 import org.jetbrains.org.objectweb.asm.FieldVisitor;
 import org.jetbrains.org.objectweb.asm.MethodVisitor;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
 import static org.jetbrains.org.objectweb.asm.ClassReader.*;
@@ -76,6 +79,41 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
         public OuterAndInnerName get(@NotNull String name) {
             return map == null ? null : map.get(name);
         }
+
+        public void writeTo(@NotNull DataOutput output) throws IOException {
+            if (map == null) {
+                output.writeInt(0);
+                return;
+            }
+            output.writeInt(map.size());
+            for (Map.Entry<String, OuterAndInnerName> entry : map.entrySet()) {
+                output.writeUTF(entry.getKey());
+                writeNullableString(output, entry.getValue().outerInternalName);
+                writeNullableString(output, entry.getValue().innerSimpleName);
+            }
+        }
+
+        @NotNull
+        public static InnerClassesInfo readFrom(@NotNull DataInput input) throws IOException {
+            InnerClassesInfo result = new InnerClassesInfo();
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                String name = input.readUTF();
+                String outerName = readNullableString(input);
+                result.add(name, outerName, readNullableString(input));
+            }
+            return result;
+        }
+
+        private static void writeNullableString(@NotNull DataOutput output, @Nullable String s) throws IOException {
+            output.writeBoolean(s != null);
+            if (s != null) output.writeUTF(s);
+        }
+
+        @Nullable
+        private static String readNullableString(@NotNull DataInput input) throws IOException {
+            return input.readBoolean() ? input.readUTF() : null;
+        }
     }
 
     @NotNull
@@ -134,6 +172,11 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
         return classHeader;
     }
 
+    @NotNull
+    public InnerClassesInfo getInnerClasses() {
+        return innerClasses;
+    }
+
     @Override
     public void loadClassAnnotations(@NotNull final AnnotationVisitor annotationVisitor) {
         new ClassReader(getFileContents()).accept(new ClassVisitor(ASM5) {
@@ -22,6 +22,7 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
+import kotlin.jvm.functions.Function1;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +41,8 @@ public final class KotlinBinaryClassCache implements Disposable {
         }
     }
 
+    private volatile LibraryClassHeaderCache libraryCache = null;
+
     private final ThreadLocal<RequestCache> cache =
             new ThreadLocal<RequestCache>() {
                 @Override
@@ -59,18 +62,43 @@ public final class KotlinBinaryClassCache implements Disposable {
             return requestCache.virtualFileKotlinClass;
         }
         else {
-            VirtualFileKotlinClass aClass = ApplicationManager.getApplication().runReadAction(new Computable<VirtualFileKotlinClass>() {
-                @Override
-                public VirtualFileKotlinClass compute() {
-                    //noinspection deprecation
-                    return VirtualFileKotlinClass.Factory.create(file);
-                }
-            });
+            LibraryClassHeaderCache libraryCache = service.libraryCache;
+            VirtualFileKotlinClass aClass = libraryCache != null
+                                            ? libraryCache.getKotlinClass(file, new Function1<VirtualFile, VirtualFileKotlinClass>() {
+                                                  @Override
+                                                  public VirtualFileKotlinClass invoke(final VirtualFile virtualFile) {
+                                                      // Failures are not cached, so they must not look like non-Kotlin classes
+                                                      return ApplicationManager.getApplication().runReadAction(
+                                                              new Computable<VirtualFileKotlinClass>() {
+                                                                  @Override
+                                                                  public VirtualFileKotlinClass compute() {
+                                                                      return VirtualFileKotlinClass.Factory.read(virtualFile);
+                                                                  }
+                                                              });
+                                                  }
+                                              })
+                                            : readKotlinClass(file);
 
             return requestCache.cache(file, aClass);
         }
     }
 
+    @Nullable
+    private static VirtualFileKotlinClass readKotlinClass(@NotNull final VirtualFile file) {
+        return ApplicationManager.getApplication().runReadAction(new Computable<VirtualFileKotlinClass>() {
+            @Override
+            public VirtualFileKotlinClass compute() {
+                //noinspection deprecation
+                return VirtualFileKotlinClass.Factory.create(file);
+            }
+        });
+    }
+
+    // Headers of library classes are taken from the given cache while it's set, null disables caching
+    public static void setLibraryCache(@Nullable LibraryClassHeaderCache libraryCache) {
+        ServiceManager.getService(KotlinBinaryClassCache.class).libraryCache = libraryCache;
+    }
+
     @Override
     public void dispose() {
         // This is only relevant for tests. We create a new instance of Application for each test, and so a new instance of this service is
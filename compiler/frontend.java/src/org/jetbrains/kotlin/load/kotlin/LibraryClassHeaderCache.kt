@@ -0,0 +1,242 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.load.kotlin
+
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import org.jetbrains.kotlin.load.java.JvmAnnotationNames.KotlinClass
+import org.jetbrains.kotlin.load.java.JvmAnnotationNames.KotlinSyntheticClass
+import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import org.jetbrains.kotlin.name.ClassId
+import org.jetbrains.kotlin.name.FqName
+import java.io.BufferedOutputStream
+import java.io.ByteArrayInputStream
+import java.io.DataInput
+import java.io.DataInputStream
+import java.io.DataOutput
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileNotFoundException
+import java.io.FileOutputStream
+import java.io.IOException
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Headers of classes from library jars, persisted in a directory shared by compiler processes on the same machine.
+ * Once a jar is cached, its classes are created from the cached header without reading class files, and the files of non-Kotlin
+ * classes are not read at all. A class is only cached once its file has been read, classes which could not be read are read again
+ * next time.
+ *
+ * Information about a jar is stored in a file named after the SHA-1 of the jar path, timestamp and length, so that the jar itself
+ * doesn't have to be read to find it. Like other caches keyed by timestamps, it's outdated only if a jar is replaced by another one
+ * with the same timestamp and length. Different processes may write the file concurrently: each of them merges what it has learned
+ * with what is on disk and atomically replaces the file.
+ */
+public class LibraryClassHeaderCache(private val directory: File) {
+    private class CachedClass(val classId: ClassId, val header: KotlinClassHeader, val innerClasses: FileBasedKotlinClass.InnerClassesInfo)
+
+    private class JarHeaders(val hash: String, val classes: ConcurrentHashMap<String, CachedClass>) {
+        val loadedCount = classes.size()
+
+        fun isModified() = classes.size() != loadedCount
+    }
+
+    private val jars = ConcurrentHashMap<String, JarHeaders>()
+
+    /**
+     * @param read returns null only if the file has been read and is not a Kotlin class, throws if the file could not be read
+     * @return null if the class is not a Kotlin class or could not be read
+     */
+    public fun getKotlinClass(file: VirtualFile, read: (VirtualFile) -> VirtualFileKotlinClass?): VirtualFileKotlinClass? {
+        val path = file.getPath()
+        val jar =
+                if (file.getFileSystem().getProtocol() == StandardFileSystems.JAR_PROTOCOL && path.contains(StandardFileSystems.JAR_SEPARATOR)) {
+                    getJarHeaders(path.substringBefore(StandardFileSystems.JAR_SEPARATOR))
+                }
+                else null
+        val entry = path.substringAfter(StandardFileSystems.JAR_SEPARATOR)
+
+        val cached = jar?.classes?.get(entry)
+        if (cached != null) {
+            return if (cached === NOT_KOTLIN) null else VirtualFileKotlinClass.create(file, cached.classId, cached.header, cached.innerClasses)
+        }
+
+        val aClass = try {
+            read(file)
+        }
+        catch (e: FileNotFoundException) {
+            // Valid situation. User can delete jar file.
+            return null
+        }
+        catch (e: Exception) {
+            LOG.warn("Could not read class file $path", e)
+            return null
+        }
+        jar?.classes?.putIfAbsent(entry, if (aClass == null) NOT_KOTLIN else CachedClass(aClass.getClassId(), aClass.getClassHeader(), aClass.getInnerClasses()))
+        return aClass
+    }
+
+    // writes information learned about jars since they were loaded
+    public fun save() {
+        for (jar in jars.values()) {
+            if (jar.isModified()) {
+                saveJar(jar)
+            }
+        }
+    }
+
+    private fun getJarHeaders(jarPath: String): JarHeaders {
+        jars[jarPath]?.let { return it }
+
+        synchronized(jars) {
+            jars[jarPath]?.let { return it }
+
+            val hash = computeHash(File(jarPath))
+            val result = JarHeaders(hash, readClasses(cacheFile(hash)))
+            jars[jarPath] = result
+            return result
+        }
+    }
+
+    private fun saveJar(jar: JarHeaders) {
+        val file = cacheFile(jar.hash)
+        val classes = readClasses(file)
+        classes.putAll(jar.classes)
+
+        val tempFile = File(directory, jar.hash + "." + System.nanoTime() + ".tmp")
+        try {
+            directory.mkdirs()
+            DataOutputStream(BufferedOutputStream(FileOutputStream(tempFile))).use { output ->
+                output.writeInt(MAGIC)
+                output.writeInt(VERSION)
+                output.writeInt(classes.size())
+                for ((entry, cached) in classes) {
+                    output.writeUTF(entry)
+                    output.writeClass(cached)
+                }
+            }
+            if (!tempFile.renameTo(file)) {
+                // renameTo doesn't replace existing files on some platforms
+                file.delete()
+                if (!tempFile.renameTo(file)) throw IOException("Could not rename $tempFile to $file")
+            }
+        }
+        catch (e: IOException) {
+            LOG.warn("Could not save library class headers to $file", e)
+            tempFile.delete()
+        }
+    }
+
+    private fun cacheFile(hash: String) = File(directory, hash + ".headers")
+
+    companion object {
+        private val LOG = Logger.getInstance(javaClass<LibraryClassHeaderCache>())
+
+        private val MAGIC = 0x4b4c4843 // "KLHC"
+        private val VERSION = 1
+
+        private val NOT_KOTLIN = CachedClass(
+                ClassId.topLevel(FqName("<not kotlin>")),
+                KotlinClassHeader(KotlinClassHeader.Kind.SYNTHETIC_CLASS, 0, null, null, KotlinSyntheticClass.Kind.values()[0]),
+                FileBasedKotlinClass.InnerClassesInfo()
+        )
+
+        private fun computeHash(jar: File): String {
+            val key = jar.getAbsolutePath() + ":" + jar.lastModified() + ":" + jar.length()
+            val digest = MessageDigest.getInstance("SHA-1").digest(key.toByteArray(Charsets.UTF_8))
+            val hash = StringBuilder()
+            for (byte in digest) {
+                hash.append(Integer.toHexString((byte.toInt() and 0xff) + 0x100).substring(1))
+            }
+            return hash.toString()
+        }
+
+        // never fails: a missing or corrupted file is just an empty one
+        private fun readClasses(file: File): ConcurrentHashMap<String, CachedClass> {
+            val result = ConcurrentHashMap<String, CachedClass>()
+            if (!file.isFile()) return result
+
+            try {
+                val input = DataInputStream(ByteArrayInputStream(file.readBytes()))
+                if (input.readInt() != MAGIC || input.readInt() != VERSION) return result
+
+                val count = input.readInt()
+                for (i in 0..count - 1) {
+                    val entry = input.readUTF()
+                    result[entry] = input.readClass()
+                }
+                return result
+            }
+            catch (e: Exception) {
+                LOG.warn("Could not load library class headers from $file", e)
+                return ConcurrentHashMap()
+            }
+        }
+
+        private fun DataOutput.writeClass(cached: CachedClass) {
+            writeBoolean(cached !== NOT_KOTLIN)
+            if (cached === NOT_KOTLIN) return
+
+            writeUTF(cached.classId.getPackageFqName().asString())
+            writeUTF(cached.classId.getRelativeClassName().asString())
+            writeBoolean(cached.classId.isLocal())
+
+            val header = cached.header
+            writeInt(header.kind.ordinal())
+            writeInt(header.version)
+            val annotationData = header.annotationData
+            writeInt(annotationData?.size() ?: -1)
+            annotationData?.forEach { writeLongString(it) }
+            writeInt(header.classKind?.ordinal() ?: -1)
+            writeInt(header.syntheticClassKind?.ordinal() ?: -1)
+
+            cached.innerClasses.writeTo(this)
+        }
+
+        private fun DataInput.readClass(): CachedClass {
+            if (!readBoolean()) return NOT_KOTLIN
+
+            val classId = ClassId(FqName(readUTF()), FqName(readUTF()), readBoolean())
+
+            val kind = KotlinClassHeader.Kind.values()[readInt()]
+            val version = readInt()
+            val annotationDataSize = readInt()
+            val annotationData = if (annotationDataSize < 0) null else Array(annotationDataSize) { readLongString() }
+            val classKind = readInt().let { if (it < 0) null else KotlinClass.Kind.values()[it] }
+            val syntheticClassKind = readInt().let { if (it < 0) null else KotlinSyntheticClass.Kind.values()[it] }
+            val header = KotlinClassHeader(kind, version, annotationData, classKind, syntheticClassKind)
+
+            return CachedClass(classId, header, FileBasedKotlinClass.InnerClassesInfo.readFrom(this))
+        }
+
+        // strings of annotation data are arbitrary chars and may exceed 64K, the limit of writeUTF, so they're written char by char
+        private fun DataOutput.writeLongString(s: String) {
+            writeInt(s.length())
+            writeChars(s)
+        }
+
+        private fun DataInput.readLongString(): String {
+            val chars = CharArray(readInt())
+            for (i in chars.indices) {
+                chars[i] = readChar()
+            }
+            return String(chars)
+        }
+    }
+}
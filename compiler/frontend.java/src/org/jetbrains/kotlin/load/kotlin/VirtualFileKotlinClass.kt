@@ -77,6 +77,27 @@ public class VirtualFileKotlinClass private constructor(
             }
         }
 
+        /**
+         * Unlike [create], throws an exception if the file could not be read, so that null always means that it's not a Kotlin class.
+         */
+        fun read(file: VirtualFile): VirtualFileKotlinClass? {
+            return perfCounter.time {
+                assert(file.getFileType() == JavaClassFileType.INSTANCE) { "Trying to read binary data from a non-class file $file" }
+
+                val byteContent = file.contentsToByteArray()
+                if (byteContent.isEmpty()) throw IOException(renderFileReadingErrorMessage(file))
+
+                FileBasedKotlinClass.create(byteContent) {
+                    name, header, innerClasses ->
+                    VirtualFileKotlinClass(file, name, header, innerClasses)
+                }
+            }
+        }
+
+        // Used by LibraryClassHeaderCache, which has the header of the class already
+        fun create(file: VirtualFile, classId: ClassId, classHeader: KotlinClassHeader, innerClasses: FileBasedKotlinClass.InnerClassesInfo) =
+                VirtualFileKotlinClass(file, classId, classHeader, innerClasses)
+
         private fun renderFileReadingErrorMessage(file: VirtualFile): String =
                 "Could not read file: ${file.getPath()}; size in bytes: ${file.getLength()}; file type: ${file.getFileType().getName()}"
     }
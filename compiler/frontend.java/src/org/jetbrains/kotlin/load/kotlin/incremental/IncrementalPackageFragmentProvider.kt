@@ -113,7 +113,7 @@ public class IncrementalPackageFragmentProvider(
         override fun getMemberScope(): JetScope = memberScope()
 
         private inner class IncrementalPackageScope(val packageData: PackageData) : DeserializedPackageMemberScope(
-                this@IncrementalPackageFragment, packageData.getPackageProto(), packageData.getNameResolver(), deserializationComponents,
+                this@IncrementalPackageFragment, packageData.getMemberProtos(), packageData.getNameResolver(), deserializationComponents,
                 { listOf() }
         ) {
             override fun filteredMemberProtos(allMemberProtos: Collection<ProtoBuf.Callable>): Collection<ProtoBuf.Callable> {
@@ -22,6 +22,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.analyzer.AnalysisResult;
 import org.jetbrains.kotlin.builtins.KotlinBuiltIns;
+import org.jetbrains.kotlin.context.ContextPackage;
+import org.jetbrains.kotlin.context.GlobalContext;
 import org.jetbrains.kotlin.context.ModuleContext;
 import org.jetbrains.kotlin.context.MutableModuleContext;
 import org.jetbrains.kotlin.descriptors.ClassDescriptor;
@@ -42,6 +44,7 @@ import org.jetbrains.kotlin.psi.JetFile;
 import org.jetbrains.kotlin.resolve.*;
 import org.jetbrains.kotlin.resolve.jvm.extensions.AnalysisCompletedHandlerExtension;
 import org.jetbrains.kotlin.resolve.lazy.declarations.FileBasedDeclarationProviderFactory;
+import org.jetbrains.kotlin.storage.ConcurrentStorageManager;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -93,7 +96,7 @@ public enum TopDownAnalyzerFacadeForJVM {
             @NotNull BindingTrace trace,
             @NotNull TopDownAnalysisMode topDownAnalysisMode
     ) {
-        return analyzeFilesWithJavaIntegration(moduleContext, files, trace, topDownAnalysisMode, null, null);
+        return analyzeFilesWithJavaIntegration(moduleContext, files, trace, topDownAnalysisMode, null, null, 1);
     }
 
     @NotNull
@@ -103,9 +106,27 @@ public enum TopDownAnalyzerFacadeForJVM {
             @NotNull BindingTrace trace,
             @Nullable List<String> moduleIds,
             @Nullable IncrementalCompilationComponents incrementalCompilationComponents
+    ) {
+        return analyzeFilesWithJavaIntegrationWithCustomContext(
+                moduleContext, files, trace, moduleIds, incrementalCompilationComponents, 1);
+    }
+
+    /**
+     * @param bodyResolveThreads number of threads to resolve function bodies on. If it's greater than one, the context should be created
+     *                           with concurrent lazy resolve, see {@link #createContextWithSealedModule(Project, boolean)}
+     */
+    @NotNull
+    public static AnalysisResult analyzeFilesWithJavaIntegrationWithCustomContext(
+            @NotNull ModuleContext moduleContext,
+            @NotNull Collection<JetFile> files,
+            @NotNull BindingTrace trace,
+            @Nullable List<String> moduleIds,
+            @Nullable IncrementalCompilationComponents incrementalCompilationComponents,
+            int bodyResolveThreads
     ) {
         return analyzeFilesWithJavaIntegration(
-                moduleContext, files, trace, TopDownAnalysisMode.TopLevelDeclarations, moduleIds, incrementalCompilationComponents
+                moduleContext, files, trace, TopDownAnalysisMode.TopLevelDeclarations, moduleIds, incrementalCompilationComponents,
+                bodyResolveThreads
         );
     }
 
@@ -116,7 +137,8 @@ public enum TopDownAnalyzerFacadeForJVM {
             @NotNull BindingTrace trace,
             @NotNull TopDownAnalysisMode topDownAnalysisMode,
             @Nullable List<String> moduleIds,
-            @Nullable IncrementalCompilationComponents incrementalCompilationComponents
+            @Nullable IncrementalCompilationComponents incrementalCompilationComponents,
+            int bodyResolveThreads
     ) {
         Project project = moduleContext.getProject();
         List<JetFile> allFiles = JvmAnalyzerFacade.getAllFilesToAnalyze(project, null, files);
@@ -152,7 +174,7 @@ public enum TopDownAnalyzerFacadeForJVM {
         }
         additionalProviders.add(container.getJavaDescriptorResolver().getPackageFragmentProvider());
 
-        container.getLazyTopDownAnalyzerForTopLevel().analyzeFiles(topDownAnalysisMode, allFiles, additionalProviders);
+        container.getLazyTopDownAnalyzerForTopLevel().analyzeFiles(topDownAnalysisMode, allFiles, additionalProviders, bodyResolveThreads);
 
         BindingContext bindingContext = trace.getBindingContext();
         ModuleDescriptor module = moduleContext.getModule();
@@ -170,8 +192,18 @@ public enum TopDownAnalyzerFacadeForJVM {
 
     @NotNull
     public static MutableModuleContext createContextWithSealedModule(@NotNull Project project) {
+        return createContextWithSealedModule(project, false);
+    }
+
+    /**
+     * @param concurrentLazyResolve whether lazy declarations of the module can be resolved from several threads concurrently,
+     *                              see {@link ConcurrentStorageManager}
+     */
+    @NotNull
+    public static MutableModuleContext createContextWithSealedModule(@NotNull Project project, boolean concurrentLazyResolve) {
+        GlobalContext globalContext = concurrentLazyResolve ? ContextPackage.ConcurrentGlobalContext() : ContextPackage.GlobalContext();
         MutableModuleContext context = ContextForNewModule(
-                project, Name.special("<shared-module>"), JVM_MODULE_PARAMETERS
+                ContextPackage.withProject(globalContext, project), Name.special("<shared-module>"), JVM_MODULE_PARAMETERS
         );
         context.setDependencies(context.getModule(), KotlinBuiltIns.getInstance().getBuiltInsModule());
         return context;
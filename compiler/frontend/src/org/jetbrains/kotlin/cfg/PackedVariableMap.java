@@ -0,0 +1,280 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cfg;
+
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.descriptors.VariableDescriptor;
+
+import java.util.*;
+
+/**
+ * Immutable map from variables to values of at most four kinds, used for data about variables at each instruction of pseudocode.
+ *
+ * Variables are numbered densely by an {@link Index} shared by all maps of one pseudocode. A variable is in the map
+ * if its bit is set in {@code present}, and its value is {@code values[code]}, where the two bits of the code are kept
+ * in {@code low} and {@code high}. Data of all incoming edges is merged with a few operations on whole bit sets.
+ */
+public final class PackedVariableMap<D> extends AbstractMap<VariableDescriptor, D> {
+    public static final class Index {
+        private final Map<VariableDescriptor, Integer> indices = new HashMap<VariableDescriptor, Integer>();
+        private final List<VariableDescriptor> variables = new ArrayList<VariableDescriptor>();
+
+        public int indexOf(@NotNull VariableDescriptor variable) {
+            Integer index = indices.get(variable);
+            if (index == null) {
+                index = variables.size();
+                indices.put(variable, index);
+                variables.add(variable);
+            }
+            return index;
+        }
+
+        private int find(@Nullable Object variable) {
+            Integer index = indices.get(variable);
+            return index != null ? index : -1;
+        }
+
+        @NotNull
+        private VariableDescriptor get(int index) {
+            return variables.get(index);
+        }
+    }
+
+    private final Index index;
+    private final D[] values;
+    private final BitSet present;
+    private final BitSet low;
+    private final BitSet high;
+
+    private PackedVariableMap(@NotNull Index index, @NotNull D[] values, @NotNull BitSet present, @NotNull BitSet low, @NotNull BitSet high) {
+        assert values.length == 4 : "Values should correspond to all two-bit codes: " + Arrays.toString(values);
+        this.index = index;
+        this.values = values;
+        this.present = present;
+        this.low = low;
+        this.high = high;
+    }
+
+    @NotNull
+    public static <D> PackedVariableMap<D> pack(@NotNull Map<VariableDescriptor, D> map, @NotNull Index index, @NotNull D[] values) {
+        if (map instanceof PackedVariableMap) {
+            PackedVariableMap<D> packed = (PackedVariableMap<D>) map;
+            if (packed.index == index && packed.values == values) return packed;
+        }
+
+        PackedVariableMap<D> result = new PackedVariableMap<D>(index, values, new BitSet(), new BitSet(), new BitSet());
+        for (Entry<VariableDescriptor, D> entry : map.entrySet()) {
+            result.set(index.indexOf(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Merges maps so that a variable has the lowest value it has in any of the maps, comparing values by their codes,
+     * and each bit of the code is the conjunction of the bits of that variable in the maps containing it.
+     */
+    @NotNull
+    public static <D> PackedVariableMap<D> mergeByConjunction(
+            @NotNull Collection<? extends Map<VariableDescriptor, D>> maps,
+            @NotNull Index index,
+            @NotNull D[] values
+    ) {
+        List<PackedVariableMap<D>> packedMaps = packAll(maps, index, values);
+
+        BitSet present = new BitSet();
+        for (PackedVariableMap<D> map : packedMaps) {
+            present.or(map.present);
+        }
+
+        BitSet low = (BitSet) present.clone();
+        BitSet high = (BitSet) present.clone();
+        for (PackedVariableMap<D> map : packedMaps) {
+            low.andNot(withoutBits(map.present, map.low));
+            high.andNot(withoutBits(map.present, map.high));
+        }
+        return new PackedVariableMap<D>(index, values, present, low, high);
+    }
+
+    /**
+     * Merges maps so that a variable has the highest value it has in any of the maps, comparing values by their codes.
+     */
+    @NotNull
+    public static <D> PackedVariableMap<D> mergeByMaximum(
+            @NotNull Collection<? extends Map<VariableDescriptor, D>> maps,
+            @NotNull Index index,
+            @NotNull D[] values
+    ) {
+        List<PackedVariableMap<D>> packedMaps = packAll(maps, index, values);
+
+        BitSet present = new BitSet();
+        BitSet high = new BitSet();
+        for (PackedVariableMap<D> map : packedMaps) {
+            present.or(map.present);
+            high.or(map.high);
+        }
+
+        // The low bit of a variable is taken only from maps where its high bit is the highest one
+        BitSet low = new BitSet();
+        for (PackedVariableMap<D> map : packedMaps) {
+            low.or(withoutBits(map.low, withoutBits(high, map.high)));
+        }
+        return new PackedVariableMap<D>(index, values, present, low, high);
+    }
+
+    @NotNull
+    public PackedVariableMap<D> with(@NotNull VariableDescriptor variable, @NotNull D value) {
+        PackedVariableMap<D> result = copy();
+        result.set(index.indexOf(variable), value);
+        return result;
+    }
+
+    @NotNull
+    public PackedVariableMap<D> filterVariables(@NotNull Function1<VariableDescriptor, Boolean> predicate) {
+        PackedVariableMap<D> result = null;
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            if (!predicate.invoke(index.get(i))) {
+                if (result == null) {
+                    result = copy();
+                }
+                result.present.clear(i);
+                result.low.clear(i);
+                result.high.clear(i);
+            }
+        }
+        return result != null ? result : this;
+    }
+
+    @Override
+    public D get(Object key) {
+        int i = index.find(key);
+        return i >= 0 && present.get(i) ? valueAt(i) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int i = index.find(key);
+        return i >= 0 && present.get(i);
+    }
+
+    @Override
+    public int size() {
+        return present.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present.isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<VariableDescriptor, D>> entrySet() {
+        return new AbstractSet<Entry<VariableDescriptor, D>>() {
+            @NotNull
+            @Override
+            public Iterator<Entry<VariableDescriptor, D>> iterator() {
+                return new Iterator<Entry<VariableDescriptor, D>>() {
+                    private int next = present.nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Entry<VariableDescriptor, D> next() {
+                        if (next < 0) throw new NoSuchElementException();
+                        Entry<VariableDescriptor, D> entry = new SimpleImmutableEntry<VariableDescriptor, D>(index.get(next), valueAt(next));
+                        next = present.nextSetBit(next + 1);
+                        return entry;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return present.cardinality();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PackedVariableMap) {
+            PackedVariableMap<?> other = (PackedVariableMap<?>) o;
+            if (other.index == index && other.values == values) {
+                return present.equals(other.present) && low.equals(other.low) && high.equals(other.high);
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private D valueAt(int i) {
+        return values[(high.get(i) ? 2 : 0) + (low.get(i) ? 1 : 0)];
+    }
+
+    private void set(int i, @NotNull D value) {
+        int code = codeOf(value);
+        present.set(i);
+        low.set(i, (code & 1) != 0);
+        high.set(i, (code & 2) != 0);
+    }
+
+    private int codeOf(@NotNull D value) {
+        for (int code = 0; code < values.length; code++) {
+            if (values[code].equals(value)) return code;
+        }
+        throw new IllegalArgumentException("Unexpected value: " + value + ", expected one of " + Arrays.toString(values));
+    }
+
+    @NotNull
+    private PackedVariableMap<D> copy() {
+        return new PackedVariableMap<D>(index, values, (BitSet) present.clone(), (BitSet) low.clone(), (BitSet) high.clone());
+    }
+
+    @NotNull
+    private static <D> List<PackedVariableMap<D>> packAll(
+            @NotNull Collection<? extends Map<VariableDescriptor, D>> maps,
+            @NotNull Index index,
+            @NotNull D[] values
+    ) {
+        List<PackedVariableMap<D>> result = new ArrayList<PackedVariableMap<D>>(maps.size());
+        for (Map<VariableDescriptor, D> map : maps) {
+            result.add(pack(map, index, values));
+        }
+        return result;
+    }
+
+    @NotNull
+    private static BitSet withoutBits(@NotNull BitSet bits, @NotNull BitSet removed) {
+        BitSet result = (BitSet) bits.clone();
+        result.andNot(removed);
+        return result;
+    }
+}
@@ -65,17 +65,43 @@ public fun <D> Pseudocode.collectData(
     initializeEdgesMap(edgesMap, initialDataValue)
     edgesMap.put(getStartInstruction(traversalOrder), Edges(initialDataValue, initialDataValue))
 
-    val changed = BooleanArray(1)
-    changed[0] = true
-    while (changed[0]) {
-        changed[0] = false
+    val changes = DataChanges()
+    do {
         collectDataFromSubgraph(
                 traversalOrder, mergeDataWithLocalDeclarations, edgesMap,
-                mergeEdges, updateEdge, Collections.emptyList<Instruction>(), changed, false)
+                mergeEdges, updateEdge, Collections.emptyList<Instruction>(), changes, false)
     }
+    while (changes.startNextPass())
     return edgesMap
 }
 
+/**
+ * Instructions whose data changed during the current and the previous pass over pseudocode.
+ * Data of an instruction depends only on data of its previous instructions, so it is recomputed only if one of them changed
+ * since the instruction was processed last time, that is in the previous pass or earlier in the current one.
+ */
+private class DataChanges {
+    // null during the first pass, when data of all instructions is computed
+    private var previousPass: Set<Instruction>? = null
+    private var currentPass = HashSet<Instruction>()
+
+    fun add(instruction: Instruction) {
+        currentPass.add(instruction)
+    }
+
+    fun affect(instructions: Collection<Instruction>): Boolean {
+        val previous = previousPass ?: return true
+        return instructions.any { it in currentPass || it in previous }
+    }
+
+    fun startNextPass(): Boolean {
+        if (currentPass.isEmpty()) return false
+        previousPass = currentPass
+        currentPass = HashSet()
+        return true
+    }
+}
+
 private fun <D> Pseudocode.initializeEdgesMap(
         edgesMap: MutableMap<Instruction, Edges<D>>,
         initialDataValue: D
@@ -97,7 +123,7 @@ private fun <D> Pseudocode.collectDataFromSubgraph(
         mergeEdges: (Instruction, Collection<D>) -> Edges<D>,
         updateEdge: (Instruction, Instruction, D) -> D,
         previousSubGraphInstructions: Collection<Instruction>,
-        changed: BooleanArray,
+        changes: DataChanges,
         isLocal: Boolean
 ) {
     val instructions = getInstructions(traversalOrder)
@@ -124,7 +150,7 @@ private fun <D> Pseudocode.collectDataFromSubgraph(
                 newValue: Edges<D>?
         ) {
             if (previousValue != newValue && newValue != null) {
-                changed[0] = true
+                changes.add(instruction)
                 edgesMap.put(instruction, newValue)
             }
         }
@@ -134,7 +160,7 @@ private fun <D> Pseudocode.collectDataFromSubgraph(
             val previous = if (mergeDataWithLocalDeclarations) previousInstructions else Collections.emptyList()
             subroutinePseudocode.collectDataFromSubgraph(
                     traversalOrder, mergeDataWithLocalDeclarations,
-                    edgesMap, mergeEdges, updateEdge, previous, changed, true)
+                    edgesMap, mergeEdges, updateEdge, previous, changes, true)
             if (mergeDataWithLocalDeclarations) {
                 val lastInstruction = subroutinePseudocode.getLastInstruction(traversalOrder)
                 val previousValue = edgesMap.get(instruction)
@@ -149,9 +175,12 @@ private fun <D> Pseudocode.collectDataFromSubgraph(
                 continue
             }
         }
+        if (!changes.affect(previousInstructions))
+            continue
+
         val previousDataValue = edgesMap.get(instruction)
 
-        val incomingEdgesData = HashSet<D>()
+        val incomingEdgesData = ArrayList<D>(previousInstructions.size())
 
         for (previousInstruction in previousInstructions) {
             val previousData = edgesMap.get(previousInstruction)
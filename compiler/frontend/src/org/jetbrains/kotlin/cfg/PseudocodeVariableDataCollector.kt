@@ -35,6 +35,7 @@ public class PseudocodeVariableDataCollector(
         private val pseudocode: Pseudocode
 ) {
     val lexicalScopeVariableInfo = computeLexicalScopeVariableInfo(pseudocode)
+    val variableIndex = PackedVariableMap.Index()
 
     suppress("UNCHECKED_CAST")
     public fun <D> collectData(
@@ -53,6 +54,7 @@ public class PseudocodeVariableDataCollector(
         return result as MutableMap<Instruction, Edges<MutableMap<VariableDescriptor, D>>>
     }
 
+    suppress("UNCHECKED_CAST")
     private fun <D> filterOutVariablesOutOfScope(
             from: Instruction,
             to: Instruction,
@@ -64,12 +66,16 @@ public class PseudocodeVariableDataCollector(
 
         // Variables declared in an inner (deeper) scope can't be accessed from an outer scope.
         // Thus they can be filtered out upon leaving the inner scope.
-        return data.filterKeys { variable ->
+        val isVisible = { variable: VariableDescriptor ->
             val lexicalScope = lexicalScopeVariableInfo.declaredIn[variable]
             // '-1' for variables declared outside this pseudocode
             val depth = lexicalScope?.depth ?: -1
             depth <= toDepth
         }
+        if (data is PackedVariableMap<*>) {
+            return (data as PackedVariableMap<D>).filterVariables(isVisible)
+        }
+        return data.filterKeys(isVisible)
     }
 
     fun computeLexicalScopeVariableInfo(pseudocode: Pseudocode): LexicalScopeVariableInfo {
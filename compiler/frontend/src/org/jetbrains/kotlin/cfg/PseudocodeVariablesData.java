@@ -47,6 +47,7 @@ public class PseudocodeVariablesData {
     private final Pseudocode pseudocode;
     private final BindingContext bindingContext;
     private final PseudocodeVariableDataCollector pseudocodeVariableDataCollector;
+    private final PackedVariableMap.Index variableIndex;
 
     private final Map<Pseudocode, Set<VariableDescriptor>> declaredVariablesForDeclaration = Maps.newHashMap();
 
@@ -56,6 +57,7 @@ public class PseudocodeVariablesData {
         this.pseudocode = pseudocode;
         this.bindingContext = bindingContext;
         this.pseudocodeVariableDataCollector = new PseudocodeVariableDataCollector(bindingContext, pseudocode);
+        this.variableIndex = pseudocodeVariableDataCollector.getVariableIndex();
     }
 
     @NotNull
@@ -135,8 +137,8 @@ public class PseudocodeVariablesData {
                             @NotNull Collection<? extends Map<VariableDescriptor, VariableInitState>> incomingEdgesData
                     ) {
 
-                        Map<VariableDescriptor, VariableInitState> enterInstructionData =
-                                mergeIncomingEdgesDataForInitializers(incomingEdgesData);
+                        PackedVariableMap<VariableInitState> enterInstructionData =
+                                PackedVariableMap.mergeByConjunction(incomingEdgesData, variableIndex, VariableInitState.BY_CODE);
                         Map<VariableDescriptor, VariableInitState> exitInstructionData = addVariableInitStateFromCurrentInstructionIfAny(
                                 instruction, enterInstructionData, lexicalScopeVariableInfo);
                         return new Edges<Map<VariableDescriptor, VariableInitState>>(enterInstructionData, exitInstructionData);
@@ -158,39 +160,10 @@ public class PseudocodeVariablesData {
         return VariableInitState.create(/*isInitialized=*/declaredOutsideThisDeclaration);
     }
 
-    @NotNull
-    private static Map<VariableDescriptor, VariableInitState> mergeIncomingEdgesDataForInitializers(
-            @NotNull Collection<? extends Map<VariableDescriptor, VariableInitState>> incomingEdgesData
-    ) {
-        Set<VariableDescriptor> variablesInScope = Sets.newHashSet();
-        for (Map<VariableDescriptor, VariableInitState> edgeData : incomingEdgesData) {
-            variablesInScope.addAll(edgeData.keySet());
-        }
-
-        Map<VariableDescriptor, VariableInitState> enterInstructionData = Maps.newHashMap();
-        for (VariableDescriptor variable : variablesInScope) {
-            boolean isInitialized = true;
-            boolean isDeclared = true;
-            for (Map<VariableDescriptor, VariableInitState> edgeData : incomingEdgesData) {
-                VariableInitState initState = edgeData.get(variable);
-                if (initState != null) {
-                    if (!initState.isInitialized) {
-                        isInitialized = false;
-                    }
-                    if (!initState.isDeclared) {
-                        isDeclared = false;
-                    }
-                }
-            }
-            enterInstructionData.put(variable, VariableInitState.create(isInitialized, isDeclared));
-        }
-        return enterInstructionData;
-    }
-
     @NotNull
     private Map<VariableDescriptor, VariableInitState> addVariableInitStateFromCurrentInstructionIfAny(
             @NotNull Instruction instruction,
-            @NotNull Map<VariableDescriptor, VariableInitState> enterInstructionData,
+            @NotNull PackedVariableMap<VariableInitState> enterInstructionData,
             @NotNull LexicalScopeVariableInfo lexicalScopeVariableInfo
     ) {
         if (!(instruction instanceof WriteValueInstruction) && !(instruction instanceof VariableDeclarationInstruction)) {
@@ -200,7 +173,6 @@ public class PseudocodeVariablesData {
         if (variable == null) {
             return enterInstructionData;
         }
-        Map<VariableDescriptor, VariableInitState> exitInstructionData = Maps.newHashMap(enterInstructionData);
         if (instruction instanceof WriteValueInstruction) {
             // if writing to already initialized object
             if (!PseudocodeUtil.isThisOrNoDispatchReceiver((WriteValueInstruction) instruction, bindingContext)) {
@@ -210,7 +182,7 @@ public class PseudocodeVariablesData {
             VariableInitState enterInitState = enterInstructionData.get(variable);
             VariableInitState initializationAtThisElement =
                     VariableInitState.create(((WriteValueInstruction) instruction).getElement() instanceof JetProperty, enterInitState);
-            exitInstructionData.put(variable, initializationAtThisElement);
+            return enterInstructionData.with(variable, initializationAtThisElement);
         }
         else { // instruction instanceof VariableDeclarationInstruction
             VariableInitState enterInitState = enterInstructionData.get(variable);
@@ -220,10 +192,10 @@ public class PseudocodeVariablesData {
             if (enterInitState == null || !enterInitState.isInitialized || !enterInitState.isDeclared) {
                 boolean isInitialized = enterInitState != null && enterInitState.isInitialized;
                 VariableInitState variableDeclarationInfo = VariableInitState.create(isInitialized, true);
-                exitInstructionData.put(variable, variableDeclarationInfo);
+                return enterInstructionData.with(variable, variableDeclarationInfo);
             }
         }
-        return exitInstructionData;
+        return enterInstructionData;
     }
 
 // variable use
@@ -240,40 +212,35 @@ public class PseudocodeVariablesData {
                             @NotNull Collection<? extends Map<VariableDescriptor, VariableUseState>> incomingEdgesData
                     ) {
 
-                        Map<VariableDescriptor, VariableUseState> enterResult = Maps.newHashMap();
-                        for (Map<VariableDescriptor, VariableUseState> edgeData : incomingEdgesData) {
-                            for (Map.Entry<VariableDescriptor, VariableUseState> entry : edgeData.entrySet()) {
-                                VariableDescriptor variableDescriptor = entry.getKey();
-                                VariableUseState variableUseState = entry.getValue();
-                                enterResult.put(variableDescriptor, variableUseState.merge(enterResult.get(variableDescriptor)));
-                            }
-                        }
+                        PackedVariableMap<VariableUseState> enterResult =
+                                PackedVariableMap.mergeByMaximum(incomingEdgesData, variableIndex, VariableUseState.BY_PRIORITY);
                         VariableDescriptor variableDescriptor = PseudocodeUtil.extractVariableDescriptorIfAny(
                                 instruction, true, bindingContext);
                         if (variableDescriptor == null ||
                             (!(instruction instanceof ReadValueInstruction) && !(instruction instanceof WriteValueInstruction))) {
                             return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, enterResult);
                         }
-                        Map<VariableDescriptor, VariableUseState> exitResult = Maps.newHashMap(enterResult);
                         if (instruction instanceof ReadValueInstruction) {
-                            exitResult.put(variableDescriptor, VariableUseState.READ);
+                            return new Edges<Map<VariableDescriptor, VariableUseState>>(
+                                    enterResult, enterResult.with(variableDescriptor, VariableUseState.READ));
                         }
                         else { //instruction instanceof WriteValueInstruction
                             VariableUseState variableUseState = enterResult.get(variableDescriptor);
                             if (variableUseState == null) {
                                 variableUseState = VariableUseState.UNUSED;
                             }
+                            VariableUseState exitUseState;
                             switch (variableUseState) {
                                 case UNUSED:
                                 case ONLY_WRITTEN_NEVER_READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.ONLY_WRITTEN_NEVER_READ);
+                                    exitUseState = VariableUseState.ONLY_WRITTEN_NEVER_READ;
                                     break;
-                                case WRITTEN_AFTER_READ:
-                                case READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.WRITTEN_AFTER_READ);
+                                default:
+                                    exitUseState = VariableUseState.WRITTEN_AFTER_READ;
                             }
+                            return new Edges<Map<VariableDescriptor, VariableUseState>>(
+                                    enterResult, enterResult.with(variableDescriptor, exitUseState));
                         }
-                        return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, exitResult);
                     }
                 }
         );
@@ -293,6 +260,8 @@ public class PseudocodeVariablesData {
         private static final VariableInitState VS_FT = new VariableInitState(false, true);
         private static final VariableInitState VS_FF = new VariableInitState(false, false);
 
+        // Codes of states in PackedVariableMap: the low bit means "initialized", the high one means "declared"
+        private static final VariableInitState[] BY_CODE = {VS_FF, VS_TF, VS_FT, VS_TT};
 
         private static VariableInitState create(boolean isInitialized, boolean isDeclared) {
             if (isInitialized) {
@@ -330,9 +299,13 @@ public class PseudocodeVariablesData {
             this.priority = priority;
         }
 
-        private VariableUseState merge(@Nullable VariableUseState variableUseState) {
-            if (variableUseState == null || priority > variableUseState.priority) return this;
-            return variableUseState;
+        // Codes of states in PackedVariableMap are their priorities, so that merging takes the state with the highest one
+        private static final VariableUseState[] BY_PRIORITY = new VariableUseState[values().length];
+
+        static {
+            for (VariableUseState state : values()) {
+                BY_PRIORITY[state.priority] = state;
+            }
         }
 
         public static boolean isUsed(@Nullable VariableUseState variableUseState) {
@@ -24,6 +24,7 @@ import org.jetbrains.kotlin.descriptors.PackageFragmentProvider
 import org.jetbrains.kotlin.descriptors.impl.ModuleDescriptorImpl
 import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.platform.PlatformToKotlinClassMap
+import org.jetbrains.kotlin.storage.ConcurrentStorageManager
 import org.jetbrains.kotlin.storage.ExceptionTracker
 import org.jetbrains.kotlin.storage.LockBasedStorageManager
 import org.jetbrains.kotlin.storage.StorageManager
@@ -95,6 +96,11 @@ public fun GlobalContext(): GlobalContextImpl {
     return GlobalContextImpl(LockBasedStorageManager.createWithExceptionHandling(tracker), tracker)
 }
 
+public fun ConcurrentGlobalContext(): GlobalContextImpl {
+    val tracker = ExceptionTracker()
+    return GlobalContextImpl(ConcurrentStorageManager.createConcurrentWithExceptionHandling(tracker), tracker)
+}
+
 public fun ProjectContext(project: Project): ProjectContext = ProjectContextImpl(project, GlobalContext())
 public fun ModuleContext(module: ModuleDescriptor, project: Project): ModuleContext =
         ModuleContextImpl(module, ProjectContext(project))
@@ -106,8 +112,13 @@ public fun ContextForNewModule(
         project: Project,
         moduleName: Name,
         parameters: ModuleParameters
+): MutableModuleContext = ContextForNewModule(ProjectContext(project), moduleName, parameters)
+
+public fun ContextForNewModule(
+        projectContext: ProjectContext,
+        moduleName: Name,
+        parameters: ModuleParameters
 ): MutableModuleContext {
-    val projectContext = ProjectContext(project)
     val module = ModuleDescriptorImpl(moduleName, projectContext.storageManager, parameters)
     return MutableModuleContextImpl(module, projectContext)
 }
@@ -36,6 +36,9 @@ public class BindingTraceContext implements BindingTrace {
     /* package */ final static boolean TRACK_REWRITES = false;
     /* package */ final static boolean TRACK_WITH_STACK_TRACES = true;
 
+    // Slice-major storage takes less memory for big traces, see SliceMajorSlicedMap
+    /* package */ final static boolean SLICE_MAJOR_STORAGE = Boolean.getBoolean("kotlin.binding.context.slice.major");
+
     private final MutableSlicedMap map;
     private final MutableDiagnosticsWithSuppression mutableDiagnostics;
 
@@ -78,8 +81,14 @@ public class BindingTraceContext implements BindingTrace {
     };
 
     public BindingTraceContext() {
+        this(createSlicedMap());
+    }
+
+    @NotNull
+    /* package */ static MutableSlicedMap createSlicedMap() {
         //noinspection ConstantConditions
-        this(TRACK_REWRITES ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) : SlicedMapImpl.create());
+        if (TRACK_REWRITES) return new TrackingSlicedMap(TRACK_WITH_STACK_TRACES);
+        return SLICE_MAJOR_STORAGE ? SliceMajorSlicedMap.create() : SlicedMapImpl.create();
     }
 
 
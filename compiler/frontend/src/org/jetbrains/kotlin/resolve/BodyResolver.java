@@ -36,16 +36,23 @@ import org.jetbrains.kotlin.resolve.calls.util.CallMaker;
 import org.jetbrains.kotlin.resolve.lazy.ForceResolveUtil;
 import org.jetbrains.kotlin.resolve.scopes.*;
 import org.jetbrains.kotlin.resolve.scopes.receivers.ReceiverValue;
+import org.jetbrains.kotlin.storage.ConcurrentStorageManager;
+import org.jetbrains.kotlin.storage.LockBasedLazyResolveStorageManager;
+import org.jetbrains.kotlin.storage.StorageManager;
 import org.jetbrains.kotlin.types.*;
+import org.jetbrains.kotlin.types.checker.SubtypingCache;
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingContext;
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingServices;
 import org.jetbrains.kotlin.types.expressions.ValueParameterResolver;
 import org.jetbrains.kotlin.types.expressions.typeInfoFactory.TypeInfoFactoryPackage;
 import org.jetbrains.kotlin.util.Box;
+import org.jetbrains.kotlin.util.PhaseProfiler;
 import org.jetbrains.kotlin.util.ReenteringLazyValueComputationException;
 import org.jetbrains.kotlin.util.slicedMap.WritableSlice;
+import org.jetbrains.kotlin.utils.UtilsPackage;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.jetbrains.kotlin.descriptors.ReceiverParameterDescriptor.NO_RECEIVER_PARAMETER;
 import static org.jetbrains.kotlin.diagnostics.Errors.*;
@@ -65,6 +72,7 @@ public class BodyResolver {
     @NotNull private final FunctionAnalyzerExtension functionAnalyzerExtension;
     @NotNull private final ValueParameterResolver valueParameterResolver;
     @NotNull private final BodyResolveCache bodyResolveCache;
+    @NotNull private final StorageManager storageManager;
 
     public BodyResolver(
             @NotNull AnnotationResolver annotationResolver,
@@ -76,6 +84,7 @@ public class BodyResolver {
             @NotNull ExpressionTypingServices expressionTypingServices,
             @NotNull FunctionAnalyzerExtension functionAnalyzerExtension,
             @NotNull ScriptBodyResolver scriptBodyResolverResolver,
+            @NotNull StorageManager storageManager,
             @NotNull BindingTrace trace,
             @NotNull ValueParameterResolver valueParameterResolver,
             @NotNull AnnotationChecker annotationChecker
@@ -89,12 +98,13 @@ public class BodyResolver {
         this.expressionTypingServices = expressionTypingServices;
         this.functionAnalyzerExtension = functionAnalyzerExtension;
         this.scriptBodyResolverResolver = scriptBodyResolverResolver;
+        this.storageManager = storageManager;
         this.annotationChecker = annotationChecker;
         this.trace = new ObservableBindingTrace(trace);
         this.valueParameterResolver = valueParameterResolver;
     }
 
-    private void resolveBehaviorDeclarationBodies(@NotNull BodiesResolveContext c) {
+    private void resolveBehaviorDeclarationBodies(@NotNull BodiesResolveContext c, int threads) {
         resolveDelegationSpecifierLists(c);
 
         resolvePropertyDeclarationBodies(c);
@@ -103,7 +113,7 @@ public class BodyResolver {
         resolvePrimaryConstructorParameters(c);
         resolveSecondaryConstructors(c);
 
-        resolveFunctionBodies(c);
+        resolveFunctionBodies(c, threads);
 
         // SCRIPT: resolve script bodies
         scriptBodyResolverResolver.resolveScriptBodies(c);
@@ -223,10 +233,54 @@ public class BodyResolver {
     }
 
     public void resolveBodies(@NotNull BodiesResolveContext c) {
-        resolveBehaviorDeclarationBodies(c);
-        controlFlowAnalyzer.process(c);
-        declarationsChecker.process(c);
-        functionAnalyzerExtension.process(c);
+        resolveBodies(c, 1);
+    }
+
+    /**
+     * @param threads number of threads to resolve function bodies of different files on. The result is the same as of the sequential
+     *                resolve, except that diagnostics of declarations are reported before those of function bodies. Lazy declarations
+     *                should be resolvable concurrently, see {@link ConcurrentStorageManager}
+     */
+    public void resolveBodies(@NotNull BodiesResolveContext c, int threads) {
+        if (c.getTopDownAnalysisMode().getIsLocalDeclarations()) {
+            resolveBehaviorDeclarationBodies(c, 1);
+            controlFlowAnalyzer.process(c);
+            declarationsChecker.process(c);
+            functionAnalyzerExtension.process(c);
+            return;
+        }
+
+        PhaseProfiler profiler = PhaseProfiler.INSTANCE$;
+        SubtypingCache subtypingCache = SubtypingCache.start();
+        try {
+            profiler.start("Body resolve", null);
+            try {
+                resolveBehaviorDeclarationBodies(c, threads);
+            }
+            finally {
+                profiler.finish();
+            }
+
+            profiler.start("Control flow analysis", null);
+            try {
+                controlFlowAnalyzer.process(c);
+            }
+            finally {
+                profiler.finish();
+            }
+
+            profiler.start("Declaration checks", null);
+            try {
+                declarationsChecker.process(c);
+                functionAnalyzerExtension.process(c);
+            }
+            finally {
+                profiler.finish();
+            }
+        }
+        finally {
+            subtypingCache.finish();
+        }
     }
 
     private void resolveDelegationSpecifierLists(@NotNull BodiesResolveContext c) {
@@ -712,20 +766,135 @@ public class BodyResolver {
         return scope;
     }
 
-    private void resolveFunctionBodies(@NotNull BodiesResolveContext c) {
+    private void resolveFunctionBodies(@NotNull BodiesResolveContext c, int threads) {
+        if (threads > 1 && !c.getTopDownAnalysisMode().getIsLocalDeclarations() &&
+            bodyResolveCache instanceof BodyResolveCache.ThrowException) {
+            resolveFunctionBodiesInParallel(c, threads);
+            return;
+        }
+
         for (Map.Entry<JetNamedFunction, SimpleFunctionDescriptor> entry : c.getFunctions().entrySet()) {
             JetNamedFunction declaration = entry.getKey();
 
             JetScope scope = c.getDeclaringScope(declaration);
             assert scope != null : "Scope is null: " + PsiUtilPackage.getElementTextWithContext(declaration);
 
-            if (!c.getTopDownAnalysisMode().getIsLocalDeclarations() && !(bodyResolveCache instanceof BodyResolveCache.ThrowException) &&
-                expressionTypingServices.getStatementFilter() != StatementFilter.NONE) {
-                bodyResolveCache.resolveFunctionBody(declaration).addOwnDataTo(trace, true);
+            PhaseProfiler.INSTANCE$.start("Function body", declaration);
+            try {
+                if (!c.getTopDownAnalysisMode().getIsLocalDeclarations() && !(bodyResolveCache instanceof BodyResolveCache.ThrowException) &&
+                    expressionTypingServices.getStatementFilter() != StatementFilter.NONE) {
+                    bodyResolveCache.resolveFunctionBody(declaration).addOwnDataTo(trace, true);
+                }
+                else {
+                    resolveFunctionBody(c.getOuterDataFlowInfo(), trace, declaration, entry.getValue(), scope);
+                }
             }
-            else {
-                resolveFunctionBody(c.getOuterDataFlowInfo(), trace, declaration, entry.getValue(), scope);
+            finally {
+                PhaseProfiler.INSTANCE$.finish();
+            }
+        }
+    }
+
+    /**
+     * Resolves function bodies of different files on worker threads. Bodies of a file are resolved one after another into a trace of
+     * this file, which reads the shared trace under the lock of the storage manager, since declarations resolved lazily by workers are
+     * recorded there. When all files are resolved, their traces are added to the shared trace in the order of the files.
+     *
+     * Lazy resolution reports diagnostics right into the shared trace, so if workers did it, these diagnostics would come in the order
+     * the workers happen to get to them. Declarations of the module are therefore resolved completely on this thread before the workers
+     * are started, including inferred return types of functions, whose bodies are resolved with them.
+     */
+    private void resolveFunctionBodiesInParallel(@NotNull BodiesResolveContext c, int threads) {
+        forceResolveDeclarations(c);
+
+        // Scopes are taken before workers are started, so that they are only computed on this thread
+        final Map<JetNamedFunction, JetScope> scopes = new HashMap<JetNamedFunction, JetScope>();
+        Map<JetFile, List<JetNamedFunction>> functionsByFile = new LinkedHashMap<JetFile, List<JetNamedFunction>>();
+        for (JetNamedFunction function : c.getFunctions().keySet()) {
+            JetScope scope = c.getDeclaringScope(function);
+            assert scope != null : "Scope is null: " + PsiUtilPackage.getElementTextWithContext(function);
+            scopes.put(function, scope);
+
+            JetFile file = function.getContainingJetFile();
+            List<JetNamedFunction> functions = functionsByFile.get(file);
+            if (functions == null) {
+                functions = new ArrayList<JetNamedFunction>();
+                functionsByFile.put(file, functions);
+            }
+            functions.add(function);
+        }
+        if (functionsByFile.isEmpty()) return;
+
+        final BindingContext sharedContext =
+                new LockBasedLazyResolveStorageManager(storageManager).createSafeTrace(trace).getBindingContext();
+        final SubtypingCache subtypingCache = SubtypingCache.getCurrent();
+        final DataFlowInfo outerDataFlowInfo = c.getOuterDataFlowInfo();
+        final Map<JetNamedFunction, SimpleFunctionDescriptor> descriptors = c.getFunctions();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, functionsByFile.size()));
+        List<Future<DelegatingBindingTrace>> results = new ArrayList<Future<DelegatingBindingTrace>>(functionsByFile.size());
+        try {
+            for (Map.Entry<JetFile, List<JetNamedFunction>> entry : functionsByFile.entrySet()) {
+                final List<JetNamedFunction> functions = entry.getValue();
+                final String debugName = "Trace for function bodies of " + entry.getKey().getName();
+
+                results.add(executor.submit(new Callable<DelegatingBindingTrace>() {
+                    @Override
+                    public DelegatingBindingTrace call() {
+                        DelegatingBindingTrace fileTrace = new DelegatingBindingTrace(sharedContext, debugName);
+                        SubtypingCache previousCache = SubtypingCache.install(subtypingCache);
+                        try {
+                            for (JetNamedFunction function : functions) {
+                                PhaseProfiler.INSTANCE$.start("Function body", function);
+                                try {
+                                    resolveFunctionBody(
+                                            outerDataFlowInfo, fileTrace, function, descriptors.get(function), scopes.get(function));
+                                }
+                                finally {
+                                    PhaseProfiler.INSTANCE$.finish();
+                                }
+                            }
+                        }
+                        finally {
+                            SubtypingCache.install(previousCache);
+                        }
+                        return fileTrace;
+                    }
+                }));
+            }
+
+            // Workers read the shared trace, so nothing is added to it until all of them are finished
+            List<DelegatingBindingTrace> fileTraces = new ArrayList<DelegatingBindingTrace>(results.size());
+            for (Future<DelegatingBindingTrace> result : results) {
+                fileTraces.add(result.get());
             }
+            for (DelegatingBindingTrace fileTrace : fileTraces) {
+                fileTrace.moveAllMyDataTo(trace);
+            }
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw UtilsPackage.rethrow(e.getCause());
+        }
+        finally {
+            for (Future<DelegatingBindingTrace> result : results) {
+                result.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    private static void forceResolveDeclarations(@NotNull BodiesResolveContext c) {
+        for (ClassDescriptorWithResolutionScopes classDescriptor : c.getDeclaredClasses().values()) {
+            ForceResolveUtil.forceResolveAllContents(classDescriptor);
+        }
+        for (PropertyDescriptor propertyDescriptor : c.getProperties().values()) {
+            ForceResolveUtil.forceResolveAllContents(propertyDescriptor);
+        }
+        for (SimpleFunctionDescriptor functionDescriptor : c.getFunctions().values()) {
+            ForceResolveUtil.forceResolveAllContents(functionDescriptor);
         }
     }
 
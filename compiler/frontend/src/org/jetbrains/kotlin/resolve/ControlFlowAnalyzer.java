@@ -25,6 +25,7 @@ import org.jetbrains.kotlin.descriptors.PropertyDescriptor;
 import org.jetbrains.kotlin.descriptors.SimpleFunctionDescriptor;
 import org.jetbrains.kotlin.psi.*;
 import org.jetbrains.kotlin.types.JetType;
+import org.jetbrains.kotlin.util.PhaseProfiler;
 
 import java.util.Map;
 
@@ -99,7 +100,14 @@ public class ControlFlowAnalyzer {
             flowInformationProvider.checkForLocalClassOrObjectMode();
             return;
         }
-        flowInformationProvider.checkDeclaration();
-        flowInformationProvider.checkFunction(expectedReturnType);
+
+        PhaseProfiler.INSTANCE$.start("Function control flow", function);
+        try {
+            flowInformationProvider.checkDeclaration();
+            flowInformationProvider.checkFunction(expectedReturnType);
+        }
+        finally {
+            PhaseProfiler.INSTANCE$.finish();
+        }
     }
 }
@@ -31,6 +31,7 @@ import org.jetbrains.kotlin.resolve.calls.smartcasts.DataFlowInfo
 import org.jetbrains.kotlin.resolve.lazy.*
 import org.jetbrains.kotlin.resolve.lazy.descriptors.LazyClassDescriptor
 import org.jetbrains.kotlin.resolve.varianceChecker.VarianceChecker
+import org.jetbrains.kotlin.util.PhaseProfiler
 import java.util.ArrayList
 
 public class LazyTopDownAnalyzer(
@@ -46,9 +47,41 @@ public class LazyTopDownAnalyzer(
         private val fileScopeProvider: FileScopeProvider,
         private val declarationScopeProvider: DeclarationScopeProvider
 ) {
-    public fun analyzeDeclarations(topDownAnalysisMode: TopDownAnalysisMode, declarations: Collection<PsiElement>, outerDataFlowInfo: DataFlowInfo): TopDownAnalysisContext {
+    public fun analyzeDeclarations(topDownAnalysisMode: TopDownAnalysisMode, declarations: Collection<PsiElement>, outerDataFlowInfo: DataFlowInfo): TopDownAnalysisContext =
+            analyzeDeclarations(topDownAnalysisMode, declarations, outerDataFlowInfo, 1)
+
+    /**
+     * @param bodyResolveThreads number of threads to resolve function bodies on, see [BodyResolver.resolveBodies]
+     */
+    public fun analyzeDeclarations(
+            topDownAnalysisMode: TopDownAnalysisMode,
+            declarations: Collection<PsiElement>,
+            outerDataFlowInfo: DataFlowInfo,
+            bodyResolveThreads: Int
+    ): TopDownAnalysisContext {
         val c = TopDownAnalysisContext(topDownAnalysisMode, outerDataFlowInfo, declarationScopeProvider)
 
+        if (topDownAnalysisMode.isLocalDeclarations) {
+            resolveDeclarations(c, declarations)
+        }
+        else {
+            PhaseProfiler.phase("Declarations resolve", null) { resolveDeclarations(c, declarations) }
+        }
+
+        if (bodyResolveThreads > 1 && !topDownAnalysisMode.isLocalDeclarations) {
+            // Imports are resolved lazily too, so they are resolved here rather than on body resolve threads,
+            // see BodyResolver.resolveFunctionBodiesInParallel
+            for (file in c.getFiles()) {
+                fileScopeProvider.getFileScope(file).forceResolveAllImports()
+            }
+        }
+
+        bodyResolver.resolveBodies(c, bodyResolveThreads)
+
+        return c
+    }
+
+    private fun resolveDeclarations(c: TopDownAnalysisContext, declarations: Collection<PsiElement>) {
         val topLevelFqNames = HashMultimap.create<FqName, JetElement>()
 
         val properties = ArrayList<JetProperty>()
@@ -192,10 +225,6 @@ public class LazyTopDownAnalyzer(
         declarationResolver.resolveAnnotationsOnFiles(c, fileScopeProvider)
 
         overloadResolver.process(c)
-
-        bodyResolver.resolveBodies(c)
-
-        return c
     }
 
     private fun resolveAllHeadersInClasses(c: TopDownAnalysisContext) {
@@ -50,6 +50,16 @@ public class LazyTopDownAnalyzerForTopLevel {
             @NotNull TopDownAnalysisMode topDownAnalysisMode,
             @NotNull Collection<JetFile> files,
             @NotNull List<? extends PackageFragmentProvider> additionalProviders
+    ) {
+        return analyzeFiles(topDownAnalysisMode, files, additionalProviders, 1);
+    }
+
+    @NotNull
+    public TopDownAnalysisContext analyzeFiles(
+            @NotNull TopDownAnalysisMode topDownAnalysisMode,
+            @NotNull Collection<JetFile> files,
+            @NotNull List<? extends PackageFragmentProvider> additionalProviders,
+            int bodyResolveThreads
     ) {
         PackageFragmentProvider provider;
         if (additionalProviders.isEmpty()) {
@@ -63,7 +73,7 @@ public class LazyTopDownAnalyzerForTopLevel {
 
         ((ModuleDescriptorImpl) codeAnalyzer.getModuleDescriptor()).initialize(provider);
 
-        return analyzeDeclarations(topDownAnalysisMode, files);
+        return analyzeDeclarations(topDownAnalysisMode, files, bodyResolveThreads);
     }
 
     @NotNull
@@ -71,7 +81,17 @@ public class LazyTopDownAnalyzerForTopLevel {
             @NotNull TopDownAnalysisMode topDownAnalysisMode,
             @NotNull Collection<? extends PsiElement> elements
     ) {
-        TopDownAnalysisContext c = lazyTopDownAnalyzer.analyzeDeclarations(topDownAnalysisMode, elements, DataFlowInfo.EMPTY);
+        return analyzeDeclarations(topDownAnalysisMode, elements, 1);
+    }
+
+    @NotNull
+    private TopDownAnalysisContext analyzeDeclarations(
+            @NotNull TopDownAnalysisMode topDownAnalysisMode,
+            @NotNull Collection<? extends PsiElement> elements,
+            int bodyResolveThreads
+    ) {
+        TopDownAnalysisContext c = lazyTopDownAnalyzer.analyzeDeclarations(
+                topDownAnalysisMode, elements, DataFlowInfo.EMPTY, bodyResolveThreads);
 
         resolveImportsInAllFiles(c, codeAnalyzer);
 
@@ -39,6 +39,7 @@ import org.jetbrains.kotlin.resolve.calls.model.ResolvedCall;
 import org.jetbrains.kotlin.resolve.calls.results.OverloadResolutionResults;
 import org.jetbrains.kotlin.resolve.calls.results.OverloadResolutionResultsImpl;
 import org.jetbrains.kotlin.resolve.calls.results.ResolutionResultsHandler;
+import org.jetbrains.kotlin.resolve.calls.results.ResolutionStatus;
 import org.jetbrains.kotlin.resolve.calls.smartcasts.DataFlowInfo;
 import org.jetbrains.kotlin.resolve.calls.tasks.*;
 import org.jetbrains.kotlin.resolve.calls.tasks.collectors.CallableDescriptorCollectors;
@@ -68,6 +69,8 @@ import static org.jetbrains.kotlin.resolve.calls.context.CandidateResolveMode.EX
 import static org.jetbrains.kotlin.resolve.calls.context.CandidateResolveMode.FULLY;
 import static org.jetbrains.kotlin.resolve.calls.results.OverloadResolutionResults.Code.CANDIDATES_WITH_WRONG_RECEIVER;
 import static org.jetbrains.kotlin.resolve.calls.results.OverloadResolutionResults.Code.INCOMPLETE_TYPE_INFERENCE;
+import static org.jetbrains.kotlin.resolve.calls.results.ResolutionStatus.RECEIVER_PRESENCE_ERROR;
+import static org.jetbrains.kotlin.resolve.calls.results.ResolutionStatus.RECEIVER_TYPE_ERROR;
 import static org.jetbrains.kotlin.types.TypeUtils.NO_EXPECTED_TYPE;
 
 @SuppressWarnings("RedundantTypeArguments")
@@ -578,7 +581,17 @@ public class CallResolver {
             @NotNull ResolutionTask<D, F> task,
             @NotNull CallTransformer<D, F> callTransformer
     ) {
-        List<CallCandidateResolutionContext<D>> contexts = collectCallCandidateContext(task, callTransformer, EXIT_ON_FIRST_ERROR);
+        Collection<ResolutionCandidate<D>> allCandidates = task.getCandidates();
+        // Candidates with a mismatched receiver can't change the result unless all other candidates have wrong receivers too
+        Collection<ResolutionCandidate<D>> candidates = task.collectAllCandidates ? allCandidates : ContainerUtil.filter(
+                allCandidates, new Condition<ResolutionCandidate<D>>() {
+                    @Override
+                    public boolean value(ResolutionCandidate<D> candidate) {
+                        return !candidate.hasReceiverTypeMismatch();
+                    }
+                });
+
+        List<CallCandidateResolutionContext<D>> contexts = collectCallCandidateContext(task, candidates, callTransformer, EXIT_ON_FIRST_ERROR);
         boolean isSuccess = ContainerUtil.exists(contexts, new Condition<CallCandidateResolutionContext<D>>() {
             @Override
             public boolean value(CallCandidateResolutionContext<D> context) {
@@ -586,7 +599,10 @@ public class CallResolver {
             }
         });
         if (!isSuccess) {
-            contexts = collectCallCandidateContext(task, callTransformer, FULLY);
+            contexts = collectCallCandidateContext(task, candidates, callTransformer, FULLY);
+            if (candidates.size() < allCandidates.size() && allHaveReceiverErrors(contexts)) {
+                contexts = collectCallCandidateContext(task, allCandidates, callTransformer, FULLY);
+            }
         }
 
         for (CallCandidateResolutionContext<D> context : contexts) {
@@ -601,14 +617,23 @@ public class CallResolver {
         return results;
     }
 
+    private static <D extends CallableDescriptor> boolean allHaveReceiverErrors(@NotNull List<CallCandidateResolutionContext<D>> contexts) {
+        for (CallCandidateResolutionContext<D> context : contexts) {
+            ResolutionStatus status = context.candidateCall.getStatus();
+            if (status != RECEIVER_TYPE_ERROR && status != RECEIVER_PRESENCE_ERROR) return false;
+        }
+        return true;
+    }
+
     @NotNull
     private <D extends CallableDescriptor, F extends D> List<CallCandidateResolutionContext<D>> collectCallCandidateContext(
             @NotNull final ResolutionTask<D, F> task,
+            @NotNull Collection<ResolutionCandidate<D>> candidates,
             @NotNull final CallTransformer<D, F> callTransformer,
             @NotNull final CandidateResolveMode candidateResolveMode
     ) {
         final List<CallCandidateResolutionContext<D>> candidateResolutionContexts = ContainerUtil.newArrayList();
-        for (final ResolutionCandidate<D> resolutionCandidate : task.getCandidates()) {
+        for (final ResolutionCandidate<D> resolutionCandidate : candidates) {
             candidatePerfCounter.time(new Function0<Unit>() {
                 @Override
                 public Unit invoke() {
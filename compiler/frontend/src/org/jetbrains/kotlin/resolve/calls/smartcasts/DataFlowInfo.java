@@ -16,7 +16,6 @@
 
 package org.jetbrains.kotlin.resolve.calls.smartcasts;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.SetMultimap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.kotlin.types.JetType;
@@ -29,7 +28,7 @@ import java.util.Set;
  * Data flow info is immutable so functions never change it.
  */
 public interface DataFlowInfo {
-    DataFlowInfo EMPTY = new DelegatingDataFlowInfo(null, ImmutableMap.<DataFlowValue, Nullability>of(), DelegatingDataFlowInfo.newTypeInfo());
+    DataFlowInfo EMPTY = PersistentDataFlowInfo.EMPTY_INFO;
 
     @NotNull
     Map<DataFlowValue, Nullability> getCompleteNullabilityInfo();
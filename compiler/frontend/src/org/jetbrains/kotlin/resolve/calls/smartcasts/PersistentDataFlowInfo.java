@@ -0,0 +1,314 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve.calls.smartcasts;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.types.JetType;
+import org.jetbrains.kotlin.types.TypeUtils;
+import org.jetbrains.kotlin.utils.PersistentHashMap;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jetbrains.kotlin.resolve.calls.smartcasts.Nullability.NOT_NULL;
+
+/**
+ * Keeps complete nullability and type info in persistent hash maps, so that each derived info shares
+ * the unchanged part of the maps with the original one and every lookup takes O(log n) steps
+ * regardless of how many infos it was derived from.
+ *
+ * Types of a value are kept from the most recently established one to the oldest one.
+ */
+/* package */ class PersistentDataFlowInfo implements DataFlowInfo {
+    /* package */ static final PersistentDataFlowInfo EMPTY_INFO = new PersistentDataFlowInfo(
+            PersistentHashMap.<DataFlowValue, Nullability>empty(), PersistentHashMap.<DataFlowValue, ImmutableSet<JetType>>empty()
+    );
+
+    @NotNull
+    private final PersistentHashMap<DataFlowValue, Nullability> nullabilityInfo;
+
+    @NotNull
+    private final PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> typeInfo;
+
+    private PersistentDataFlowInfo(
+            @NotNull PersistentHashMap<DataFlowValue, Nullability> nullabilityInfo,
+            @NotNull PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> typeInfo
+    ) {
+        this.nullabilityInfo = nullabilityInfo;
+        this.typeInfo = typeInfo;
+    }
+
+    @NotNull
+    private DataFlowInfo create(
+            @NotNull PersistentHashMap<DataFlowValue, Nullability> nullabilityInfo,
+            @NotNull PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> typeInfo
+    ) {
+        if (nullabilityInfo == this.nullabilityInfo && typeInfo == this.typeInfo) return this;
+        if (nullabilityInfo.isEmpty() && typeInfo.isEmpty()) return EMPTY;
+        return new PersistentDataFlowInfo(nullabilityInfo, typeInfo);
+    }
+
+    @Override
+    @NotNull
+    public Map<DataFlowValue, Nullability> getCompleteNullabilityInfo() {
+        return nullabilityInfo;
+    }
+
+    @Override
+    @NotNull
+    public SetMultimap<DataFlowValue, JetType> getCompleteTypeInfo() {
+        SetMultimap<DataFlowValue, JetType> result = LinkedHashMultimap.create();
+        for (Map.Entry<DataFlowValue, ImmutableSet<JetType>> entry : typeInfo.entrySet()) {
+            result.putAll(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public Nullability getNullability(@NotNull DataFlowValue key) {
+        if (!key.isPredictable()) return key.getImmanentNullability();
+        Nullability nullability = nullabilityInfo.get(key);
+        return nullability != null ? nullability : key.getImmanentNullability();
+    }
+
+    @NotNull
+    private PersistentHashMap<DataFlowValue, Nullability> putNullability(
+            @NotNull PersistentHashMap<DataFlowValue, Nullability> map,
+            @NotNull DataFlowValue value,
+            @NotNull Nullability nullability
+    ) {
+        if (!value.isPredictable()) return map;
+        return map.plus(value, nullability);
+    }
+
+    @NotNull
+    private Set<JetType> getTypes(@NotNull DataFlowValue value) {
+        Set<JetType> types = typeInfo.get(value);
+        return types != null ? types : ImmutableSet.<JetType>of();
+    }
+
+    @Override
+    @NotNull
+    public Set<JetType> getPossibleTypes(@NotNull DataFlowValue key) {
+        JetType originalType = key.getType();
+        Set<JetType> types = getTypes(key);
+        if (getNullability(key).canBeNull()) {
+            return new LinkedHashSet<JetType>(types);
+        }
+
+        Set<JetType> enrichedTypes = Sets.newHashSetWithExpectedSize(types.size() + 1);
+        if (originalType.isMarkedNullable()) {
+            enrichedTypes.add(TypeUtils.makeNotNullable(originalType));
+        }
+        for (JetType type : types) {
+            enrichedTypes.add(TypeUtils.makeNotNullable(type));
+        }
+
+        return enrichedTypes;
+    }
+
+    /**
+     * Call this function to clear all data flow information about
+     * the given data flow value.
+     *
+     * @param value
+     */
+    @Override
+    @NotNull
+    public DataFlowInfo clearValueInfo(@NotNull DataFlowValue value) {
+        return create(putNullability(nullabilityInfo, value, Nullability.UNKNOWN), typeInfo.minus(value));
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo assign(@NotNull DataFlowValue a, @NotNull DataFlowValue b) {
+        Nullability nullabilityOfB = getNullability(b);
+
+        ImmutableSet.Builder<JetType> typesForB = ImmutableSet.builder();
+        typesForB.addAll(getTypes(b));
+        // Own type of B must be recorded separately, e.g. for a constant
+        // But if its type is the same as A or it's null, there is no reason to do it
+        // because usually null type or own type are not saved in this set
+        if (nullabilityOfB.canBeNonNull() && !a.getType().equals(b.getType())) {
+            typesForB.add(b.getType());
+        }
+
+        return create(putNullability(nullabilityInfo, a, nullabilityOfB), withTypes(typeInfo.minus(a), a, typesForB.build()));
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo equate(@NotNull DataFlowValue a, @NotNull DataFlowValue b) {
+        Nullability nullabilityOfA = getNullability(a);
+        Nullability nullabilityOfB = getNullability(b);
+
+        boolean changed = false;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = nullabilityInfo;
+        Nullability newNullabilityOfA = nullabilityOfA.refine(nullabilityOfB);
+        Nullability newNullabilityOfB = nullabilityOfB.refine(nullabilityOfA);
+        if (a.isPredictable()) {
+            changed |= newNullabilityOfA != nullabilityOfA;
+            newNullabilityInfo = newNullabilityInfo.plus(a, newNullabilityOfA);
+        }
+        if (b.isPredictable()) {
+            changed |= newNullabilityOfB != nullabilityOfB;
+            newNullabilityInfo = newNullabilityInfo.plus(b, newNullabilityOfB);
+        }
+
+        Set<JetType> typesOfA = getTypes(a);
+        Set<JetType> typesOfB = getTypes(b);
+        changed |= !typesOfA.isEmpty() || !typesOfB.isEmpty();
+        if (!changed) return this;
+
+        PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> newTypeInfo = withTypes(typeInfo, a, typesOfB);
+        newTypeInfo = withTypes(newTypeInfo, b, typesOfA);
+        return create(newNullabilityInfo, newTypeInfo);
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo disequate(@NotNull DataFlowValue a, @NotNull DataFlowValue b) {
+        Nullability nullabilityOfA = getNullability(a);
+        Nullability nullabilityOfB = getNullability(b);
+
+        boolean changed = false;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = nullabilityInfo;
+        Nullability newNullabilityOfA = nullabilityOfA.refine(nullabilityOfB.invert());
+        Nullability newNullabilityOfB = nullabilityOfB.refine(nullabilityOfA.invert());
+        if (a.isPredictable()) {
+            changed |= newNullabilityOfA != nullabilityOfA;
+            newNullabilityInfo = newNullabilityInfo.plus(a, newNullabilityOfA);
+        }
+        if (b.isPredictable()) {
+            changed |= newNullabilityOfB != nullabilityOfB;
+            newNullabilityInfo = newNullabilityInfo.plus(b, newNullabilityOfB);
+        }
+        return changed ? create(newNullabilityInfo, typeInfo) : this;
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo establishSubtyping(@NotNull DataFlowValue value, @NotNull JetType type) {
+        if (value.getType().equals(type)) return this;
+        if (getPossibleTypes(value).contains(type)) return this;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo =
+                type.isMarkedNullable() ? nullabilityInfo : nullabilityInfo.plus(value, NOT_NULL);
+        return create(newNullabilityInfo, withTypes(typeInfo, value, ImmutableSet.of(type)));
+    }
+
+    @NotNull
+    @Override
+    public DataFlowInfo and(@NotNull DataFlowInfo otherInfo) {
+        if (otherInfo == EMPTY) return this;
+        if (this == EMPTY) return otherInfo;
+        if (this == otherInfo) return this;
+
+        assert otherInfo instanceof PersistentDataFlowInfo : "Unknown DataFlowInfo type: " + otherInfo;
+        PersistentDataFlowInfo other = (PersistentDataFlowInfo) otherInfo;
+
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = nullabilityInfo;
+        for (Map.Entry<DataFlowValue, Nullability> entry : other.nullabilityInfo.entrySet()) {
+            DataFlowValue key = entry.getKey();
+            Nullability otherFlags = entry.getValue();
+            Nullability thisFlags = getNullability(key);
+            Nullability flags = thisFlags.and(otherFlags);
+            if (flags != thisFlags) {
+                newNullabilityInfo = newNullabilityInfo.plus(key, flags);
+            }
+        }
+
+        if (newNullabilityInfo == nullabilityInfo && containsAllTypes(other)) {
+            return this;
+        }
+
+        PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> newTypeInfo = typeInfo;
+        for (Map.Entry<DataFlowValue, ImmutableSet<JetType>> entry : other.typeInfo.entrySet()) {
+            newTypeInfo = withTypes(newTypeInfo, entry.getKey(), entry.getValue());
+        }
+
+        return create(newNullabilityInfo, newTypeInfo);
+    }
+
+    private boolean containsAllTypes(@NotNull PersistentDataFlowInfo other) {
+        for (Map.Entry<DataFlowValue, ImmutableSet<JetType>> entry : other.typeInfo.entrySet()) {
+            if (!getTypes(entry.getKey()).containsAll(entry.getValue())) return false;
+        }
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataFlowInfo or(@NotNull DataFlowInfo otherInfo) {
+        if (otherInfo == EMPTY) return EMPTY;
+        if (this == EMPTY) return EMPTY;
+        if (this == otherInfo) return this;
+
+        assert otherInfo instanceof PersistentDataFlowInfo : "Unknown DataFlowInfo type: " + otherInfo;
+        PersistentDataFlowInfo other = (PersistentDataFlowInfo) otherInfo;
+
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = PersistentHashMap.empty();
+        for (Map.Entry<DataFlowValue, Nullability> entry : other.nullabilityInfo.entrySet()) {
+            DataFlowValue key = entry.getKey();
+            Nullability otherFlags = entry.getValue();
+            Nullability thisFlags = getNullability(key);
+            newNullabilityInfo = newNullabilityInfo.plus(key, thisFlags.or(otherFlags));
+        }
+
+        PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> newTypeInfo = PersistentHashMap.empty();
+        for (Map.Entry<DataFlowValue, ImmutableSet<JetType>> entry : other.typeInfo.entrySet()) {
+            DataFlowValue key = entry.getKey();
+            ImmutableSet<JetType> thisTypes = typeInfo.get(key);
+            if (thisTypes == null) continue;
+
+            ImmutableSet<JetType> commonTypes = Sets.intersection(thisTypes, entry.getValue()).immutableCopy();
+            if (!commonTypes.isEmpty()) {
+                newTypeInfo = newTypeInfo.plus(key, commonTypes);
+            }
+        }
+
+        return create(newNullabilityInfo, newTypeInfo);
+    }
+
+    // Adds types to the ones known for the value, the added types go first
+    @NotNull
+    private static PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> withTypes(
+            @NotNull PersistentHashMap<DataFlowValue, ImmutableSet<JetType>> typeInfo,
+            @NotNull DataFlowValue value,
+            @NotNull Collection<JetType> types
+    ) {
+        if (types.isEmpty()) return typeInfo;
+
+        ImmutableSet<JetType> oldTypes = typeInfo.get(value);
+        if (oldTypes == null) return typeInfo.plus(value, ImmutableSet.copyOf(types));
+        return typeInfo.plus(value, ImmutableSet.<JetType>builder().addAll(types).addAll(oldTypes).build());
+    }
+
+    @Override
+    public String toString() {
+        if (typeInfo.isEmpty() && nullabilityInfo.isEmpty()) {
+            return "EMPTY";
+        }
+        return "Non-trivial DataFlowInfo";
+    }
+}
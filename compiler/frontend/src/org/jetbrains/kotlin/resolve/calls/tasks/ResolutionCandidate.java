@@ -32,6 +32,7 @@ public class ResolutionCandidate<D extends CallableDescriptor> {
     private ReceiverValue dispatchReceiver; // receiver object of a method
     private ReceiverValue extensionReceiver; // receiver of an extension function
     private ExplicitReceiverKind explicitReceiverKind;
+    private boolean receiverTypeMismatch;
 
     private ResolutionCandidate(
             @NotNull Call call, @NotNull D descriptor, @NotNull ReceiverValue dispatchReceiver,
@@ -73,6 +74,10 @@ public class ResolutionCandidate<D extends CallableDescriptor> {
         this.explicitReceiverKind = explicitReceiverKind;
     }
 
+    public void setReceiverTypeMismatch(boolean receiverTypeMismatch) {
+        this.receiverTypeMismatch = receiverTypeMismatch;
+    }
+
     @NotNull
     public Call getCall() {
         return call;
@@ -98,6 +103,14 @@ public class ResolutionCandidate<D extends CallableDescriptor> {
         return explicitReceiverKind;
     }
 
+    /**
+     * True if the extension receiver argument is known not to match the receiver parameter of the candidate,
+     * so resolution of the candidate can only fail with {@link org.jetbrains.kotlin.resolve.calls.results.ResolutionStatus#RECEIVER_TYPE_ERROR}.
+     */
+    public boolean hasReceiverTypeMismatch() {
+        return receiverTypeMismatch;
+    }
+
     @Nullable
     public TypeSubstitutor getKnownTypeParametersResultingSubstitutor() {
         return knownTypeParametersResultingSubstitutor;
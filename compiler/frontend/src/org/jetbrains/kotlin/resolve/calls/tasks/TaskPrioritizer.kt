@@ -18,11 +18,13 @@ package org.jetbrains.kotlin.resolve.calls.tasks
 
 import com.google.common.collect.Lists
 import com.google.common.collect.Sets
+import org.jetbrains.kotlin.builtins.KotlinBuiltIns
 import org.jetbrains.kotlin.descriptors.*
 import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.progress.ProgressIndicatorAndCompilationCanceledStatus
 import org.jetbrains.kotlin.psi.Call
 import org.jetbrains.kotlin.resolve.DescriptorUtils
+import org.jetbrains.kotlin.resolve.calls.callResolverUtil.getErasedReceiverType
 import org.jetbrains.kotlin.resolve.calls.callResolverUtil.isOrOverridesSynthesized
 import org.jetbrains.kotlin.resolve.calls.context.BasicCallResolutionContext
 import org.jetbrains.kotlin.resolve.calls.context.ResolutionContext
@@ -41,11 +43,12 @@ import org.jetbrains.kotlin.resolve.scopes.receivers.QualifierReceiver
 import org.jetbrains.kotlin.resolve.scopes.receivers.ReceiverValue
 import org.jetbrains.kotlin.resolve.scopes.receivers.ReceiverValue.NO_RECEIVER
 import org.jetbrains.kotlin.storage.StorageManager
-import org.jetbrains.kotlin.types.ErrorUtils
-import org.jetbrains.kotlin.types.JetType
+import org.jetbrains.kotlin.types.*
 import org.jetbrains.kotlin.types.checker.JetTypeChecker
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingUtils
-import org.jetbrains.kotlin.types.isDynamic
+import org.jetbrains.kotlin.types.expressions.OperatorConventions
+import java.util.ArrayDeque
+import java.util.HashSet
 
 public class TaskPrioritizer(private val storageManager: StorageManager) {
 
@@ -134,6 +137,25 @@ public class TaskPrioritizer(private val storageManager: StorageManager) {
             val value: ReceiverValue,
             private val context: ResolutionContext<*>) {
         val types: Collection<JetType> by lazy { SmartCastUtils.getSmartCastVariants(value, context) }
+
+        // Constructors of all supertypes of the smart cast variants, null if extensions to any type may be applicable
+        val supertypeConstructors: Set<TypeConstructor>? by lazy { collectSupertypeConstructors(types) }
+    }
+
+    private fun <D : CallableDescriptor> markReceiverTypeMismatches(candidates: Collection<ResolutionCandidate<D>>, receiver: ReceiverWithTypes) {
+        for (candidate in candidates) {
+            val descriptor = candidate.getDescriptor()
+            // Resolution of erroneous candidates and inaccessible members of outer classes stops before the receiver is checked
+            if (descriptor !is FunctionDescriptor || descriptor.getDispatchReceiverParameter() != null || ErrorUtils.isError(descriptor)) continue
+            val receiverParameter = descriptor.getExtensionReceiverParameter() ?: continue
+
+            val receiverConstructor = getErasedReceiverType(receiverParameter, descriptor).getConstructor()
+            val receiverClass = receiverConstructor.getDeclarationDescriptor()
+            if (receiverClass !is ClassDescriptor || KotlinBuiltIns.isAny(receiverClass)) continue
+
+            val supertypeConstructors = receiver.supertypeConstructors ?: return
+            candidate.setReceiverTypeMismatch(receiverConstructor !in supertypeConstructors)
+        }
     }
 
     private fun <D : CallableDescriptor, F : D> addCandidatesForExplicitReceiver(
@@ -171,13 +193,17 @@ public class TaskPrioritizer(private val storageManager: StorageManager) {
             }
             //extensions
             c.result.addCandidates {
-                convertWithImpliedThis(
+                val extensions = convertWithImpliedThis(
                         c.scope,
                         explicitReceiver.value,
                         callableDescriptorCollector.getExtensionsByName(c.scope, c.name, explicitReceiver.types, c.context.trace),
                         createKind(EXTENSION_RECEIVER, isExplicit),
                         c.context.call
                 )
+                if (c.name != OperatorConventions.INVOKE) {
+                    markReceiverTypeMismatches(extensions, explicitReceiver)
+                }
+                extensions
             }
         }
     }
@@ -472,3 +498,40 @@ public class TaskPrioritizer(private val storageManager: StorageManager) {
         }
     }
 }
+
+/**
+ * Supertypes are traversed in the same way as the type checker looks for a supertype with the constructor of the expected type.
+ * Returns null for types which may be subtypes of types with other constructors, like error types and Nothing.
+ */
+private fun collectSupertypeConstructors(types: Collection<JetType>): Set<TypeConstructor>? {
+    val queue = ArrayDeque<TypeConstructor>()
+    for (type in types) {
+        if (!addSubtypingConstructors(type, queue)) return null
+    }
+
+    val result = HashSet<TypeConstructor>()
+    while (!queue.isEmpty()) {
+        val constructor = queue.poll()
+        if (result.add(constructor)) {
+            constructor.getSupertypes().mapTo(queue) { it.getConstructor() }
+        }
+    }
+    return result
+}
+
+private fun addSubtypingConstructors(type: JetType, result: MutableCollection<TypeConstructor>): Boolean {
+    if (type.isError() || KotlinBuiltIns.isNothingOrNullableNothing(type)) return false
+
+    if (type.getCapability(javaClass<SubtypingRepresentatives>()) != null) {
+        if (!type.isFlexible()) return false
+        val flexibility = type.flexibility()
+        return addSubtypingConstructors(flexibility.lowerBound, result) && addSubtypingConstructors(flexibility.upperBound, result)
+    }
+
+    val constructor = type.getConstructor()
+    val descriptor = constructor.getDeclarationDescriptor()
+    if (descriptor !is ClassDescriptor && descriptor !is TypeParameterDescriptor) return false
+
+    result.add(constructor)
+    return true
+}
@@ -24,13 +24,14 @@ import java.util.concurrent.atomic.AtomicLong
 
 /**
  * This counter is thread-safe for initialization and usage.
- * But it may calculate time and number of runs not precisely.
+ * Time of a counter used from several threads at once is the sum of times on all threads.
+ * For a hierarchical per-phase and per-file profile see PhaseProfiler.
  */
 public abstract class PerformanceCounter protected constructor(val name: String) {
     companion object {
         private val allCounters = arrayListOf<PerformanceCounter>()
 
-        private var enabled = false
+        volatile private var enabled = false
 
         public fun currentTime(): Long = System.nanoTime()
 
@@ -74,8 +75,8 @@ public abstract class PerformanceCounter protected constructor(val name: String)
 
     protected val excludedFrom: MutableList<CounterWithExclude> = ArrayList()
 
-    private var count: Int = 0
-    private var totalTimeNanos: Long = 0
+    private val count = AtomicInteger()
+    private val totalTimeNanos = AtomicLong()
 
     init {
         synchronized(allCounters) {
@@ -84,11 +85,11 @@ public abstract class PerformanceCounter protected constructor(val name: String)
     }
 
     public final fun increment() {
-        count++
+        count.incrementAndGet()
     }
 
     public final fun time<T>(block: () -> T): T {
-        count++
+        count.incrementAndGet()
         if (!enabled) return block()
 
         excludedFrom.forEach { it.enterExcludedMethod() }
@@ -101,17 +102,19 @@ public abstract class PerformanceCounter protected constructor(val name: String)
     }
 
     public fun reset() {
-        count = 0
-        totalTimeNanos = 0
+        count.set(0)
+        totalTimeNanos.set(0)
     }
 
     protected final fun incrementTime(delta: Long) {
-        totalTimeNanos += delta
+        totalTimeNanos.addAndGet(delta)
     }
 
     protected abstract fun countTime<T>(block: () -> T): T
 
     public fun report(consumer: (String) -> Unit) {
+        val count = count.get()
+        val totalTimeNanos = totalTimeNanos.get()
         if (totalTimeNanos == 0L) {
             consumer("$name performed $count times")
         }
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util
+
+import com.intellij.psi.PsiElement
+import java.io.File
+import java.io.PrintWriter
+import java.lang.management.ManagementFactory
+import java.lang.ref.WeakReference
+import java.util.ArrayList
+import java.util.LinkedHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+
+/**
+ * Records nested compiler phases per thread together with the source file each phase works on, so that the time (and allocated memory)
+ * can be attributed both to phases and to files.
+ *
+ * When disabled, a phase costs a single volatile read.
+ * Unlike PerformanceCounter, every thread has its own buffer, so phases on different threads don't disturb each other.
+ */
+public object PhaseProfiler {
+    volatile private var enabled = false
+
+    private val allThreads = CopyOnWriteArrayList<ThreadPhases>()
+
+    private val currentThread = object : ThreadLocal<ThreadPhases>() {
+        override fun initialValue(): ThreadPhases {
+            val phases = ThreadPhases(Thread.currentThread())
+            allThreads.add(phases)
+            return phases
+        }
+    }
+
+    private val threadMXBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+
+    public fun isEnabled(): Boolean = enabled
+
+    // Enabling drops everything recorded before, and forgets threads which have terminated
+    public fun setEnabled(enable: Boolean) {
+        if (enable) {
+            allThreads.removeAll(allThreads.filter { !it.isAlive() })
+            allThreads.forEach { it.clear() }
+        }
+        enabled = enable
+    }
+
+    /**
+     * Starts a phase on the current thread, it must be finished on the same thread.
+     * A phase without an element is attributed to the file of the enclosing phase.
+     */
+    public fun start(name: String, element: PsiElement?) {
+        if (!enabled) return
+        currentThread.get().start(name, element?.let { fileName(it) })
+    }
+
+    public fun finish() {
+        if (!enabled) return
+        currentThread.get().finish()
+    }
+
+    public inline fun <T> phase(name: String, element: PsiElement?, block: () -> T): T {
+        if (!isEnabled()) return block()
+
+        start(name, element)
+        try {
+            return block()
+        }
+        finally {
+            finish()
+        }
+    }
+
+    // Writes everything recorded so far: Chrome trace event format for a *.json file (see chrome://tracing), CSV summary otherwise
+    public fun dump(file: File) {
+        file.getParentFile()?.mkdirs()
+        PrintWriter(file, "UTF-8").use { writer ->
+            if (file.getName().endsWith(".json")) writeChromeTrace(writer) else writeCsvSummary(writer)
+        }
+    }
+
+    public fun writeChromeTrace(writer: PrintWriter) {
+        writer.println("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [")
+        var first = true
+        for (thread in allThreads) {
+            for (phase in thread.finishedPhases()) {
+                if (!first) writer.println(",")
+                first = false
+
+                writer.print("{\"name\": ${jsonString(phase.name)}, \"cat\": \"compiler\", \"ph\": \"X\", \"pid\": 1, \"tid\": ${thread.id}, ")
+                writer.print("\"ts\": ${TimeUnit.NANOSECONDS.toMicros(phase.startNanos)}, ")
+                writer.print("\"dur\": ${TimeUnit.NANOSECONDS.toMicros(phase.durationNanos)}, ")
+                writer.print("\"args\": {\"file\": ${jsonString(phase.file ?: "")}, \"allocatedBytes\": ${phase.allocatedBytes}}}")
+            }
+        }
+        for (thread in allThreads) {
+            if (!first) writer.println(",")
+            first = false
+
+            writer.print("{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": ${thread.id}, " +
+                         "\"args\": {\"name\": ${jsonString(thread.name)}}}")
+        }
+        writer.println()
+        writer.println("]}")
+    }
+
+    // Phases are summed up by name and file, self time doesn't include time of nested phases
+    public fun writeCsvSummary(writer: PrintWriter) {
+        class Summary(val name: String, val file: String?) {
+            var count = 0
+            var totalNanos = 0L
+            var selfNanos = 0L
+            var allocatedBytes = 0L
+        }
+
+        val summaries = LinkedHashMap<Pair<String, String?>, Summary>()
+        for (thread in allThreads) {
+            for (phase in thread.finishedPhases()) {
+                val summary = summaries.getOrPut(Pair(phase.name, phase.file)) { Summary(phase.name, phase.file) }
+                summary.count++
+                summary.totalNanos += phase.durationNanos
+                summary.selfNanos += phase.selfNanos
+                summary.allocatedBytes += phase.allocatedBytes
+            }
+        }
+
+        writer.println("phase,file,count,total ms,self ms,allocated bytes")
+        for (summary in summaries.values().sortBy { -it.selfNanos }) {
+            writer.println(listOf(csvString(summary.name), csvString(summary.file ?: ""), summary.count,
+                                  TimeUnit.NANOSECONDS.toMillis(summary.totalNanos), TimeUnit.NANOSECONDS.toMillis(summary.selfNanos),
+                                  summary.allocatedBytes).joinToString(","))
+        }
+    }
+
+    private fun fileName(element: PsiElement): String? {
+        val file = element.getContainingFile() ?: return null
+        return file.getVirtualFile()?.getPath() ?: file.getName()
+    }
+
+    private fun allocatedBytes(thread: Thread): Long {
+        val bean = threadMXBean ?: return 0
+        try {
+            return if (bean.isThreadAllocatedMemoryEnabled()) bean.getThreadAllocatedBytes(thread.getId()) else 0
+        }
+        catch (e: UnsupportedOperationException) {
+            return 0
+        }
+    }
+
+    private fun jsonString(s: String): String {
+        val result = StringBuilder("\"")
+        for (c in s) {
+            when {
+                c == '"' || c == '\\' -> result.append('\\').append(c)
+                c < ' ' -> result.append("\\u").append(Integer.toHexString(c.toInt() + 0x10000).substring(1))
+                else -> result.append(c)
+            }
+        }
+        return result.append('"').toString()
+    }
+
+    private fun csvString(s: String) = if (s.contains(',') || s.contains('"')) "\"" + s.replace("\"", "\"\"") + "\"" else s
+
+    private class Phase(
+            val name: String,
+            val file: String?,
+            val startNanos: Long,
+            val startAllocatedBytes: Long
+    ) {
+        var durationNanos = 0L
+        var selfNanos = 0L
+        var allocatedBytes = 0L
+        var nestedNanos = 0L
+    }
+
+    // Phases are started and finished on the thread itself, which is only weakly referenced
+    private class ThreadPhases(thread: Thread) {
+        val id = thread.getId()
+        val name = thread.getName()
+        private val thread = WeakReference(thread)
+
+        private val started = ArrayList<Phase>()
+        private val finished = ArrayList<Phase>()
+
+        fun start(name: String, file: String?) {
+            val phaseFile = file ?: started.lastOrNull()?.file
+            started.add(Phase(name, phaseFile, PerformanceCounter.currentTime(), PhaseProfiler.allocatedBytes(Thread.currentThread())))
+        }
+
+        fun finish() {
+            // Nothing is started if the profiler was enabled in the middle of a phase
+            if (started.isEmpty()) return
+
+            val phase = started.remove(started.size() - 1)
+            phase.durationNanos = PerformanceCounter.currentTime() - phase.startNanos
+            phase.selfNanos = phase.durationNanos - phase.nestedNanos
+            phase.allocatedBytes = PhaseProfiler.allocatedBytes(Thread.currentThread()) - phase.startAllocatedBytes
+            started.lastOrNull()?.let { it.nestedNanos += phase.durationNanos }
+
+            synchronized(finished) {
+                finished.add(phase)
+            }
+        }
+
+        fun isAlive(): Boolean = thread.get()?.isAlive() ?: false
+
+        fun finishedPhases(): List<Phase> = synchronized(finished) { ArrayList(finished) }
+
+        fun clear() {
+            synchronized(finished) {
+                finished.clear()
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util.slicedMap;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimap;
+import kotlin.jvm.functions.Function3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A MutableSlicedMap which keeps a separate open addressing hash table for every slice, instead of a holder with slice values for
+ * every key as SlicedMapImpl does. Every binding costs two array slots, there are no per-key objects.
+ *
+ * The difference with SlicedMapImpl visible to clients is the order of forEach: all values of a slice are visited together.
+ */
+public class SliceMajorSlicedMap implements MutableSlicedMap {
+
+    public static SliceMajorSlicedMap create() {
+        return new SliceMajorSlicedMap();
+    }
+
+    private final SliceTables tables = new SliceTables();
+    private Multimap<WritableSlice<?, ?>, Object> collectiveSliceKeys = null;
+
+    @Override
+    public <K, V> void put(WritableSlice<K, V> slice, K key, V value) {
+        if (!slice.check(key, value)) {
+            return;
+        }
+
+        KeyWithSlice<K, V, WritableSlice<K, V>> sliceKey = slice.getKey();
+        Table table = tables.getOrCreate(sliceKey);
+
+        RewritePolicy rewritePolicy = slice.getRewritePolicy();
+        if (rewritePolicy.rewriteProcessingNeeded(key)) {
+            @SuppressWarnings("unchecked")
+            V oldValue = (V) table.get(key);
+            if (oldValue != null) {
+                if (!rewritePolicy.processRewrite(slice, key, oldValue, value)) {
+                    return;
+                }
+            }
+        }
+
+        if (slice.isCollective()) {
+            if (collectiveSliceKeys == null) {
+                collectiveSliceKeys = ArrayListMultimap.create();
+            }
+
+            collectiveSliceKeys.put(slice, key);
+        }
+
+        table.put(key, value);
+        slice.afterPut(this, key, value);
+    }
+
+    @Override
+    public void clear() {
+        tables.clear();
+        collectiveSliceKeys = null;
+    }
+
+    @Override
+    public <K, V> V get(ReadOnlySlice<K, V> slice, K key) {
+        Table table = tables.get(slice.getKey());
+
+        @SuppressWarnings("unchecked")
+        V value = table == null ? null : (V) table.get(key);
+
+        return slice.computeValue(this, key, value, value == null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Collection<K> getKeys(WritableSlice<K, V> slice) {
+        assert slice.isCollective() : "Keys are not collected for slice " + slice;
+
+        if (collectiveSliceKeys == null) return Collections.emptyList();
+        return (Collection<K>) collectiveSliceKeys.get(slice);
+    }
+
+    @Override
+    public void forEach(@NotNull Function3<WritableSlice, Object, Object, Void> f) {
+        for (int i = 0; i < tables.sliceKeys.length; i++) {
+            KeyWithSlice<?, ?, ?> sliceKey = tables.sliceKeys[i];
+            if (sliceKey == null) continue;
+
+            WritableSlice<?, ?> slice = ((AbstractWritableSlice<?, ?>) sliceKey).getSlice();
+            Table table = tables.tables[i];
+            for (int j = 0; j < table.keys.length; j++) {
+                Object key = table.keys[j];
+                if (key == null) continue;
+
+                f.invoke(slice, unmaskNull(key), table.values[j]);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public <K, V> ImmutableMap<K, V> getSliceContents(@NotNull ReadOnlySlice<K, V> slice) {
+        ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
+
+        Table table = tables.get(slice.getKey());
+        if (table != null) {
+            for (int i = 0; i < table.keys.length; i++) {
+                Object key = table.keys[i];
+                if (key == null) continue;
+
+                //noinspection unchecked
+                builder.put((K) unmaskNull(key), (V) table.values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static final Object NULL_KEY = new Object();
+
+    private static Object maskNull(@Nullable Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static Object unmaskNull(@NotNull Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Slice keys are compared by identity, their hash codes are unique indices of Key
+    private static final class SliceTables {
+        private KeyWithSlice<?, ?, ?>[] sliceKeys = new KeyWithSlice<?, ?, ?>[4];
+        private Table[] tables = new Table[4];
+        private int size = 0;
+
+        @Nullable
+        private Table get(@NotNull KeyWithSlice<?, ?, ?> sliceKey) {
+            int mask = sliceKeys.length - 1;
+            for (int i = spread(sliceKey.hashCode()) & mask; ; i = (i + 1) & mask) {
+                KeyWithSlice<?, ?, ?> candidate = sliceKeys[i];
+                if (candidate == sliceKey) return tables[i];
+                if (candidate == null) return null;
+            }
+        }
+
+        @NotNull
+        private Table getOrCreate(@NotNull KeyWithSlice<?, ?, ?> sliceKey) {
+            Table table = get(sliceKey);
+            if (table != null) return table;
+
+            if ((size + 1) * 2 > sliceKeys.length) {
+                rehash(sliceKeys.length * 2);
+            }
+            table = new Table();
+            insert(sliceKey, table);
+            size++;
+            return table;
+        }
+
+        private void insert(@NotNull KeyWithSlice<?, ?, ?> sliceKey, @NotNull Table table) {
+            int mask = sliceKeys.length - 1;
+            int i = spread(sliceKey.hashCode()) & mask;
+            while (sliceKeys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            sliceKeys[i] = sliceKey;
+            tables[i] = table;
+        }
+
+        private void rehash(int capacity) {
+            KeyWithSlice<?, ?, ?>[] oldSliceKeys = sliceKeys;
+            Table[] oldTables = tables;
+            sliceKeys = new KeyWithSlice<?, ?, ?>[capacity];
+            tables = new Table[capacity];
+            for (int i = 0; i < oldSliceKeys.length; i++) {
+                if (oldSliceKeys[i] != null) {
+                    insert(oldSliceKeys[i], oldTables[i]);
+                }
+            }
+        }
+
+        private void clear() {
+            sliceKeys = new KeyWithSlice<?, ?, ?>[4];
+            tables = new Table[4];
+            size = 0;
+        }
+    }
+
+    // Keys of a single slice, compared with equals() as in SlicedMapImpl. Nothing is ever removed, so there are no tombstones
+    private static final class Table {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private Object[] keys = new Object[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Nullable
+        private Object get(@Nullable Object key) {
+            Object maskedKey = maskNull(key);
+            int mask = keys.length - 1;
+            for (int i = spread(maskedKey.hashCode()) & mask; ; i = (i + 1) & mask) {
+                Object candidate = keys[i];
+                if (candidate == null) return null;
+                if (candidate == maskedKey || candidate.equals(maskedKey)) return values[i];
+            }
+        }
+
+        private void put(@Nullable Object key, @Nullable Object value) {
+            Object maskedKey = maskNull(key);
+            int mask = keys.length - 1;
+            int i = spread(maskedKey.hashCode()) & mask;
+            while (true) {
+                Object candidate = keys[i];
+                if (candidate == null) break;
+                if (candidate == maskedKey || candidate.equals(maskedKey)) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+
+            keys[i] = maskedKey;
+            values[i] = value;
+            size++;
+
+            // Load factor is 3/4: probe sequences are short for well distributed hash codes, and arrays stay small
+            if (size * 4 > keys.length * 3) {
+                rehash(keys.length * 2);
+            }
+        }
+
+        private void rehash(int capacity) {
+            Object[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new Object[capacity];
+            values = new Object[capacity];
+            int mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                Object key = oldKeys[j];
+                if (key == null) continue;
+
+                int i = spread(key.hashCode()) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
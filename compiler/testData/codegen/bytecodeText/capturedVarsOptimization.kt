@@ -0,0 +1,20 @@
+inline fun exec(f: () -> Unit) = f()
+
+fun sum(a: Int, b: Long): Long {
+    var s = 0L
+    var count = 0
+    exec {
+        s += a
+        count++
+    }
+    exec { s += b * count }
+    return s
+}
+
+fun escaping(): () -> Int {
+    var x = 0
+    return { x++ }
+}
+
+// 0 NEW kotlin/jvm/internal/Ref\$LongRef
+// 1 NEW kotlin/jvm/internal/Ref\$IntRef
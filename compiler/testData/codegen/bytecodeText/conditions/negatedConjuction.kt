@@ -1,7 +1,4 @@
-fun main() {
-    val a = false
-    val b = false
-    val c = false
+fun main(a: Boolean, b: Boolean, c: Boolean) {
     if (!(a && b && c)) {
         "then"
     } else {
@@ -9,7 +6,7 @@ fun main() {
     }
 }
 
-// 3 ICONST_0
+// 0 ICONST_0
 // 0 ICONST_1
 // 2 IFEQ
 // 1 IFNE
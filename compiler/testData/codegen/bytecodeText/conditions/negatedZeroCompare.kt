@@ -1,5 +1,4 @@
-fun main() {
-    val a = 1
+fun main(a: Int) {
     if (!(a == 0)) {
         "then"
     } else {
@@ -8,7 +7,7 @@ fun main() {
 }
 
 //0 ICONST_0
-//1 ICONST_1
+//0 ICONST_1
 //1 IFEQ
 //0 IFNE
 //1 IF
@@ -0,0 +1,10 @@
+fun foo(): String {
+    val a = 2
+    val b = a * 3
+    if (b > 5) return "big"
+    return "small"
+}
+
+// 0 IMUL
+// 0 IF
+// 0 small
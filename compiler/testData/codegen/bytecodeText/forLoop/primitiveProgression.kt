@@ -6,6 +6,6 @@ fun f() {
 }
 
 // 0 iterator
-// 2 getStart
-// 2 getEnd
-// 2 getIncrement
\ No newline at end of file
+// 1 getStart
+// 1 getEnd
+// 1 getIncrement
\ No newline at end of file
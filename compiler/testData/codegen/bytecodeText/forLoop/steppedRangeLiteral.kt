@@ -0,0 +1,14 @@
+fun f() {
+    for (i in 0..10 step 2) {
+    }
+    for (i in 0L..10L step 3L) {
+    }
+}
+
+// 0 iterator
+// 0 getStart
+// 0 getEnd
+// 0 getIncrement
+// 0 IntRange
+// 0 LongRange
+// 2 getProgressionFinalElement
@@ -1,5 +1,5 @@
-fun test1() {
-    if (!(1 < 2)) {
+fun test1(a: Int) {
+    if (!(a < 2)) {
         val p = 1
     }
 }
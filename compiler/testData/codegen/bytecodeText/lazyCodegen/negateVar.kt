@@ -1,5 +1,5 @@
-fun test2() {
-    val p = 1 < 2;
+fun test2(a: Int, b: Int) {
+    val p = a < b;
     if (!p) {
         val p = 1
     }
@@ -1,7 +1,7 @@
 
 inline fun calc<T, R>(value : T, fn: (T)->R) : R = fn(value)
 inline fun identity<T>(value : T) : T = calc(value) {
-    if (1 == 1) return it
+    if (it == value) return it
     it
 }
 
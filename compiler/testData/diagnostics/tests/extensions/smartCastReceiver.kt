@@ -0,0 +1,18 @@
+package a
+
+open class A
+class B : A()
+class C
+
+fun B.foo() = 1
+fun C.foo() = 2
+
+fun test(a: A, x: Any) {
+    if (a is B) {
+        <!DEBUG_INFO_SMARTCAST!>a<!>.foo()
+    }
+    if (x is C) {
+        <!DEBUG_INFO_SMARTCAST!>x<!>.foo()
+    }
+    a.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>foo<!>()
+}
@@ -0,0 +1,20 @@
+package a
+
+class A
+class B
+class C
+
+fun A.foo() {}
+fun B.foo() {}
+
+fun A.bar(<!UNUSED_PARAMETER!>x<!>: Int) {}
+fun B.bar(<!UNUSED_PARAMETER!>x<!>: Int) {}
+
+fun List<String>.baz() {}
+fun Set<String>.baz() {}
+
+fun test(c: C, l: List<Int>) {
+    c.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>foo<!>()
+    c.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>bar<!>(1)
+    <!TYPE_MISMATCH!>l<!>.baz()
+}
@@ -5715,6 +5715,12 @@ public class JetDiagnosticsTestGenerated extends AbstractJetDiagnosticsTest {
                 doTest(fileName);
             }
 
+            @TestMetadata("smartCastReceiver.kt")
+            public void testSmartCastReceiver() throws Exception {
+                String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/smartCastReceiver.kt");
+                doTest(fileName);
+            }
+
             @TestMetadata("throwOutCandidatesByReceiver.kt")
             public void testThrowOutCandidatesByReceiver() throws Exception {
                 String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/throwOutCandidatesByReceiver.kt");
@@ -5726,6 +5732,12 @@ public class JetDiagnosticsTestGenerated extends AbstractJetDiagnosticsTest {
                 String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/throwOutCandidatesByReceiver2.kt");
                 doTest(fileName);
             }
+
+            @TestMetadata("wrongReceiverOfAllCandidates.kt")
+            public void testWrongReceiverOfAllCandidates() throws Exception {
+                String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/wrongReceiverOfAllCandidates.kt");
+                doTest(fileName);
+            }
         }
 
         @TestMetadata("compiler/testData/diagnostics/tests/functionAsExpression")
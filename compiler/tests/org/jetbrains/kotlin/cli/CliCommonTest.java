@@ -34,6 +34,11 @@ public class CliCommonTest extends CliBaseTest {
         executeCompilerCompareOutputJVM();
     }
 
+    @Test
+    public void wrongThreadCount() throws Exception {
+        executeCompilerCompareOutputJVM();
+    }
+
     @Test
     public void simple() throws Exception {
         executeCompilerCompareOutputJVM();
@@ -180,6 +180,12 @@ public class KotlincExecutableTestGenerated extends AbstractKotlincExecutableTes
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/cli/jvm/wrongScriptWithNoSource.args");
             doJvmTest(fileName);
         }
+
+        @TestMetadata("wrongThreadCount.args")
+        public void testWrongThreadCount() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/cli/jvm/wrongThreadCount.args");
+            doJvmTest(fileName);
+        }
     }
 
     @TestMetadata("compiler/testData/cli/js")
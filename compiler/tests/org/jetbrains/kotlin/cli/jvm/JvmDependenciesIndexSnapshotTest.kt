@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm
+
+import com.intellij.core.CoreJarFileSystem
+import junit.framework.TestCase
+import org.jetbrains.kotlin.cli.jvm.compiler.JavaRoot
+import org.jetbrains.kotlin.cli.jvm.compiler.JvmDependenciesIndex
+import org.jetbrains.kotlin.cli.jvm.compiler.JvmDependenciesIndexSnapshot
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.test.JetTestUtils
+import java.io.File
+import java.io.FileOutputStream
+import java.util.jar.JarOutputStream
+import java.util.zip.ZipEntry
+
+public class JvmDependenciesIndexSnapshotTest : TestCase() {
+    private var tmpDir: File by kotlin.properties.Delegates.notNull()
+
+    override fun setUp() {
+        super.setUp()
+        tmpDir = JetTestUtils.tmpDirForTest(this)
+    }
+
+    public fun testSaveAndLoad() {
+        val root = createJarRoot("lib.jar", "a/b/A.class", "a/c/C.class")
+        val snapshotFile = File(tmpDir, "index")
+
+        JvmDependenciesIndexSnapshot.EMPTY.save(snapshotFile, listOf(root))
+        val snapshot = JvmDependenciesIndexSnapshot.load(snapshotFile)
+        assertEquals(setOf("", "a", "a/b", "a/c"), snapshot.getPackages(root))
+
+        val index = JvmDependenciesIndex(listOf(root), snapshot)
+        assertEquals(listOf("b"), packageDirectories(index, "a.b"))
+        assertEquals(listOf<String>(), packageDirectories(index, "a.d"))
+    }
+
+    public fun testSaveReplacesSnapshot() {
+        val snapshotFile = File(tmpDir, "index")
+        JvmDependenciesIndexSnapshot.EMPTY.save(snapshotFile, listOf(createJarRoot("lib.jar", "a/A.class")))
+        val loaded = JvmDependenciesIndexSnapshot.load(snapshotFile)
+
+        val otherRoot = createJarRoot("other.jar", "b/B.class")
+        loaded.save(snapshotFile, listOf(otherRoot))
+
+        assertEquals(setOf("", "b"), JvmDependenciesIndexSnapshot.load(snapshotFile).getPackages(otherRoot))
+        // the new snapshot is written to a temporary file next to it
+        assertEquals(setOf("index", "lib.jar", "other.jar"), tmpDir.list()!!.toSet())
+    }
+
+    public fun testModifiedJarIsNotTrusted() {
+        val root = createJarRoot("lib.jar", "a/A.class")
+        val snapshotFile = File(tmpDir, "index")
+
+        JvmDependenciesIndexSnapshot.EMPTY.save(snapshotFile, listOf(root))
+        val jar = File(tmpDir, "lib.jar")
+        jar.setLastModified(jar.lastModified() + 10000)
+
+        assertNull(JvmDependenciesIndexSnapshot.load(snapshotFile).getPackages(root))
+    }
+
+    public fun testCorruptedSnapshotIsEmpty() {
+        val root = createJarRoot("lib.jar", "a/A.class")
+        val snapshotFile = File(tmpDir, "index")
+        snapshotFile.writeText("garbage")
+
+        assertNull(JvmDependenciesIndexSnapshot.load(snapshotFile).getPackages(root))
+        assertNull(JvmDependenciesIndexSnapshot.load(File(tmpDir, "nonExistent")).getPackages(root))
+    }
+
+    private fun packageDirectories(index: JvmDependenciesIndex, packageName: String): List<String> {
+        val result = arrayListOf<String>()
+        index.traverseDirectoriesInPackage(FqName(packageName)) { dir, _ ->
+            result.add(dir.getName())
+            true
+        }
+        return result
+    }
+
+    private fun createJarRoot(name: String, vararg entries: String): JavaRoot {
+        val jar = File(tmpDir, name)
+        JarOutputStream(FileOutputStream(jar)).use { output ->
+            for (entry in entries) {
+                output.putNextEntry(ZipEntry(entry))
+                output.closeEntry()
+            }
+        }
+        val jarRoot = CoreJarFileSystem().findFileByPath(jar.getPath() + "!/")!!
+        return JavaRoot(jarRoot, JavaRoot.RootType.BINARY)
+    }
+}
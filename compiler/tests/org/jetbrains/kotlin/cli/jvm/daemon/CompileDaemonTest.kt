@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.daemon
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.cli.common.ExitCode
+import org.jetbrains.kotlin.test.JetTestUtils
+import java.io.File
+
+public class CompileDaemonTest : TestCase() {
+    private var tmpDir: File by kotlin.properties.Delegates.notNull()
+    private var runFile: File by kotlin.properties.Delegates.notNull()
+    private var compilerFile: File by kotlin.properties.Delegates.notNull()
+    private val daemons = arrayListOf<Thread>()
+
+    override fun setUp() {
+        super.setUp()
+        tmpDir = JetTestUtils.tmpDirForTest(this)
+        runFile = File(tmpDir, "daemon.run")
+        compilerFile = File(tmpDir, "compiler.jar")
+        compilerFile.writeText("compiler")
+    }
+
+    override fun tearDown() {
+        sendDaemonRequest(runFile, CompileDaemon.currentWorkingDirectory(), COMMAND_SHUTDOWN, arrayOf())
+        for (daemon in daemons) {
+            daemon.join(TIMEOUT_MILLIS)
+        }
+        super.tearDown()
+    }
+
+    public fun testCanCompileOnDaemon() {
+        assertTrue(CompileDaemonClient.canCompileOnDaemon(arrayOf("a.kt")))
+        assertTrue(CompileDaemonClient.canCompileOnDaemon(arrayOf("-d", "out", "a.kt")))
+        assertTrue(CompileDaemonClient.canCompileOnDaemon(arrayOf("-module", "module.xml")))
+
+        // REPL
+        assertFalse(CompileDaemonClient.canCompileOnDaemon(arrayOf()))
+        assertFalse(CompileDaemonClient.canCompileOnDaemon(arrayOf("-cp", "lib.jar")))
+        assertFalse(CompileDaemonClient.canCompileOnDaemon(arrayOf("-d", "out", "-no-stdlib")))
+
+        assertFalse(CompileDaemonClient.canCompileOnDaemon(arrayOf("-script", "a.kts")))
+        assertFalse(CompileDaemonClient.canCompileOnDaemon(arrayOf("-unknownOption", "a.kt")))
+    }
+
+    public fun testCompile() {
+        startDaemon()
+
+        val response = sendDaemonRequest(runFile, CompileDaemon.currentWorkingDirectory(), COMMAND_COMPILE, compileArguments())!!
+        assertEquals(STATUS_OK, response.status)
+        assertEquals(ExitCode.COMPILATION_ERROR.getCode(), response.exitCode)
+        assertTrue(response.output, response.output.contains("Source file or directory not found"))
+    }
+
+    public fun testShutdown() {
+        val daemon = startDaemon()
+
+        assertEquals(STATUS_OK, sendDaemonRequest(runFile, CompileDaemon.currentWorkingDirectory(), COMMAND_SHUTDOWN, arrayOf())!!.status)
+        daemon.join(TIMEOUT_MILLIS)
+        assertFalse(daemon.isAlive())
+        assertFalse(runFile.exists())
+    }
+
+    public fun testWrongTokenIsRejected() {
+        startDaemon()
+
+        val wrongRunFile = File(tmpDir, "wrong.run")
+        wrongRunFile.writeText(runFile.readText().substringBefore(' ') + " wrongToken")
+
+        val response = sendDaemonRequest(wrongRunFile, CompileDaemon.currentWorkingDirectory(), COMMAND_COMPILE, compileArguments())!!
+        assertEquals(STATUS_REJECTED, response.status)
+
+        // The daemon keeps serving requests with the right token
+        assertEquals(STATUS_OK, sendDaemonRequest(runFile, CompileDaemon.currentWorkingDirectory(), COMMAND_COMPILE, compileArguments())!!.status)
+    }
+
+    public fun testOtherWorkingDirectoryIsRejected() {
+        startDaemon()
+
+        val response = sendDaemonRequest(runFile, tmpDir, COMMAND_COMPILE, compileArguments())!!
+        assertEquals(STATUS_REJECTED, response.status)
+    }
+
+    public fun testNoDaemon() {
+        assertNull(sendDaemonRequest(runFile, CompileDaemon.currentWorkingDirectory(), COMMAND_COMPILE, compileArguments()))
+        assertNull(CompileDaemonClient.compileOnDaemon(runFile, compileArguments()) { false })
+    }
+
+    public fun testStaleDaemonIsRestarted() {
+        val staleDaemon = startDaemon()
+        compilerFile.appendText(" changed")
+
+        var restarted = false
+        val exitCode = CompileDaemonClient.compileOnDaemon(runFile, compileArguments()) {
+            restarted = true
+            startDaemon()
+            true
+        }
+
+        assertTrue(restarted)
+        assertEquals(ExitCode.COMPILATION_ERROR.getCode(), exitCode)
+        staleDaemon.join(TIMEOUT_MILLIS)
+        assertFalse(staleDaemon.isAlive())
+    }
+
+    private fun compileArguments() = arrayOf(File(tmpDir, "nonExistent.kt").getPath(), "-d", File(tmpDir, "out").getPath())
+
+    // Starts a daemon in this process, and waits for it to write the run file
+    private fun startDaemon(): Thread {
+        runFile.delete()
+
+        val daemon = CompileDaemon(runFile, TIMEOUT_MILLIS.toInt(), compilerFile)
+        val thread = Thread { daemon.run() }
+        thread.start()
+        daemons.add(thread)
+
+        val deadline = System.currentTimeMillis() + TIMEOUT_MILLIS
+        while (!runFile.isFile()) {
+            assertTrue("Daemon hasn't started", System.currentTimeMillis() < deadline)
+            Thread.sleep(10)
+        }
+        return thread
+    }
+
+    companion object {
+        private val TIMEOUT_MILLIS = 60000L
+    }
+}
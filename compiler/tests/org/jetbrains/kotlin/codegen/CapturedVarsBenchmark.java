@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.codegen.forTestCompile.ForTestCompileRuntime;
+import org.jetbrains.kotlin.codegen.optimization.CapturedVarsOptimizationMethodTransformer;
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline;
+import org.jetbrains.kotlin.codegen.state.GenerationState;
+import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.test.BenchmarkRunner;
+import org.jetbrains.kotlin.test.ConfigurationKind;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Compares code generated for typical stdlib iteration idioms with a captured var (forEach, forEachIndexed, repeat)
+ * with and without CapturedVarsOptimizationMethodTransformer.
+ *
+ * Usage: CapturedVarsBenchmark [elements]
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class CapturedVarsBenchmark {
+    private static final String[] FUNCTIONS = {"sumList", "countEven", "weightedSum", "sumRepeat"};
+
+    private static final String SOURCE =
+            "package benchmark\n" +
+            "\n" +
+            "import java.util.concurrent.Callable\n" +
+            "\n" +
+            "fun benchmark(name: String, list: List<Int>, array: IntArray, n: Int): Callable<Any> = when (name) {\n" +
+            "    \"sumList\" -> object : Callable<Any> { override fun call() = sumList(list, array, n) }\n" +
+            "    \"countEven\" -> object : Callable<Any> { override fun call() = countEven(list, array, n) }\n" +
+            "    \"weightedSum\" -> object : Callable<Any> { override fun call() = weightedSum(list, array, n) }\n" +
+            "    \"sumRepeat\" -> object : Callable<Any> { override fun call() = sumRepeat(list, array, n) }\n" +
+            "    else -> throw IllegalArgumentException(name)\n" +
+            "}\n" +
+            "\n" +
+            "fun sumList(list: List<Int>, array: IntArray, n: Int): Any {\n" +
+            "    var sum = 0\n" +
+            "    list.forEach { sum += it }\n" +
+            "    return sum\n" +
+            "}\n" +
+            "\n" +
+            "fun countEven(list: List<Int>, array: IntArray, n: Int): Any {\n" +
+            "    var count = 0\n" +
+            "    array.forEach { if (it % 2 == 0) count++ }\n" +
+            "    return count\n" +
+            "}\n" +
+            "\n" +
+            "fun weightedSum(list: List<Int>, array: IntArray, n: Int): Any {\n" +
+            "    var sum = 0L\n" +
+            "    list.forEachIndexed { i, x -> sum += i * x }\n" +
+            "    return sum\n" +
+            "}\n" +
+            "\n" +
+            "fun sumRepeat(list: List<Int>, array: IntArray, n: Int): Any {\n" +
+            "    var sum = 0\n" +
+            "    repeat(n) { sum += it }\n" +
+            "    return sum\n" +
+            "}\n";
+
+    public static void main(String[] args) throws Exception {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        List<Integer> list = new ArrayList<Integer>(elements);
+        int[] array = new int[elements];
+        for (int i = 0; i < elements; i++) {
+            list.add(i);
+            array[i] = i;
+        }
+        List<Integer> unmodifiableList = Collections.unmodifiableList(list);
+
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            KotlinCoreEnvironment environment = JetTestUtils.createEnvironmentWithMockJdkAndIdeaAnnotations(disposable, ConfigurationKind.ALL);
+            JetFile file = JetTestUtils.createFile("benchmark.kt", SOURCE, environment.getProject());
+
+            Class<?> optimized = compile(file, MethodTransformerPipeline.DEFAULT);
+            Class<?> notOptimized = compile(file, MethodTransformerPipeline.DEFAULT.without(CapturedVarsOptimizationMethodTransformer.class));
+
+            for (String function : FUNCTIONS) {
+                Callable<?> withRefs = benchmark(notOptimized, function, unmodifiableList, array, elements);
+                Callable<?> withLocals = benchmark(optimized, function, unmodifiableList, array, elements);
+                if (!withRefs.call().equals(withLocals.call())) {
+                    throw new AssertionError("Results of " + function + " differ");
+                }
+
+                System.out.printf("%-12s Ref: %s, local: %s%n",
+                                  function, BenchmarkRunner.measure(withRefs), BenchmarkRunner.measure(withLocals));
+            }
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+
+    @NotNull
+    private static Class<?> compile(@NotNull JetFile file, @NotNull MethodTransformerPipeline pipeline) throws ClassNotFoundException {
+        GenerationState state = GenerationUtils.compileFileGetGenerationStateForTest(file, pipeline);
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(state.getFactory(), ForTestCompileRuntime.runtimeJarClassLoader());
+        return classLoader.loadClass("benchmark.BenchmarkPackage");
+    }
+
+    // The function is called from the compiled code through Callable, and not through reflection
+    @NotNull
+    private static Callable<?> benchmark(
+            @NotNull Class<?> packageClass,
+            @NotNull String function,
+            @NotNull List<Integer> list,
+            @NotNull int[] array,
+            int n
+    ) throws Exception {
+        Method benchmark = packageClass.getMethod("benchmark", String.class, List.class, int[].class, int.class);
+        return (Callable<?>) benchmark.invoke(null, function, list, array, n);
+    }
+}
@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.codegen;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.kotlin.analyzer.AnalysisResult;
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
 import org.jetbrains.kotlin.codegen.state.Progress;
 import org.jetbrains.kotlin.diagnostics.DiagnosticSink;
@@ -40,8 +41,13 @@ public class GenerationUtils {
 
     @NotNull
     public static GenerationState compileFileGetGenerationStateForTest(@NotNull JetFile psiFile) {
+        return compileFileGetGenerationStateForTest(psiFile, MethodTransformerPipeline.DEFAULT);
+    }
+
+    @NotNull
+    public static GenerationState compileFileGetGenerationStateForTest(@NotNull JetFile psiFile, @NotNull MethodTransformerPipeline pipeline) {
         AnalysisResult analysisResult = JvmResolveUtil.analyzeOneFileWithJavaIntegrationAndCheckForErrors(psiFile);
-        return compileFilesGetGenerationState(psiFile.getProject(), analysisResult, Collections.singletonList(psiFile));
+        return compileFilesGetGenerationState(psiFile.getProject(), analysisResult, Collections.singletonList(psiFile), 1, 1, pipeline);
     }
 
     @NotNull
@@ -56,15 +62,49 @@ public class GenerationUtils {
             @NotNull Project project,
             @NotNull AnalysisResult analysisResult,
             @NotNull List<JetFile> files
+    ) {
+        return compileFilesGetGenerationState(project, analysisResult, files, 1);
+    }
+
+    @NotNull
+    public static GenerationState compileFilesGetGenerationState(
+            @NotNull Project project,
+            @NotNull AnalysisResult analysisResult,
+            @NotNull List<JetFile> files,
+            int codegenThreads
+    ) {
+        return compileFilesGetGenerationState(project, analysisResult, files, codegenThreads, 1);
+    }
+
+    @NotNull
+    public static GenerationState compileFilesGetGenerationState(
+            @NotNull Project project,
+            @NotNull AnalysisResult analysisResult,
+            @NotNull List<JetFile> files,
+            int codegenThreads,
+            int optimizationThreads
+    ) {
+        return compileFilesGetGenerationState(project, analysisResult, files, codegenThreads, optimizationThreads,
+                                              MethodTransformerPipeline.DEFAULT);
+    }
+
+    @NotNull
+    public static GenerationState compileFilesGetGenerationState(
+            @NotNull Project project,
+            @NotNull AnalysisResult analysisResult,
+            @NotNull List<JetFile> files,
+            int codegenThreads,
+            int optimizationThreads,
+            @NotNull MethodTransformerPipeline pipeline
     ) {
         analysisResult.throwIfError();
         GenerationState state = new GenerationState(
                 project, ClassBuilderFactories.TEST, Progress.DEAF,
                 analysisResult.getModuleDescriptor(), analysisResult.getBindingContext(),
                 files, false, false, GenerationState.GenerateClassFilter.GENERATE_ALL,
-                false, false, null, null, DiagnosticSink.DO_NOTHING, null
+                false, pipeline, optimizationThreads, null, null, DiagnosticSink.DO_NOTHING, null
         );
-        KotlinCodegenFacade.compileCorrectFiles(state, CompilationErrorHandler.THROW_EXCEPTION);
+        KotlinCodegenFacade.compileCorrectFiles(state, CompilationErrorHandler.THROW_EXCEPTION, codegenThreads);
         return state;
     }
 }
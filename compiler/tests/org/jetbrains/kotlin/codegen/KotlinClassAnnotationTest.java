@@ -20,11 +20,14 @@ import org.jetbrains.kotlin.load.java.JvmAnnotationNames;
 import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.name.FqNameUnsafe;
 import org.jetbrains.kotlin.serialization.ClassData;
+import org.jetbrains.kotlin.serialization.LazyCallableList;
+import org.jetbrains.kotlin.serialization.ProtoBuf;
 import org.jetbrains.kotlin.serialization.jvm.JvmProtoBufUtil;
 import org.jetbrains.kotlin.test.ConfigurationKind;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import static org.jetbrains.kotlin.codegen.KotlinPackageAnnotationTest.collectCallableNames;
@@ -59,4 +62,46 @@ public class KotlinClassAnnotationTest extends CodegenTestCase {
         Set<String> callableNames = collectCallableNames(classData.getClassProto().getMemberList(), classData.getNameResolver());
         assertSameElements(Arrays.asList("foo", "bar"), callableNames);
     }
+
+    public void testLazyMembers() throws Exception {
+        loadText("package " + PACKAGE_NAME + "\n" +
+                 "\n" +
+                 "class " + CLASS_NAME + "<T> : java.io.Serializable {\n" +
+                 "    fun foo() {}\n" +
+                 "    fun String.bar(t: T) = 42\n" +
+                 "    var baz: Int = 0\n" +
+                 "    class Nested\n" +
+                 "}\n");
+        Class aClass = generateClass(PACKAGE_NAME + "." + CLASS_NAME);
+
+        Class<? extends Annotation> annotationClass = loadAnnotationClassQuietly(JvmAnnotationNames.KOTLIN_CLASS.asString());
+        String[] data = (String[]) CodegenTestUtil.getAnnotationAttribute(aClass.getAnnotation(annotationClass), "data");
+        assertNotNull(data);
+
+        ClassData eager = JvmProtoBufUtil.readClassDataFrom(data);
+        ClassData lazy = JvmProtoBufUtil.readClassDataWithLazyMembersFrom(data);
+
+        assertTrue(Arrays.equals(eager.getClassProto().toBuilder().clearMember().build().toByteArray(),
+                                 lazy.getClassProtoIgnoringMembers().toByteArray()));
+
+        List<ProtoBuf.Callable> eagerMembers = eager.getClassProto().getMemberList();
+        List<ProtoBuf.Callable> lazyMembers = lazy.getMemberProtos();
+        assertInstanceOf(lazyMembers, LazyCallableList.class);
+        assertEquals(eagerMembers.size(), lazyMembers.size());
+        for (int i = 0; i < eagerMembers.size(); i++) {
+            ProtoBuf.Callable member = eagerMembers.get(i);
+            assertEquals(member.getName(), LazyCallableList.getName(lazyMembers, i));
+            assertEquals(member.getFlags(), LazyCallableList.getFlags(lazyMembers, i));
+            assertEquals(member.hasReceiverType(), LazyCallableList.hasReceiverType(lazyMembers, i));
+            assertTrue(Arrays.equals(member.toByteArray(), lazyMembers.get(i).toByteArray()));
+        }
+
+        try {
+            lazy.getClassProto();
+            fail();
+        }
+        catch (AssertionError e) {
+            assertTrue(e.getMessage().startsWith("Members of class data read lazily are not in the proto"));
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.openapi.util.ThrowableComputable;
+import junit.framework.TestCase;
+import org.jetbrains.kotlin.codegen.inline.MethodNodeCache;
+import org.jetbrains.kotlin.codegen.inline.SMAPAndMethodNode;
+import org.jetbrains.kotlin.name.ClassId;
+import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.org.objectweb.asm.ClassWriter;
+import org.jetbrains.org.objectweb.asm.Label;
+import org.jetbrains.org.objectweb.asm.MethodVisitor;
+import org.jetbrains.org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+
+public class MethodNodeCacheTest extends TestCase {
+    private static final ClassId CLASS_ID = ClassId.topLevel(new FqName("test.A"));
+
+    private int classReads = 0;
+
+    private final ThrowableComputable<byte[], IOException> classData = new ThrowableComputable<byte[], IOException>() {
+        @Override
+        public byte[] compute() {
+            classReads++;
+            return createClass();
+        }
+    };
+
+    public void testClassIsReadOnce() throws Exception {
+        MethodNodeCache cache = new MethodNodeCache();
+
+        SMAPAndMethodNode first = cache.getMethodNode("A.class", CLASS_ID, "foo", "()I", classData);
+        SMAPAndMethodNode second = cache.getMethodNode("A.class", CLASS_ID, "foo", "()I", classData);
+        SMAPAndMethodNode bar = cache.getMethodNode("A.class", CLASS_ID, "bar", "()V", classData);
+        assertNull(cache.getMethodNode("A.class", CLASS_ID, "foo", "()V", classData));
+
+        assertEquals(1, classReads);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotNull(bar);
+        assertEquals("bar", bar.getNode().name);
+    }
+
+    public void testCopiesAreIndependent() throws Exception {
+        MethodNodeCache cache = new MethodNodeCache();
+
+        SMAPAndMethodNode first = cache.getMethodNode("A.class", CLASS_ID, "foo", "()I", classData);
+        SMAPAndMethodNode second = cache.getMethodNode("A.class", CLASS_ID, "foo", "()I", classData);
+        assertNotNull(first);
+        assertNotNull(second);
+
+        assertNotSame(first.getNode(), second.getNode());
+        assertEquals(first.getNode().instructions.size(), second.getNode().instructions.size());
+        assertNotSame(first.getNode().instructions.getFirst(), second.getNode().instructions.getFirst());
+
+        first.getNode().instructions.clear();
+        SMAPAndMethodNode third = cache.getMethodNode("A.class", CLASS_ID, "foo", "()I", classData);
+        assertNotNull(third);
+        assertEquals(second.getNode().instructions.size(), third.getNode().instructions.size());
+        assertEquals(1, third.getLineNumbers().size());
+    }
+
+    private static byte[] createClass() {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, "test/A", null, "java/lang/Object", null);
+        writer.visitSource("A.kt", null);
+
+        MethodVisitor foo = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "foo", "()I", null, null);
+        foo.visitCode();
+        Label start = new Label();
+        foo.visitLabel(start);
+        foo.visitLineNumber(3, start);
+        foo.visitInsn(Opcodes.ICONST_1);
+        foo.visitInsn(Opcodes.IRETURN);
+        foo.visitMaxs(-1, -1);
+        foo.visitEnd();
+
+        MethodVisitor bar = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "bar", "()V", null, null);
+        bar.visitCode();
+        bar.visitInsn(Opcodes.RETURN);
+        bar.visitMaxs(-1, -1);
+        bar.visitEnd();
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.codegen.optimization.CapturedVarsOptimizationMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.ConstantFoldingMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.DeadCodeEliminationMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.MethodTransformerPipeline
+import org.jetbrains.kotlin.codegen.optimization.RedundantRefElementLoadMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.common.isMeaningful
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import org.jetbrains.org.objectweb.asm.util.Printer
+
+public class MethodTransformerPipelineTest : TestCase() {
+    public fun testConstantsAreFoldedThroughLocals() {
+        // static int f() { int a = 2; int b = a * 3; if (b > 5) return b; return 0; }
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "()I", null, null)
+        val small = Label()
+        with (method) {
+            visitCode()
+            visitInsn(Opcodes.ICONST_2)
+            visitVarInsn(Opcodes.ISTORE, 0)
+            visitVarInsn(Opcodes.ILOAD, 0)
+            visitInsn(Opcodes.ICONST_3)
+            visitInsn(Opcodes.IMUL)
+            visitVarInsn(Opcodes.ISTORE, 1)
+            visitVarInsn(Opcodes.ILOAD, 1)
+            visitInsn(Opcodes.ICONST_5)
+            visitJumpInsn(Opcodes.IF_ICMPLE, small)
+            visitVarInsn(Opcodes.ILOAD, 1)
+            visitInsn(Opcodes.IRETURN)
+            visitLabel(small)
+            visitInsn(Opcodes.ICONST_0)
+            visitInsn(Opcodes.IRETURN)
+            visitMaxs(2, 2)
+            visitEnd()
+        }
+
+        MethodTransformerPipeline(listOf(ConstantFoldingMethodTransformer(), DeadCodeEliminationMethodTransformer())).transform("A", method)
+
+        assertEquals(listOf("ICONST_2", "ISTORE", "BIPUSH", "ISTORE", "ILOAD", "IRETURN"), opcodes(method))
+    }
+
+    public fun testRefElementIsNotLoadedAgain() {
+        // static int f(IntRef r) { r.element = 1; return r.element * r.element; }
+        val ref = "kotlin/jvm/internal/Ref\$IntRef"
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "(L$ref;)I", null, null)
+        with (method) {
+            visitCode()
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitInsn(Opcodes.ICONST_1)
+            visitFieldInsn(Opcodes.PUTFIELD, ref, "element", "I")
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitFieldInsn(Opcodes.GETFIELD, ref, "element", "I")
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitFieldInsn(Opcodes.GETFIELD, ref, "element", "I")
+            visitInsn(Opcodes.IMUL)
+            visitInsn(Opcodes.IRETURN)
+            visitMaxs(2, 1)
+            visitEnd()
+        }
+
+        RedundantRefElementLoadMethodTransformer().transform("A", method)
+
+        assertEquals(listOf("ALOAD", "ICONST_1", "DUP_X1", "PUTFIELD", "ALOAD", "GETFIELD", "IMUL", "IRETURN"), opcodes(method))
+    }
+
+    public fun testNonEscapingRefIsReplacedWithLocal() {
+        // static int f() { IntRef r = new IntRef(); IntRef copy = r; copy.element = 1; return r.element; }
+        val ref = "kotlin/jvm/internal/Ref\$IntRef"
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "()I", null, null)
+        with (method) {
+            visitCode()
+            visitTypeInsn(Opcodes.NEW, ref)
+            visitInsn(Opcodes.DUP)
+            visitMethodInsn(Opcodes.INVOKESPECIAL, ref, "<init>", "()V", false)
+            visitVarInsn(Opcodes.ASTORE, 0)
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitVarInsn(Opcodes.ASTORE, 1)
+            visitVarInsn(Opcodes.ALOAD, 1)
+            visitInsn(Opcodes.ICONST_1)
+            visitFieldInsn(Opcodes.PUTFIELD, ref, "element", "I")
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitFieldInsn(Opcodes.GETFIELD, ref, "element", "I")
+            visitInsn(Opcodes.IRETURN)
+            visitMaxs(3, 2)
+            visitEnd()
+        }
+
+        CapturedVarsOptimizationMethodTransformer().transform("A", method)
+
+        assertEquals(listOf("ICONST_0", "ISTORE", "ICONST_1", "ISTORE", "ILOAD", "IRETURN"), opcodes(method))
+        assertEquals(3, method.maxLocals)
+    }
+
+    public fun testEscapingRefIsKept() {
+        // static Object f() { IntRef r = new IntRef(); r.element = 1; return r; }
+        val ref = "kotlin/jvm/internal/Ref\$IntRef"
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "()Ljava/lang/Object;", null, null)
+        with (method) {
+            visitCode()
+            visitTypeInsn(Opcodes.NEW, ref)
+            visitInsn(Opcodes.DUP)
+            visitMethodInsn(Opcodes.INVOKESPECIAL, ref, "<init>", "()V", false)
+            visitVarInsn(Opcodes.ASTORE, 0)
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitInsn(Opcodes.ICONST_1)
+            visitFieldInsn(Opcodes.PUTFIELD, ref, "element", "I")
+            visitVarInsn(Opcodes.ALOAD, 0)
+            visitInsn(Opcodes.ARETURN)
+            visitMaxs(3, 1)
+            visitEnd()
+        }
+
+        val before = opcodes(method)
+        CapturedVarsOptimizationMethodTransformer().transform("A", method)
+
+        assertEquals(before, opcodes(method))
+    }
+
+    public fun testStatistics() {
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "()I", null, null)
+        with (method) {
+            visitCode()
+            visitInsn(Opcodes.ICONST_2)
+            visitInsn(Opcodes.ICONST_3)
+            visitInsn(Opcodes.IADD)
+            visitInsn(Opcodes.IRETURN)
+            visitMaxs(2, 0)
+            visitEnd()
+        }
+
+        val pipeline = MethodTransformerPipeline(listOf(ConstantFoldingMethodTransformer()))
+        pipeline.transform("A", method)
+
+        val pass = pipeline.passes.single()
+        assertEquals(1, pass.runCount)
+        assertEquals(2L, pass.removedInstructions)
+
+        val report = arrayListOf<String>()
+        pipeline.report { report.add(it) }
+        assertTrue(report.single(), report.single().startsWith("Optimization: ConstantFoldingMethodTransformer performed 1 times"))
+
+        pipeline.resetStatistics()
+        assertEquals(0, pass.runCount)
+    }
+
+    private fun opcodes(method: MethodNode): List<String> =
+            method.instructions.toArray().filter { it.isMeaningful }.map { Printer.OPCODES[it.getOpcode()] }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.analyzer.AnalysisResult;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.resolve.lazy.JvmResolveUtil;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ParallelCodegenTest extends UsefulTestCase {
+    private static final int PACKAGES = 20;
+
+    private KotlinCoreEnvironment environment;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        environment = JetTestUtils.createEnvironmentWithMockJdkAndIdeaAnnotations(myTestRootDisposable);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        environment = null;
+        super.tearDown();
+    }
+
+    public void testSameOutputAsSequential() {
+        List<JetFile> files = new ArrayList<JetFile>();
+        for (int i = 0; i < PACKAGES; i++) {
+            files.add(createFile(i));
+        }
+
+        AnalysisResult analysisResult = JvmResolveUtil.analyzeFilesWithJavaIntegrationAndCheckForErrors(environment.getProject(), files);
+
+        String sequential = GenerationUtils.compileFilesGetGenerationState(
+                environment.getProject(), analysisResult, files, 1).getFactory().createText();
+        String parallel = GenerationUtils.compileFilesGetGenerationState(
+                environment.getProject(), analysisResult, files, 4).getFactory().createText();
+
+        assertEquals(sequential, parallel);
+    }
+
+    public void testSameOutputWithParallelOptimization() {
+        List<JetFile> files = new ArrayList<JetFile>();
+        for (int i = 0; i < PACKAGES; i++) {
+            files.add(createFile(i));
+        }
+
+        AnalysisResult analysisResult = JvmResolveUtil.analyzeFilesWithJavaIntegrationAndCheckForErrors(environment.getProject(), files);
+
+        String sequential = GenerationUtils.compileFilesGetGenerationState(
+                environment.getProject(), analysisResult, files, 1, 1).getFactory().createText();
+        String parallel = GenerationUtils.compileFilesGetGenerationState(
+                environment.getProject(), analysisResult, files, 1, 4).getFactory().createText();
+
+        assertEquals(sequential, parallel);
+    }
+
+    // Every package declares an inline function with a lambda and an anonymous object, which is inlined into the next package
+    @NotNull
+    private JetFile createFile(int i) {
+        String text = "package p" + i + "\n" +
+                      "\n" +
+                      "enum class E { A, B }\n" +
+                      "\n" +
+                      "inline fun run" + i + "(f: () -> Int): Int {\n" +
+                      "    val o = object { fun g() = f() }\n" +
+                      "    return o.g() + { " + i + " }()\n" +
+                      "}\n" +
+                      "\n" +
+                      "fun box(e: E): Int {\n" +
+                      "    val x = when (e) { E.A -> 1; E.B -> 2 }\n" +
+                      (i > 0 ? "    return p" + (i - 1) + ".run" + (i - 1) + " { x }\n" : "    return x\n") +
+                      "}\n";
+        return JetTestUtils.createFile("file" + i + ".kt", text, environment.getProject());
+    }
+}
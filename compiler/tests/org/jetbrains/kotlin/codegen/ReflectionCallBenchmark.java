@@ -0,0 +1,137 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.codegen.forTestCompile.ForTestCompileRuntime;
+import org.jetbrains.kotlin.codegen.state.GenerationState;
+import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.test.BenchmarkRunner;
+import org.jetbrains.kotlin.test.ConfigurationKind;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Compares KFunction.call and KProperty.get of kotlin-reflect with Constructor.newInstance and Method.invoke of Java reflection,
+ * and with direct calls. Each benchmark function returns a Callable which makes one call.
+ *
+ * Usage: ReflectionCallBenchmark
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class ReflectionCallBenchmark {
+    private static final String[][] BENCHMARKS = {
+            {"kotlinConstructor", "javaConstructor", "directConstructor"},
+            {"kotlinMethod", "javaMethod", "directMethod"},
+            {"kotlinProperty", "javaGetter", "directProperty"}
+    };
+
+    private static final String SOURCE =
+            "package benchmark\n" +
+            "\n" +
+            "import java.util.concurrent.Callable\n" +
+            "import kotlin.reflect.*\n" +
+            "\n" +
+            "class Point(val x: Int, val y: Int) {\n" +
+            "    fun sum(): Int = x + y\n" +
+            "}\n" +
+            "\n" +
+            "fun kotlinConstructor(): Callable<Any> {\n" +
+            "    val constructor = Point::class.primaryConstructor!!\n" +
+            "    return object : Callable<Any> { override fun call() = constructor.call(1, 2).x }\n" +
+            "}\n" +
+            "\n" +
+            "fun javaConstructor(): Callable<Any> {\n" +
+            "    val constructor = javaClass<Point>().getConstructors().single()\n" +
+            "    return object : Callable<Any> { override fun call() = (constructor.newInstance(1, 2) as Point).x }\n" +
+            "}\n" +
+            "\n" +
+            "fun directConstructor(): Callable<Any> {\n" +
+            "    return object : Callable<Any> { override fun call() = Point(1, 2).x }\n" +
+            "}\n" +
+            "\n" +
+            "fun kotlinMethod(): Callable<Any> {\n" +
+            "    val function = Point::class.declaredFunctions.single { it.name == \"sum\" }\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = function.call(point) }\n" +
+            "}\n" +
+            "\n" +
+            "fun javaMethod(): Callable<Any> {\n" +
+            "    val method = javaClass<Point>().getMethod(\"sum\")\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = method.invoke(point) }\n" +
+            "}\n" +
+            "\n" +
+            "fun directMethod(): Callable<Any> {\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = point.sum() }\n" +
+            "}\n" +
+            "\n" +
+            "fun kotlinProperty(): Callable<Any> {\n" +
+            "    val property = Point::class.memberProperties.single { it.name == \"x\" }\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = property.get(point) }\n" +
+            "}\n" +
+            "\n" +
+            "fun javaGetter(): Callable<Any> {\n" +
+            "    val getter = javaClass<Point>().getMethod(\"getX\")\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = getter.invoke(point) }\n" +
+            "}\n" +
+            "\n" +
+            "fun directProperty(): Callable<Any> {\n" +
+            "    val point = Point(1, 2)\n" +
+            "    return object : Callable<Any> { override fun call() = point.x }\n" +
+            "}\n";
+
+    public static void main(String[] args) throws Exception {
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            KotlinCoreEnvironment environment = JetTestUtils.createEnvironmentWithMockJdkAndIdeaAnnotations(disposable, ConfigurationKind.ALL);
+            JetFile file = JetTestUtils.createFile("benchmark.kt", SOURCE, environment.getProject());
+            Class<?> packageClass = compile(file);
+
+            for (String[] benchmark : BENCHMARKS) {
+                Callable<?> kotlin = (Callable<?>) packageClass.getMethod(benchmark[0]).invoke(null);
+                Callable<?> java = (Callable<?>) packageClass.getMethod(benchmark[1]).invoke(null);
+                Callable<?> direct = (Callable<?>) packageClass.getMethod(benchmark[2]).invoke(null);
+                if (!kotlin.call().equals(direct.call()) || !java.call().equals(direct.call())) {
+                    throw new AssertionError("Results of " + Arrays.toString(benchmark) + " differ");
+                }
+
+                System.out.printf("%-18s %s, %-16s %s, %-17s %s%n",
+                                  benchmark[0], BenchmarkRunner.measure(kotlin),
+                                  benchmark[1], BenchmarkRunner.measure(java),
+                                  benchmark[2], BenchmarkRunner.measure(direct));
+            }
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+
+    @NotNull
+    private static Class<?> compile(@NotNull JetFile file) throws ClassNotFoundException {
+        GenerationState state = GenerationUtils.compileFileGetGenerationStateForTest(file);
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(state.getFactory(), ForTestCompileRuntime.runtimeJarClassLoader());
+        return classLoader.loadClass("benchmark.BenchmarkPackage");
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.codegen.optimization.common.OptimizationBasicInterpreter
+import org.jetbrains.kotlin.codegen.optimization.common.SparseMethodFrames
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import org.jetbrains.org.objectweb.asm.tree.analysis.Analyzer
+import org.jetbrains.org.objectweb.asm.tree.analysis.BasicValue
+
+public class SparseMethodFramesTest : TestCase() {
+    public fun testSameFramesAsAnalyzer() {
+        val method = createMethod()
+        val expected = Analyzer<BasicValue>(OptimizationBasicInterpreter()).analyze("A", method)
+        val actual = SparseMethodFrames.analyze("A", method, OptimizationBasicInterpreter())
+
+        fun check(index: Int) {
+            assertEquals("Frame at $index", expected[index]?.toString(), actual[index]?.toString())
+        }
+
+        // sequential access, then backwards within blocks
+        for (i in expected.indices) check(i)
+        for (i in expected.indices.reversed()) check(i)
+    }
+
+    // static String f(int n) { Object o = null; try { while (n > 0) { o = Integer.valueOf(n); n--; } } catch (Exception e) { o = e; } return o.toString(); dead code }
+    private fun createMethod(): MethodNode {
+        val method = MethodNode(Opcodes.ACC_STATIC, "f", "(I)Ljava/lang/String;", null, null)
+        val tryStart = Label()
+        val tryEnd = Label()
+        val handler = Label()
+        val loop = Label()
+        val after = Label()
+        val ret = Label()
+        with (method) {
+            visitCode()
+            visitTryCatchBlock(tryStart, tryEnd, handler, "java/lang/Exception")
+            visitInsn(Opcodes.ACONST_NULL)
+            visitVarInsn(Opcodes.ASTORE, 1)
+            visitLabel(tryStart)
+            visitLabel(loop)
+            visitVarInsn(Opcodes.ILOAD, 0)
+            visitJumpInsn(Opcodes.IFLE, after)
+            visitVarInsn(Opcodes.ILOAD, 0)
+            visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false)
+            visitVarInsn(Opcodes.ASTORE, 1)
+            visitIincInsn(0, -1)
+            visitJumpInsn(Opcodes.GOTO, loop)
+            visitLabel(after)
+            visitLabel(tryEnd)
+            visitJumpInsn(Opcodes.GOTO, ret)
+            visitLabel(handler)
+            visitVarInsn(Opcodes.ASTORE, 2)
+            visitVarInsn(Opcodes.ALOAD, 2)
+            visitVarInsn(Opcodes.ASTORE, 1)
+            visitLabel(ret)
+            visitVarInsn(Opcodes.ALOAD, 1)
+            visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/Object", "toString", "()Ljava/lang/String;", false)
+            visitInsn(Opcodes.ARETURN)
+            visitInsn(Opcodes.ACONST_NULL)
+            visitInsn(Opcodes.ARETURN)
+            visitMaxs(2, 3)
+            visitEnd()
+        }
+        return method
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.generated;
+
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer;
+
+// Bytecode optimizations use frames kept only at the beginning of basic blocks, which are otherwise used only for huge methods
+public abstract class AbstractBlackBoxCodegenWithSparseFramesTest extends AbstractBlackBoxCodegenTest {
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        MethodTransformer.setDenseFramesMemoryLimitMb(0);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        MethodTransformer.resetDenseFramesMemoryLimit();
+        super.tearDown();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.jvm.compiler;
+
+import com.intellij.openapi.vfs.StandardFileSystems;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.codegen.forTestCompile.ForTestCompileRuntime;
+import org.jetbrains.kotlin.load.kotlin.KotlinBinaryClassCache;
+import org.jetbrains.kotlin.load.kotlin.KotlinJvmBinaryClass;
+import org.jetbrains.kotlin.load.kotlin.LibraryClassHeaderCache;
+import org.jetbrains.kotlin.load.kotlin.VirtualFileKotlinClass;
+import org.jetbrains.kotlin.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.kotlin.test.ConfigurationKind;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.io.File;
+import java.util.Arrays;
+
+public class LibraryClassHeaderCacheTest extends KotlinTestWithEnvironment {
+    private static final Function1<VirtualFile, VirtualFileKotlinClass> SHOULD_NOT_LOAD = new Function1<VirtualFile, VirtualFileKotlinClass>() {
+        @Override
+        public VirtualFileKotlinClass invoke(VirtualFile file) {
+            throw new AssertionError("Class should be taken from the cache: " + file);
+        }
+    };
+
+    private static final Function1<VirtualFile, VirtualFileKotlinClass> FAIL_TO_READ = new Function1<VirtualFile, VirtualFileKotlinClass>() {
+        @Override
+        public VirtualFileKotlinClass invoke(VirtualFile file) {
+            throw new IllegalStateException("Could not read " + file);
+        }
+    };
+
+    private static final Function1<VirtualFile, VirtualFileKotlinClass> READ = new Function1<VirtualFile, VirtualFileKotlinClass>() {
+        @Override
+        public VirtualFileKotlinClass invoke(VirtualFile file) {
+            return VirtualFileKotlinClass.Factory.read(file);
+        }
+    };
+
+    @Override
+    protected KotlinCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    public void testHeadersAreReusedByAnotherCache() throws Exception {
+        File cacheDirectory = JetTestUtils.tmpDirForTest(this);
+        VirtualFile kotlinClassFile = findInRuntime("kotlin/Pair.class");
+        VirtualFile javaClassFile = findInRuntime("kotlin/jvm/internal/Intrinsics.class");
+
+        LibraryClassHeaderCache cache = new LibraryClassHeaderCache(cacheDirectory);
+        KotlinBinaryClassCache.setLibraryCache(cache);
+        KotlinJvmBinaryClass kotlinClass;
+        try {
+            kotlinClass = KotlinBinaryClassCache.getKotlinBinaryClass(kotlinClassFile);
+            assertNotNull(kotlinClass);
+            assertNull(KotlinBinaryClassCache.getKotlinBinaryClass(javaClassFile));
+        }
+        finally {
+            KotlinBinaryClassCache.setLibraryCache(null);
+        }
+        cache.save();
+
+        LibraryClassHeaderCache reloaded = new LibraryClassHeaderCache(cacheDirectory);
+        VirtualFileKotlinClass cachedClass = reloaded.getKotlinClass(kotlinClassFile, SHOULD_NOT_LOAD);
+        assertNotNull(cachedClass);
+        assertEquals(kotlinClass.getClassId(), cachedClass.getClassId());
+        assertEquals(kotlinClass.getClassHeader().getKind(), cachedClass.getClassHeader().getKind());
+        assertEquals(kotlinClass.getClassHeader().getClassKind(), cachedClass.getClassHeader().getClassKind());
+        assertTrue(Arrays.equals(kotlinClass.getClassHeader().getAnnotationData(), cachedClass.getClassHeader().getAnnotationData()));
+
+        assertNull(reloaded.getKotlinClass(javaClassFile, SHOULD_NOT_LOAD));
+    }
+
+    public void testFailedReadIsNotCached() throws Exception {
+        File cacheDirectory = JetTestUtils.tmpDirForTest(this);
+        VirtualFile kotlinClassFile = findInRuntime("kotlin/Pair.class");
+
+        LibraryClassHeaderCache cache = new LibraryClassHeaderCache(cacheDirectory);
+        assertNull(cache.getKotlinClass(kotlinClassFile, FAIL_TO_READ));
+        assertNotNull(cache.getKotlinClass(kotlinClassFile, READ));
+        cache.save();
+
+        LibraryClassHeaderCache reloaded = new LibraryClassHeaderCache(cacheDirectory);
+        assertNotNull(reloaded.getKotlinClass(kotlinClassFile, SHOULD_NOT_LOAD));
+    }
+
+    private static VirtualFile findInRuntime(String path) {
+        File runtime = ForTestCompileRuntime.runtimeJarForTests();
+        VirtualFile file = VirtualFileManager.getInstance().getFileSystem(StandardFileSystems.JAR_PROTOCOL)
+                .findFileByPath(runtime.getPath() + StandardFileSystems.JAR_SEPARATOR + path);
+        assertNotNull("Not found in runtime: " + path, file);
+        return file;
+    }
+}
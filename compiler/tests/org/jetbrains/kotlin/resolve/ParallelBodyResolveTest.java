@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve;
+
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.cli.jvm.compiler.CliLightClassGenerationSupport;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.diagnostics.Diagnostic;
+import org.jetbrains.kotlin.diagnostics.DiagnosticUtils;
+import org.jetbrains.kotlin.diagnostics.rendering.DefaultErrorMessages;
+import org.jetbrains.kotlin.psi.JetExpression;
+import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.psi.JetTreeVisitorVoid;
+import org.jetbrains.kotlin.resolve.jvm.TopDownAnalyzerFacadeForJVM;
+import org.jetbrains.kotlin.test.JetTestUtils;
+import org.jetbrains.kotlin.types.JetType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class ParallelBodyResolveTest extends UsefulTestCase {
+    private static final int FILES = 20;
+
+    private KotlinCoreEnvironment environment;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        environment = JetTestUtils.createEnvironmentWithMockJdkAndIdeaAnnotations(myTestRootDisposable);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        environment = null;
+        super.tearDown();
+    }
+
+    public void testSameResultAsSequential() {
+        String sequential = analyze(1, true);
+        String parallel = analyze(4, true);
+
+        // One error in the inferred body and one in the caller per file
+        assertEquals(sequential, 2 * FILES, sequential.split("TYPE_MISMATCH", -1).length - 1);
+        assertEquals(sequential, parallel);
+    }
+
+    // Diagnostics of inferred return types are reported before those of bodies, but always in the same order
+    public void testDiagnosticsOrderIsDeterministic() {
+        String first = analyze(4, false);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first, analyze(4, false));
+        }
+    }
+
+    @NotNull
+    private String analyze(int bodyResolveThreads, boolean sortDiagnostics) {
+        List<JetFile> files = new ArrayList<JetFile>();
+        for (int i = 0; i < FILES; i++) {
+            files.add(createFile(i));
+        }
+
+        BindingTrace trace = new CliLightClassGenerationSupport.CliBindingTrace();
+        TopDownAnalyzerFacadeForJVM.analyzeFilesWithJavaIntegrationWithCustomContext(
+                TopDownAnalyzerFacadeForJVM.createContextWithSealedModule(environment.getProject(), bodyResolveThreads > 1),
+                files, trace, null, null, bodyResolveThreads
+        );
+        final BindingContext bindingContext = trace.getBindingContext();
+
+        final StringBuilder result = new StringBuilder();
+        Collection<Diagnostic> diagnostics = bindingContext.getDiagnostics().all();
+        for (Diagnostic diagnostic : sortDiagnostics ? DiagnosticUtils.sortedDiagnostics(diagnostics) : diagnostics) {
+            result.append(diagnostic.getPsiFile().getName()).append(" ").append(diagnostic.getTextRanges()).append(" ")
+                    .append(diagnostic.getFactory().getName()).append(": ").append(DefaultErrorMessages.render(diagnostic)).append("\n");
+        }
+        for (JetFile file : files) {
+            file.accept(new JetTreeVisitorVoid() {
+                @Override
+                public void visitExpression(@NotNull JetExpression expression) {
+                    JetType type = bindingContext.getType(expression);
+                    if (type != null) {
+                        result.append(expression.getText()).append(": ").append(type).append("\n");
+                    }
+                    super.visitExpression(expression);
+                }
+            });
+        }
+        return result.toString();
+    }
+
+    // Every file calls functions with inferred return types from the previous one, and reports errors in the body of such a function
+    // and in a body of a function with a declared return type
+    @NotNull
+    private JetFile createFile(int i) {
+        String previous = i > 0 ? "p" + (i - 1) + "." : "";
+        String text = "package p" + i + "\n" +
+                      "\n" +
+                      "class C" + i + "(val x: Any?) {\n" +
+                      "    fun length() = if (x is String) x.length() else " + i + "\n" +
+                      "}\n" +
+                      "\n" +
+                      "fun inferred(s: String) = { val unused: Int = s; C" + i + "(s).length() + " + i + " }()\n" +
+                      "\n" +
+                      "fun caller(): Int {\n" +
+                      (i > 0
+                       ? "    val previous = " + previous + "inferred(\"a\") + " + previous + "caller()\n"
+                       : "    val previous = 0\n") +
+                      "    val wrong: String = previous\n" +
+                      "    return previous + wrong.length()\n" +
+                      "}\n";
+        return JetTestUtils.createFile("file" + i + ".kt", text, environment.getProject());
+    }
+}
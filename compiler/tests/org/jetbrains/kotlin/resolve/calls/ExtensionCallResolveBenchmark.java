@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve.calls;
+
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Measures resolve of calls to extension functions overloaded for many unrelated receiver types, as stdlib does
+ * for 'map', 'filter' and the like, together with calls of such stdlib functions on collections.
+ *
+ * Usage: ExtensionCallResolveBenchmark [max number of overloads]
+ */
+public class ExtensionCallResolveBenchmark {
+    public static void main(String[] args) throws Exception {
+        ResolveBenchmark.run(args, 320, "overloads", new Function1<Integer, String>() {
+            @Override
+            public String invoke(Integer overloads) {
+                return generateSource(overloads);
+            }
+        });
+    }
+
+    @NotNull
+    private static String generateSource(int overloads) {
+        StringBuilder source = new StringBuilder("package benchmark\n\n");
+
+        for (int i = 0; i < overloads; i++) {
+            source.append("class C").append(i).append("(val value: Int)\n");
+            source.append("fun C").append(i).append(".transform(f: (Int) -> Int): Int = f(value)\n");
+            source.append("fun Array<C").append(i).append(">.transform(f: (Int) -> Int): List<Int> = map { f(it.value) }\n\n");
+        }
+
+        source.append("fun calls(): Int {\n");
+        source.append("    var result = 0\n");
+        for (int i = 0; i < overloads; i++) {
+            source.append("    result += C").append(i).append("(").append(i).append(").transform { it + 1 }\n");
+            source.append("    result += arrayOf(C").append(i).append("(").append(i).append(")).transform { it * 2 }")
+                    .append(".filter { it > 0 }.map { it + 1 }.size()\n");
+        }
+        source.append("    return result\n}\n");
+
+        return source.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve.calls;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.analyzer.AnalysisResult;
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment;
+import org.jetbrains.kotlin.resolve.lazy.JvmResolveUtil;
+import org.jetbrains.kotlin.test.BenchmarkRunner;
+import org.jetbrains.kotlin.test.ConfigurationKind;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs a resolve benchmark: analyzes sources produced by the given generator for sizes 10, 20, 40... up to the maximum size
+ * passed as the first command line argument (or the default one) and prints the time taken for each of them.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+final class ResolveBenchmark {
+    private ResolveBenchmark() {
+    }
+
+    static void run(
+            @NotNull String[] args,
+            int defaultMaxSize,
+            @NotNull String sizeName,
+            @NotNull Function1<Integer, String> sourceGenerator
+    ) throws Exception {
+        int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : defaultMaxSize;
+
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            final KotlinCoreEnvironment environment = JetTestUtils.createEnvironmentWithMockJdkAndIdeaAnnotations(disposable, ConfigurationKind.ALL);
+
+            for (int size = 10; size <= maxSize; size *= 2) {
+                final String source = sourceGenerator.invoke(size);
+                BenchmarkRunner.Result result = BenchmarkRunner.measure(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        return analyze(environment, source);
+                    }
+                });
+                System.out.printf("%4d %s: %s%n", size, sizeName, result);
+            }
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+
+    @NotNull
+    private static AnalysisResult analyze(@NotNull KotlinCoreEnvironment environment, @NotNull String source) {
+        return JvmResolveUtil.analyzeOneFileWithJavaIntegrationAndCheckForErrors(
+                JetTestUtils.createFile("benchmark.kt", source, environment.getProject()));
+    }
+}
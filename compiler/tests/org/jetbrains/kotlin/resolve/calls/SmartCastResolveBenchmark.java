@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve.calls;
+
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Measures resolve of functions where data flow info grows with each statement: a chain of early returns
+ * on failed 'is' checks, nested 'if's with 'is' checks and a 'when' over null checks, each of them using
+ * all the smart casts made so far.
+ *
+ * Usage: SmartCastResolveBenchmark [max number of checked parameters]
+ */
+public class SmartCastResolveBenchmark {
+    public static void main(String[] args) throws Exception {
+        ResolveBenchmark.run(args, 160, "parameters", new Function1<Integer, String>() {
+            @Override
+            public String invoke(Integer parameters) {
+                return generateSource(parameters);
+            }
+        });
+    }
+
+    @NotNull
+    private static String generateSource(int parameters) {
+        StringBuilder parameterList = new StringBuilder();
+        for (int i = 0; i < parameters; i++) {
+            if (i > 0) parameterList.append(", ");
+            parameterList.append("p").append(i).append(": Any?");
+        }
+
+        StringBuilder source = new StringBuilder("package benchmark\n\n");
+
+        source.append("fun chain(").append(parameterList).append("): Int {\n");
+        source.append("    var result = 0\n");
+        for (int i = 0; i < parameters; i++) {
+            source.append("    if (p").append(i).append(" !is String) return result\n");
+            source.append("    result += p").append(i).append(".length + p").append(i / 2).append(".length\n");
+        }
+        source.append("    return result\n}\n\n");
+
+        source.append("fun nested(").append(parameterList).append("): Int {\n");
+        for (int i = 0; i < parameters; i++) {
+            indent(source, i + 1).append("if (p").append(i).append(" is String && p").append(i / 2).append(".length > 0) {\n");
+        }
+        indent(source, parameters + 1).append("return p0.length + p").append(parameters - 1).append(".length\n");
+        for (int i = parameters - 1; i >= 0; i--) {
+            indent(source, i + 1).append("}\n");
+        }
+        source.append("    return 0\n}\n\n");
+
+        source.append("fun nullChecks(").append(parameterList.toString().replace("Any?", "String?")).append("): Int {\n");
+        source.append("    var result = 0\n");
+        for (int i = 0; i < parameters; i++) {
+            source.append("    when {\n");
+            source.append("        p").append(i).append(" == null -> return result\n");
+            source.append("        p").append(i).append(".isEmpty() -> result += p").append(i / 2).append(".length\n");
+            source.append("        else -> result -= p").append(i).append(".length\n");
+            source.append("    }\n");
+        }
+        source.append("    return result\n}\n");
+
+        return source.toString();
+    }
+
+    @NotNull
+    private static StringBuilder indent(@NotNull StringBuilder builder, int level) {
+        for (int i = 0; i < level; i++) {
+            builder.append("    ");
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import kotlin.jvm.functions.Function0;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.kotlin.resolve.BindingTrace;
+import org.jetbrains.kotlin.resolve.BindingTraceContext;
+import org.jetbrains.kotlin.util.slicedMap.Slices;
+import org.jetbrains.kotlin.util.slicedMap.WritableSlice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentStorageManagerTest extends StorageManagerTest {
+    private static final int THREADS = 8;
+
+    private ExecutorService executor;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        m = new ConcurrentStorageManager();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testFunctionComputesOnceUnderContention() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final MemoizedFunctionToNotNull<Integer, String> f = m.createMemoizedFunction(new Function1<Integer, String>() {
+            @Override
+            public String invoke(Integer i) {
+                counter.incrementAndGet();
+                return "value" + i;
+            }
+        });
+
+        List<Future<List<String>>> results = new ArrayList<Future<List<String>>>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(new Callable<List<String>>() {
+                @Override
+                public List<String> call() throws Exception {
+                    List<String> values = new ArrayList<String>();
+                    for (int i = 0; i < 1000; i++) {
+                        values.add(f.invoke(i));
+                    }
+                    return values;
+                }
+            }));
+        }
+
+        List<String> first = results.get(0).get();
+        for (Future<List<String>> result : results) {
+            List<String> values = result.get();
+            for (int i = 0; i < values.size(); i++) {
+                assertSame(first.get(i), values.get(i));
+            }
+        }
+        assertEquals(1000, counter.get());
+    }
+
+    public void testLazyValueComputesOnceUnderContention() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final NotNullLazyValue<Object> value = m.createLazyValue(new Function0<Object>() {
+            @Override
+            public Object invoke() {
+                counter.incrementAndGet();
+                started.countDown();
+                return new Object();
+            }
+        });
+
+        List<Future<Object>> results = new ArrayList<Future<Object>>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    return value.invoke();
+                }
+            }));
+        }
+
+        started.await();
+        for (Future<Object> result : results) {
+            assertSame(value.invoke(), result.get());
+        }
+        assertEquals(1, counter.get());
+    }
+
+    public void testCycleBetweenThreadsIsRecursion() throws Exception {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        class C {
+            NotNullLazyValue<String> a = m.createRecursionTolerantLazyValue(new Function0<String>() {
+                @Override
+                public String invoke() {
+                    awaitOther();
+                    return "a" + b.invoke();
+                }
+            }, "recA");
+
+            NotNullLazyValue<String> b = m.createRecursionTolerantLazyValue(new Function0<String>() {
+                @Override
+                public String invoke() {
+                    awaitOther();
+                    return "b" + a.invoke();
+                }
+            }, "recB");
+
+            private void awaitOther() {
+                bothStarted.countDown();
+                try {
+                    bothStarted.await();
+                }
+                catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        final C c = new C();
+        Future<String> a = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return c.a.invoke();
+            }
+        });
+        Future<String> b = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return c.b.invoke();
+            }
+        });
+
+        // Exactly one of the threads sees the recursion, the other one waits for the first one and then uses its value
+        String resultA = a.get(10, TimeUnit.SECONDS);
+        String resultB = b.get(10, TimeUnit.SECONDS);
+        assertTrue(resultA + " " + resultB,
+                   (resultA.equals("abrecA") && resultB.equals("brecA")) || (resultA.equals("arecB") && resultB.equals("barecB")));
+    }
+
+    // One thread waits under the compute lock for a value, which is being computed by another thread that needs the compute lock
+    public void testValueAwaitedUnderComputeLockIsRecursion() throws Exception {
+        final CountDownLatch valueStarted = new CountDownLatch(1);
+        final CountDownLatch lockTaken = new CountDownLatch(1);
+        final NotNullLazyValue<String> value = m.createRecursionTolerantLazyValue(new Function0<String>() {
+            @Override
+            public String invoke() {
+                valueStarted.countDown();
+                await(lockTaken);
+                return m.compute(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        return "value";
+                    }
+                });
+            }
+        }, "recursion");
+
+        Future<String> computing = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return value.invoke();
+            }
+        });
+        Future<String> waiting = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                await(valueStarted);
+                return m.compute(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        lockTaken.countDown();
+                        return "under lock: " + value.invoke();
+                    }
+                });
+            }
+        });
+
+        assertEquals("value", computing.get(10, TimeUnit.SECONDS));
+        assertEquals("under lock: recursion", waiting.get(10, TimeUnit.SECONDS));
+    }
+
+    // Two threads change a trace under the compute lock, and each of them needs a value being computed by the other one meanwhile
+    public void testComputeBlockIsAtomicWhileWaitingForValue() throws Exception {
+        final BindingTrace trace = new BindingTraceContext();
+        final WritableSlice<String, String> slice = Slices.createSimpleSlice();
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        class C {
+            NotNullLazyValue<String> a = m.createRecursionTolerantLazyValue(new Function0<String>() {
+                @Override
+                public String invoke() {
+                    return changeTrace("a", b);
+                }
+            }, "recA");
+
+            NotNullLazyValue<String> b = m.createRecursionTolerantLazyValue(new Function0<String>() {
+                @Override
+                public String invoke() {
+                    return changeTrace("b", a);
+                }
+            }, "recB");
+
+            private String changeTrace(final String name, final NotNullLazyValue<String> other) {
+                bothStarted.countDown();
+                await(bothStarted);
+                return m.compute(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        trace.record(slice, "owner", name);
+                        String otherValue = other.invoke();
+                        assertEquals(name, trace.get(slice, "owner"));
+                        trace.record(slice, name, name + otherValue);
+                        return name + otherValue;
+                    }
+                });
+            }
+        }
+
+        final C c = new C();
+        Future<String> a = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return c.a.invoke();
+            }
+        });
+        Future<String> b = executor.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return c.b.invoke();
+            }
+        });
+
+        // The thread which takes the compute lock first sees the recursion, the other one uses its value afterwards
+        String resultA = a.get(10, TimeUnit.SECONDS);
+        String resultB = b.get(10, TimeUnit.SECONDS);
+        assertTrue(resultA + " " + resultB,
+                   (resultA.equals("arecB") && resultB.equals("barecB")) || (resultA.equals("abrecA") && resultB.equals("brecA")));
+        assertEquals(resultA, trace.get(slice, "a"));
+        assertEquals(resultB, trace.get(slice, "b"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import kotlin.jvm.functions.Function0;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Resolves a synthetic multi-module "project" from several threads with different storage managers.
+ *
+ * Every class has lazily computed supertypes (classes of the dependency modules) and a memoized member scope which is built
+ * from the members of its supertypes, which mimics the shape of lazy resolve: a lot of small dependent computations.
+ *
+ * Usage: StorageManagerContentionBenchmark [modules [classesPerModule [maxThreads]]]
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class StorageManagerContentionBenchmark {
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int modules = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int classesPerModule = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long lockBased = run(new Function0<StorageManager>() {
+                @Override
+                public StorageManager invoke() {
+                    return new LockBasedStorageManager();
+                }
+            }, modules, classesPerModule, threads);
+
+            long concurrent = run(new Function0<StorageManager>() {
+                @Override
+                public StorageManager invoke() {
+                    return new ConcurrentStorageManager();
+                }
+            }, modules, classesPerModule, threads);
+
+            System.out.println(threads + " thread(s): LockBasedStorageManager " + lockBased + " ms, " +
+                               "ConcurrentStorageManager " + concurrent + " ms");
+        }
+    }
+
+    private static long run(
+            @NotNull Function0<StorageManager> createStorageManager,
+            int modules,
+            int classesPerModule,
+            int threads
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < ITERATIONS; i++) {
+                Project project = new Project(createStorageManager.invoke(), modules, classesPerModule);
+
+                long start = System.nanoTime();
+                List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(project.resolveAll(t * modules / threads)));
+                }
+                int checksum = results.get(0).get();
+                for (Future<Integer> result : results) {
+                    if (result.get() != checksum) throw new AssertionError("Threads have seen different results");
+                }
+                best = Math.min(best, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return best;
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class Project {
+        private final int modules;
+        private final int classesPerModule;
+        private final MemoizedFunctionToNotNull<Integer, NotNullLazyValue<List<Integer>>> supertypes;
+        private final MemoizedFunctionToNotNull<Integer, List<String>> members;
+
+        public Project(@NotNull final StorageManager storageManager, int modules, final int classesPerModule) {
+            this.modules = modules;
+            this.classesPerModule = classesPerModule;
+
+            supertypes = storageManager.createMemoizedFunction(new Function1<Integer, NotNullLazyValue<List<Integer>>>() {
+                @Override
+                public NotNullLazyValue<List<Integer>> invoke(final Integer classId) {
+                    return storageManager.createLazyValue(new Function0<List<Integer>>() {
+                        @Override
+                        public List<Integer> invoke() {
+                            // Every module depends on the previous two ones
+                            List<Integer> result = new ArrayList<Integer>();
+                            int module = classId / classesPerModule;
+                            for (int dependency = Math.max(0, module - 2); dependency < module; dependency++) {
+                                result.add(dependency * classesPerModule + (classId * 31 + dependency) % classesPerModule);
+                            }
+                            return result;
+                        }
+                    });
+                }
+            });
+
+            members = storageManager.createMemoizedFunction(new Function1<Integer, List<String>>() {
+                @Override
+                public List<String> invoke(Integer classId) {
+                    List<String> result = new ArrayList<String>();
+                    for (Integer supertype : supertypes.invoke(classId).invoke()) {
+                        List<String> inherited = members.invoke(supertype);
+                        result.addAll(inherited.subList(0, Math.min(inherited.size(), 8)));
+                    }
+                    for (int i = 0; i < 8; i++) {
+                        result.add(("member" + i + "of" + classId).intern());
+                    }
+                    return result;
+                }
+            });
+        }
+
+        @NotNull
+        public Callable<Integer> resolveAll(final int startModule) {
+            return new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    int checksum = 0;
+                    for (int m = 0; m < modules; m++) {
+                        int module = (startModule + m) % modules;
+                        for (int c = 0; c < classesPerModule; c++) {
+                            checksum += members.invoke(module * classesPerModule + c).hashCode();
+                        }
+                    }
+                    return checksum;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.test;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of an operation for main()-based benchmarks, since JMH is not available in this build.
+ *
+ * The operation is first run for a fixed warmup time. It is then called in batches of a size which takes at least a millisecond, so
+ * that System.nanoTime() is not called per operation, during several rounds of a fixed time. The mean time per operation and the standard
+ * deviation between rounds are reported. Results of the operation are consumed, so that the JIT can't remove the computation.
+ *
+ * The operation is called through Callable. For code compiled by a benchmark, it should return a Callable implemented in that code
+ * which calls the measured function directly: a call through reflection would be measured together with the function.
+ */
+public class BenchmarkRunner {
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final long ROUND_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int ROUNDS = 10;
+    private static final long MIN_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public static class Result {
+        public final double meanNanos;
+        public final double deviationNanos;
+
+        private Result(double meanNanos, double deviationNanos) {
+            this.meanNanos = meanNanos;
+            this.deviationNanos = deviationNanos;
+        }
+
+        @Override
+        public String toString() {
+            if (meanNanos >= 1000000) {
+                return String.format(Locale.US, "%8.1f +- %5.1f ms/op", meanNanos / 1000000, deviationNanos / 1000000);
+            }
+            return String.format(Locale.US, "%8.1f +- %5.1f ns/op", meanNanos, deviationNanos);
+        }
+    }
+
+    // Results of operations are accumulated here, so that the JIT can't find out they are unused
+    @SuppressWarnings("UnusedDeclaration")
+    private static volatile int sink;
+
+    private BenchmarkRunner() {
+    }
+
+    @NotNull
+    public static Result measure(@NotNull Callable<?> operation) throws Exception {
+        runFor(operation, 1, WARMUP_NANOS);
+
+        int batch = 1;
+        while (true) {
+            long start = System.nanoTime();
+            runBatch(operation, batch);
+            if (System.nanoTime() - start >= MIN_BATCH_NANOS) break;
+            batch *= 2;
+        }
+
+        double[] rounds = new double[ROUNDS];
+        double sum = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            rounds[i] = runFor(operation, batch, ROUND_NANOS);
+            sum += rounds[i];
+        }
+        double mean = sum / ROUNDS;
+
+        double squares = 0;
+        for (double round : rounds) {
+            squares += (round - mean) * (round - mean);
+        }
+        return new Result(mean, Math.sqrt(squares / (ROUNDS - 1)));
+    }
+
+    // Returns the time of one operation in nanoseconds
+    private static double runFor(@NotNull Callable<?> operation, int batch, long nanos) throws Exception {
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            runBatch(operation, batch);
+            operations += batch;
+            elapsed = System.nanoTime() - start;
+        }
+        while (elapsed < nanos);
+        return (double) elapsed / operations;
+    }
+
+    private static void runBatch(@NotNull Callable<?> operation, int batch) throws Exception {
+        int hash = 0;
+        for (int i = 0; i < batch; i++) {
+            Object result = operation.call();
+            hash += result == null ? 0 : result.hashCode();
+        }
+        sink += hash;
+    }
+}
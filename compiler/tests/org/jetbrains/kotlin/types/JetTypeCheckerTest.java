@@ -45,6 +45,7 @@ import org.jetbrains.kotlin.test.JetTestUtils;
 import org.jetbrains.kotlin.tests.di.ContainerForTests;
 import org.jetbrains.kotlin.tests.di.DiPackage;
 import org.jetbrains.kotlin.types.checker.JetTypeChecker;
+import org.jetbrains.kotlin.types.checker.SubtypingCache;
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingServices;
 
 import java.io.File;
@@ -263,6 +264,25 @@ public class JetTypeCheckerTest extends JetLiteFixture {
         assertNotSubtype("Unit", "Int");
     }
 
+    public void testSubtypingCache() throws Exception {
+        SubtypingCache cache = SubtypingCache.start();
+        try {
+            for (int i = 0; i < 2; i++) {
+                assertSubtype("Base_T<Int>", "Base_T<Int>");
+                assertNotSubtype("Base_T<Int>", "Base_T<Any>");
+                assertSubtype("Derived_T<Int>", "Base_T<out Any>");
+                assertSubtype("Base_outT<Int>", "Base_outT<Any?>");
+                assertNotSubtype("Base_outT<Int?>", "Base_outT<Any>");
+            }
+            // Types are created anew for each check, the second round reuses results of the first one
+            assertTrue(cache.toString(), cache.getHits() >= 5);
+        }
+        finally {
+            cache.finish();
+        }
+        assertNull(SubtypingCache.getCurrent());
+    }
+
     public void testProjections() throws Exception {
         assertSubtype("Base_T<Int>", "Base_T<Int>");
         assertNotSubtype("Base_T<Int>", "Base_T<Any>");
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util;
+
+import junit.framework.TestCase;
+import org.jetbrains.kotlin.utils.PersistentHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class PersistentHashMapTest extends TestCase {
+    private static final class CollidingKey {
+        private final int id;
+
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+
+    public void testPlusDoesNotChangeOriginal() {
+        PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        PersistentHashMap<String, Integer> one = empty.plus("a", 1);
+        PersistentHashMap<String, Integer> two = one.plus("b", 2);
+
+        assertTrue(empty.isEmpty());
+        assertEquals(1, one.size());
+        assertNull(one.get("b"));
+        assertEquals(2, two.size());
+        assertEquals(Integer.valueOf(1), two.get("a"));
+        assertEquals(Integer.valueOf(2), two.get("b"));
+    }
+
+    public void testUnchangedMapIsReturned() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+
+        assertSame(map, map.plus("a", 1));
+        assertSame(map, map.minus("b"));
+        assertNotSame(map, map.plus("a", 2));
+        assertSame(PersistentHashMap.empty(), map.minus("a"));
+    }
+
+    public void testRandomOperationsAgainstHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // Large keys spread over all levels of the trie, small ones make it dense
+            int key = i % 2 == 0 ? random.nextInt() : random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            }
+            else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    public void testCollidingKeys() {
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 30; i++) {
+            map = map.plus(new CollidingKey(i), i);
+        }
+        assertEquals(30, map.size());
+
+        for (int i = 0; i < 30; i += 2) {
+            map = map.minus(new CollidingKey(i));
+        }
+        assertEquals(15, map.size());
+        for (int i = 0; i < 30; i++) {
+            assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util;
+
+import junit.framework.TestCase;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+public class PhaseProfilerTest extends TestCase {
+    private final PhaseProfiler profiler = PhaseProfiler.INSTANCE$;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        profiler.setEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        profiler.setEnabled(false);
+        super.tearDown();
+    }
+
+    public void testNestedPhases() throws Exception {
+        profiler.start("outer", null);
+        for (int i = 0; i < 3; i++) {
+            profiler.start("inner", null);
+            Thread.sleep(5);
+            profiler.finish();
+        }
+        profiler.finish();
+
+        String[] lines = csv().split("\n");
+        assertEquals("phase,file,count,total ms,self ms,allocated bytes", lines[0]);
+        // Sorted by self time, the outer phase does almost nothing by itself
+        assertTrue(lines[1], lines[1].startsWith("inner,,3,"));
+        assertTrue(lines[2], lines[2].startsWith("outer,,1,"));
+        assertEquals(3, lines.length);
+    }
+
+    public void testUnbalancedFinishIsIgnored() {
+        profiler.finish();
+        assertEquals(1, csv().split("\n").length);
+    }
+
+    public void testDisabledProfilerRecordsNothing() {
+        profiler.setEnabled(false);
+        profiler.start("phase", null);
+        profiler.finish();
+        profiler.setEnabled(true);
+
+        assertFalse(csv().contains("phase,"));
+    }
+
+    public void testChromeTrace() {
+        profiler.start("quoted \"phase\"", null);
+        profiler.finish();
+
+        StringWriter writer = new StringWriter();
+        profiler.writeChromeTrace(new PrintWriter(writer));
+        String trace = writer.toString();
+
+        assertTrue(trace, trace.startsWith("{\"displayTimeUnit\": \"ms\", \"traceEvents\": ["));
+        assertTrue(trace, trace.contains("{\"name\": \"quoted \\\"phase\\\"\", \"cat\": \"compiler\", \"ph\": \"X\""));
+        assertTrue(trace, trace.contains("\"name\": \"thread_name\""));
+    }
+
+    public void testChromeTraceWithoutPhases() {
+        // the current thread has no phases, but it is named in the trace
+        profiler.start("phase", null);
+        profiler.finish();
+        profiler.setEnabled(true);
+
+        String trace = chromeTrace();
+        assertTrue(trace, trace.startsWith("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [\n{\"name\": \"thread_name\""));
+    }
+
+    public void testTerminatedThreadIsForgottenWhenEnabled() throws Exception {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                profiler.start("phase", null);
+                profiler.finish();
+            }
+        }, "terminated profiled thread");
+        thread.start();
+        thread.join();
+
+        assertTrue(chromeTrace().contains("\"terminated profiled thread\""));
+
+        profiler.setEnabled(true);
+        assertFalse(chromeTrace().contains("\"terminated profiled thread\""));
+    }
+
+    private String chromeTrace() {
+        StringWriter writer = new StringWriter();
+        profiler.writeChromeTrace(new PrintWriter(writer));
+        return writer.toString().replace("\r\n", "\n");
+    }
+
+    private String csv() {
+        StringWriter writer = new StringWriter();
+        profiler.writeCsvSummary(new PrintWriter(writer));
+        return writer.toString().replace("\r\n", "\n");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util.slicedMap;
+
+import junit.framework.TestCase;
+import kotlin.jvm.functions.Function3;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SliceMajorSlicedMapTest extends TestCase {
+    private static final WritableSlice<Object, String> NAME = Slices.<Object, String>sliceBuilder().setDebugName("NAME").build();
+    private static final WritableSlice<Object, Integer> INDEX = Slices.<Object, Integer>sliceBuilder().setDebugName("INDEX").build();
+    private static final WritableSlice<String, Integer> NO_REWRITES = new BasicWritableSlice<String, Integer>(new RewritePolicy() {
+        @Override
+        public <K> boolean rewriteProcessingNeeded(K key) {
+            return true;
+        }
+
+        @Override
+        public <K, V> boolean processRewrite(WritableSlice<K, V> slice, K key, V oldValue, V newValue) {
+            return false;
+        }
+    });
+    private static final WritableSlice<String, Boolean> COLLECTIVE = Slices.createCollectiveSetSlice();
+
+    public void testSlicesAreIndependent() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        Object key = new Object();
+
+        map.put(NAME, key, "a");
+        map.put(INDEX, key, 1);
+
+        assertEquals("a", map.get(NAME, key));
+        assertEquals(Integer.valueOf(1), map.get(INDEX, key));
+        assertNull(map.get(NAME, new Object()));
+        assertNull(map.get(NO_REWRITES, "a"));
+    }
+
+    public void testManyKeys() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        for (int i = 0; i < 10000; i++) {
+            map.put(INDEX, "key" + i, i);
+        }
+        map.put(INDEX, "key42", -1);
+
+        for (int i = 0; i < 10000; i++) {
+            // keys are compared by equality, not identity
+            assertEquals(Integer.valueOf(i == 42 ? -1 : i), map.get(INDEX, "key" + i));
+        }
+        assertEquals(10000, map.getSliceContents(INDEX).size());
+    }
+
+    public void testNullKey() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        map.put(NAME, null, "null");
+
+        assertEquals("null", map.get(NAME, null));
+        assertEquals(1, map.getSliceContents(NAME).size());
+    }
+
+    public void testRewritePolicy() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        map.put(NO_REWRITES, "a", 1);
+        map.put(NO_REWRITES, "a", 2);
+
+        assertEquals(Integer.valueOf(1), map.get(NO_REWRITES, "a"));
+    }
+
+    public void testCollectiveSlice() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        map.put(COLLECTIVE, "a", true);
+        map.put(COLLECTIVE, "b", true);
+
+        assertEquals(Arrays.asList("a", "b"), map.getKeys(COLLECTIVE));
+
+        map.clear();
+        assertTrue(map.getKeys(COLLECTIVE).isEmpty());
+        assertFalse(map.get(COLLECTIVE, "a"));
+    }
+
+    public void testForEachVisitsEverything() {
+        SliceMajorSlicedMap map = SliceMajorSlicedMap.create();
+        for (int i = 0; i < 100; i++) {
+            map.put(NAME, i, "name" + i);
+            map.put(INDEX, i, i);
+        }
+
+        final Map<WritableSlice, Map<Object, Object>> visited = new HashMap<WritableSlice, Map<Object, Object>>();
+        map.forEach(new Function3<WritableSlice, Object, Object, Void>() {
+            @Override
+            public Void invoke(WritableSlice slice, Object key, Object value) {
+                Map<Object, Object> sliceContents = visited.get(slice);
+                if (sliceContents == null) {
+                    sliceContents = new HashMap<Object, Object>();
+                    visited.put(slice, sliceContents);
+                }
+                assertNull(sliceContents.put(key, value));
+                return null;
+            }
+        });
+
+        assertEquals(map.getSliceContents(NAME), visited.get(NAME));
+        assertEquals(map.getSliceContents(INDEX), visited.get(INDEX));
+    }
+}
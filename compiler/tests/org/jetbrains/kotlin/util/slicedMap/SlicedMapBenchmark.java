@@ -0,0 +1,140 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util.slicedMap;
+
+import kotlin.jvm.functions.Function0;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares heap footprint and lookup throughput of SlicedMapImpl (which is used by BindingTraceContext by default)
+ * and SliceMajorSlicedMap on a binding-context-like load: every "expression" gets a type info, most of them get a reference target
+ * and a resolved call, some get a few rarely used slices.
+ *
+ * Usage: SlicedMapBenchmark [expressions]
+ */
+@SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToSystemGC"})
+public class SlicedMapBenchmark {
+    private static final int ITERATIONS = 5;
+    private static final int LOOKUP_ROUNDS = 10;
+    private static final int RARE_SLICES = 20;
+
+    private static final WritableSlice<Object, Object> EXPRESSION_TYPE_INFO = Slices.createSimpleSlice();
+    private static final WritableSlice<Object, Object> REFERENCE_TARGET = Slices.createSimpleSlice();
+    private static final WritableSlice<Object, Object> RESOLVED_CALL = Slices.createSimpleSlice();
+    private static final List<WritableSlice<Object, Object>> OTHER_SLICES = new ArrayList<WritableSlice<Object, Object>>();
+
+    static {
+        for (int i = 0; i < RARE_SLICES; i++) {
+            OTHER_SLICES.add(Slices.createSimpleSlice());
+        }
+    }
+
+    public static void main(String[] args) {
+        int expressions = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        List<Object> keys = new ArrayList<Object>(expressions);
+        for (int i = 0; i < expressions; i++) {
+            keys.add(new Object());
+        }
+
+        run("SlicedMapImpl", new Function0<MutableSlicedMap>() {
+            @Override
+            public MutableSlicedMap invoke() {
+                return SlicedMapImpl.create();
+            }
+        }, keys);
+
+        run("SliceMajorSlicedMap", new Function0<MutableSlicedMap>() {
+            @Override
+            public MutableSlicedMap invoke() {
+                return SliceMajorSlicedMap.create();
+            }
+        }, keys);
+    }
+
+    private static void run(@NotNull String name, @NotNull Function0<MutableSlicedMap> createMap, @NotNull List<Object> keys) {
+        long bestFill = Long.MAX_VALUE;
+        long bestLookup = Long.MAX_VALUE;
+        long footprint = 0;
+
+        List<Object> shuffledKeys = new ArrayList<Object>(keys);
+        Collections.shuffle(shuffledKeys, new Random(42));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long before = usedMemory();
+
+            long start = System.nanoTime();
+            MutableSlicedMap map = createMap.invoke();
+            fill(map, keys);
+            bestFill = Math.min(bestFill, System.nanoTime() - start);
+
+            footprint = usedMemory() - before;
+
+            start = System.nanoTime();
+            int found = 0;
+            for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                found += lookup(map, shuffledKeys);
+            }
+            bestLookup = Math.min(bestLookup, System.nanoTime() - start);
+
+            if (found == 0) throw new AssertionError("Nothing found");
+        }
+
+        long lookups = (long) keys.size() * LOOKUP_ROUNDS * 3;
+        System.out.println(name + ": " +
+                           "heap " + footprint / (1024 * 1024) + " Mb (" + footprint / keys.size() + " bytes per expression), " +
+                           "fill " + bestFill / 1000000 + " ms, " +
+                           "lookup " + lookups * 1000 / Math.max(bestLookup, 1) + " M/s");
+    }
+
+    private static void fill(@NotNull MutableSlicedMap map, @NotNull List<Object> keys) {
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i);
+            map.put(EXPRESSION_TYPE_INFO, key, key);
+            if (i % 4 != 0) {
+                map.put(REFERENCE_TARGET, key, key);
+                map.put(RESOLVED_CALL, key, key);
+            }
+            if (i % 16 == 0) {
+                map.put(OTHER_SLICES.get(i % RARE_SLICES), key, key);
+            }
+        }
+    }
+
+    private static int lookup(@NotNull MutableSlicedMap map, @NotNull List<Object> keys) {
+        int found = 0;
+        for (Object key : keys) {
+            if (map.get(EXPRESSION_TYPE_INFO, key) != null) found++;
+            if (map.get(REFERENCE_TARGET, key) != null) found++;
+            if (map.get(RESOLVED_CALL, key) != null) found++;
+        }
+        return found;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
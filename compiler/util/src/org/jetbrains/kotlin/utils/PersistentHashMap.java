@@ -0,0 +1,317 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable hash map implemented as a hash array mapped trie. {@link #plus} and {@link #minus} return a new map
+ * sharing all unchanged subtrees with this one, lookups and updates take O(log32 n) steps.
+ *
+ * Neither keys nor values may be null.
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<Object, Object>(null, 0);
+
+    @Nullable
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(@Nullable Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return root == null || key == null ? null : (V) root.find(key, hash(key), 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @NotNull
+    public PersistentHashMap<K, V> plus(@NotNull K key, @NotNull V value) {
+        boolean[] added = new boolean[1];
+        int hash = hash(key);
+        Node newRoot = root == null ? BitmapNode.EMPTY.put(key, value, hash, 0, added) : root.put(key, value, hash, 0, added);
+        if (newRoot == root) return this;
+        return new PersistentHashMap<K, V>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    @NotNull
+    public PersistentHashMap<K, V> minus(@NotNull K key) {
+        if (root == null) return this;
+        Node newRoot = root.remove(key, hash(key), 0);
+        if (newRoot == root) return this;
+        return newRoot == null ? PersistentHashMap.<K, V>empty() : new PersistentHashMap<K, V>(newRoot, size - 1);
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @NotNull
+            @Override
+            @SuppressWarnings("unchecked")
+            public Iterator<Entry<K, V>> iterator() {
+                List<Entry<K, V>> entries = new ArrayList<Entry<K, V>>(size);
+                if (root != null) {
+                    root.collectEntries((List) entries);
+                }
+                return Collections.unmodifiableList(entries).iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(@NotNull Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static abstract class Node {
+        @Nullable
+        abstract Object find(@NotNull Object key, int hash, int shift);
+
+        // Returns this node if nothing changed
+        @NotNull
+        abstract Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull boolean[] added);
+
+        // Returns this node if there is no such key, null if the node became empty
+        @Nullable
+        abstract Node remove(@NotNull Object key, int hash, int shift);
+
+        abstract void collectEntries(@NotNull List<Entry<Object, Object>> result);
+    }
+
+    /**
+     * Node with up to 32 children selected by the next 5 bits of a hash. For each bit set in {@code bitmap},
+     * {@code array} holds either a key and its value, or null and a child node.
+     */
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, @NotNull Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(@NotNull Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) return null;
+
+            int i = indexOf(bit);
+            Object storedKey = array[i];
+            if (storedKey == null) return ((Node) array[i + 1]).find(key, hash, shift + BITS);
+            return key.equals(storedKey) ? array[i + 1] : null;
+        }
+
+        @NotNull
+        @Override
+        Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull boolean[] added) {
+            int bit = bitFor(hash, shift);
+            int i = indexOf(bit);
+
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                System.arraycopy(array, i, newArray, i + 2, array.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object storedKey = array[i];
+            Object storedValue = array[i + 1];
+            if (storedKey == null) {
+                Node child = (Node) storedValue;
+                Node newChild = child.put(key, value, hash, shift + BITS, added);
+                return newChild == child ? this : withSlot(i + 1, null, newChild);
+            }
+            if (key.equals(storedKey)) {
+                return value.equals(storedValue) ? this : withSlot(i + 1, storedKey, value);
+            }
+
+            added[0] = true;
+            return withSlot(i + 1, null, createNode(storedKey, storedValue, hash(storedKey), key, value, hash, shift + BITS));
+        }
+
+        @Override
+        Node remove(@NotNull Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) return this;
+
+            int i = indexOf(bit);
+            Object storedKey = array[i];
+            if (storedKey == null) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.remove(key, hash, shift + BITS);
+                if (newChild == child) return this;
+                if (newChild != null) return withSlot(i + 1, null, newChild);
+            }
+            else if (!key.equals(storedKey)) {
+                return this;
+            }
+
+            if (bitmap == bit) return null;
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, newArray.length - i);
+            return new BitmapNode(bitmap & ~bit, newArray);
+        }
+
+        @Override
+        void collectEntries(@NotNull List<Entry<Object, Object>> result) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).collectEntries(result);
+                }
+                else {
+                    result.add(new SimpleImmutableEntry<Object, Object>(array[i], array[i + 1]));
+                }
+            }
+        }
+
+        @NotNull
+        private BitmapNode withSlot(int valueIndex, @Nullable Object key, @NotNull Object value) {
+            Object[] newArray = array.clone();
+            newArray[valueIndex - 1] = key;
+            newArray[valueIndex] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @NotNull
+        private static Node createNode(
+                @NotNull Object key1, @NotNull Object value1, int hash1,
+                @NotNull Object key2, @NotNull Object value2, int hash2,
+                int shift
+        ) {
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.put(key1, value1, hash1, shift, added).put(key2, value2, hash2, shift, added);
+        }
+    }
+
+    /**
+     * Node for keys with equal hashes, {@code array} holds keys and values one after another.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, @NotNull Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(@NotNull Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(@NotNull Object key, int hash, int shift) {
+            if (hash != this.hash) return null;
+            int i = indexOf(key);
+            return i >= 0 ? array[i + 1] : null;
+        }
+
+        @NotNull
+        @Override
+        Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(bitFor(this.hash, shift), new Object[] {null, this}).put(key, value, hash, shift, added);
+            }
+
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (value.equals(array[i + 1])) return this;
+                Object[] newArray = array.clone();
+                newArray[i + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node remove(@NotNull Object key, int hash, int shift) {
+            if (hash != this.hash) return this;
+            int i = indexOf(key);
+            if (i < 0) return this;
+            if (array.length == 2) return null;
+
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, newArray.length - i);
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        void collectEntries(@NotNull List<Entry<Object, Object>> result) {
+            for (int i = 0; i < array.length; i += 2) {
+                result.add(new SimpleImmutableEntry<Object, Object>(array[i], array[i + 1]));
+            }
+        }
+    }
+}
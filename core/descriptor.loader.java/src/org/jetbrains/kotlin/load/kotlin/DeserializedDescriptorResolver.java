@@ -57,7 +57,7 @@ public final class DeserializedDescriptorResolver {
     public ClassDescriptor resolveClass(@NotNull KotlinJvmBinaryClass kotlinClass) {
         String[] data = readData(kotlinClass, CLASS);
         if (data != null) {
-            ClassData classData = JvmProtoBufUtil.readClassDataFrom(data);
+            ClassData classData = JvmProtoBufUtil.readClassDataWithLazyMembersFrom(data);
             KotlinJvmBinarySourceElement sourceElement = new KotlinJvmBinarySourceElement(kotlinClass);
             ClassDataProvider classDataProvider = new ClassDataProvider(classData, sourceElement);
             return components.getClassDeserializer().deserializeClass(kotlinClass.getClassId(), classDataProvider);
@@ -70,9 +70,9 @@ public final class DeserializedDescriptorResolver {
         String[] data = readData(kotlinClass, PACKAGE_FACADE);
         if (data != null) {
             //all classes are included in java scope
-            PackageData packageData = JvmProtoBufUtil.readPackageDataFrom(data);
+            PackageData packageData = JvmProtoBufUtil.readPackageDataWithLazyMembersFrom(data);
             return new DeserializedPackageMemberScope(
-                    descriptor, packageData.getPackageProto(), packageData.getNameResolver(), components,
+                    descriptor, packageData.getMemberProtos(), packageData.getNameResolver(), components,
                     new Function0<Collection<Name>>() {
                         @Override
                         public Collection<Name> invoke() {
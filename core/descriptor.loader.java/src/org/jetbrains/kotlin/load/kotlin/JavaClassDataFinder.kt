@@ -32,7 +32,7 @@ public class JavaClassDataFinder(
             "Class with incorrect id found: expected $classId, actual ${kotlinJvmBinaryClass.getClassId()}"
         }
         val data = deserializedDescriptorResolver.readData(kotlinJvmBinaryClass, KotlinClassHeader.Kind.CLASS) ?: return null
-        val classData = JvmProtoBufUtil.readClassDataFrom(data)
+        val classData = JvmProtoBufUtil.readClassDataWithLazyMembersFrom(data)
         return ClassDataProvider(classData, KotlinJvmBinarySourceElement(kotlinJvmBinaryClass))
     }
 }
@@ -34,9 +34,18 @@ public object JvmProtoBufUtil {
     platformStatic
     public fun readClassDataFrom(data: ByteArray): ClassData = ClassData.read(data, EXTENSION_REGISTRY)
 
+    // Used when compiling against binaries, where most of the members are never referenced
+    platformStatic
+    public fun readClassDataWithLazyMembersFrom(encodedData: Array<String>): ClassData =
+            ClassData.readWithLazyMembers(BitEncoding.decodeBytes(encodedData), EXTENSION_REGISTRY)
+
     platformStatic
     public fun readPackageDataFrom(encodedData: Array<String>): PackageData = readPackageDataFrom(BitEncoding.decodeBytes(encodedData))
 
     platformStatic
     public fun readPackageDataFrom(data: ByteArray): PackageData = PackageData.read(data, EXTENSION_REGISTRY)
+
+    platformStatic
+    public fun readPackageDataWithLazyMembersFrom(encodedData: Array<String>): PackageData =
+            PackageData.readWithLazyMembers(BitEncoding.decodeBytes(encodedData), EXTENSION_REGISTRY)
 }
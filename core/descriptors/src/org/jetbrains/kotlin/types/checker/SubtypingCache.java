@@ -0,0 +1,227 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.types.checker;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.types.*;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Results of subtype checks made by {@link JetTypeChecker#DEFAULT} while a piece of code is analyzed.
+ *
+ * Types are hash-consed by their structure: plain {@link JetTypeImpl}s with the same constructor, nullability
+ * and arguments (compared in the same way) get the same key, so the result of a check is reused for types
+ * created separately, e.g. by substituting a generic signature in different calls. Checks involving
+ * flexible, error, lazy types or types with capabilities are not cached.
+ *
+ * A cache is started on a thread with {@link #start()} once all class headers are resolved, since results for
+ * classes with partially resolved supertypes could change later, and is shared by threads it is installed on.
+ */
+public final class SubtypingCache {
+    private static final ThreadLocal<SubtypingCache> CURRENT = new ThreadLocal<SubtypingCache>();
+
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+    private static final AtomicLong totalUncached = new AtomicLong();
+
+    private static final Object STAR = new Object();
+
+    private final ConcurrentMap<TypeKey, TypeKey> internedTypes = new ConcurrentHashMap<TypeKey, TypeKey>();
+    private final ConcurrentMap<TypePair, Boolean> results = new ConcurrentHashMap<TypePair, Boolean>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong uncached = new AtomicLong();
+
+    @Nullable
+    private SubtypingCache previous;
+
+    @NotNull
+    public static SubtypingCache start() {
+        SubtypingCache cache = new SubtypingCache();
+        cache.previous = install(cache);
+        return cache;
+    }
+
+    /**
+     * Stops using this cache on the thread it was started on and adds its statistics to the totals.
+     */
+    public void finish() {
+        install(previous);
+        totalHits.addAndGet(hits.get());
+        totalMisses.addAndGet(misses.get());
+        totalUncached.addAndGet(uncached.get());
+    }
+
+    /**
+     * Makes type checks on the current thread use the given cache, returns the cache used before.
+     */
+    @Nullable
+    public static SubtypingCache install(@Nullable SubtypingCache cache) {
+        SubtypingCache previous = CURRENT.get();
+        if (cache != null) {
+            CURRENT.set(cache);
+        }
+        else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+
+    @Nullable
+    public static SubtypingCache getCurrent() {
+        return CURRENT.get();
+    }
+
+    public static void report(@NotNull Function1<String, Unit> consumer) {
+        consumer.invoke(statistics("Subtyping cache", totalHits.get(), totalMisses.get(), totalUncached.get()));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /* package */ boolean isSubtypeOf(@NotNull JetType subtype, @NotNull JetType supertype, @NotNull TypeCheckingProcedure procedure) {
+        TypeKey subtypeKey = intern(subtype);
+        TypeKey supertypeKey = subtypeKey != null ? intern(supertype) : null;
+        if (supertypeKey == null) {
+            uncached.incrementAndGet();
+            return procedure.computeIsSubtypeOf(subtype, supertype);
+        }
+
+        TypePair pair = new TypePair(subtypeKey, supertypeKey);
+        Boolean result = results.get(pair);
+        if (result != null) {
+            hits.incrementAndGet();
+            return result;
+        }
+
+        misses.incrementAndGet();
+        boolean isSubtype = procedure.computeIsSubtypeOf(subtype, supertype);
+        results.put(pair, isSubtype);
+        return isSubtype;
+    }
+
+    @Nullable
+    private TypeKey intern(@NotNull JetType type) {
+        if (!(type instanceof JetTypeImpl) || type.getCapabilities() != TypeCapabilities.NONE.INSTANCE$) return null;
+
+        List<TypeProjection> arguments = type.getArguments();
+        Object[] argumentKeys = new Object[2 * arguments.size()];
+        for (int i = 0; i < arguments.size(); i++) {
+            TypeProjection argument = arguments.get(i);
+            if (argument.isStarProjection()) {
+                argumentKeys[2 * i] = STAR;
+                argumentKeys[2 * i + 1] = STAR;
+                continue;
+            }
+
+            TypeKey argumentKey = intern(argument.getType());
+            if (argumentKey == null) return null;
+            argumentKeys[2 * i] = argument.getProjectionKind();
+            argumentKeys[2 * i + 1] = argumentKey;
+        }
+
+        TypeKey key = new TypeKey(type.getConstructor(), type.isMarkedNullable(), argumentKeys);
+        TypeKey interned = internedTypes.putIfAbsent(key, key);
+        return interned != null ? interned : key;
+    }
+
+    @Override
+    public String toString() {
+        return statistics("SubtypingCache", hits.get(), misses.get(), uncached.get());
+    }
+
+    @NotNull
+    private static String statistics(@NotNull String name, long hits, long misses, long uncached) {
+        long cached = hits + misses;
+        long hitRate = cached == 0 ? 0 : hits * 100 / cached;
+        return name + ": " + hits + " hits, " + misses + " misses (hit rate " + hitRate + "%), " + uncached + " checks not cached";
+    }
+
+    // Arguments of interned keys are interned too, so they are compared by identity
+    private static final class TypeKey {
+        private final TypeConstructor constructor;
+        private final boolean nullable;
+        private final Object[] arguments;
+        private final int hashCode;
+
+        TypeKey(@NotNull TypeConstructor constructor, boolean nullable, @NotNull Object[] arguments) {
+            this.constructor = constructor;
+            this.nullable = nullable;
+            this.arguments = arguments;
+
+            int hash = 31 * System.identityHashCode(constructor) + (nullable ? 1 : 0);
+            for (Object argument : arguments) {
+                hash = 31 * hash + System.identityHashCode(argument);
+            }
+            this.hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TypeKey)) return false;
+
+            TypeKey other = (TypeKey) o;
+            if (hashCode != other.hashCode || constructor != other.constructor || nullable != other.nullable) return false;
+            if (arguments.length != other.arguments.length) return false;
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] != other.arguments[i]) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class TypePair {
+        private final TypeKey subtype;
+        private final TypeKey supertype;
+
+        TypePair(@NotNull TypeKey subtype, @NotNull TypeKey supertype) {
+            this.subtype = subtype;
+            this.supertype = supertype;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TypePair)) return false;
+            TypePair other = (TypePair) o;
+            return subtype == other.subtype && supertype == other.supertype;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * subtype.hashCode() + supertype.hashCode();
+        }
+    }
+}
@@ -54,9 +54,16 @@ public class TypeCheckingProcedure {
     }
 
     private final TypeCheckingProcedureCallbacks constraints;
+    private final boolean useSubtypingCache;
 
     public TypeCheckingProcedure(TypeCheckingProcedureCallbacks constraints) {
+        this(constraints, false);
+    }
+
+    // The cache may only be used by one procedure with callbacks which have no side effects, see SubtypingCache
+    /* package */ TypeCheckingProcedure(TypeCheckingProcedureCallbacks constraints, boolean useSubtypingCache) {
         this.constraints = constraints;
+        this.useSubtypingCache = useSubtypingCache;
     }
 
     public boolean equalTypes(@NotNull JetType type1, @NotNull JetType type2) {
@@ -179,6 +186,16 @@ public class TypeCheckingProcedure {
     }
 
     public boolean isSubtypeOf(@NotNull JetType subtype, @NotNull JetType supertype) {
+        if (useSubtypingCache && subtype != supertype) {
+            SubtypingCache cache = SubtypingCache.getCurrent();
+            if (cache != null) {
+                return cache.isSubtypeOf(subtype, supertype, this);
+            }
+        }
+        return computeIsSubtypeOf(subtype, supertype);
+    }
+
+    /* package */ boolean computeIsSubtypeOf(@NotNull JetType subtype, @NotNull JetType supertype) {
         if (TypesPackage.sameTypeConstructors(subtype, supertype)) {
             return !subtype.isMarkedNullable() || supertype.isMarkedNullable();
         }
@@ -23,6 +23,7 @@ import org.jetbrains.kotlin.utils.UtilsPackage;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.List;
 
 public final class ClassData {
     @NotNull
@@ -38,12 +39,42 @@ public final class ClassData {
         }
     }
 
+    // Callables are parsed on access, see LazyCallableList
+    @NotNull
+    public static ClassData readWithLazyMembers(@NotNull byte[] bytes, @NotNull ExtensionRegistryLite registry) {
+        try {
+            ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+            NameResolver nameResolver = NameResolver.read(in);
+            LazyCallableList.SplitMessage message =
+                    LazyCallableList.split(bytes, bytes.length - in.available(), ProtoBuf.Class.MEMBER_FIELD_NUMBER, registry);
+            ProtoBuf.Class classProto = ProtoBuf.Class.parseFrom(message.getRest(), registry);
+            return new ClassData(nameResolver, classProto, message.getCallables(), true);
+        }
+        catch (IOException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+    }
+
     private final NameResolver nameResolver;
     private final ProtoBuf.Class classProto;
+    private final List<ProtoBuf.Callable> memberProtos;
+    private final boolean lazyMembers;
 
     public ClassData(@NotNull NameResolver nameResolver, @NotNull ProtoBuf.Class classProto) {
+        this(nameResolver, classProto, classProto.getMemberList(), false);
+    }
+
+    // The member list of classProto is empty if members are lazy
+    private ClassData(
+            @NotNull NameResolver nameResolver,
+            @NotNull ProtoBuf.Class classProto,
+            @NotNull List<ProtoBuf.Callable> memberProtos,
+            boolean lazyMembers
+    ) {
         this.nameResolver = nameResolver;
         this.classProto = classProto;
+        this.memberProtos = memberProtos;
+        this.lazyMembers = lazyMembers;
     }
 
     @NotNull
@@ -51,8 +82,27 @@ public final class ClassData {
         return nameResolver;
     }
 
+    /**
+     * Returns the whole class proto including its members, so it can't be called on the data read by {@link #readWithLazyMembers}.
+     * Use {@link #getMemberProtos} to get members of any data.
+     */
     @NotNull
     public ProtoBuf.Class getClassProto() {
+        assert !lazyMembers : "Members of class data read lazily are not in the proto, use getMemberProtos()";
         return classProto;
     }
+
+    /**
+     * Returns the class proto to read everything but members from: for the data read by {@link #readWithLazyMembers}
+     * its member list is empty, members must be taken from {@link #getMemberProtos}.
+     */
+    @NotNull
+    public ProtoBuf.Class getClassProtoIgnoringMembers() {
+        return classProto;
+    }
+
+    @NotNull
+    public List<ProtoBuf.Callable> getMemberProtos() {
+        return memberProtos;
+    }
 }
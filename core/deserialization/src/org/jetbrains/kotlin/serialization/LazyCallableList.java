@@ -0,0 +1,207 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.serialization;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.utils.UtilsPackage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Callables of a serialized class or package which are kept as slices of the serialized data and parsed on access, one by one.
+ * Name, flags and presence of the receiver type are read beforehand, so that callables can be grouped by name without being parsed.
+ * Each call of get() parses the callable anew, the caller is expected to cache what it builds from it.
+ */
+public final class LazyCallableList extends AbstractList<ProtoBuf.Callable> {
+    private static final int WIRETYPE_VARINT = 0;
+    private static final int WIRETYPE_LENGTH_DELIMITED = 2;
+
+    public static final class SplitMessage {
+        private final byte[] rest;
+        private final LazyCallableList callables;
+
+        private SplitMessage(@NotNull byte[] rest, @NotNull LazyCallableList callables) {
+            this.rest = rest;
+            this.callables = callables;
+        }
+
+        // The message without the callables
+        @NotNull
+        public byte[] getRest() {
+            return rest;
+        }
+
+        @NotNull
+        public LazyCallableList getCallables() {
+            return callables;
+        }
+    }
+
+    /**
+     * Splits a message which starts at the given offset and takes the rest of the data into its callables, i.e. occurrences of the
+     * repeated field with the given number, and all other fields. The data is not copied for callables.
+     */
+    @NotNull
+    public static SplitMessage split(
+            @NotNull byte[] data,
+            int offset,
+            int callableFieldNumber,
+            @NotNull ExtensionRegistryLite registry
+    ) {
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(data, offset, data.length - offset);
+            ByteArrayOutputStream rest = new ByteArrayOutputStream(data.length - offset);
+            Builder callables = new Builder(data, registry);
+
+            while (true) {
+                int fieldStart = input.getTotalBytesRead();
+                int tag = input.readTag();
+                if (tag == 0) break;
+
+                if (tag >>> 3 == callableFieldNumber && (tag & 7) == WIRETYPE_LENGTH_DELIMITED) {
+                    int length = input.readRawVarint32();
+                    callables.add(input, offset + input.getTotalBytesRead(), length);
+                }
+                else {
+                    input.skipField(tag);
+                    rest.write(data, offset + fieldStart, input.getTotalBytesRead() - fieldStart);
+                }
+            }
+
+            return new SplitMessage(rest.toByteArray(), callables.build());
+        }
+        catch (IOException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+    }
+
+    public static int getName(@NotNull List<ProtoBuf.Callable> callables, int index) {
+        return callables instanceof LazyCallableList ? ((LazyCallableList) callables).names[index] : callables.get(index).getName();
+    }
+
+    public static int getFlags(@NotNull List<ProtoBuf.Callable> callables, int index) {
+        return callables instanceof LazyCallableList ? ((LazyCallableList) callables).flags[index] : callables.get(index).getFlags();
+    }
+
+    public static boolean hasReceiverType(@NotNull List<ProtoBuf.Callable> callables, int index) {
+        return callables instanceof LazyCallableList
+               ? ((LazyCallableList) callables).hasReceiverType[index]
+               : callables.get(index).hasReceiverType();
+    }
+
+    private final byte[] data;
+    private final ExtensionRegistryLite registry;
+    private final int size;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] names;
+    private final int[] flags;
+    private final boolean[] hasReceiverType;
+
+    private LazyCallableList(@NotNull Builder builder) {
+        this.data = builder.data;
+        this.registry = builder.registry;
+        this.size = builder.size;
+        this.offsets = builder.offsets;
+        this.lengths = builder.lengths;
+        this.names = builder.names;
+        this.flags = builder.flags;
+        this.hasReceiverType = builder.hasReceiverType;
+    }
+
+    @Override
+    public ProtoBuf.Callable get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(data, offsets[index], lengths[index]);
+            return ProtoBuf.Callable.PARSER.parseFrom(input, registry);
+        }
+        catch (IOException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static class Builder {
+        private final byte[] data;
+        private final ExtensionRegistryLite registry;
+        private int size = 0;
+        private int[] offsets = new int[8];
+        private int[] lengths = new int[8];
+        private int[] names = new int[8];
+        private int[] flags = new int[8];
+        private boolean[] hasReceiverType = new boolean[8];
+
+        private Builder(@NotNull byte[] data, @NotNull ExtensionRegistryLite registry) {
+            this.data = data;
+            this.registry = registry;
+        }
+
+        // Reads the fields needed for grouping and skips everything else, the input is positioned after the callable then
+        private void add(@NotNull CodedInputStream input, int offset, int length) throws IOException {
+            if (size == offsets.length) {
+                int newCapacity = size * 2;
+                offsets = Arrays.copyOf(offsets, newCapacity);
+                lengths = Arrays.copyOf(lengths, newCapacity);
+                names = Arrays.copyOf(names, newCapacity);
+                flags = Arrays.copyOf(flags, newCapacity);
+                hasReceiverType = Arrays.copyOf(hasReceiverType, newCapacity);
+            }
+
+            offsets[size] = offset;
+            lengths[size] = length;
+
+            int oldLimit = input.pushLimit(length);
+            while (!input.isAtEnd()) {
+                int tag = input.readTag();
+                int fieldNumber = tag >>> 3;
+                if (fieldNumber == ProtoBuf.Callable.FLAGS_FIELD_NUMBER && (tag & 7) == WIRETYPE_VARINT) {
+                    flags[size] = input.readInt32();
+                }
+                else if (fieldNumber == ProtoBuf.Callable.NAME_FIELD_NUMBER && (tag & 7) == WIRETYPE_VARINT) {
+                    names[size] = input.readInt32();
+                }
+                else {
+                    if (fieldNumber == ProtoBuf.Callable.RECEIVER_TYPE_FIELD_NUMBER) {
+                        hasReceiverType[size] = true;
+                    }
+                    input.skipField(tag);
+                }
+            }
+            input.popLimit(oldLimit);
+
+            size++;
+        }
+
+        @NotNull
+        private LazyCallableList build() {
+            return new LazyCallableList(this);
+        }
+    }
+}
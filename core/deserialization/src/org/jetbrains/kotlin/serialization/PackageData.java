@@ -23,6 +23,7 @@ import org.jetbrains.kotlin.utils.UtilsPackage;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.List;
 
 public final class PackageData {
     @NotNull
@@ -38,12 +39,42 @@ public final class PackageData {
         }
     }
 
+    // Callables are parsed on access, see LazyCallableList
+    @NotNull
+    public static PackageData readWithLazyMembers(@NotNull byte[] bytes, @NotNull ExtensionRegistryLite registry) {
+        try {
+            ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+            NameResolver nameResolver = NameResolver.read(in);
+            LazyCallableList.SplitMessage message =
+                    LazyCallableList.split(bytes, bytes.length - in.available(), ProtoBuf.Package.MEMBER_FIELD_NUMBER, registry);
+            ProtoBuf.Package packageProto = ProtoBuf.Package.parseFrom(message.getRest(), registry);
+            return new PackageData(nameResolver, packageProto, message.getCallables(), true);
+        }
+        catch (IOException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+    }
+
     private final NameResolver nameResolver;
     private final ProtoBuf.Package packageProto;
+    private final List<ProtoBuf.Callable> memberProtos;
+    private final boolean lazyMembers;
 
     public PackageData(@NotNull NameResolver nameResolver, @NotNull ProtoBuf.Package packageProto) {
+        this(nameResolver, packageProto, packageProto.getMemberList(), false);
+    }
+
+    // The member list of packageProto is empty if members are lazy
+    private PackageData(
+            @NotNull NameResolver nameResolver,
+            @NotNull ProtoBuf.Package packageProto,
+            @NotNull List<ProtoBuf.Callable> memberProtos,
+            boolean lazyMembers
+    ) {
         this.nameResolver = nameResolver;
         this.packageProto = packageProto;
+        this.memberProtos = memberProtos;
+        this.lazyMembers = lazyMembers;
     }
 
     @NotNull
@@ -51,8 +82,18 @@ public final class PackageData {
         return nameResolver;
     }
 
+    /**
+     * Returns the whole package proto including its members, so it can't be called on the data read by {@link #readWithLazyMembers}.
+     * Use {@link #getMemberProtos} to get members of any data.
+     */
     @NotNull
     public ProtoBuf.Package getPackageProto() {
+        assert !lazyMembers : "Members of package data read lazily are not in the proto, use getMemberProtos()";
         return packageProto;
     }
+
+    @NotNull
+    public List<ProtoBuf.Callable> getMemberProtos() {
+        return memberProtos;
+    }
 }
@@ -57,7 +57,7 @@ public class ClassDeserializer(private val components: DeserializationComponents
             components.createContext(fragment, classData.getNameResolver())
         }
 
-        return DeserializedClassDescriptor(outerContext, classData.getClassProto(), classData.getNameResolver(),
+        return DeserializedClassDescriptor(outerContext, classData.getClassProtoIgnoringMembers(), classData.getMemberProtos(), classData.getNameResolver(),
                                            classDataProvider.sourceElement)
     }
 
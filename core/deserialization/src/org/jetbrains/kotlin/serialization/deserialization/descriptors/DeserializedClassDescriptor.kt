@@ -27,6 +27,7 @@ import org.jetbrains.kotlin.resolve.scopes.DescriptorKindFilter
 import org.jetbrains.kotlin.resolve.scopes.JetScope
 import org.jetbrains.kotlin.resolve.scopes.StaticScopeForKotlinClass
 import org.jetbrains.kotlin.serialization.Flags
+import org.jetbrains.kotlin.serialization.LazyCallableList
 import org.jetbrains.kotlin.serialization.ProtoBuf
 import org.jetbrains.kotlin.serialization.deserialization
 import org.jetbrains.kotlin.serialization.deserialization.DeserializationContext
@@ -41,7 +42,9 @@ import java.util.LinkedHashSet
 
 public class DeserializedClassDescriptor(
         outerContext: DeserializationContext,
-        val classProto: ProtoBuf.Class,
+        // The member list is empty if members are read lazily, members are taken from memberProtos
+        internal val classProto: ProtoBuf.Class,
+        private val memberProtos: List<ProtoBuf.Callable>,
         nameResolver: NameResolver,
         private val sourceElement: SourceElement
 ) : ClassDescriptor, AbstractClassDescriptor(
@@ -175,7 +178,7 @@ public class DeserializedClassDescriptor(
         override fun toString() = getName().toString()
     }
 
-    private inner class DeserializedClassMemberScope : DeserializedMemberScope(c, classProto.getMemberList()) {
+    private inner class DeserializedClassMemberScope : DeserializedMemberScope(c, memberProtos) {
         private val classDescriptor: DeserializedClassDescriptor get() = this@DeserializedClassDescriptor
         private val allDescriptors = c.storageManager.createLazyValue {
             computeDescriptors(DescriptorKindFilter.ALL, JetScope.ALL_NAME_FILTER)
@@ -312,7 +315,7 @@ public class DeserializedClassDescriptor(
             }
 
             val nameResolver = c.nameResolver
-            return classProto.getMemberList().mapTo(result) { nameResolver.getName(it.getName()) }
+            return memberProtos.indices.mapTo(result) { nameResolver.getName(LazyCallableList.getName(memberProtos, it)) }
         }
 
         fun all(): Collection<ClassDescriptor> {
@@ -22,6 +22,7 @@ import org.jetbrains.kotlin.resolve.scopes.DescriptorKindFilter
 import org.jetbrains.kotlin.resolve.scopes.JetScopeImpl
 import org.jetbrains.kotlin.incremental.components.LookupLocation
 import org.jetbrains.kotlin.serialization.Flags
+import org.jetbrains.kotlin.serialization.LazyCallableList
 import org.jetbrains.kotlin.serialization.ProtoBuf
 import org.jetbrains.kotlin.serialization.ProtoBuf.Callable.CallableKind
 import org.jetbrains.kotlin.serialization.deserialization.DeserializationContext
@@ -56,27 +57,35 @@ public abstract class DeserializedMemberScope protected constructor(
 
     protected open fun filteredMemberProtos(allMemberProtos: Collection<ProtoBuf.Callable>): Collection<ProtoBuf.Callable> = allMemberProtos
 
-    private fun groupByKey(membersList: Collection<ProtoBuf.Callable>): Map<ProtoKey, List<ProtoBuf.Callable>> {
-        val map = LinkedHashMap<ProtoKey, MutableList<ProtoBuf.Callable>>()
-        for (memberProto in membersList) {
+    // Members are grouped by indices, so that members of a LazyCallableList are only parsed when their name is requested
+    private class GroupedMembers(val protos: List<ProtoBuf.Callable>, val indices: Map<ProtoKey, List<Int>>) {
+        fun get(key: ProtoKey): List<ProtoBuf.Callable> = indices[key].orEmpty().map { protos[it] }
+
+        val keys: Set<ProtoKey> get() = indices.keySet()
+    }
+
+    private fun groupByKey(membersList: Collection<ProtoBuf.Callable>): GroupedMembers {
+        val protos = membersList as? List<ProtoBuf.Callable> ?: membersList.toList()
+        val map = LinkedHashMap<ProtoKey, MutableList<Int>>()
+        for (index in protos.indices) {
             val key = ProtoKey(
-                    c.nameResolver.getName(memberProto.getName()),
-                    Flags.CALLABLE_KIND[memberProto.getFlags()].toKind(),
-                    memberProto.hasReceiverType()
+                    c.nameResolver.getName(LazyCallableList.getName(protos, index)),
+                    Flags.CALLABLE_KIND[LazyCallableList.getFlags(protos, index)].toKind(),
+                    LazyCallableList.hasReceiverType(protos, index)
             )
-            var protos = map[key]
-            if (protos == null) {
-                protos = ArrayList(1)
-                map.put(key, protos)
+            var indices = map[key]
+            if (indices == null) {
+                indices = ArrayList(1)
+                map.put(key, indices)
             }
-            protos.add(memberProto)
+            indices.add(index)
         }
-        return map
+        return GroupedMembers(protos, map)
     }
 
     private fun <D : CallableMemberDescriptor> computeMembers(name: Name, kind: Kind): LinkedHashSet<D> {
-        val memberProtos = membersProtos()[ProtoKey(name, kind, isExtension = false)].orEmpty() +
-                           membersProtos()[ProtoKey(name, kind, isExtension = true)].orEmpty()
+        val memberProtos = membersProtos().get(ProtoKey(name, kind, isExtension = false)) +
+                           membersProtos().get(ProtoKey(name, kind, isExtension = true))
 
         @suppress("UNCHECKED_CAST")
         return memberProtos.mapTo(LinkedHashSet<D>()) { memberProto ->
@@ -146,7 +155,7 @@ public abstract class DeserializedMemberScope protected constructor(
             return
         }
 
-        val keys = membersProtos().keySet().filter { nameFilter(it.name) }
+        val keys = membersProtos().keys.filter { nameFilter(it.name) }
         if (acceptsProperties) {
             addMembers(result, keys, Kind.PROPERTY) { getProperties(it) }
         }
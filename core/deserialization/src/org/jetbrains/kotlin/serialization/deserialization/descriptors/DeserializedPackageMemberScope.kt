@@ -32,11 +32,11 @@ import org.jetbrains.kotlin.utils.addIfNotNull
 
 public open class DeserializedPackageMemberScope(
         packageDescriptor: PackageFragmentDescriptor,
-        proto: ProtoBuf.Package,
+        memberProtos: Collection<ProtoBuf.Callable>,
         nameResolver: NameResolver,
         components: DeserializationComponents,
         classNames: () -> Collection<Name>
-) : DeserializedMemberScope(components.createContext(packageDescriptor, nameResolver), proto.getMemberList()) {
+) : DeserializedMemberScope(components.createContext(packageDescriptor, nameResolver), memberProtos) {
 
     private val packageFqName = packageDescriptor.fqName
 
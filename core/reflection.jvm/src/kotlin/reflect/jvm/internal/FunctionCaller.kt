@@ -19,10 +19,18 @@ package kotlin.reflect.jvm.internal
 import java.lang.reflect.Member
 import java.lang.reflect.Modifier
 import java.lang.reflect.Type
+import java.util.Arrays
 import java.lang.reflect.Constructor as ReflectConstructor
 import java.lang.reflect.Field as ReflectField
 import java.lang.reflect.Method as ReflectMethod
 
+/**
+ * Calls a JVM member with the arguments of KCallable.call. A caller is created once per callable and kept strongly by it.
+ *
+ * A call still goes through Java reflection (kotlin-reflect runs on Java 6 and Android, where there are no MethodHandles) and checks
+ * the number of arguments, to report it in terms of the callable's parameters. The caller allocates no arrays for a constructor,
+ * a static method or a field accessor; for an instance method it copies the arguments following the receiver.
+ */
 internal abstract class FunctionCaller<out M : Member>(
         internal val member: M,
         internal val returnType: Type,
@@ -33,14 +41,20 @@ internal abstract class FunctionCaller<out M : Member>(
             instanceClass?.let { listOf(it, *valueParameterTypes) } ?:
             valueParameterTypes.toList()
 
+    private val arity = parameterTypes.size()
+
     abstract fun call(args: Array<*>): Any?
 
     protected open fun checkArguments(args: Array<*>) {
-        if (parameterTypes.size() != args.size()) {
-            throw IllegalArgumentException("Callable expects ${parameterTypes.size()} arguments, but ${args.size()} were provided.")
+        if (arity != args.size()) {
+            throw IllegalArgumentException("Callable expects $arity arguments, but ${args.size()} were provided.")
         }
     }
 
+    // Arguments following the instance, no array is allocated if there are none
+    protected fun Array<*>.dropInstance(): Array<*> =
+            if (size() == 1) NO_ARGUMENTS else Arrays.copyOfRange(this, 1, size())
+
     protected fun checkObjectInstance(obj: Any?) {
         if (obj == null || !member.declaringClass.isInstance(obj)) {
             throw IllegalArgumentException("An object member requires the object instance passed as the first argument.")
@@ -60,7 +74,7 @@ internal abstract class FunctionCaller<out M : Member>(
     ) {
         override fun call(args: Array<*>): Any? {
             checkArguments(args)
-            return member.newInstance(*args)
+            return ReflectCalls.newInstance(member, args)
         }
     }
 
@@ -78,7 +92,7 @@ internal abstract class FunctionCaller<out M : Member>(
         private val isVoidMethod = returnType == Void.TYPE
 
         protected fun callMethod(instance: Any?, args: Array<*>): Any? {
-            val result = member.invoke(instance, *args)
+            val result = ReflectCalls.invoke(member, instance, args)
 
             // If this is a Unit function, the method returns void, Method#invoke returns null, while we should return Unit
             return if (isVoidMethod) Unit else result
@@ -95,7 +109,7 @@ internal abstract class FunctionCaller<out M : Member>(
     class InstanceMethod(method: ReflectMethod) : Method(method) {
         override fun call(args: Array<*>): Any? {
             checkArguments(args)
-            return callMethod(args[0], args.asList().subList(1, args.size()).toTypedArray())
+            return callMethod(args[0], args.dropInstance())
         }
     }
 
@@ -103,7 +117,7 @@ internal abstract class FunctionCaller<out M : Member>(
         override fun call(args: Array<*>): Any? {
             checkArguments(args)
             checkObjectInstance(args.firstOrNull())
-            return callMethod(null, args.asList().subList(1, args.size()).toTypedArray())
+            return callMethod(null, args.dropInstance())
         }
     }
 
@@ -168,4 +182,8 @@ internal abstract class FunctionCaller<out M : Member>(
             checkObjectInstance(args.firstOrNull())
         }
     }
+
+    companion object {
+        private val NO_ARGUMENTS = arrayOfNulls<Any>(0)
+    }
 }
@@ -29,6 +29,8 @@ import kotlin.reflect.KFunction
 import kotlin.reflect.KotlinReflectionInternalError
 
 class KClassImpl<T : Any>(override val jClass: Class<T>) : KCallableContainerImpl(), KClass<T>, KAnnotatedElementImpl {
+    // Unlike callers of functions and properties, the descriptor is kept softly: it references the descriptors of the whole module,
+    // which would stay in memory as long as any KClass does. Calls of KFunction and KProperty obtained from this class don't need it.
     val descriptor by ReflectProperties.lazySoft {
         val classId = classId
 
@@ -51,7 +51,7 @@ interface KPropertyImpl<out R> : KProperty<R>, KCallableImpl<R> {
             property.descriptor.getter ?: DescriptorFactory.createDefaultGetter(property.descriptor)
         }
 
-        override val caller: FunctionCaller<*> by ReflectProperties.lazySoft {
+        override val caller: FunctionCaller<*> by ReflectProperties.lazy {
             computeCallerForAccessor(isGetter = true)
         }
     }
@@ -71,7 +71,7 @@ interface KMutablePropertyImpl<R> : KMutableProperty<R>, KPropertyImpl<R> {
             property.descriptor.setter ?: DescriptorFactory.createDefaultSetter(property.descriptor)
         }
 
-        override val caller: FunctionCaller<*> by ReflectProperties.lazySoft {
+        override val caller: FunctionCaller<*> by ReflectProperties.lazy {
             computeCallerForAccessor(isGetter = false)
         }
     }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package kotlin.reflect.jvm.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Passes an array of arguments to Java reflection as is: Kotlin copies an array passed with the spread operator to a vararg parameter,
+ * which would be an allocation on every call of FunctionCaller.
+ */
+/* package */ class ReflectCalls {
+    private ReflectCalls() {
+    }
+
+    @Nullable
+    public static Object invoke(@NotNull Method method, @Nullable Object instance, @NotNull Object[] args)
+            throws IllegalAccessException, InvocationTargetException {
+        return method.invoke(instance, args);
+    }
+
+    @NotNull
+    public static Object newInstance(@NotNull Constructor<?> constructor, @NotNull Object[] args)
+            throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        return constructor.newInstance(args);
+    }
+}
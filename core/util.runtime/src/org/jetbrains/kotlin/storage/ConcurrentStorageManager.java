@@ -0,0 +1,573 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function0;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.utils.WrappedValues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A storage manager which does not serialize all lazy computations on a single lock.
+ *
+ * Every lazy value and every key of a memoized function is a compute-once slot: the first thread to claim a slot computes its value,
+ * other threads requesting the same slot wait for this particular computation only, unrelated slots are computed in parallel.
+ *
+ * Recursion is detected per slot, in the same way as in {@link LockBasedStorageManager}. In addition, a thread which is about to wait
+ * for a slot computed by another thread checks whether this would close a cycle of threads waiting for each other. Such a cycle is exactly
+ * the situation in which a single-threaded computation would have re-entered the slot, so it is reported as a recursive call instead of
+ * a deadlock.
+ *
+ * {@link #compute(Function0)} still runs under a single lock, because it is used to guard data structures which are not thread-safe
+ * (see {@link LockBasedLazyResolveStorageManager}), and the lock is held for the whole block, even while it waits for a slot computed
+ * by another thread. Threads waiting for the compute lock are part of the same graph as threads waiting for slots: if the owner of a slot
+ * waits for the compute lock held by the thread which needs the slot, the slot is treated as a recursive call in the latter thread.
+ */
+public class ConcurrentStorageManager extends LockBasedStorageManager {
+    @NotNull
+    public static ConcurrentStorageManager createConcurrentWithExceptionHandling(@NotNull ExceptionHandlingStrategy exceptionHandlingStrategy) {
+        return new ConcurrentStorageManager(exceptionHandlingStrategy);
+    }
+
+    private final ComputeLock computeLock;
+
+    public ConcurrentStorageManager() {
+        super(getPointOfConstruction(), ExceptionHandlingStrategy.THROW, new ComputeLock());
+        this.computeLock = (ComputeLock) lock;
+    }
+
+    protected ConcurrentStorageManager(@NotNull ExceptionHandlingStrategy exceptionHandlingStrategy) {
+        super(getPointOfConstruction(), exceptionHandlingStrategy, new ComputeLock());
+        this.computeLock = (ComputeLock) lock;
+    }
+
+    @Override
+    public <T> T compute(@NotNull Function0<? extends T> computable) {
+        lockCompute();
+        try {
+            return computable.invoke();
+        }
+        catch (Throwable throwable) {
+            throw exceptionHandlingStrategy.handleException(throwable);
+        }
+        finally {
+            computeLock.unlock();
+        }
+    }
+
+    private void lockCompute() {
+        if (computeLock.tryLock()) return;
+
+        Thread current = Thread.currentThread();
+        synchronized (WAITING_FOR) {
+            Wait wait = new Wait(null, computeLock);
+            WAITING_FOR.put(current, wait);
+
+            // A lock can't be given up by its owner, so the cycle is broken by a thread in it which waits for a slot
+            List<Wait> cycle = findCycle(current, wait);
+            if (cycle != null) {
+                for (Wait other : cycle) {
+                    if (other.computation != null) {
+                        other.cycleDetected = true;
+                        WAITING_FOR.notifyAll();
+                        break;
+                    }
+                }
+            }
+        }
+
+        try {
+            computeLock.lock();
+        }
+        finally {
+            synchronized (WAITING_FOR) {
+                WAITING_FOR.remove(current);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNotNull<K, V> createMemoizedFunction(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new ConcurrentMemoizedFunctionToNotNull<K, V>(map, compute);
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNullable<K, V> createMemoizedFunctionWithNullableValues(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new ConcurrentMemoizedFunction<K, V>(map, compute);
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValue(@NotNull Function0<? extends T> computable) {
+        return new ConcurrentNotNullLazyValue<T>(computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createRecursionTolerantLazyValue(
+            @NotNull Function0<? extends T> computable, @NotNull final T onRecursiveCall
+    ) {
+        return new ConcurrentNotNullLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable,
+            final Function1<? super Boolean, ? extends T> onRecursiveCall,
+            @NotNull final Function1<? super T, ? extends Unit> postCompute
+    ) {
+        return new ConcurrentNotNullLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                if (onRecursiveCall == null) {
+                    return super.recursionDetected(firstTime);
+                }
+                return RecursionDetectedResult.value(onRecursiveCall.invoke(firstTime));
+            }
+
+            @Override
+            protected void postCompute(@NotNull T value) {
+                postCompute.invoke(value);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValue(@NotNull Function0<? extends T> computable) {
+        return new ConcurrentLazyValue<T>(computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createRecursionTolerantNullableLazyValue(@NotNull Function0<? extends T> computable, final T onRecursiveCall) {
+        return new ConcurrentLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable, @NotNull final Function1<? super T, ? extends Unit> postCompute
+    ) {
+        return new ConcurrentLazyValue<T>(computable) {
+            @Override
+            protected void postCompute(@Nullable T value) {
+                postCompute.invoke(value);
+            }
+        };
+    }
+
+    // What each blocked thread is waiting for. Guarded by itself, shared by all instances because lazy values of different storage
+    // managers may depend on each other. Threads waiting for slots are woken up through it as well
+    private static final Map<Thread, Wait> WAITING_FOR = new HashMap<Thread, Wait>();
+
+    /**
+     * @return {@code true} when {@code computation} is finished,
+     *         {@code false} if waiting for it would close a cycle of threads waiting for each other, nothing is awaited in this case
+     */
+    private static boolean awaitOrDetectCycle(@NotNull Computation computation) {
+        Thread current = Thread.currentThread();
+        boolean interrupted = false;
+        synchronized (WAITING_FOR) {
+            Wait wait = new Wait(computation, null);
+            if (findCycle(current, wait) != null) return false;
+
+            WAITING_FOR.put(current, wait);
+            computation.hasWaiters = true;
+            try {
+                // A thread which starts waiting for the compute lock held by this thread later closes a cycle as well
+                while (!computation.isFinished() && !wait.cycleDetected) {
+                    try {
+                        WAITING_FOR.wait();
+                    }
+                    catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            finally {
+                WAITING_FOR.remove(current);
+            }
+        }
+        if (interrupted) {
+            current.interrupt();
+        }
+        return computation.isFinished();
+    }
+
+    /**
+     * Should be called with the monitor of {@link #WAITING_FOR} held.
+     *
+     * @return waits of other threads on the way from {@code wait} back to {@code current}, or {@code null} if there is no such way
+     */
+    @Nullable
+    private static List<Wait> findCycle(@NotNull Thread current, @NotNull Wait wait) {
+        List<Wait> path = new ArrayList<Wait>();
+        Wait next = wait;
+        // Threads which only wait for locks may form a cycle without the current thread, so the number of steps is limited
+        while (path.size() <= WAITING_FOR.size()) {
+            Thread owner = next.getOwner();
+            if (owner == null) return null;
+            if (owner == current) return path;
+
+            next = WAITING_FOR.get(owner);
+            if (next == null) return null;
+            path.add(next);
+        }
+        return null;
+    }
+
+    private static final class ComputeLock extends ReentrantLock {
+        @Nullable
+        public Thread getOwnerThread() {
+            return getOwner();
+        }
+    }
+
+    /**
+     * An edge of the graph of waiting threads: a blocked thread waits either for a slot or for a compute lock
+     */
+    private static final class Wait {
+        @Nullable
+        private final Computation computation;
+        @Nullable
+        private final ComputeLock lock;
+
+        // Set for a thread waiting for a slot when a cycle is closed by a thread waiting for a lock
+        private boolean cycleDetected = false;
+
+        public Wait(@Nullable Computation computation, @Nullable ComputeLock lock) {
+            this.computation = computation;
+            this.lock = lock;
+        }
+
+        @Nullable
+        public Thread getOwner() {
+            if (computation != null) {
+                return computation.isFinished() ? null : computation.owner;
+            }
+            assert lock != null : "Wait for neither a slot nor a lock";
+            return lock.getOwnerThread();
+        }
+    }
+
+    private enum NotValue {
+        NOT_COMPUTED,
+        RECURSION_WAS_DETECTED
+    }
+
+    /**
+     * A slot which is being computed by {@link #owner}
+     */
+    private static final class Computation {
+        private final Thread owner = Thread.currentThread();
+        private final AtomicBoolean recursionDetected = new AtomicBoolean(false);
+
+        private volatile boolean finished = false;
+        // Set under the monitor of WAITING_FOR before a thread starts waiting, so that finish() only takes it when needed
+        private volatile boolean hasWaiters = false;
+
+        // Only accessed by the owner thread: the value is already visible to it during postCompute(), but not to other threads
+        private boolean hasResult = false;
+        private Object result = null;
+
+        public void setResult(@Nullable Object result) {
+            this.result = result;
+            this.hasResult = true;
+        }
+
+        /**
+         * @return {@code true} if recursion has been detected for the first time
+         */
+        public boolean markRecursionDetected() {
+            return recursionDetected.compareAndSet(false, true);
+        }
+
+        public boolean isRecursionDetected() {
+            return recursionDetected.get();
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public void finish() {
+            finished = true;
+            if (hasWaiters) {
+                synchronized (WAITING_FOR) {
+                    WAITING_FOR.notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "COMPUTING in " + owner.getName();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentLazyValue, Object> LAZY_VALUE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLazyValue.class, Object.class, "value");
+
+    private class ConcurrentLazyValue<T> implements NullableLazyValue<T> {
+
+        private final Function0<? extends T> computable;
+
+        // Not private: updated through LAZY_VALUE_UPDATER
+        @Nullable
+        volatile Object value = NotValue.NOT_COMPUTED;
+
+        public ConcurrentLazyValue(@NotNull Function0<? extends T> computable) {
+            this.computable = computable;
+        }
+
+        @Override
+        public boolean isComputed() {
+            Object _value = value;
+            return _value != NotValue.NOT_COMPUTED && !(_value instanceof Computation);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T invoke() {
+            while (true) {
+                Object _value = value;
+                if (!(_value instanceof NotValue) && !(_value instanceof Computation)) return WrappedValues.unescapeThrowable(_value);
+
+                if (_value == NotValue.RECURSION_WAS_DETECTED) {
+                    RecursionDetectedResult<T> result = recursionDetected(/*firstTime = */ false);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                    return computable.invoke();
+                }
+
+                if (_value instanceof Computation) {
+                    Computation computation = (Computation) _value;
+                    if (computation.owner == Thread.currentThread()) {
+                        if (computation.hasResult) return (T) computation.result;
+                        return recursiveCall(computation);
+                    }
+                    if (!awaitOrDetectCycle(computation)) {
+                        return recursiveCall(computation);
+                    }
+                    continue;
+                }
+
+                Computation computation = new Computation();
+                if (LAZY_VALUE_UPDATER.compareAndSet(this, NotValue.NOT_COMPUTED, computation)) {
+                    return doCompute(computation);
+                }
+            }
+        }
+
+        private T recursiveCall(@NotNull Computation computation) {
+            RecursionDetectedResult<T> result = recursionDetected(computation.markRecursionDetected());
+            if (!result.isFallThrough()) {
+                return result.getValue();
+            }
+            return computable.invoke();
+        }
+
+        private T doCompute(@NotNull Computation computation) {
+            try {
+                T typedValue = computable.invoke();
+                computation.setResult(typedValue);
+                postCompute(typedValue);
+                value = typedValue;
+                return typedValue;
+            }
+            catch (Throwable throwable) {
+                if (computation.hasResult) {
+                    // postCompute() failed, the value is nevertheless computed
+                    value = computation.result;
+                }
+                else if (computation.isRecursionDetected()) {
+                    // Don't store anything thrown through recursionDetected()
+                    value = NotValue.RECURSION_WAS_DETECTED;
+                }
+                else {
+                    value = WrappedValues.escapeThrowable(throwable);
+                }
+                throw exceptionHandlingStrategy.handleException(throwable);
+            }
+            finally {
+                computation.finish();
+            }
+        }
+
+        /**
+         * @param firstTime {@code true} when recursion has been just detected, {@code false} otherwise
+         * @return a value to be returned on a recursive call or subsequent calls
+         */
+        @NotNull
+        protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+            return recursionDetectedDefault();
+        }
+
+        protected void postCompute(T value) {
+            // Doing something in post-compute helps prevent infinite recursion
+        }
+    }
+
+    private class ConcurrentNotNullLazyValue<T> extends ConcurrentLazyValue<T> implements NotNullLazyValue<T> {
+
+        public ConcurrentNotNullLazyValue(@NotNull Function0<? extends T> computable) {
+            super(computable);
+        }
+
+        @Override
+        @NotNull
+        public T invoke() {
+            T result = super.invoke();
+            assert result != null : "compute() returned null";
+            return result;
+        }
+    }
+
+    private class ConcurrentMemoizedFunction<K, V> implements MemoizedFunctionToNullable<K, V> {
+        private final ConcurrentMap<K, Object> cache;
+        private final Function1<? super K, ? extends V> compute;
+
+        public ConcurrentMemoizedFunction(@NotNull ConcurrentMap<K, Object> map, @NotNull Function1<? super K, ? extends V> compute) {
+            this.cache = map;
+            this.compute = compute;
+        }
+
+        @Override
+        @Nullable
+        public V invoke(K input) {
+            while (true) {
+                Object value = cache.get(input);
+                if (value instanceof Computation) {
+                    Computation computation = (Computation) value;
+                    if (computation.owner == Thread.currentThread() || !awaitOrDetectCycle(computation)) {
+                        throw recursionDetected(input);
+                    }
+                    continue;
+                }
+                if (value != null) return WrappedValues.unescapeExceptionOrNull(value);
+
+                Computation computation = new Computation();
+                if (cache.putIfAbsent(input, computation) == null) {
+                    return doCompute(input, computation);
+                }
+            }
+        }
+
+        @Nullable
+        private V doCompute(K input, @NotNull Computation computation) {
+            AssertionError error = null;
+            try {
+                V typedValue = compute.invoke(input);
+
+                // See the comment in LockBasedStorageManager.MapBasedMemoizedFunction: this error should not be stored
+                if (!cache.replace(input, computation, WrappedValues.escapeNull(typedValue))) {
+                    error = raceCondition(input, cache.get(input));
+                    throw error;
+                }
+
+                return typedValue;
+            }
+            catch (Throwable throwable) {
+                if (throwable == error) throw exceptionHandlingStrategy.handleException(throwable);
+
+                if (!cache.replace(input, computation, WrappedValues.escapeThrowable(throwable))) {
+                    throw raceCondition(input, cache.get(input));
+                }
+
+                throw exceptionHandlingStrategy.handleException(throwable);
+            }
+            finally {
+                computation.finish();
+            }
+        }
+
+        @NotNull
+        private AssertionError recursionDetected(K input) {
+            return sanitizeStackTrace(
+                    new AssertionError("Recursion detected on input: " + input + " under " + ConcurrentStorageManager.this)
+            );
+        }
+
+        @NotNull
+        private AssertionError raceCondition(K input, Object newValue) {
+            return sanitizeStackTrace(
+                    new AssertionError("Race condition detected on input " + input + ". Value is " + newValue +
+                                       " under " + ConcurrentStorageManager.this)
+            );
+        }
+
+        @Override
+        public boolean isComputed(K key) {
+            Object value = cache.get(key);
+            return value != null && !(value instanceof Computation);
+        }
+    }
+
+    private class ConcurrentMemoizedFunctionToNotNull<K, V> extends ConcurrentMemoizedFunction<K, V> implements MemoizedFunctionToNotNull<K, V> {
+
+        public ConcurrentMemoizedFunctionToNotNull(
+                @NotNull ConcurrentMap<K, Object> map,
+                @NotNull Function1<? super K, ? extends V> compute
+        ) {
+            super(map, compute);
+        }
+
+        @NotNull
+        @Override
+        public V invoke(K input) {
+            V result = super.invoke(input);
+            assert result != null : "compute() returned null under " + ConcurrentStorageManager.this;
+            return result;
+        }
+    }
+}
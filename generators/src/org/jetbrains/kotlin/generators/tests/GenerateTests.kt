@@ -31,6 +31,7 @@ import org.jetbrains.kotlin.codegen.*
 import org.jetbrains.kotlin.codegen.defaultConstructor.AbstractDefaultArgumentsReflectionTest
 import org.jetbrains.kotlin.codegen.flags.AbstractWriteFlagsTest
 import org.jetbrains.kotlin.codegen.generated.AbstractBlackBoxCodegenTest
+import org.jetbrains.kotlin.codegen.generated.AbstractBlackBoxCodegenWithSparseFramesTest
 import org.jetbrains.kotlin.codegen.generated.AbstractBlackBoxInlineCodegenTest
 import org.jetbrains.kotlin.findUsages.AbstractJetFindUsagesTest
 import org.jetbrains.kotlin.findUsages.AbstractKotlinFindUsagesWithLibraryTest
@@ -199,6 +200,14 @@ fun main(args: Array<String>) {
             model("codegen/boxWithStdlib", testMethod = "doTestWithStdlib")
         }
 
+        testClass(javaClass<AbstractBlackBoxCodegenWithSparseFramesTest>()) {
+            model("codegen/box")
+        }
+
+        testClass(javaClass<AbstractBlackBoxCodegenWithSparseFramesTest>(), "BlackBoxWithStdlibCodegenWithSparseFramesTestGenerated") {
+            model("codegen/boxWithStdlib", testMethod = "doTestWithStdlib")
+        }
+
         testClass(javaClass<AbstractScriptCodegenTest>()) {
             model("codegen/script", extension = "kts")
         }
@@ -64,7 +64,7 @@ public class DeserializerForDecompiler(
         val packageData = JvmProtoBufUtil.readPackageDataFrom(annotationData)
         val membersScope = DeserializedPackageMemberScope(
                 createDummyPackageFragment(packageFqName),
-                packageData.getPackageProto(),
+                packageData.getMemberProtos(),
                 packageData.getNameResolver(),
                 deserializationComponents
         ) { emptyList() }
@@ -68,7 +68,7 @@ public class KotlinJavaScriptDeserializerForDecompiler(
 
         val membersScope = DeserializedPackageMemberScope(
                 createDummyPackageFragment(packageFqName),
-                packageData.getPackageProto(),
+                packageData.getMemberProtos(),
                 packageData.getNameResolver(),
                 deserializationComponents
         ) { emptyList() }
@@ -16,13 +16,14 @@
 
 package org.jetbrains.kotlin.jps.incremental
 
+import com.intellij.openapi.util.SystemInfo
+import com.intellij.openapi.util.io.FileUtil
 import com.intellij.util.io.*
 import org.jetbrains.annotations.TestOnly
 import org.jetbrains.jps.builders.BuildTarget
 import org.jetbrains.jps.builders.storage.BuildDataPaths
 import org.jetbrains.jps.builders.storage.StorageProvider
 import org.jetbrains.jps.incremental.storage.BuildDataManager
-import org.jetbrains.jps.incremental.storage.PathStringDescriptor
 import org.jetbrains.jps.incremental.storage.StorageOwner
 import org.jetbrains.kotlin.config.IncrementalCompilation
 import org.jetbrains.kotlin.descriptors.Visibilities
@@ -60,10 +61,11 @@ private val CACHE_DIRECTORY_NAME = "kotlin"
 class CacheFormatVersion(targetDataRoot: File) {
     companion object {
         // Change this when incremental cache format changes
-        private val INCREMENTAL_CACHE_OWN_VERSION = 3
+        private val INCREMENTAL_CACHE_OWN_VERSION = 4
         private val CACHE_FORMAT_VERSION: Int = INCREMENTAL_CACHE_OWN_VERSION * 1000000 + JvmAbi.VERSION
 
         private val NON_INCREMENTAL_MODE_PSEUDO_VERSION = Int.MAX_VALUE
+        private val DAMAGED_CACHE_PSEUDO_VERSION = -1
 
         val FORMAT_VERSION_FILE_PATH: String = "$CACHE_DIRECTORY_NAME/format-version.txt"
     }
@@ -94,19 +96,32 @@ class CacheFormatVersion(targetDataRoot: File) {
     fun clean() {
         file.delete()
     }
+
+    // The caches are rebuilt on the next build
+    fun markIncompatible() {
+        try {
+            FileUtil.createParentDirs(file)
+            file.writeText(DAMAGED_CACHE_PSEUDO_VERSION.toString())
+        }
+        catch (e: IOException) {
+            KotlinBuilder.LOG.error("Could not mark incremental cache in ${file.getParent()} as incompatible", e)
+        }
+    }
 }
 
 public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, IncrementalCache {
     companion object {
-        val PROTO_MAP = "proto.tab"
-        val CONSTANTS_MAP = "constants.tab"
-        val INLINE_FUNCTIONS = "inline-functions.tab"
-        val PACKAGE_PARTS = "package-parts.tab"
-        val SOURCE_TO_CLASSES = "source-to-classes.tab"
-        val DIRTY_OUTPUT_CLASSES = "dirty-output-classes.tab"
+        // ids of maps in the storage
+        private val PROTO_MAP = 0
+        private val CONSTANTS_MAP = 1
+        private val INLINE_FUNCTIONS = 2
+        private val PACKAGE_PARTS = 3
+        private val SOURCE_TO_CLASSES = 4
+        private val DIRTY_OUTPUT_CLASSES = 5
     }
 
     private val baseDir = File(targetDataRoot, CACHE_DIRECTORY_NAME)
+    private val storage = IncrementalCacheStorage(baseDir, mapOf(SOURCE_TO_CLASSES to { path: String -> normalizePath(path) }))
     private val protoMap = ProtoMap()
     private val constantsMap = ConstantsMap()
     private val inlineFunctionsMap = InlineFunctionsMap()
@@ -227,54 +242,39 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
     }
 
     override fun flush(memoryCachesOnly: Boolean) {
-        maps.forEach { it.flush(memoryCachesOnly) }
+        markIncompatibleOnError { storage.flush(memoryCachesOnly) }
     }
 
     public override fun clean() {
-        maps.forEach { it.clean() }
+        storage.clean()
         cacheFormatVersion.clean()
     }
 
     public override fun close() {
-        maps.forEach { it.close () }
+        markIncompatibleOnError { storage.close() }
     }
 
-    private abstract class BasicMap<V> {
-        protected var storage: PersistentHashMap<String, V> = createMap()
-
-        protected abstract fun createMap(): PersistentHashMap<String, V>
-
-        public fun contains(key: String): Boolean = storage.containsMapping(key)
-
-        public fun clean() {
-            try {
-                storage.close()
-            }
-            catch (ignored: IOException) {
-            }
-
-            PersistentHashMap.deleteFilesStartingWith(storage.getBaseFile()!!)
-            try {
-                storage = createMap()
-            }
-            catch (ignored: IOException) {
-            }
+    // A build may not go on with a cache which lacks some changes, the exception fails the build and the next one is a rebuild
+    private fun markIncompatibleOnError(block: () -> Unit) {
+        try {
+            block()
         }
-
-        public fun flush(memoryCachesOnly: Boolean) {
-            if (memoryCachesOnly) {
-                if (storage.isDirty()) {
-                    storage.dropMemoryCaches()
-                }
-            }
-            else {
-                storage.force()
-            }
+        catch (e: IOException) {
+            cacheFormatVersion.markIncompatible()
+            throw e
         }
+    }
 
-        public fun close() {
-            storage.close()
-        }
+    // Paths are compared as PathStringDescriptor does it
+    private fun normalizePath(path: String): String {
+        val canonicalPath = FileUtil.toCanonicalPath(path)
+        return if (SystemInfo.isFileSystemCaseSensitive) canonicalPath else canonicalPath.toLowerCase()
+    }
+
+    private abstract inner class BasicMap<V>(id: Int, externalizer: DataExternalizer<V>) {
+        protected val storage: IncrementalCacheStorage.StorageMap<V> = this@IncrementalCacheImpl.storage.createMap(id, externalizer)
+
+        public fun contains(key: String): Boolean = storage.containsMapping(key)
 
         TestOnly
         public fun dump(): String {
@@ -297,13 +297,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         protected abstract fun dumpValue(value: V): String
     }
 
-    private inner class ProtoMap : BasicMap<ByteArray>() {
-        override fun createMap(): PersistentHashMap<String, ByteArray> = PersistentHashMap(
-                File(baseDir, PROTO_MAP),
-                EnumeratorStringDescriptor(),
-                ByteArrayExternalizer
-        )
-
+    private inner class ProtoMap : BasicMap<ByteArray>(PROTO_MAP, ByteArrayExternalizer) {
         public fun put(className: JvmClassName, data: ByteArray, isPackage: Boolean): Boolean {
             val key = className.getInternalName()
             val oldData = storage[key]
@@ -379,13 +373,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         }
     }
 
-    private inner class ConstantsMap : BasicMap<Map<String, Any>>() {
-        override fun createMap(): PersistentHashMap<String, Map<String, Any>> = PersistentHashMap(
-                File(baseDir, CONSTANTS_MAP),
-                EnumeratorStringDescriptor(),
-                ConstantsMapExternalizer
-        )
-
+    private inner class ConstantsMap : BasicMap<Map<String, Any>>(CONSTANTS_MAP, ConstantsMapExternalizer) {
         private fun getConstantsMap(bytes: ByteArray): Map<String, Any>? {
             val result = HashMap<String, Any>()
 
@@ -498,13 +486,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         }
     }
 
-    private inner class InlineFunctionsMap : BasicMap<Map<String, Long>>() {
-        override fun createMap(): PersistentHashMap<String, Map<String, Long>> = PersistentHashMap(
-                File(baseDir, INLINE_FUNCTIONS),
-                EnumeratorStringDescriptor(),
-                InlineFunctionsMapExternalizer
-        )
-
+    private inner class InlineFunctionsMap : BasicMap<Map<String, Long>>(INLINE_FUNCTIONS, InlineFunctionsMapExternalizer) {
         private fun getInlineFunctionsMap(bytes: ByteArray): Map<String, Long>? {
             val result = HashMap<String, Long>()
 
@@ -600,13 +582,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
 
     }
 
-    private inner class PackagePartMap : BasicMap<Boolean>() {
-        override fun createMap(): PersistentHashMap<String, Boolean> = PersistentHashMap(
-                File(baseDir, PACKAGE_PARTS),
-                EnumeratorStringDescriptor(),
-                BooleanDataDescriptor.INSTANCE
-        )
-
+    private inner class PackagePartMap : BasicMap<Boolean>(PACKAGE_PARTS, BooleanDataDescriptor.INSTANCE) {
         public fun addPackagePart(className: JvmClassName) {
             storage.put(className.getInternalName(), true)
         }
@@ -622,19 +598,13 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         override fun dumpValue(value: Boolean) = ""
     }
 
-    private inner class SourceToClassesMap : BasicMap<List<String>>() {
-        override fun createMap(): PersistentHashMap<String, List<String>> = PersistentHashMap(
-                File(baseDir, SOURCE_TO_CLASSES),
-                PathStringDescriptor.INSTANCE,
-                StringListExternalizer
-        )
-
+    private inner class SourceToClassesMap : BasicMap<List<String>>(SOURCE_TO_CLASSES, StringListExternalizer) {
         public fun clearOutputsForSource(sourceFile: File) {
             storage.remove(sourceFile.getAbsolutePath())
         }
 
         public fun addSourceToClass(sourceFile: File, className: JvmClassName) {
-            storage.appendData(sourceFile.getAbsolutePath(), { out -> IOUtil.writeUTF(out, className.getInternalName()) })
+            storage.appendData(sourceFile.getAbsolutePath()) { out -> IOUtil.writeUTF(out, className.getInternalName()) }
         }
 
         public fun get(sourceFile: File): Collection<JvmClassName> {
@@ -644,13 +614,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         override fun dumpValue(value: List<String>) = value.toString()
     }
 
-    private inner class DirtyOutputClassesMap : BasicMap<Boolean>() {
-        override fun createMap(): PersistentHashMap<String, Boolean> = PersistentHashMap(
-                File(baseDir, DIRTY_OUTPUT_CLASSES),
-                EnumeratorStringDescriptor(),
-                BooleanDataDescriptor.INSTANCE
-        )
-
+    private inner class DirtyOutputClassesMap : BasicMap<Boolean>(DIRTY_OUTPUT_CLASSES, BooleanDataDescriptor.INSTANCE) {
         public fun markDirty(className: String) {
             storage.put(className, true)
         }
@@ -664,7 +628,7 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
         }
 
         public fun clear() {
-            storage.getAllKeysWithExistingMapping().forEach { storage.remove(it) }
+            storage.getAllKeysWithExistingMapping().toList().forEach { storage.remove(it) }
         }
 
         override fun dumpValue(value: Boolean) = ""
@@ -0,0 +1,495 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.jps.incremental
+
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.util.io.DataExternalizer
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutput
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.LinkedHashMap
+import java.util.zip.CRC32
+
+/**
+ * All maps of an incremental cache in a single append-only segment file.
+ *
+ * Changes are kept in memory and appended to the segment as one batch on a full flush. A batch is its length, the records and a CRC32 of them.
+ * A record is a map id, a key and a value (or a removal). The index of live records is built in memory by one pass over the segment on
+ * opening, and values are read through a memory mapping of the segment. A batch which was not written completely is cut off on
+ * opening instead of invalidating the whole cache.
+ *
+ * Once overwritten and removed records take more space than live ones, the live records are copied to a segment of the next generation,
+ * segment-<generation>.tab. A segment can't be deleted while it's mapped on some platforms, so it's never written again after that.
+ *
+ * Keys of a map are compared after normalization by a function from keyNormalizers (if there's one for its id),
+ * but getAllKeysWithExistingMapping returns keys as they were put.
+ */
+class IncrementalCacheStorage(private val directory: File, private val keyNormalizers: Map<Int, (String) -> String>) {
+    private class Entry(val key: String, val valueOffset: Long, val valueLength: Int, val recordSize: Int)
+
+    // null value stands for a removal, data appended to a pending value is written to the same buffer
+    private class PendingValue(val key: String, val value: ByteArrayOutputStream?)
+
+    private class WrittenRecord(val id: Int, val normalizedKey: String, val entry: Entry?, val size: Int)
+
+    private val index = HashMap<Int, HashMap<String, Entry>>()
+    private val pending = LinkedHashMap<Int, LinkedHashMap<String, PendingValue>>()
+
+    private var generation = 0
+    private var file: RandomAccessFile? = null
+    private var committedLength = 0L
+    private var mappedBuffer: MappedByteBuffer? = null
+    private var liveBytes = 0L
+    private var garbageBytes = 0L
+
+    init {
+        open()
+    }
+
+    public inner class StorageMap<V>(private val id: Int, private val externalizer: DataExternalizer<V>) {
+        public fun get(key: String): V? {
+            val bytes = getBytes(id, key) ?: return null
+            return externalizer.read(DataInputStream(ByteArrayInputStream(bytes)))
+        }
+
+        public fun put(key: String, value: V) {
+            val bytes = ByteArrayOutputStream()
+            DataOutputStream(bytes).use { externalizer.save(it, value) }
+            putBytes(id, key, bytes)
+        }
+
+        /**
+         * Adds data written by append to the end of the value, as if the externalizer had saved it. Doesn't copy the whole value
+         * if it's already pending.
+         */
+        public fun appendData(key: String, append: (DataOutput) -> Unit) {
+            appendBytes(id, key, append)
+        }
+
+        public fun remove(key: String) {
+            putBytes(id, key, null)
+        }
+
+        public fun containsMapping(key: String): Boolean = getBytes(id, key) != null
+
+        public fun getAllKeysWithExistingMapping(): Collection<String> = keys(id)
+    }
+
+    public fun <V> createMap(id: Int, externalizer: DataExternalizer<V>): StorageMap<V> = StorageMap(id, externalizer)
+
+    private fun getBytes(id: Int, key: String): ByteArray? {
+        synchronized (this) {
+            val normalizedKey = normalize(id, key)
+            val pendingValue = pending[id]?.get(normalizedKey)
+            if (pendingValue != null) return pendingValue.value?.toByteArray()
+
+            val entry = index[id]?.get(normalizedKey) ?: return null
+            val buffer = mappedBuffer() ?: return null
+            val bytes = ByteArray(entry.valueLength)
+            (buffer.duplicate().position(entry.valueOffset.toInt()) as ByteBuffer).get(bytes)
+            return bytes
+        }
+    }
+
+    private fun putBytes(id: Int, key: String, value: ByteArrayOutputStream?) {
+        synchronized (this) {
+            pending.getOrPut(id) { LinkedHashMap() }[normalize(id, key)] = PendingValue(key, value)
+        }
+    }
+
+    private fun appendBytes(id: Int, key: String, append: (DataOutput) -> Unit) {
+        synchronized (this) {
+            val values = pending.getOrPut(id) { LinkedHashMap() }
+            val normalizedKey = normalize(id, key)
+            val pendingValue = values[normalizedKey]
+            val bytes = pendingValue?.value ?: ByteArrayOutputStream().apply {
+                // appending to a pending removal starts a new value
+                if (pendingValue == null) {
+                    getBytes(id, key)?.let { write(it) }
+                }
+                values[normalizedKey] = PendingValue(key, this)
+            }
+            DataOutputStream(bytes).use { append(it) }
+        }
+    }
+
+    private fun keys(id: Int): Collection<String> {
+        synchronized (this) {
+            val result = LinkedHashMap<String, String>()
+            index[id]?.let { for ((normalizedKey, entry) in it) result[normalizedKey] = entry.key }
+            pending[id]?.let {
+                for ((normalizedKey, pendingValue) in it) {
+                    if (pendingValue.value != null) result[normalizedKey] = pendingValue.key else result.remove(normalizedKey)
+                }
+            }
+            return result.values()
+        }
+    }
+
+    private fun normalize(id: Int, key: String): String = keyNormalizers[id]?.invoke(key) ?: key
+
+    /**
+     * Unless memoryCachesOnly is set, appends all pending changes as a batch, forces the segment to the disk and compacts it if needed.
+     * Pending changes are kept in memory otherwise.
+     *
+     * @throws IOException if the changes could not be written, the segment may end with a partially written batch then
+     */
+    throws(IOException::class)
+    public fun flush(memoryCachesOnly: Boolean) {
+        synchronized (this) {
+            if (memoryCachesOnly) return
+
+            if (!pending.isEmpty()) {
+                appendBatch(pending)
+                pending.clear()
+            }
+            if (garbageBytes > liveBytes && garbageBytes > COMPACTION_THRESHOLD_BYTES) {
+                compact()
+            }
+            file!!.getChannel().force(false)
+        }
+    }
+
+    throws(IOException::class)
+    public fun close() {
+        synchronized (this) {
+            try {
+                flush(false)
+            }
+            finally {
+                closeFile()
+            }
+        }
+    }
+
+    public fun clean() {
+        synchronized (this) {
+            closeFile()
+            pending.clear()
+            segmentFiles().forEach { it.delete() }
+            generation = 0
+            open()
+        }
+    }
+
+    private fun appendBatch(changes: Map<Int, Map<String, PendingValue>>) {
+        val written = ArrayList<WrittenRecord>()
+        val bytes = serializeBatch(changes, committedLength, written)
+
+        val batchLength = writeBatch(file!!.getChannel(), committedLength, bytes)
+        for (record in written) {
+            updateIndex(record.id, record.normalizedKey, record.entry, record.size)
+        }
+        committedLength += batchLength
+        mappedBuffer = null
+    }
+
+    // Values are at known positions in the batch, records are added to written to update the index once the batch is written
+    private fun serializeBatch(changes: Map<Int, Map<String, PendingValue>>, batchStart: Long, written: MutableList<WrittenRecord>): ByteArray {
+        val batch = ByteArrayOutputStream()
+        val output = DataOutputStream(batch)
+
+        for ((id, values) in changes) {
+            for ((normalizedKey, pendingValue) in values) {
+                val recordStart = output.size()
+                output.writeByte(id)
+                val keyBytes = pendingValue.key.toByteArray(Charsets.UTF_8)
+                output.writeInt(keyBytes.size())
+                output.write(keyBytes)
+
+                val value = pendingValue.value?.toByteArray()
+                if (value == null) {
+                    output.writeInt(-1)
+                    written.add(WrittenRecord(id, normalizedKey, null, output.size() - recordStart))
+                }
+                else {
+                    output.writeInt(value.size())
+                    val valueOffset = batchStart + 4 + output.size()
+                    output.write(value)
+                    val recordSize = output.size() - recordStart
+                    written.add(WrittenRecord(id, normalizedKey, Entry(pendingValue.key, valueOffset, value.size(), recordSize), recordSize))
+                }
+            }
+        }
+        output.flush()
+        return batch.toByteArray()
+    }
+
+    private fun writeBatch(channel: FileChannel, batchStart: Long, bytes: ByteArray): Long {
+        val crc = CRC32()
+        crc.update(bytes)
+
+        val buffer = ByteBuffer.allocate(4 + bytes.size() + 8)
+        buffer.putInt(bytes.size())
+        buffer.put(bytes)
+        buffer.putLong(crc.getValue())
+        buffer.flip()
+
+        var position = batchStart
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position)
+        }
+        return buffer.limit().toLong()
+    }
+
+    private fun updateIndex(id: Int, normalizedKey: String, entry: Entry?, removalRecordSize: Int) {
+        val entries = index.getOrPut(id) { HashMap() }
+        val old = if (entry != null) entries.put(normalizedKey, entry) else entries.remove(normalizedKey)
+        if (old != null) {
+            liveBytes -= old.recordSize
+            garbageBytes += old.recordSize
+        }
+        if (entry != null) {
+            liveBytes += entry.recordSize
+        }
+        else {
+            garbageBytes += removalRecordSize
+        }
+    }
+
+    /**
+     * Writes the live records to a segment of the next generation. The storage switches to the new segment only once it's complete
+     * and has got its name, until then (and if it fails) the old segment stays open and actual.
+     */
+    private fun compact() {
+        val live = LinkedHashMap<Int, Map<String, PendingValue>>()
+        for ((id, entries) in index) {
+            live[id] = entries.mapValues {
+                val bytes = ByteArrayOutputStream()
+                getBytes(id, it.getKey())?.let { value -> bytes.write(value) }
+                PendingValue(it.getValue().key, bytes)
+            }
+        }
+
+        val newGeneration = generation + 1
+        val tempFile = File(directory, segmentName(newGeneration) + ".tmp")
+        val segment = File(directory, segmentName(newGeneration))
+        val written = ArrayList<WrittenRecord>()
+        val newFile: RandomAccessFile
+        val batchLength: Long
+        try {
+            batchLength = writeSegment(tempFile, serializeBatch(live, HEADER_SIZE.toLong(), written))
+            if (!tempFile.renameTo(segment)) throw IOException("Could not rename $tempFile to $segment")
+            newFile = RandomAccessFile(segment, "rw")
+        }
+        catch (e: IOException) {
+            LOG.warn("Could not compact incremental cache in $directory", e)
+            tempFile.delete()
+            segment.delete()
+            return
+        }
+
+        val oldSegments = segmentFiles().filter { it != segment }
+        closeFile()
+        file = newFile
+        generation = newGeneration
+        index.clear()
+        liveBytes = 0
+        garbageBytes = 0
+        for (record in written) {
+            updateIndex(record.id, record.normalizedKey, record.entry, record.size)
+        }
+        committedLength = HEADER_SIZE + batchLength
+
+        for (oldSegment in oldSegments) {
+            if (!oldSegment.delete()) oldSegment.deleteOnExit()
+        }
+    }
+
+    // Returns the length of the batch written after the header
+    private fun writeSegment(segment: File, batch: ByteArray): Long {
+        val raf = RandomAccessFile(segment, "rw")
+        try {
+            raf.setLength(0)
+            raf.writeInt(MAGIC)
+            raf.writeInt(VERSION)
+            val batchLength = writeBatch(raf.getChannel(), HEADER_SIZE.toLong(), batch)
+            raf.getChannel().force(false)
+            return batchLength
+        }
+        finally {
+            raf.close()
+        }
+    }
+
+    private fun open() {
+        directory.mkdirs()
+
+        // the last generation is the actual one, older ones could be left if the process was killed during compaction
+        val segments = segmentFiles().sortBy { segmentGeneration(it) }
+        val segment = segments.lastOrNull()
+        segments.filter { it != segment }.forEach { it.delete() }
+        directory.listFiles()?.filter { it.getName().startsWith(SEGMENT_PREFIX) && it.getName().endsWith(".tmp") }?.forEach { it.delete() }
+
+        if (segment == null || !load(segment)) {
+            closeFile()
+            segment?.delete()
+            createSegment(File(directory, segmentName(generation)))
+        }
+    }
+
+    private fun load(segment: File): Boolean {
+        generation = segmentGeneration(segment)
+        val raf = RandomAccessFile(segment, "rw")
+        file = raf
+        val length = raf.length()
+        if (length < HEADER_SIZE || raf.readInt() != MAGIC || raf.readInt() != VERSION) return false
+
+        // The segment is read without mapping: a mapped file can't be truncated on some platforms, and the mapping can't be released
+        committedLength = HEADER_SIZE.toLong()
+        mappedBuffer = null
+        try {
+            while (readBatch(raf.getChannel(), length)) {
+            }
+        }
+        catch (e: RuntimeException) {
+            LOG.warn("Damaged batch in incremental cache $segment", e)
+        }
+        catch (e: IOException) {
+            LOG.warn("Damaged batch in incremental cache $segment", e)
+        }
+
+        if (committedLength < length) {
+            LOG.info("Incremental cache $segment is truncated from $length to $committedLength bytes")
+            try {
+                raf.setLength(committedLength)
+            }
+            catch (e: IOException) {
+                LOG.warn(e)
+                return false
+            }
+        }
+        return true
+    }
+
+    private fun readBatch(channel: FileChannel, length: Long): Boolean {
+        val batchStart = committedLength
+        if (batchStart + 4 > length) return false
+        val batchLength = read(channel, batchStart, 4).getInt()
+        if (batchLength < 0 || batchStart + 4 + batchLength + 8 > length) return false
+
+        val batch = read(channel, batchStart + 4, batchLength + 8)
+        val bytes = ByteArray(batchLength)
+        batch.get(bytes)
+        val crc = CRC32()
+        crc.update(bytes)
+        if (crc.getValue() != batch.getLong()) return false
+
+        val records = ByteBuffer.wrap(bytes)
+        while (records.hasRemaining()) {
+            val recordStart = records.position()
+            val id = records.get().toInt()
+            val keyBytes = ByteArray(records.getInt())
+            records.get(keyBytes)
+            val key = String(keyBytes, Charsets.UTF_8)
+            val valueLength = records.getInt()
+
+            val normalizedKey = normalize(id, key)
+            if (valueLength < 0) {
+                updateIndex(id, normalizedKey, null, records.position() - recordStart)
+            }
+            else {
+                val valueOffset = batchStart + 4 + records.position()
+                records.position(records.position() + valueLength)
+                updateIndex(id, normalizedKey, Entry(key, valueOffset, valueLength, records.position() - recordStart), 0)
+            }
+        }
+
+        committedLength = batchStart + 4 + batchLength + 8
+        return true
+    }
+
+    private fun read(channel: FileChannel, position: Long, size: Int): ByteBuffer {
+        val buffer = ByteBuffer.allocate(size)
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw EOFException()
+        }
+        buffer.flip()
+        return buffer
+    }
+
+    private fun createSegment(segment: File) {
+        index.clear()
+        liveBytes = 0
+        garbageBytes = 0
+        mappedBuffer = null
+
+        val raf = RandomAccessFile(segment, "rw")
+        raf.setLength(0)
+        raf.writeInt(MAGIC)
+        raf.writeInt(VERSION)
+        file = raf
+        committedLength = HEADER_SIZE.toLong()
+    }
+
+    private fun mappedBuffer(): MappedByteBuffer? {
+        if (mappedBuffer == null) {
+            mappedBuffer = file?.getChannel()?.map(FileChannel.MapMode.READ_ONLY, 0, committedLength)
+        }
+        return mappedBuffer
+    }
+
+    private fun closeFile() {
+        mappedBuffer = null
+        try {
+            file?.close()
+        }
+        catch (e: IOException) {
+            LOG.warn(e)
+        }
+        file = null
+    }
+
+    private fun segmentFiles(): List<File> =
+            directory.listFiles()?.filter { it.getName().startsWith(SEGMENT_PREFIX) && it.getName().endsWith(SEGMENT_SUFFIX) } ?: listOf()
+
+    private fun segmentName(generation: Int) = "$SEGMENT_PREFIX$generation$SEGMENT_SUFFIX"
+
+    private fun segmentGeneration(segment: File): Int {
+        val name = segment.getName()
+        try {
+            return name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()).toInt()
+        }
+        catch (e: NumberFormatException) {
+            return -1
+        }
+    }
+
+    companion object {
+        private val LOG = Logger.getInstance(javaClass<IncrementalCacheStorage>())
+
+        private val MAGIC = 0x4b494353 // "KICS"
+        private val VERSION = 1
+        private val HEADER_SIZE = 8
+
+        private val SEGMENT_PREFIX = "segment-"
+        private val SEGMENT_SUFFIX = ".tab"
+
+        private val COMPACTION_THRESHOLD_BYTES = 1024 * 1024
+    }
+}
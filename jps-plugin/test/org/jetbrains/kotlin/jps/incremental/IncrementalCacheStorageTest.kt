@@ -0,0 +1,198 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.jps.incremental
+
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.EnumeratorStringDescriptor
+import junit.framework.TestCase
+import java.io.DataInput
+import java.io.DataInputStream
+import java.io.DataOutput
+import java.io.File
+import java.io.RandomAccessFile
+
+public class IncrementalCacheStorageTest : TestCase() {
+    private var directory: File by kotlin.properties.Delegates.notNull()
+
+    override fun setUp() {
+        super.setUp()
+        directory = FileUtil.createTempDirectory("incrementalCacheStorage", null)
+    }
+
+    override fun tearDown() {
+        FileUtil.delete(directory)
+        super.tearDown()
+    }
+
+    private fun createStorage() = IncrementalCacheStorage(directory, mapOf(1 to { key: String -> key.toLowerCase() }))
+
+    fun testValuesSurviveReopening() {
+        val storage = createStorage()
+        val map = storage.createMap(0, EnumeratorStringDescriptor())
+        map.put("a", "1")
+        map.put("b", "2")
+        map.remove("b")
+        // pending changes are visible before flush
+        assertEquals("1", map["a"])
+        assertNull(map["b"])
+        storage.close()
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(0, EnumeratorStringDescriptor())
+        assertEquals("1", reopenedMap["a"])
+        assertFalse(reopenedMap.containsMapping("b"))
+        assertEquals(listOf("a"), reopenedMap.getAllKeysWithExistingMapping().toList())
+        reopened.close()
+    }
+
+    fun testDamagedBatchIsDiscarded() {
+        val storage = createStorage()
+        val map = storage.createMap(0, EnumeratorStringDescriptor())
+        map.put("a", "1")
+        storage.flush(false)
+        map.put("b", "2")
+        storage.close()
+
+        // cut the last batch in the middle, as if the process was killed while writing it
+        val segment = directory.listFiles()!!.single()
+        RandomAccessFile(segment, "rw").use { it.setLength(it.length() - 3) }
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(0, EnumeratorStringDescriptor())
+        assertEquals("1", reopenedMap["a"])
+        assertNull(reopenedMap["b"])
+
+        reopenedMap.put("c", "3")
+        reopened.close()
+
+        val reopenedAgain = createStorage()
+        assertEquals("3", reopenedAgain.createMap(0, EnumeratorStringDescriptor())["c"])
+        reopenedAgain.close()
+    }
+
+    fun testCompaction() {
+        val storage = createStorage()
+        val map = storage.createMap(0, EnumeratorStringDescriptor())
+        val value = "x".repeat(10000)
+        for (i in 1..300) {
+            map.put("key", value + i)
+            map.put("other$i", "$i")
+            storage.flush(false)
+        }
+        storage.flush(false)
+
+        val segments = directory.listFiles()!!
+        assertEquals(1, segments.size())
+        assertTrue(segments[0].getName(), segments[0].getName() != "segment-0.tab")
+        assertTrue(segments[0].length() < 100000)
+        assertEquals(value + 300, map["key"])
+        storage.close()
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(0, EnumeratorStringDescriptor())
+        assertEquals(value + 300, reopenedMap["key"])
+        assertEquals(301, reopenedMap.getAllKeysWithExistingMapping().size())
+        reopened.close()
+    }
+
+    fun testFailedCompactionKeepsOldSegment() {
+        val storage = createStorage()
+        // a directory with the name of the next segment makes the compacted segment fail to get its name
+        val blocker = File(directory, "segment-1.tab")
+        File(blocker, "file").let { it.getParentFile().mkdirs(); it.createNewFile() }
+
+        val map = storage.createMap(0, EnumeratorStringDescriptor())
+        val value = "x".repeat(10000)
+        for (i in 1..300) {
+            map.put("key", value + i)
+            storage.flush(false)
+        }
+        storage.flush(false)
+
+        assertTrue(File(directory, "segment-0.tab").exists())
+        assertEquals(value + 300, map["key"])
+        map.put("other", "1")
+        storage.flush(false)
+
+        FileUtil.delete(blocker)
+        storage.close()
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(0, EnumeratorStringDescriptor())
+        assertEquals(value + 300, reopenedMap["key"])
+        assertEquals("1", reopenedMap["other"])
+        reopened.close()
+    }
+
+    fun testMemoryCachesOnlyFlushDoesNotWrite() {
+        val storage = createStorage()
+        val map = storage.createMap(0, EnumeratorStringDescriptor())
+        val segment = directory.listFiles()!!.single()
+        val emptyLength = segment.length()
+
+        map.put("a", "1")
+        storage.flush(true)
+        assertEquals(emptyLength, segment.length())
+        assertEquals("1", map["a"])
+
+        storage.flush(false)
+        assertTrue(segment.length() > emptyLength)
+        storage.close()
+    }
+
+    fun testAppendData() {
+        val storage = createStorage()
+        val map = storage.createMap(0, ByteArrayExternalizer)
+        map.put("a", "1".toByteArray())
+        storage.flush(false)
+
+        // appended to a written value, then to a pending one
+        map.appendData("a") { it.writeByte('2'.toInt()) }
+        map.appendData("a") { it.writeByte('3'.toInt()) }
+        map.appendData("b") { it.writeByte('4'.toInt()) }
+        assertEquals("123", String(map["a"]!!))
+        storage.close()
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(0, ByteArrayExternalizer)
+        assertEquals("123", String(reopenedMap["a"]!!))
+        assertEquals("4", String(reopenedMap["b"]!!))
+        reopened.close()
+    }
+
+    fun testKeyNormalization() {
+        val storage = createStorage()
+        val map = storage.createMap(1, EnumeratorStringDescriptor())
+        map.put("/Path/File.kt", "1")
+        storage.close()
+
+        val reopened = createStorage()
+        val reopenedMap = reopened.createMap(1, EnumeratorStringDescriptor())
+        assertEquals("1", reopenedMap["/path/file.KT"])
+        assertEquals(listOf("/Path/File.kt"), reopenedMap.getAllKeysWithExistingMapping().toList())
+        reopened.close()
+    }
+}
+
+private object ByteArrayExternalizer : DataExternalizer<ByteArray> {
+    override fun save(out: DataOutput, value: ByteArray) {
+        out.write(value)
+    }
+
+    override fun read(`in`: DataInput): ByteArray = (`in` as DataInputStream).readBytes()
+}
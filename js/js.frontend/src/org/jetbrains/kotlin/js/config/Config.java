@@ -57,6 +57,7 @@ public abstract class Config {
 
     private final boolean sourcemap;
     private final boolean metaInfo;
+    private final boolean removeUnreachableDeclarations;
 
     @NotNull
     protected final List<KotlinJavascriptMetadata> metadata = new SmartList<KotlinJavascriptMetadata>();
@@ -72,7 +73,8 @@ public abstract class Config {
             @NotNull EcmaVersion ecmaVersion,
             boolean sourcemap,
             boolean inlineEnabled,
-            boolean metaInfo
+            boolean metaInfo,
+            boolean removeUnreachableDeclarations
     ) {
         this.project = project;
         this.target = ecmaVersion;
@@ -80,6 +82,7 @@ public abstract class Config {
         this.sourcemap = sourcemap;
         this.inlineEnabled = inlineEnabled;
         this.metaInfo = metaInfo;
+        this.removeUnreachableDeclarations = removeUnreachableDeclarations;
     }
 
     public boolean isSourcemap() {
@@ -90,6 +93,10 @@ public abstract class Config {
         return metaInfo;
     }
 
+    public boolean isRemoveUnreachableDeclarations() {
+        return removeUnreachableDeclarations;
+    }
+
     public boolean isInlineEnabled() {
         return inlineEnabled;
     }
@@ -135,6 +142,12 @@ public abstract class Config {
         return sourceFilesFromLibraries;
     }
 
+    @NotNull
+    public List<KotlinJavascriptMetadata> getMetadata() {
+        init();
+        return metadata;
+    }
+
 
     public boolean isTestConfig() {
         return false;
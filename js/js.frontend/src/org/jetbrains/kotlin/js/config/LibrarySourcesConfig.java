@@ -70,9 +70,10 @@ public class LibrarySourcesConfig extends Config {
             boolean sourceMap,
             boolean inlineEnabled,
             boolean isUnitTestConfig,
-            boolean metaInfo
+            boolean metaInfo,
+            boolean removeUnreachableDeclarations
     ) {
-        super(project, moduleId, ecmaVersion, sourceMap, inlineEnabled, metaInfo);
+        super(project, moduleId, ecmaVersion, sourceMap, inlineEnabled, metaInfo, removeUnreachableDeclarations);
         this.files = files;
         this.isUnitTestConfig = isUnitTestConfig;
     }
@@ -195,6 +196,7 @@ public class LibrarySourcesConfig extends Config {
         boolean inlineEnabled = true;
         boolean isUnitTestConfig = false;
         boolean metaInfo = false;
+        boolean removeUnreachableDeclarations = false;
 
         public Builder(@NotNull Project project, @NotNull String moduleId, @NotNull List<String> files) {
             this.project = project;
@@ -227,8 +229,14 @@ public class LibrarySourcesConfig extends Config {
             return this;
         }
 
+        public Builder removeUnreachableDeclarations(boolean removeUnreachableDeclarations) {
+            this.removeUnreachableDeclarations = removeUnreachableDeclarations;
+            return this;
+        }
+
         public Config build() {
-            return new LibrarySourcesConfig(project, moduleId, files, ecmaVersion, sourceMap, inlineEnabled, isUnitTestConfig, metaInfo);
+            return new LibrarySourcesConfig(project, moduleId, files, ecmaVersion, sourceMap, inlineEnabled, isUnitTestConfig, metaInfo,
+                                            removeUnreachableDeclarations);
         }
     }
 
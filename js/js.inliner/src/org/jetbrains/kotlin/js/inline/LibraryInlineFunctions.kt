@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.inline
+
+import com.google.dart.compiler.backend.js.ast.JsFunction
+import com.google.dart.compiler.backend.js.ast.JsProgram
+import com.google.dart.compiler.backend.js.ast.JsRootScope
+import com.google.gwt.dev.js.ThrowExceptionOnErrorReporter
+import org.jetbrains.kotlin.js.parser.parseFunction
+import org.jetbrains.kotlin.utils.LibraryUtils
+import java.io.File
+import java.lang.ref.SoftReference
+import java.util.LinkedHashMap
+import java.util.concurrent.ConcurrentHashMap
+
+// TODO: add hash checksum to defineModule?
+/**
+ * Matches string like Kotlin.defineModule("stdlib", _)
+ * Kotlin, _ can be renamed by minifier, quotes type can be changed too (" to ')
+ */
+private val DEFINE_MODULE_PATTERN = "(\\w+)\\.defineModule\\(\\s*(['\"])(\\w+)\\2\\s*,\\s*(\\w+)\\s*\\)".toRegex()
+
+/**
+ * Matches string like Kotlin.defineInlineFunction("stdlib.kotlin.map_...", function
+ * (see InlineMetadata), the last group is the start of the function
+ */
+private val DEFINE_INLINE_FUNCTION_PATTERN = "\\.defineInlineFunction\\(\\s*(['\"])([^'\"]+)\\1\\s*,\\s*(function)".toRegex()
+
+/**
+ * A module defined in a JavaScript library.
+ *
+ * @param rootVariable variable which is used to call functions inside the module, _ by default
+ * @param kotlinVariable variable of the Kotlin object, Kotlin by default
+ */
+public class LibraryModule(
+        public val name: String,
+        public val rootVariable: String,
+        public val kotlinVariable: String,
+        public val functions: LibraryInlineFunctions
+)
+
+/**
+ * Inline functions of a .js file of a library. Offsets of functions are found by their tags with a single pass over the file,
+ * and each function is parsed once. Parsed functions must not be changed, [get] returns copies of them.
+ */
+public class LibraryInlineFunctions(private val source: String) {
+    private val offsets = hashMapOf<String, Int>()
+    private val parsed = ConcurrentHashMap<String, JsFunction>()
+
+    init {
+        val matcher = DEFINE_INLINE_FUNCTION_PATTERN.toPattern().matcher(source)
+        while (matcher.find()) {
+            val tag = matcher.group(2)
+            if (tag !in offsets) {
+                offsets[tag] = matcher.start(3)
+            }
+        }
+    }
+
+    public fun get(tag: String): JsFunction? {
+        val function = parsed[tag] ?: parse(tag)?.let { parsed.putIfAbsent(tag, it) ?: it } ?: return null
+        return function.deepCopy()
+    }
+
+    private fun parse(tag: String): JsFunction? {
+        val offset = offsets[tag] ?: findFunction(tag) ?: return null
+        return parseFunction(source, offset, ThrowExceptionOnErrorReporter, JsRootScope(JsProgram("<inline>")))
+    }
+
+    // for functions which are not defined with defineInlineFunction
+    private fun findFunction(tag: String): Int? {
+        val index = source.indexOf(tag)
+        if (index < 0) return null
+
+        // + 1 for closing quote
+        var offset = index + tag.length() + 1
+        while (offset < source.length() && source.charAt(offset).isWhitespaceOrComma) {
+            offset++
+        }
+        return offset
+    }
+
+    companion object {
+        private val MAX_LIBRARIES = 16
+
+        private class IndexedLibrary(val stamp: String, val modules: List<LibraryModule>)
+
+        // shared by all translations in the process, since libraries (stdlib first of all) are usually the same.
+        // Modules keep the whole text of their files, so only MAX_LIBRARIES most recently used libraries are kept, and they are
+        // softly reachable: a long-lived process doesn't hold every library it has ever seen
+        private val libraries = LinkedHashMap<String, SoftReference<IndexedLibrary>>(16, 0.75f, true)
+
+        public fun getModules(files: List<File>): List<LibraryModule> = files.flatMap { getModules(it) }
+
+        private fun getModules(library: File): List<LibraryModule> {
+            // contents of a directory may change without changing its timestamp
+            if (library.isDirectory()) return readModules(library)
+
+            val path = library.getAbsolutePath()
+            val stamp = library.lastModified().toString() + ":" + library.length()
+            val indexed = synchronized(libraries) { libraries[path]?.get() }
+            if (indexed != null && indexed.stamp == stamp) return indexed.modules
+
+            // the library is read outside of the lock, several threads may read the same library at once
+            val modules = readModules(library)
+            synchronized(libraries) {
+                libraries[path] = SoftReference(IndexedLibrary(stamp, modules))
+                if (libraries.size() > MAX_LIBRARIES) {
+                    libraries.remove(libraries.keySet().first())
+                }
+            }
+            return modules
+        }
+
+        private fun readModules(library: File): List<LibraryModule> {
+            val result = arrayListOf<LibraryModule>()
+            LibraryUtils.traverseJsLibrary(library) { fileContent, path ->
+                val matcher = DEFINE_MODULE_PATTERN.toPattern().matcher(fileContent)
+                var functions: LibraryInlineFunctions? = null
+
+                while (matcher.find()) {
+                    if (functions == null) {
+                        functions = LibraryInlineFunctions(fileContent)
+                    }
+                    result.add(LibraryModule(matcher.group(3), matcher.group(4), matcher.group(1), functions!!))
+                }
+            }
+            return result
+        }
+    }
+}
+
+private val Char.isWhitespaceOrComma: Boolean
+    get() = this == ',' || this.isWhitespace()
@@ -190,7 +190,7 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
             @NotNull MainCallParameters mainCallParameters,
             @NotNull Config config
     ) throws Exception {
-        K2JSTranslator translator = new K2JSTranslator(config);
+        K2JSTranslator translator = createTranslator(config);
         TranslationResult translationResult = translator.translate(jetFiles, mainCallParameters);
 
         if (!(translationResult instanceof TranslationResult.Success)) return;
@@ -205,6 +205,11 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
         processJsProgram(successResult.getProgram(), jetFiles);
     }
 
+    @NotNull
+    protected K2JSTranslator createTranslator(@NotNull Config config) {
+        return new K2JSTranslator(config);
+    }
+
     protected File getOutputPostfixFile() {
         return null;
     }
@@ -225,6 +230,10 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
         return false;
     }
 
+    protected boolean shouldRemoveUnreachableDeclarations() {
+        return false;
+    }
+
     protected void processJsProgram(@NotNull JsProgram program, @NotNull List<JetFile> jetFiles) throws Exception {
         for (JetFile file : jetFiles) {
             String text = file.getText();
@@ -315,6 +324,7 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
                 .inlineEnabled(IS_INLINE_ENABLED)
                 .isUnitTestConfig(shouldBeTranslateAsUnitTestClass())
                 .metaInfo(shouldGenerateMetaInfo())
+                .removeUnreachableDeclarations(shouldRemoveUnreachableDeclarations())
                 .build();
     }
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.test;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.backend.common.output.OutputFile;
+import org.jetbrains.kotlin.js.config.Config;
+import org.jetbrains.kotlin.js.facade.MainCallParameters;
+import org.jetbrains.kotlin.js.facade.TranslationResult;
+import org.jetbrains.kotlin.psi.JetFile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks that the files written by {@link TranslationResult.Success#writeOutputFiles} are the same as the ones built in memory
+ * by {@link TranslationResult.Success#getOutputFiles}. The box function is then run from the written file.
+ */
+public final class StreamingOutputTest extends SingleFileTranslationTest {
+    private static final String FILE_NAME = "manyFunctions.kt";
+
+    private static final Pattern MAPPINGS = Pattern.compile("\"mappings\":\"([^\"]*)\"");
+    private static final Pattern SOURCES = Pattern.compile("\"sources\":\\[([^\\]]*)\\]");
+
+    public StreamingOutputTest() {
+        super("streamingOutput/");
+    }
+
+    @Override
+    protected boolean shouldGenerateSourceMap() {
+        return true;
+    }
+
+    @Override
+    protected File getOutputPrefixFile() {
+        return new File(getInputFilePath(FILE_NAME + ".prefix"));
+    }
+
+    @Override
+    protected File getOutputPostfixFile() {
+        return new File(getInputFilePath(FILE_NAME + ".postfix"));
+    }
+
+    public void testManyFunctions() throws Exception {
+        checkFooBoxIsOk(FILE_NAME);
+    }
+
+    @Override
+    protected void translateFiles(
+            @NotNull List<JetFile> jetFiles,
+            @NotNull File outputFile,
+            @NotNull MainCallParameters mainCallParameters,
+            @NotNull Config config
+    ) throws Exception {
+        TranslationResult translationResult = createTranslator(config).translate(jetFiles, mainCallParameters);
+        assertTrue("Translation failed: " + translationResult.getDiagnostics(), translationResult instanceof TranslationResult.Success);
+        TranslationResult.Success successResult = (TranslationResult.Success) translationResult;
+
+        final List<File> reportedFiles = new ArrayList<File>();
+        successResult.writeOutputFiles(
+                outputFile, getOutputPrefixFile(), getOutputPostfixFile(),
+                new Function2<List<? extends File>, File, Unit>() {
+                    @Override
+                    public Unit invoke(List<? extends File> sources, File output) {
+                        reportedFiles.add(output);
+                        return Unit.INSTANCE$;
+                    }
+                }
+        );
+
+        List<OutputFile> expectedFiles =
+                successResult.getOutputFiles(outputFile, getOutputPrefixFile(), getOutputPostfixFile()).asList();
+        assertEquals(2, expectedFiles.size());
+        assertEquals(expectedFiles.size(), reportedFiles.size());
+
+        OutputFile expectedJsFile = expectedFiles.get(0);
+        assertEquals(outputFile, reportedFiles.get(0));
+        assertEquals(expectedJsFile.asText(), loadFile(outputFile));
+
+        OutputFile expectedSourceMapFile = expectedFiles.get(1);
+        File sourceMapFile = new File(outputFile.getParentFile(), expectedSourceMapFile.getRelativePath());
+        assertEquals(sourceMapFile, reportedFiles.get(1));
+
+        String expectedSourceMap = expectedSourceMapFile.asText();
+        String sourceMap = loadFile(sourceMapFile);
+        // the source map is long enough to be flushed while the code is written
+        assertTrue(find(MAPPINGS, expectedSourceMap).length() > 8192);
+        assertEquals(find(MAPPINGS, expectedSourceMap), find(MAPPINGS, sourceMap));
+        assertEquals(find(SOURCES, expectedSourceMap), find(SOURCES, sourceMap));
+        assertTrue(sourceMap, sourceMap.contains("\"file\":\"" + outputFile.getName() + "\""));
+
+        processJsProgram(successResult.getProgram(), jetFiles);
+    }
+
+    @NotNull
+    private static String loadFile(@NotNull File file) throws Exception {
+        return FileUtil.loadFile(file, CharsetToolkit.UTF8);
+    }
+
+    @NotNull
+    private static String find(@NotNull Pattern pattern, @NotNull String sourceMap) {
+        Matcher matcher = pattern.matcher(sourceMap);
+        assertTrue(pattern + " is not found in " + sourceMap, matcher.find());
+        return matcher.group(1);
+    }
+}
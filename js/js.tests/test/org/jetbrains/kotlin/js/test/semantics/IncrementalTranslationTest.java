@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.test.semantics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.backend.common.output.OutputFileCollection;
+import org.jetbrains.kotlin.cli.common.output.outputUtils.OutputUtilsPackage;
+import org.jetbrains.kotlin.js.config.Config;
+import org.jetbrains.kotlin.js.config.LibrarySourcesConfig;
+import org.jetbrains.kotlin.js.facade.JsFragmentCache;
+import org.jetbrains.kotlin.js.facade.K2JSTranslator;
+import org.jetbrains.kotlin.js.facade.MainCallParameters;
+import org.jetbrains.kotlin.js.facade.TranslationResult;
+import org.jetbrains.kotlin.js.test.MultipleFilesTranslationTest;
+import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.test.JetTestUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// Files are translated twice with the same cache, and the code from the second translation, which reuses all files, is run.
+// The other tests check which files are translated again after a change
+public final class IncrementalTranslationTest extends MultipleFilesTranslationTest {
+    private static final List<String> NO_LIBRARIES = Collections.emptyList();
+
+    private final JsFragmentCache cache = new JsFragmentCache(null, 2);
+
+    public IncrementalTranslationTest() {
+        super("multiFile/");
+    }
+
+    @NotNull
+    @Override
+    protected K2JSTranslator createTranslator(@NotNull Config config) {
+        return new K2JSTranslator(config, cache);
+    }
+
+    @Override
+    protected void translateFiles(
+            @NotNull List<JetFile> jetFiles,
+            @NotNull File outputFile,
+            @NotNull MainCallParameters mainCallParameters,
+            @NotNull Config config
+    ) throws Exception {
+        TranslationResult result = createTranslator(config).translate(jetFiles, mainCallParameters);
+        assertTrue(result instanceof TranslationResult.Success);
+
+        super.translateFiles(jetFiles, outputFile, mainCallParameters, config);
+    }
+
+    public void testFunctionsVisibleFromOtherFile() throws Exception {
+        checkFooBoxIsTrue("functionsVisibleFromOtherFile");
+    }
+
+    public void testClassOfTheSameNameInAnotherPackage() throws Exception {
+        checkFooBoxIsTrue("classOfTheSameNameInAnotherPackage");
+    }
+
+    public void testBodyChangeRetranslatesChangedFile() throws Exception {
+        JsFragmentCache cache = new JsFragmentCache(null, 2);
+        String b = "package foo\nfun b() = a() + 1\n";
+        translate(cache, NO_LIBRARIES, "package foo\nfun a() = 1\n", b);
+        assertEmpty(translate(cache, NO_LIBRARIES, "package foo\nfun a() = 1\n", b));
+        assertSameElements(translate(cache, NO_LIBRARIES, "package foo\nfun a() = 2\n", b), "/a.kt");
+    }
+
+    public void testSignatureChangeRetranslatesDependentFiles() throws Exception {
+        JsFragmentCache cache = new JsFragmentCache(null, 2);
+        String b = "package foo\nfun b() = a() + 1\n";
+        translate(cache, NO_LIBRARIES, "package foo\nfun a() = 1\n", b);
+        assertSameElements(translate(cache, NO_LIBRARIES, "package foo\nfun a(x: Int = 1) = x\n", b), "/a.kt", "/b.kt");
+    }
+
+    public void testInlineBodyChangeRetranslatesCallers() throws Exception {
+        JsFragmentCache cache = new JsFragmentCache(null, 2);
+        String b = "package foo\nfun b() = a() + 1\n";
+        translate(cache, NO_LIBRARIES, "package foo\ninline fun a() = 1\n", b);
+        assertSameElements(translate(cache, NO_LIBRARIES, "package foo\ninline fun a() = 2\n", b), "/a.kt", "/b.kt");
+    }
+
+    public void testLibraryChangeRetranslatesAllFiles() throws Exception {
+        File libraryDir = JetTestUtils.tmpDirForTest(this);
+        JsFragmentCache cache = new JsFragmentCache(null, 2);
+        String a = "package foo\nimport lib.*\nfun a() = l()\n";
+        String b = "package foo\nfun b() = 2\n";
+
+        List<String> libraries = Collections.singletonList(translateLibrary(libraryDir, "package lib\ninline fun l() = 1\n"));
+        translate(cache, libraries, a, b);
+        assertEmpty(translate(cache, libraries, a, b));
+
+        // only the body of the inline function changes, so the metadata of the library stays the same
+        translateLibrary(libraryDir, "package lib\ninline fun l() = 10\n");
+        assertSameElements(translate(cache, libraries, a, b), "/a.kt", "/b.kt");
+    }
+
+    @NotNull
+    private Set<String> translate(@NotNull JsFragmentCache cache, @NotNull List<String> libraries, @NotNull String... texts) throws Exception {
+        List<JetFile> files = new ArrayList<JetFile>();
+        for (int i = 0; i < texts.length; i++) {
+            files.add(JetTestUtils.createFile((char) ('a' + i) + ".kt", texts[i], getProject()));
+        }
+
+        TranslationResult result = new K2JSTranslator(createConfig(TEST_MODULE, libraries, false), cache).translate(files, MainCallParameters.noCall());
+        assertTrue(result instanceof TranslationResult.Success);
+        return cache.getLastTranslatedFiles();
+    }
+
+    // returns the path of the metadata file, which is a library for other modules
+    @NotNull
+    private String translateLibrary(@NotNull File directory, @NotNull String text) throws Exception {
+        List<JetFile> files = Collections.singletonList(JetTestUtils.createFile("lib.kt", text, getProject()));
+        TranslationResult result = new K2JSTranslator(createConfig("lib", NO_LIBRARIES, true)).translate(files, MainCallParameters.noCall());
+        assertTrue(result instanceof TranslationResult.Success);
+
+        OutputFileCollection outputFiles = ((TranslationResult.Success) result).getOutputFiles(new File(directory, "lib.js"), null, null);
+        OutputUtilsPackage.writeAllTo(outputFiles, directory);
+        return new File(directory, "lib.meta.js").getPath();
+    }
+
+    @NotNull
+    private Config createConfig(@NotNull String moduleId, @NotNull List<String> libraries, boolean metaInfo) {
+        List<String> allLibraries = new ArrayList<String>(LibrarySourcesConfig.JS_STDLIB);
+        allLibraries.addAll(libraries);
+        return new LibrarySourcesConfig.Builder(getProject(), moduleId, allLibraries)
+                .inlineEnabled(IS_INLINE_ENABLED)
+                .metaInfo(metaInfo)
+                .build();
+    }
+}
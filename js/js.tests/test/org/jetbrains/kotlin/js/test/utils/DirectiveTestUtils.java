@@ -160,6 +160,21 @@ public class DirectiveTestUtils {
         }
     };
 
+    private static final DirectiveHandler DEFINED = new DirectiveHandler("CHECK_DEFINED") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            AstSearchUtil.getProperty(ast, arguments.getFirst());
+        }
+    };
+
+    private static final DirectiveHandler NOT_DEFINED = new DirectiveHandler("CHECK_NOT_DEFINED") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            String name = arguments.getFirst();
+            assertNull("Declaration `" + name + "` is not removed", AstSearchUtil.findProperty(ast, name));
+        }
+    };
+
     private static final List<DirectiveHandler> DIRECTIVE_HANDLERS = Arrays.asList(
             FUNCTION_CONTAINS_NO_CALLS,
             FUNCTION_NOT_CALLED,
@@ -170,7 +185,9 @@ public class DirectiveTestUtils {
             COUNT_VARS,
             COUNT_BREAKS,
             HAS_INLINE_METADATA,
-            HAS_NO_INLINE_METADATA
+            HAS_NO_INLINE_METADATA,
+            DEFINED,
+            NOT_DEFINED
     );
 
     public static void processDirectives(@NotNull JsNode ast, @NotNull String sourceCode) throws Exception {
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.facade
+
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.psi.util.PsiTreeUtil
+import org.jetbrains.annotations.TestOnly
+import org.jetbrains.kotlin.descriptors.DeclarationDescriptor
+import org.jetbrains.kotlin.descriptors.PropertyDescriptor
+import org.jetbrains.kotlin.js.config.Config
+import org.jetbrains.kotlin.js.config.LibrarySourcesConfig
+import org.jetbrains.kotlin.js.translate.declaration.FileFragment
+import org.jetbrains.kotlin.psi.JetClassOrObject
+import org.jetbrains.kotlin.psi.JetDeclaration
+import org.jetbrains.kotlin.psi.JetFile
+import org.jetbrains.kotlin.psi.JetNamedFunction
+import org.jetbrains.kotlin.renderer.DescriptorRenderer
+import org.jetbrains.kotlin.resolve.BindingContext
+import org.jetbrains.kotlin.resolve.inline.InlineUtil
+import org.jetbrains.kotlin.utils.LibraryUtils
+import java.io.BufferedOutputStream
+import java.io.ByteArrayInputStream
+import java.io.DataInput
+import java.io.DataInputStream
+import java.io.DataOutput
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.security.MessageDigest
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+
+/**
+ * JavaScript code of files from previous translations, which allows to translate only changed files.
+ *
+ * The code of a file (see [FileFragment]) is reused if neither the file nor the signatures of declarations in the module
+ * nor libraries (their sources, metadata and .js files inline functions are read from) have changed since it was cached.
+ * Files which declare inline functions or inline functions declared in other files of the module are never cached,
+ * because their code depends on bodies of these functions.
+ *
+ * The translation itself is sequential, since the translation context is not thread-safe; keys of files are computed and code of
+ * translated files is printed on the given number of threads. If a directory is given, the code is also kept there between processes.
+ */
+public class JsFragmentCache(private val directory: File?, private val threads: Int) {
+    private class Entry(val key: String, val text: FileFragment.Text)
+
+    private val entries = ConcurrentHashMap<String, Entry>()
+
+    // paths of files which the last translation didn't reuse
+    volatile private var translatedFiles: Set<String> = setOf()
+
+    public fun startTranslation(files: List<JetFile>, bindingContext: BindingContext, config: Config): IncrementalTranslation =
+            IncrementalTranslation(files, bindingContext, config)
+
+    public inner class IncrementalTranslation(files: List<JetFile>, private val bindingContext: BindingContext, config: Config) {
+        private val inlineFiles = files.mapInParallel { it.declaresInlineFunctions(bindingContext) }.zip(files)
+                .filter { it.first }.map { it.second }.toSet()
+        private val keys = computeKeys(files, inlineFiles, bindingContext, config)
+        private val cacheable = files.filterTo(hashSetOf<JetFile>()) { it !in inlineFiles }
+
+        public val fragments: Map<JetFile, FileFragment> = files.zip(files.map {
+            val entry = get(it.path())
+            FileFragment(it, if (entry != null && entry.key == keys[it] && it !in inlineFiles) entry.text else null)
+        }).toMap()
+
+        // the code of other files is inlined into fragments later, so it is checked while calls are still there
+        public fun beforeInlining() {
+            if (inlineFiles.isEmpty()) return
+            for (fragment in fragments.values()) {
+                if (!fragment.isReused && fragment.callsInlineFunctionsFrom(inlineFiles)) {
+                    cacheable.remove(fragment.file)
+                }
+            }
+        }
+
+        public fun finish() {
+            translatedFiles = fragments.values().filter { !it.isReused }.mapTo(hashSetOf<String>()) { it.file.path() }
+            val translated = fragments.values().filter { !it.isReused && it.file in cacheable }
+            val texts = translated.mapInParallel { it.toText() }
+            for ((fragment, text) in translated.zip(texts)) {
+                put(fragment.file.path(), Entry(keys[fragment.file]!!, text))
+            }
+        }
+    }
+
+    TestOnly public fun getLastTranslatedFiles(): Set<String> = translatedFiles
+
+    private fun get(path: String): Entry? {
+        entries[path]?.let { return it }
+
+        val entry = read(path) ?: return null
+        entries.putIfAbsent(path, entry)
+        return entry
+    }
+
+    private fun put(path: String, entry: Entry) {
+        entries[path] = entry
+        if (directory != null) {
+            write(path, entry)
+        }
+    }
+
+    private fun computeKeys(files: List<JetFile>, inlineFiles: Set<JetFile>, bindingContext: BindingContext, config: Config): Map<JetFile, String> {
+        val libraryFiles = config.getSourceFilesFromLibraries()
+        val libraryHashes = libraryFiles.mapInParallel { sha1(it.getText()) }
+        val metadataHashes = config.getMetadata().mapInParallel { sha1(it.body) }
+        val libraries = if (config is LibrarySourcesConfig) config.getLibraries() else listOf<String>()
+        val libraryJsHashes = libraries.mapInParallel { libraryJsHashes(File(it)) }
+        val fileHashes = files.mapInParallel { sha1(it.getText()) }
+        val signatures = files.mapInParallel { sha1(StringBuilder().appendSignatures(it.getDeclarations(), bindingContext).toString()) }
+
+        val module = StringBuilder()
+        module.append(VERSION).append('\n').append(config.getModuleId()).append('\n')
+        module.append(config.getTarget()).append('\n').append(config.isInlineEnabled()).append('\n')
+        for ((file, hash) in libraryFiles.zip(libraryHashes)) {
+            module.append(file.path()).append(' ').append(hash).append('\n')
+        }
+        for ((metadata, hash) in config.getMetadata().zip(metadataHashes)) {
+            module.append(metadata.moduleName).append(' ').append(metadata.abiVersion).append(' ').append(hash).append('\n')
+        }
+        // inline functions of libraries are read from their .js files
+        for (hashes in libraryJsHashes) {
+            module.append(hashes)
+        }
+        for (i in files.indices) {
+            module.append(files[i].path()).append(' ').append(signatures[i]).append('\n')
+            if (files[i] in inlineFiles) {
+                module.append(fileHashes[i]).append('\n')
+            }
+        }
+        val moduleHash = sha1(module.toString())
+
+        return files.zip(fileHashes.map { it + ":" + moduleHash }).toMap()
+    }
+
+    private fun <T, R> List<T>.mapInParallel(transform: (T) -> R): List<R> {
+        if (threads <= 1 || size() <= 1) return map(transform)
+
+        val executor = Executors.newFixedThreadPool(Math.min(threads, size()))
+        try {
+            return map { executor.submit(Callable { transform(it) }) }.map {
+                try {
+                    it.get()
+                }
+                catch (e: ExecutionException) {
+                    throw e.getCause() ?: e
+                }
+            }
+        }
+        finally {
+            executor.shutdown()
+        }
+    }
+
+    // never fails: a missing or corrupted file is just a missing entry
+    private fun read(path: String): Entry? {
+        val file = cacheFile(path) ?: return null
+        if (!file.isFile()) return null
+
+        try {
+            val input = DataInputStream(ByteArrayInputStream(file.readBytes()))
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || input.readUTF() != path) return null
+
+            val key = input.readUTF()
+            return Entry(key, FileFragment.Text(input.readText(), input.readText()))
+        }
+        catch (e: Exception) {
+            LOG.warn("Could not load JavaScript code of $path from $file", e)
+            return null
+        }
+    }
+
+    private fun write(path: String, entry: Entry) {
+        val file = cacheFile(path)!!
+        val tempFile = File(directory, file.getName() + "." + System.nanoTime() + ".tmp")
+        try {
+            directory!!.mkdirs()
+            DataOutputStream(BufferedOutputStream(FileOutputStream(tempFile))).use { output ->
+                output.writeInt(MAGIC)
+                output.writeInt(VERSION)
+                output.writeUTF(path)
+                output.writeUTF(entry.key)
+                output.writeText(entry.text.members)
+                output.writeText(entry.text.initializer)
+            }
+            if (!tempFile.renameTo(file)) {
+                // renameTo doesn't replace existing files on some platforms
+                file.delete()
+                if (!tempFile.renameTo(file)) throw IOException("Could not rename $tempFile to $file")
+            }
+        }
+        catch (e: IOException) {
+            LOG.warn("Could not save JavaScript code of $path to $file", e)
+            tempFile.delete()
+        }
+    }
+
+    private fun cacheFile(path: String): File? = if (directory != null) File(directory, sha1(path) + ".jsfragment") else null
+
+    companion object {
+        private val LOG = Logger.getInstance(javaClass<JsFragmentCache>())
+
+        private val MAGIC = 0x4b4a5346 // "KJSF"
+        private val VERSION = 2
+
+        private fun JetFile.path(): String = getVirtualFile()?.getPath() ?: getName()
+
+        private fun JetFile.declaresInlineFunctions(bindingContext: BindingContext): Boolean =
+                PsiTreeUtil.findChildrenOfType(this, javaClass<JetNamedFunction>()).any {
+                    InlineUtil.isInline(bindingContext.get(BindingContext.FUNCTION, it))
+                }
+
+        // everything about declarations which code of other files may depend on
+        private fun StringBuilder.appendSignatures(declarations: List<JetDeclaration>, bindingContext: BindingContext): StringBuilder {
+            for (declaration in declarations) {
+                bindingContext.get(BindingContext.DECLARATION_TO_DESCRIPTOR, declaration)?.let { appendSignature(it) }
+                if (declaration is JetClassOrObject) {
+                    for (parameter in declaration.getPrimaryConstructorParameters()) {
+                        bindingContext.get(BindingContext.PRIMARY_CONSTRUCTOR_PARAMETER, parameter)?.let { appendSignature(it) }
+                    }
+                    appendSignatures(declaration.getDeclarations(), bindingContext)
+                }
+            }
+            return this
+        }
+
+        private fun StringBuilder.appendSignature(descriptor: DeclarationDescriptor) {
+            append(DescriptorRenderer.DEBUG_TEXT.render(descriptor)).append('\n')
+            if (descriptor is PropertyDescriptor) {
+                // constants are inlined, and default accessors are replaced with access to the field
+                append(descriptor.getCompileTimeInitializer()).append(' ')
+                append(descriptor.getGetter()?.isDefault()).append(' ').append(descriptor.getSetter()?.isDefault()).append('\n')
+            }
+        }
+
+        private fun libraryJsHashes(library: File): String {
+            val hashes = StringBuilder()
+            LibraryUtils.traverseJsLibrary(library) { content, path ->
+                hashes.append(library.getPath()).append('!').append(path).append(' ').append(sha1(content)).append('\n')
+            }
+            return hashes.toString()
+        }
+
+        private fun sha1(text: String): String = sha1(text.toByteArray(Charsets.UTF_8))
+
+        private fun sha1(bytes: ByteArray): String {
+            val hash = StringBuilder()
+            for (byte in MessageDigest.getInstance("SHA-1").digest(bytes)) {
+                hash.append(Integer.toHexString((byte.toInt() and 0xff) + 0x100).substring(1))
+            }
+            return hash.toString()
+        }
+
+        // writeUTF is limited to 64K
+        private fun DataOutput.writeText(text: String) {
+            val bytes = text.toByteArray(Charsets.UTF_8)
+            writeInt(bytes.size())
+            write(bytes)
+        }
+
+        private fun DataInput.readText(): String {
+            val bytes = ByteArray(readInt())
+            readFully(bytes)
+            return String(bytes, Charsets.UTF_8)
+        }
+    }
+}
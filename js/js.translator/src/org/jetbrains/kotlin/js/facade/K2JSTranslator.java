@@ -36,6 +36,7 @@ import java.util.List;
 
 import static org.jetbrains.kotlin.diagnostics.DiagnosticUtils.hasError;
 import static org.jetbrains.kotlin.js.translate.utils.UtilsPackage.expandIsCalls;
+import static org.jetbrains.kotlin.js.translate.utils.UtilsPackage.removeUnreachableDeclarations;
 
 /**
  * An entry point of translator.
@@ -48,8 +49,16 @@ public final class K2JSTranslator {
     @NotNull
     private final Config config;
 
+    @Nullable
+    private final JsFragmentCache fragmentCache;
+
     public K2JSTranslator(@NotNull Config config) {
+        this(config, null);
+    }
+
+    public K2JSTranslator(@NotNull Config config, @Nullable JsFragmentCache fragmentCache) {
         this.config = config;
+        this.fragmentCache = fragmentCache;
     }
 
     @NotNull
@@ -76,16 +85,34 @@ public final class K2JSTranslator {
         ModuleDescriptor moduleDescriptor = analysisResult.getModuleDescriptor();
         Diagnostics diagnostics = bindingTrace.getBindingContext().getDiagnostics();
 
-        TranslationContext context = Translation.generateAst(bindingTrace, files, mainCallParameters, moduleDescriptor, config);
+        // reused code has no source information
+        JsFragmentCache.IncrementalTranslation incrementalTranslation =
+                fragmentCache != null && !config.isSourcemap()
+                ? fragmentCache.startTranslation(files, bindingTrace.getBindingContext(), config)
+                : null;
+
+        TranslationContext context = Translation.generateAst(bindingTrace, files, mainCallParameters, moduleDescriptor, config,
+                                                             incrementalTranslation != null ? incrementalTranslation.getFragments() : null);
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
         if (hasError(diagnostics)) return new TranslationResult.Fail(diagnostics);
 
+        if (incrementalTranslation != null) {
+            incrementalTranslation.beforeInlining();
+        }
         JsProgram program = JsInliner.process(context);
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
         if (hasError(diagnostics)) return new TranslationResult.Fail(diagnostics);
 
         expandIsCalls(program, context);
         ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+
+        if (incrementalTranslation != null) {
+            incrementalTranslation.finish();
+        }
+
+        if (config.isRemoveUnreachableDeclarations()) {
+            removeUnreachableDeclarations(program, context, files, mainCallParameters.shouldBeGenerated());
+        }
         return new TranslationResult.Success(config, files, program, diagnostics, moduleDescriptor);
     }
 }
@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.js.facade
 import com.google.dart.compiler.backend.js.ast.JsProgram
 import com.google.dart.compiler.util.TextOutput
 import com.google.dart.compiler.util.TextOutputImpl
+import com.intellij.openapi.util.io.FileUtil
 import com.intellij.openapi.util.text.StringUtil
 import com.intellij.openapi.vfs.VfsUtilCore
 import org.jetbrains.kotlin.backend.common.output.OutputFileCollection
@@ -34,7 +35,11 @@ import org.jetbrains.kotlin.resolve.diagnostics.Diagnostics
 import org.jetbrains.kotlin.serialization.js.KotlinJavascriptSerializationUtil
 import org.jetbrains.kotlin.utils.KotlinJavascriptMetadataUtils
 import org.jetbrains.kotlin.utils.fileUtils.readTextOrEmpty
+import java.io.BufferedWriter
 import java.io.File
+import java.io.FileOutputStream
+import java.io.Writer
+import java.nio.channels.Channels
 import java.util.ArrayList
 
 public abstract class TranslationResult protected constructor(public val diagnostics: Diagnostics) {
@@ -60,14 +65,7 @@ public abstract class TranslationResult protected constructor(public val diagnos
             val code = getCode(output, sourceMapBuilder)
             val prefix = outputPrefixFile?.readTextOrEmpty() ?: ""
             val postfix = outputPostfixFile?.readTextOrEmpty() ?: ""
-            val sourceFiles = files.map {
-                val virtualFile = it.getOriginalFile().getVirtualFile()
-
-                when {
-                    virtualFile == null -> File(it.getName())
-                    else -> VfsUtilCore.virtualToIoFile(virtualFile)
-                }
-            }
+            val sourceFiles = getSourceFiles()
 
             val jsFile = SimpleOutputFile(sourceFiles, outputFile.getName(), prefix + code + postfix)
             val outputFiles = arrayListOf(jsFile)
@@ -89,6 +87,71 @@ public abstract class TranslationResult protected constructor(public val diagnos
             return SimpleOutputFileCollection(outputFiles)
         }
 
+        /**
+         * Writes the same files as [getOutputFiles] without keeping the whole code and source map in memory:
+         * the code is printed right to the output file, and the source map is written line by line along with it.
+         * [report] is called before each file is written.
+         */
+        public fun writeOutputFiles(
+                outputFile: File,
+                outputPrefixFile: File?,
+                outputPostfixFile: File?,
+                report: (sources: List<File>, output: File) -> Unit
+        ) {
+            val prefix = outputPrefixFile?.readTextOrEmpty() ?: ""
+            val postfix = outputPostfixFile?.readTextOrEmpty() ?: ""
+            val sourceFiles = getSourceFiles()
+
+            report(sourceFiles, outputFile)
+            write(outputFile) { writer ->
+                writer.write(prefix)
+
+                val output = TextOutputImpl(writer, false)
+                if (config.isSourcemap()) {
+                    val sourceMapFile = File(outputFile.getParentFile(), outputFile.getName() + ".map")
+                    report(sourceFiles, sourceMapFile)
+                    write(sourceMapFile) { sourceMapWriter ->
+                        val sourceMapBuilder = SourceMap3Builder(outputFile, output, SourceMapBuilderConsumer(), sourceMapWriter,
+                                                                 StringUtil.getLineBreakCount(prefix))
+                        program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
+                        sourceMapBuilder.finish()
+                    }
+                }
+                else {
+                    program.accept(JsSourceGenerationVisitor(output, null))
+                }
+
+                writer.write(postfix)
+            }
+
+            if (config.isMetaInfo()) {
+                val metaFile = File(outputFile.getParentFile(), KotlinJavascriptMetadataUtils.replaceSuffix(outputFile.getName()))
+                report(sourceFiles, metaFile)
+                write(metaFile) { it.write(KotlinJavascriptSerializationUtil.metadataAsString(config.getModuleId(), moduleDescriptor)) }
+            }
+        }
+
+        private fun write(file: File, block: (Writer) -> Unit) {
+            FileUtil.createParentDirs(file)
+            val writer = BufferedWriter(Channels.newWriter(FileOutputStream(file).getChannel(), Charsets.UTF_8.newEncoder(), 64 * 1024))
+            try {
+                block(writer)
+            }
+            finally {
+                writer.close()
+            }
+        }
+
+        private fun getSourceFiles(): List<File> =
+                files.map {
+                    val virtualFile = it.getOriginalFile().getVirtualFile()
+
+                    when {
+                        virtualFile == null -> File(it.getName())
+                        else -> VfsUtilCore.virtualToIoFile(virtualFile)
+                    }
+                }
+
         private fun getCode(output: TextOutput, sourceMapBuilder: SourceMapBuilder?): String {
             program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
             return output.toString()
@@ -23,15 +23,22 @@ import com.intellij.util.PairConsumer;
 import gnu.trove.TObjectIntHashMap;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 public class SourceMap3Builder implements SourceMapBuilder {
+    private static final int FLUSH_THRESHOLD = 8192;
+
     private final StringBuilder out = new StringBuilder(8192);
     private final File generatedFile;
     private final TextOutput textOutput;
     private final PairConsumer<SourceMapBuilder, Object> sourceInfoConsumer;
 
+    // if not null, mappings are written as soon as lines are finished, and sources are written after them
+    private final Writer writer;
+
     private String lastSource;
     private int lastSourceIndex;
 
@@ -54,6 +61,27 @@ public class SourceMap3Builder implements SourceMapBuilder {
         this.generatedFile = generatedFile;
         this.textOutput = textOutput;
         this.sourceInfoConsumer = sourceInfoConsumer;
+        this.writer = null;
+    }
+
+    /**
+     * Writes the source map to the given writer while the code is generated, {@link #finish()} writes the rest of it.
+     * The number of lines before the generated code must be known in advance.
+     */
+    public SourceMap3Builder(
+            File generatedFile,
+            TextOutput textOutput,
+            PairConsumer<SourceMapBuilder, Object> sourceInfoConsumer,
+            Writer writer,
+            int skippedLines
+    ) {
+        this.generatedFile = generatedFile;
+        this.textOutput = textOutput;
+        this.sourceInfoConsumer = sourceInfoConsumer;
+        this.writer = writer;
+
+        // JSON properties may go in any order, and sources are known only at the end
+        write("{\"version\":3,\"file\":\"" + generatedFile.getName() + "\",\"mappings\":\"" + StringUtil.repeatSymbol(';', skippedLines));
     }
 
     @Override
@@ -63,6 +91,7 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public String build() {
+        assert writer == null : "Source map is written to the writer, call finish()";
         StringBuilder sb = new StringBuilder(out.length() + (128 * orderedSources.size()));
         sb.append("{\"version\":3,\"file\":\"").append(generatedFile.getName()).append('"').append(',');
         appendSources(sb);
@@ -73,6 +102,26 @@ public class SourceMap3Builder implements SourceMapBuilder {
         return sb.toString();
     }
 
+    public void finish() {
+        assert writer != null : "Source map is kept in memory, call build()";
+        StringBuilder sb = new StringBuilder(128 * orderedSources.size());
+        sb.append(out);
+        sb.append("\",");
+        appendSources(sb);
+        sb.append(",\"names\":[]}");
+        write(sb);
+        out.setLength(0);
+    }
+
+    private void write(CharSequence text) {
+        try {
+            writer.append(text);
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void appendSources(StringBuilder sb) {
         boolean isNotFirst = false;
         sb.append('"').append("sources").append("\":[");
@@ -92,10 +141,16 @@ public class SourceMap3Builder implements SourceMapBuilder {
     public void newLine() {
         out.append(';');
         previousGeneratedColumn = -1;
+
+        if (writer != null && out.length() >= FLUSH_THRESHOLD) {
+            write(out);
+            out.setLength(0);
+        }
     }
 
     @Override
     public void skipLinesAtBeginning(int count) {
+        assert writer == null : "Lines before the generated code must be skipped when the builder is created";
         out.insert(0, StringUtil.repeatSymbol(';', count));
     }
 
@@ -15,8 +15,11 @@
  */
 package org.jetbrains.kotlin.js.translate.declaration
 
+import com.google.dart.compiler.backend.js.ast.JsBlock
 import com.google.dart.compiler.backend.js.ast.JsFunction
+import com.google.dart.compiler.backend.js.ast.JsGlobalBlock
 import com.google.dart.compiler.backend.js.ast.JsPropertyInitializer
+import com.google.dart.compiler.backend.js.ast.JsScope
 import com.intellij.util.SmartList
 import org.jetbrains.kotlin.descriptors.PropertyDescriptor
 import org.jetbrains.kotlin.js.translate.context.TranslationContext
@@ -38,12 +41,26 @@ class FileDeclarationVisitor(
 ) : DeclarationBodyVisitor(initializers, SmartList()) {
 
     private val initializer = JsAstUtils.createFunctionWithEmptyBody(context.scope())
-    private val initializerContext = context.contextWithScope(initializer)
-    private val initializerStatements = initializer.getBody().getStatements()
-    private val initializerVisitor = InitializerVisitor(initializerStatements)
+    private var initializerContext = context.contextWithScope(initializer)
+    private var initializerStatements = initializer.getBody().getStatements()
+    private var initializerVisitor = InitializerVisitor(initializerStatements)
+
+    val initializerScope: JsScope
+        get() = initializer.getScope()
+
+    fun addFileInitializer(block: JsBlock) {
+        initializer.getBody().getStatements().add(block)
+    }
+
+    // statements for the following declarations (and their temporary variables) go to the given block of the initializer
+    fun startFile(block: JsBlock) {
+        initializerContext = context.contextWithScope(initializer).innerBlock(block)
+        initializerStatements = block.getStatements()
+        initializerVisitor = InitializerVisitor(initializerStatements)
+    }
 
     fun computeInitializer(): JsFunction? {
-        if (initializerStatements.isEmpty()) {
+        if (initializer.getBody().getStatements().all { it is JsGlobalBlock && it.isEmpty() }) {
             return null
         } else {
             return initializer
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.translate.declaration
+
+import com.google.dart.compiler.backend.js.JsToStringGenerationVisitor
+import com.google.dart.compiler.backend.js.ast.*
+import com.google.dart.compiler.backend.js.ast.metadata.descriptor
+import com.google.dart.compiler.backend.js.ast.metadata.inlineStrategy
+import com.google.dart.compiler.util.TextOutputImpl
+import com.google.gwt.dev.js.ThrowExceptionOnErrorReporter
+import org.jetbrains.kotlin.js.parser.parse
+import org.jetbrains.kotlin.psi.JetFile
+import org.jetbrains.kotlin.resolve.DescriptorToSourceUtils
+import java.util.ArrayList
+import java.util.Collections
+import java.util.IdentityHashMap
+
+/**
+ * Part of the translated program which comes from a single file: members it adds to its package (including functions of lambdas)
+ * and statements it adds to the package initializer.
+ *
+ * When a file is translated incrementally, each fragment is recorded separately, so that the fragment of a file which is not changed
+ * can be printed and later reused instead of translating the file again. A reused fragment is parsed into the new program, which
+ * also reserves names it declares in the package and in the initializer.
+ */
+public class FileFragment(public val file: JetFile, public val cachedText: FileFragment.Text?) {
+    public class Text(public val members: String, public val initializer: String)
+
+    public val members: MutableList<JsPropertyInitializer> = ArrayList()
+    public val initializer: JsBlock = JsGlobalBlock()
+    public var isReused: Boolean = false
+        private set
+
+    // the list members of the package end up in, set when packages are linked
+    public var packageMembers: List<JsPropertyInitializer> = listOf()
+
+    public fun reuse(packageScope: JsScope, initializerScope: JsScope): Boolean {
+        val text = cachedText ?: return false
+
+        val literal: JsObjectLiteral
+        val statements: List<JsStatement>
+        try {
+            val expression = parse("(" + text.members + ");", ThrowExceptionOnErrorReporter, packageScope).single()
+            literal = (expression as JsExpressionStatement).getExpression() as JsObjectLiteral
+            statements = (parse(text.initializer, ThrowExceptionOnErrorReporter, initializerScope).single() as JsBlock).getStatements()
+        }
+        catch (e: Exception) {
+            // a broken cache entry, the file is translated again
+            return false
+        }
+
+        for (member in literal.getPropertyInitializers()) {
+            // names of lambdas are not known from descriptors, so new lambdas of the package must not get them
+            val label = member.getLabelExpr()
+            if (label is JsNameRef) {
+                packageScope.declareName(label.getIdent())
+            }
+            members.add(member)
+        }
+        initializer.getStatements().addAll(statements)
+        isReused = true
+        return true
+    }
+
+    // before inlining: code inlined from these files is a part of this fragment, so it changes when they change
+    public fun callsInlineFunctionsFrom(files: Set<JetFile>): Boolean {
+        var result = false
+        val visitor = object : RecursiveJsVisitor() {
+            override fun visitInvocation(invocation: JsInvocation) {
+                val descriptor = invocation.descriptor
+                if (invocation.inlineStrategy?.isInline() == true && descriptor != null &&
+                    DescriptorToSourceUtils.getContainingFile(descriptor) in files) {
+                    result = true
+                }
+                super.visitInvocation(invocation)
+            }
+        }
+        members.forEach { it.accept(visitor) }
+        initializer.accept(visitor)
+        return result
+    }
+
+    // after inlining, which may remove unused members
+    public fun toText(): Text {
+        val isOwn = Collections.newSetFromMap(IdentityHashMap<JsPropertyInitializer, Boolean>())
+        isOwn.addAll(members)
+        val ownMembers = packageMembers.filterTo(ArrayList<JsPropertyInitializer>()) { it in isOwn }
+        return Text(print(JsObjectLiteral(ownMembers, true)), print(JsBlock(initializer.getStatements())))
+    }
+
+    private fun print(node: JsNode): String {
+        val output = TextOutputImpl()
+        node.accept(JsToStringGenerationVisitor(output))
+        return output.toString()
+    }
+}
@@ -19,11 +19,15 @@ package org.jetbrains.kotlin.js.translate.declaration;
 import com.google.dart.compiler.backend.js.ast.*;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.kotlin.descriptors.PackageFragmentDescriptor;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.descriptors.*;
 import org.jetbrains.kotlin.js.translate.context.Namer;
 import org.jetbrains.kotlin.js.translate.context.TranslationContext;
 import org.jetbrains.kotlin.js.translate.general.AbstractTranslator;
+import org.jetbrains.kotlin.js.translate.utils.AnnotationsUtils;
 import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.kotlin.psi.JetClassOrObject;
+import org.jetbrains.kotlin.psi.JetDeclaration;
 import org.jetbrains.kotlin.psi.JetFile;
 import org.jetbrains.kotlin.resolve.BindingContext;
 import org.jetbrains.kotlin.resolve.BindingContextUtils;
@@ -34,17 +38,33 @@ import static com.google.dart.compiler.backend.js.ast.JsVars.JsVar;
 
 public final class PackageDeclarationTranslator extends AbstractTranslator {
     private final Iterable<JetFile> files;
+    @Nullable
+    private final Map<JetFile, FileFragment> fragments;
     private final Map<PackageFragmentDescriptor, PackageTranslator> packageFragmentToTranslator =
             new LinkedHashMap<PackageFragmentDescriptor, PackageTranslator>();
 
     public static List<JsStatement> translateFiles(@NotNull Collection<JetFile> files, @NotNull TranslationContext context) {
-        return new PackageDeclarationTranslator(files, context).translate();
+        return translateFiles(files, context, null);
     }
 
-    private PackageDeclarationTranslator(@NotNull Iterable<JetFile> files, @NotNull TranslationContext context) {
+    // with fragments, each file is recorded as a separate fragment, and files with cached fragments are not translated again
+    public static List<JsStatement> translateFiles(
+            @NotNull Collection<JetFile> files,
+            @NotNull TranslationContext context,
+            @Nullable Map<JetFile, FileFragment> fragments
+    ) {
+        return new PackageDeclarationTranslator(files, context, fragments).translate();
+    }
+
+    private PackageDeclarationTranslator(
+            @NotNull Iterable<JetFile> files,
+            @NotNull TranslationContext context,
+            @Nullable Map<JetFile, FileFragment> fragments
+    ) {
         super(context);
 
         this.files = files;
+        this.fragments = fragments;
     }
 
     @NotNull
@@ -52,18 +72,25 @@ public final class PackageDeclarationTranslator extends AbstractTranslator {
         // predictable order
         Map<FqName, DefineInvocation> packageFqNameToDefineInvocation = new THashMap<FqName, DefineInvocation>();
 
+        if (fragments != null) {
+            for (JetFile file : files) {
+                declareNames(file.getDeclarations());
+            }
+        }
+
+        List<JetFile> filesToTranslate = new ArrayList<JetFile>();
         for (JetFile file : files) {
-            PackageFragmentDescriptor packageFragment =
-                    BindingContextUtils.getNotNull(context().bindingContext(), BindingContext.FILE_TO_PACKAGE_FRAGMENT, file);
-
-            PackageTranslator translator = packageFragmentToTranslator.get(packageFragment);
-            if (translator == null) {
-                createRootPackageDefineInvocationIfNeeded(packageFqNameToDefineInvocation);
-                translator = PackageTranslator.create(packageFragment, context());
-                packageFragmentToTranslator.put(packageFragment, translator);
+            PackageTranslator translator = getTranslator(file, packageFqNameToDefineInvocation);
+            FileFragment fragment = fragments != null ? fragments.get(file) : null;
+            if (fragment != null) {
+                translator.addFragment(fragment);
+                if (fragment.getCachedText() != null && translator.reuse(fragment)) continue;
             }
+            filesToTranslate.add(file);
+        }
 
-            translator.translate(file);
+        for (JetFile file : filesToTranslate) {
+            getTranslator(file, packageFqNameToDefineInvocation).translate(file, fragments != null ? fragments.get(file) : null);
         }
 
         for (PackageTranslator translator : packageFragmentToTranslator.values()) {
@@ -76,6 +103,37 @@ public final class PackageDeclarationTranslator extends AbstractTranslator {
         return Collections.<JsStatement>singletonList(vars);
     }
 
+    @NotNull
+    private PackageTranslator getTranslator(@NotNull JetFile file, @NotNull Map<FqName, DefineInvocation> packageFqNameToDefineInvocation) {
+        PackageFragmentDescriptor packageFragment =
+                BindingContextUtils.getNotNull(context().bindingContext(), BindingContext.FILE_TO_PACKAGE_FRAGMENT, file);
+
+        PackageTranslator translator = packageFragmentToTranslator.get(packageFragment);
+        if (translator == null) {
+            createRootPackageDefineInvocationIfNeeded(packageFqNameToDefineInvocation);
+            translator = PackageTranslator.create(packageFragment, context());
+            packageFragmentToTranslator.put(packageFragment, translator);
+        }
+        return translator;
+    }
+
+    // Names of declarations are chosen in the order of files, so that they don't depend on which of the files are reused
+    private void declareNames(@NotNull List<JetDeclaration> declarations) {
+        for (JetDeclaration declaration : declarations) {
+            DeclarationDescriptor descriptor = bindingContext().get(BindingContext.DECLARATION_TO_DESCRIPTOR, declaration);
+            if (descriptor == null || AnnotationsUtils.isPredefinedObject(descriptor)) continue;
+
+            if (descriptor instanceof ClassDescriptor ||
+                descriptor instanceof PropertyDescriptor ||
+                (descriptor instanceof FunctionDescriptor && !(descriptor instanceof ConstructorDescriptor))) {
+                context().getNameForDescriptor(descriptor);
+            }
+            if (declaration instanceof JetClassOrObject) {
+                declareNames(((JetClassOrObject) declaration).getDeclarations());
+            }
+        }
+    }
+
     private void createRootPackageDefineInvocationIfNeeded(@NotNull Map<FqName, DefineInvocation> packageFqNameToDefineInvocation) {
         if (!packageFqNameToDefineInvocation.containsKey(FqName.ROOT)) {
             packageFqNameToDefineInvocation.put(
@@ -30,6 +30,7 @@ import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.psi.JetDeclaration;
 import org.jetbrains.kotlin.psi.JetFile;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -54,6 +55,9 @@ final class PackageTranslator extends AbstractTranslator {
 
     private final FileDeclarationVisitor visitor;
 
+    @NotNull
+    private final List<FileFragment> fragments = new SmartList<FileFragment>();
+
     private PackageTranslator(
             @NotNull PackageFragmentDescriptor descriptor,
             @NotNull TranslationContext context,
@@ -64,12 +68,47 @@ final class PackageTranslator extends AbstractTranslator {
         this.visitor = visitor;
     }
     
-    public void translate(JetFile file) {
+    public void addFragment(@NotNull FileFragment fragment) {
+        fragments.add(fragment);
+        visitor.addFileInitializer(fragment.getInitializer());
+    }
+
+    public boolean reuse(@NotNull FileFragment fragment) {
+        if (!fragment.reuse(context().getScopeForDescriptor(descriptor), visitor.getInitializerScope())) return false;
+
+        visitor.getResult().addAll(fragment.getMembers());
+        return true;
+    }
+
+    public void translate(@NotNull JetFile file, @Nullable FileFragment fragment) {
+        List<JsPropertyInitializer> members = visitor.getResult();
+        int firstMember = members.size();
+        if (fragment != null) {
+            visitor.startFile(fragment.getInitializer());
+        }
+
         for (JetDeclaration declaration : file.getDeclarations()) {
             if (!AnnotationsUtils.isPredefinedObject(BindingUtils.getDescriptorForElement(bindingContext(), declaration))) {
                 declaration.accept(visitor, context());
             }
         }
+
+        if (fragment != null) {
+            fragment.getMembers().addAll(members.subList(firstMember, members.size()));
+        }
+    }
+
+    // reused fragments are parsed before other files are translated, but members are kept in the order of files
+    private void sortMembersByFiles() {
+        List<JsPropertyInitializer> members = visitor.getResult();
+        List<JsPropertyInitializer> sorted = new ArrayList<JsPropertyInitializer>(members.size());
+        for (FileFragment fragment : fragments) {
+            sorted.addAll(fragment.getMembers());
+        }
+        assert sorted.size() == members.size() :
+                "Members of package " + descriptor.getFqName() + " don't match members of its files: " + members.size() + " != " + sorted.size();
+        members.clear();
+        members.addAll(sorted);
     }
 
     private void createDefinitionPlace(
@@ -83,6 +122,9 @@ final class PackageTranslator extends AbstractTranslator {
     }
 
     public void add(@NotNull Map<FqName, DefineInvocation> packageFqNameToDefineInvocation) {
+        if (!fragments.isEmpty()) {
+            sortMembersByFiles();
+        }
         JsExpression initializer = visitor.computeInitializer();
 
         DefineInvocation defineInvocation = packageFqNameToDefineInvocation.get(descriptor.getFqName());
@@ -103,6 +145,13 @@ final class PackageTranslator extends AbstractTranslator {
                 listFromPlace.addAll(visitor.getResult());
             }
         }
+
+        defineInvocation = packageFqNameToDefineInvocation.get(descriptor.getFqName());
+        if (defineInvocation != null) {
+            for (FileFragment fragment : fragments) {
+                fragment.setPackageMembers(defineInvocation.getMembers());
+            }
+        }
     }
 
     private JsPropertyInitializer getEntry(@NotNull FqName fqName, DefineInvocation defineInvocation) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.translate.utils
+
+import com.google.dart.compiler.backend.js.ast.*
+import org.jetbrains.kotlin.descriptors.DeclarationDescriptorWithVisibility
+import org.jetbrains.kotlin.descriptors.Visibilities
+import org.jetbrains.kotlin.js.translate.context.Namer
+import org.jetbrains.kotlin.js.translate.context.TranslationContext
+import org.jetbrains.kotlin.psi.JetClassOrObject
+import org.jetbrains.kotlin.psi.JetFile
+import org.jetbrains.kotlin.psi.JetNamedFunction
+import org.jetbrains.kotlin.resolve.BindingContext
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.HashSet
+
+/**
+ * Removes package level functions and classes which can't be reached from the code executed when the module is loaded:
+ * package initializers, the call to main and test calls. If main is not called, the module is a library, so its non-private
+ * functions and classes may be used by other modules and are reachable too.
+ *
+ * References are matched by identifiers, so a declaration is kept if a member with the same identifier is used anywhere
+ * or if a string equal to its identifier occurs in the code. Objects and properties are always kept,
+ * since creating them may have side effects.
+ *
+ * Only the code of the module being translated is processed. Libraries, including kotlin.js, are loaded from their own prebuilt
+ * files, which may be shared by several modules, so their declarations are never removed.
+ */
+public fun removeUnreachableDeclarations(node: JsNode, context: TranslationContext, files: List<JetFile>, hasMain: Boolean) {
+    val collector = UnreachableDeclarationsCollector(context.namer())
+    if (!hasMain) {
+        for (declaration in files.flatMap { it.getDeclarations() }) {
+            if (declaration !is JetNamedFunction && declaration !is JetClassOrObject) continue
+
+            val descriptor = context.bindingContext().get(BindingContext.DECLARATION_TO_DESCRIPTOR, declaration)
+            if (descriptor is DeclarationDescriptorWithVisibility && !Visibilities.isPrivate(descriptor.getVisibility())) {
+                collector.markReachable(context.getNameForDescriptor(descriptor).getIdent())
+            }
+        }
+    }
+    collector.accept(node)
+    collector.process()
+
+    for (declaration in collector.unreachable) {
+        declaration.members.remove(declaration.initializer)
+    }
+}
+
+private class Declaration(val members: MutableList<JsPropertyInitializer>, val initializer: JsPropertyInitializer)
+
+private class UnreachableDeclarationsCollector(namer: Namer) : RecursiveJsVisitor() {
+    private val packageDefinitions = identsOf(namer.packageDefinitionMethodReference(), namer.rootPackageDefinitionMethodReference())
+    private val classDefinitions =
+            identsOf(namer.classCreationMethodReference(), namer.traitCreationMethodReference(), namer.enumClassCreationMethodReference())
+
+    private val declarations = HashMap<String, MutableList<Declaration>>()
+    private val reachable = HashSet<String>()
+    private val queue = ArrayList<JsNode>()
+
+    public val unreachable: List<Declaration>
+        get() = declarations.filterKeys { it !in reachable }.values().flatten()
+
+    public fun process() {
+        while (queue.isNotEmpty()) {
+            accept(queue.remove(queue.size() - 1))
+        }
+    }
+
+    override fun visitInvocation(invocation: JsInvocation) {
+        val arguments = invocation.getArguments()
+        val members = arguments.getOrNull(1) as? JsObjectLiteral
+        if (members == null || !invocation.isCallTo(packageDefinitions)) {
+            super.visitInvocation(invocation)
+            return
+        }
+
+        accept(invocation.getQualifier())
+        accept(arguments[0])
+        for (member in members.getPropertyInitializers()) {
+            val ident = (member.getLabelExpr() as? JsNameRef)?.getIdent()
+            if (ident != null && isRemovable(member.getValueExpr())) {
+                addDeclaration(ident, Declaration(members.getPropertyInitializers(), member))
+            }
+            else {
+                accept(member)
+            }
+        }
+    }
+
+    // Labels of object literals are keys, not references
+    override fun visitPropertyInitializer(x: JsPropertyInitializer) {
+        accept(x.getValueExpr())
+    }
+
+    override fun visitNameRef(nameRef: JsNameRef) {
+        markReachable(nameRef.getIdent())
+        super.visitNameRef(nameRef)
+    }
+
+    override fun visitString(x: JsStringLiteral) {
+        markReachable(x.getValue())
+    }
+
+    private fun addDeclaration(ident: String, declaration: Declaration) {
+        declarations.getOrPut(ident) { ArrayList() }.add(declaration)
+        if (ident in reachable) {
+            queue.add(declaration.initializer.getValueExpr())
+        }
+    }
+
+    public fun markReachable(ident: String) {
+        if (!reachable.add(ident)) return
+
+        declarations[ident]?.forEach { queue.add(it.initializer.getValueExpr()) }
+    }
+
+    private fun isRemovable(value: JsExpression): Boolean =
+            value is JsFunction || (value is JsInvocation && value.isCallTo(classDefinitions))
+
+    private fun JsInvocation.isCallTo(idents: Set<String>): Boolean {
+        val function = getQualifier() as? JsNameRef ?: return false
+        val receiver = function.getQualifier() as? JsNameRef ?: return false
+        return function.getIdent() in idents && receiver.getQualifier() == null && receiver.getIdent() == Namer.KOTLIN_NAME
+    }
+
+    private fun identsOf(vararg references: JsExpression): Set<String> = references.map { (it as JsNameRef).getIdent() }.toSet()
+}
@@ -0,0 +1,1008 @@
+package foo
+
+// Enough code for the source map to be flushed to the file while it is written
+
+fun f0(x: Int) = x + 0
+fun f1(x: Int) = x + 1
+fun f2(x: Int) = x + 2
+fun f3(x: Int) = x + 3
+fun f4(x: Int) = x + 4
+fun f5(x: Int) = x + 5
+fun f6(x: Int) = x + 6
+fun f7(x: Int) = x + 7
+fun f8(x: Int) = x + 8
+fun f9(x: Int) = x + 9
+fun f10(x: Int) = x + 10
+fun f11(x: Int) = x + 11
+fun f12(x: Int) = x + 12
+fun f13(x: Int) = x + 13
+fun f14(x: Int) = x + 14
+fun f15(x: Int) = x + 15
+fun f16(x: Int) = x + 16
+fun f17(x: Int) = x + 17
+fun f18(x: Int) = x + 18
+fun f19(x: Int) = x + 19
+fun f20(x: Int) = x + 20
+fun f21(x: Int) = x + 21
+fun f22(x: Int) = x + 22
+fun f23(x: Int) = x + 23
+fun f24(x: Int) = x + 24
+fun f25(x: Int) = x + 25
+fun f26(x: Int) = x + 26
+fun f27(x: Int) = x + 27
+fun f28(x: Int) = x + 28
+fun f29(x: Int) = x + 29
+fun f30(x: Int) = x + 30
+fun f31(x: Int) = x + 31
+fun f32(x: Int) = x + 32
+fun f33(x: Int) = x + 33
+fun f34(x: Int) = x + 34
+fun f35(x: Int) = x + 35
+fun f36(x: Int) = x + 36
+fun f37(x: Int) = x + 37
+fun f38(x: Int) = x + 38
+fun f39(x: Int) = x + 39
+fun f40(x: Int) = x + 40
+fun f41(x: Int) = x + 41
+fun f42(x: Int) = x + 42
+fun f43(x: Int) = x + 43
+fun f44(x: Int) = x + 44
+fun f45(x: Int) = x + 45
+fun f46(x: Int) = x + 46
+fun f47(x: Int) = x + 47
+fun f48(x: Int) = x + 48
+fun f49(x: Int) = x + 49
+fun f50(x: Int) = x + 50
+fun f51(x: Int) = x + 51
+fun f52(x: Int) = x + 52
+fun f53(x: Int) = x + 53
+fun f54(x: Int) = x + 54
+fun f55(x: Int) = x + 55
+fun f56(x: Int) = x + 56
+fun f57(x: Int) = x + 57
+fun f58(x: Int) = x + 58
+fun f59(x: Int) = x + 59
+fun f60(x: Int) = x + 60
+fun f61(x: Int) = x + 61
+fun f62(x: Int) = x + 62
+fun f63(x: Int) = x + 63
+fun f64(x: Int) = x + 64
+fun f65(x: Int) = x + 65
+fun f66(x: Int) = x + 66
+fun f67(x: Int) = x + 67
+fun f68(x: Int) = x + 68
+fun f69(x: Int) = x + 69
+fun f70(x: Int) = x + 70
+fun f71(x: Int) = x + 71
+fun f72(x: Int) = x + 72
+fun f73(x: Int) = x + 73
+fun f74(x: Int) = x + 74
+fun f75(x: Int) = x + 75
+fun f76(x: Int) = x + 76
+fun f77(x: Int) = x + 77
+fun f78(x: Int) = x + 78
+fun f79(x: Int) = x + 79
+fun f80(x: Int) = x + 80
+fun f81(x: Int) = x + 81
+fun f82(x: Int) = x + 82
+fun f83(x: Int) = x + 83
+fun f84(x: Int) = x + 84
+fun f85(x: Int) = x + 85
+fun f86(x: Int) = x + 86
+fun f87(x: Int) = x + 87
+fun f88(x: Int) = x + 88
+fun f89(x: Int) = x + 89
+fun f90(x: Int) = x + 90
+fun f91(x: Int) = x + 91
+fun f92(x: Int) = x + 92
+fun f93(x: Int) = x + 93
+fun f94(x: Int) = x + 94
+fun f95(x: Int) = x + 95
+fun f96(x: Int) = x + 96
+fun f97(x: Int) = x + 97
+fun f98(x: Int) = x + 98
+fun f99(x: Int) = x + 99
+fun f100(x: Int) = x + 100
+fun f101(x: Int) = x + 101
+fun f102(x: Int) = x + 102
+fun f103(x: Int) = x + 103
+fun f104(x: Int) = x + 104
+fun f105(x: Int) = x + 105
+fun f106(x: Int) = x + 106
+fun f107(x: Int) = x + 107
+fun f108(x: Int) = x + 108
+fun f109(x: Int) = x + 109
+fun f110(x: Int) = x + 110
+fun f111(x: Int) = x + 111
+fun f112(x: Int) = x + 112
+fun f113(x: Int) = x + 113
+fun f114(x: Int) = x + 114
+fun f115(x: Int) = x + 115
+fun f116(x: Int) = x + 116
+fun f117(x: Int) = x + 117
+fun f118(x: Int) = x + 118
+fun f119(x: Int) = x + 119
+fun f120(x: Int) = x + 120
+fun f121(x: Int) = x + 121
+fun f122(x: Int) = x + 122
+fun f123(x: Int) = x + 123
+fun f124(x: Int) = x + 124
+fun f125(x: Int) = x + 125
+fun f126(x: Int) = x + 126
+fun f127(x: Int) = x + 127
+fun f128(x: Int) = x + 128
+fun f129(x: Int) = x + 129
+fun f130(x: Int) = x + 130
+fun f131(x: Int) = x + 131
+fun f132(x: Int) = x + 132
+fun f133(x: Int) = x + 133
+fun f134(x: Int) = x + 134
+fun f135(x: Int) = x + 135
+fun f136(x: Int) = x + 136
+fun f137(x: Int) = x + 137
+fun f138(x: Int) = x + 138
+fun f139(x: Int) = x + 139
+fun f140(x: Int) = x + 140
+fun f141(x: Int) = x + 141
+fun f142(x: Int) = x + 142
+fun f143(x: Int) = x + 143
+fun f144(x: Int) = x + 144
+fun f145(x: Int) = x + 145
+fun f146(x: Int) = x + 146
+fun f147(x: Int) = x + 147
+fun f148(x: Int) = x + 148
+fun f149(x: Int) = x + 149
+fun f150(x: Int) = x + 150
+fun f151(x: Int) = x + 151
+fun f152(x: Int) = x + 152
+fun f153(x: Int) = x + 153
+fun f154(x: Int) = x + 154
+fun f155(x: Int) = x + 155
+fun f156(x: Int) = x + 156
+fun f157(x: Int) = x + 157
+fun f158(x: Int) = x + 158
+fun f159(x: Int) = x + 159
+fun f160(x: Int) = x + 160
+fun f161(x: Int) = x + 161
+fun f162(x: Int) = x + 162
+fun f163(x: Int) = x + 163
+fun f164(x: Int) = x + 164
+fun f165(x: Int) = x + 165
+fun f166(x: Int) = x + 166
+fun f167(x: Int) = x + 167
+fun f168(x: Int) = x + 168
+fun f169(x: Int) = x + 169
+fun f170(x: Int) = x + 170
+fun f171(x: Int) = x + 171
+fun f172(x: Int) = x + 172
+fun f173(x: Int) = x + 173
+fun f174(x: Int) = x + 174
+fun f175(x: Int) = x + 175
+fun f176(x: Int) = x + 176
+fun f177(x: Int) = x + 177
+fun f178(x: Int) = x + 178
+fun f179(x: Int) = x + 179
+fun f180(x: Int) = x + 180
+fun f181(x: Int) = x + 181
+fun f182(x: Int) = x + 182
+fun f183(x: Int) = x + 183
+fun f184(x: Int) = x + 184
+fun f185(x: Int) = x + 185
+fun f186(x: Int) = x + 186
+fun f187(x: Int) = x + 187
+fun f188(x: Int) = x + 188
+fun f189(x: Int) = x + 189
+fun f190(x: Int) = x + 190
+fun f191(x: Int) = x + 191
+fun f192(x: Int) = x + 192
+fun f193(x: Int) = x + 193
+fun f194(x: Int) = x + 194
+fun f195(x: Int) = x + 195
+fun f196(x: Int) = x + 196
+fun f197(x: Int) = x + 197
+fun f198(x: Int) = x + 198
+fun f199(x: Int) = x + 199
+fun f200(x: Int) = x + 200
+fun f201(x: Int) = x + 201
+fun f202(x: Int) = x + 202
+fun f203(x: Int) = x + 203
+fun f204(x: Int) = x + 204
+fun f205(x: Int) = x + 205
+fun f206(x: Int) = x + 206
+fun f207(x: Int) = x + 207
+fun f208(x: Int) = x + 208
+fun f209(x: Int) = x + 209
+fun f210(x: Int) = x + 210
+fun f211(x: Int) = x + 211
+fun f212(x: Int) = x + 212
+fun f213(x: Int) = x + 213
+fun f214(x: Int) = x + 214
+fun f215(x: Int) = x + 215
+fun f216(x: Int) = x + 216
+fun f217(x: Int) = x + 217
+fun f218(x: Int) = x + 218
+fun f219(x: Int) = x + 219
+fun f220(x: Int) = x + 220
+fun f221(x: Int) = x + 221
+fun f222(x: Int) = x + 222
+fun f223(x: Int) = x + 223
+fun f224(x: Int) = x + 224
+fun f225(x: Int) = x + 225
+fun f226(x: Int) = x + 226
+fun f227(x: Int) = x + 227
+fun f228(x: Int) = x + 228
+fun f229(x: Int) = x + 229
+fun f230(x: Int) = x + 230
+fun f231(x: Int) = x + 231
+fun f232(x: Int) = x + 232
+fun f233(x: Int) = x + 233
+fun f234(x: Int) = x + 234
+fun f235(x: Int) = x + 235
+fun f236(x: Int) = x + 236
+fun f237(x: Int) = x + 237
+fun f238(x: Int) = x + 238
+fun f239(x: Int) = x + 239
+fun f240(x: Int) = x + 240
+fun f241(x: Int) = x + 241
+fun f242(x: Int) = x + 242
+fun f243(x: Int) = x + 243
+fun f244(x: Int) = x + 244
+fun f245(x: Int) = x + 245
+fun f246(x: Int) = x + 246
+fun f247(x: Int) = x + 247
+fun f248(x: Int) = x + 248
+fun f249(x: Int) = x + 249
+fun f250(x: Int) = x + 250
+fun f251(x: Int) = x + 251
+fun f252(x: Int) = x + 252
+fun f253(x: Int) = x + 253
+fun f254(x: Int) = x + 254
+fun f255(x: Int) = x + 255
+fun f256(x: Int) = x + 256
+fun f257(x: Int) = x + 257
+fun f258(x: Int) = x + 258
+fun f259(x: Int) = x + 259
+fun f260(x: Int) = x + 260
+fun f261(x: Int) = x + 261
+fun f262(x: Int) = x + 262
+fun f263(x: Int) = x + 263
+fun f264(x: Int) = x + 264
+fun f265(x: Int) = x + 265
+fun f266(x: Int) = x + 266
+fun f267(x: Int) = x + 267
+fun f268(x: Int) = x + 268
+fun f269(x: Int) = x + 269
+fun f270(x: Int) = x + 270
+fun f271(x: Int) = x + 271
+fun f272(x: Int) = x + 272
+fun f273(x: Int) = x + 273
+fun f274(x: Int) = x + 274
+fun f275(x: Int) = x + 275
+fun f276(x: Int) = x + 276
+fun f277(x: Int) = x + 277
+fun f278(x: Int) = x + 278
+fun f279(x: Int) = x + 279
+fun f280(x: Int) = x + 280
+fun f281(x: Int) = x + 281
+fun f282(x: Int) = x + 282
+fun f283(x: Int) = x + 283
+fun f284(x: Int) = x + 284
+fun f285(x: Int) = x + 285
+fun f286(x: Int) = x + 286
+fun f287(x: Int) = x + 287
+fun f288(x: Int) = x + 288
+fun f289(x: Int) = x + 289
+fun f290(x: Int) = x + 290
+fun f291(x: Int) = x + 291
+fun f292(x: Int) = x + 292
+fun f293(x: Int) = x + 293
+fun f294(x: Int) = x + 294
+fun f295(x: Int) = x + 295
+fun f296(x: Int) = x + 296
+fun f297(x: Int) = x + 297
+fun f298(x: Int) = x + 298
+fun f299(x: Int) = x + 299
+fun f300(x: Int) = x + 300
+fun f301(x: Int) = x + 301
+fun f302(x: Int) = x + 302
+fun f303(x: Int) = x + 303
+fun f304(x: Int) = x + 304
+fun f305(x: Int) = x + 305
+fun f306(x: Int) = x + 306
+fun f307(x: Int) = x + 307
+fun f308(x: Int) = x + 308
+fun f309(x: Int) = x + 309
+fun f310(x: Int) = x + 310
+fun f311(x: Int) = x + 311
+fun f312(x: Int) = x + 312
+fun f313(x: Int) = x + 313
+fun f314(x: Int) = x + 314
+fun f315(x: Int) = x + 315
+fun f316(x: Int) = x + 316
+fun f317(x: Int) = x + 317
+fun f318(x: Int) = x + 318
+fun f319(x: Int) = x + 319
+fun f320(x: Int) = x + 320
+fun f321(x: Int) = x + 321
+fun f322(x: Int) = x + 322
+fun f323(x: Int) = x + 323
+fun f324(x: Int) = x + 324
+fun f325(x: Int) = x + 325
+fun f326(x: Int) = x + 326
+fun f327(x: Int) = x + 327
+fun f328(x: Int) = x + 328
+fun f329(x: Int) = x + 329
+fun f330(x: Int) = x + 330
+fun f331(x: Int) = x + 331
+fun f332(x: Int) = x + 332
+fun f333(x: Int) = x + 333
+fun f334(x: Int) = x + 334
+fun f335(x: Int) = x + 335
+fun f336(x: Int) = x + 336
+fun f337(x: Int) = x + 337
+fun f338(x: Int) = x + 338
+fun f339(x: Int) = x + 339
+fun f340(x: Int) = x + 340
+fun f341(x: Int) = x + 341
+fun f342(x: Int) = x + 342
+fun f343(x: Int) = x + 343
+fun f344(x: Int) = x + 344
+fun f345(x: Int) = x + 345
+fun f346(x: Int) = x + 346
+fun f347(x: Int) = x + 347
+fun f348(x: Int) = x + 348
+fun f349(x: Int) = x + 349
+fun f350(x: Int) = x + 350
+fun f351(x: Int) = x + 351
+fun f352(x: Int) = x + 352
+fun f353(x: Int) = x + 353
+fun f354(x: Int) = x + 354
+fun f355(x: Int) = x + 355
+fun f356(x: Int) = x + 356
+fun f357(x: Int) = x + 357
+fun f358(x: Int) = x + 358
+fun f359(x: Int) = x + 359
+fun f360(x: Int) = x + 360
+fun f361(x: Int) = x + 361
+fun f362(x: Int) = x + 362
+fun f363(x: Int) = x + 363
+fun f364(x: Int) = x + 364
+fun f365(x: Int) = x + 365
+fun f366(x: Int) = x + 366
+fun f367(x: Int) = x + 367
+fun f368(x: Int) = x + 368
+fun f369(x: Int) = x + 369
+fun f370(x: Int) = x + 370
+fun f371(x: Int) = x + 371
+fun f372(x: Int) = x + 372
+fun f373(x: Int) = x + 373
+fun f374(x: Int) = x + 374
+fun f375(x: Int) = x + 375
+fun f376(x: Int) = x + 376
+fun f377(x: Int) = x + 377
+fun f378(x: Int) = x + 378
+fun f379(x: Int) = x + 379
+fun f380(x: Int) = x + 380
+fun f381(x: Int) = x + 381
+fun f382(x: Int) = x + 382
+fun f383(x: Int) = x + 383
+fun f384(x: Int) = x + 384
+fun f385(x: Int) = x + 385
+fun f386(x: Int) = x + 386
+fun f387(x: Int) = x + 387
+fun f388(x: Int) = x + 388
+fun f389(x: Int) = x + 389
+fun f390(x: Int) = x + 390
+fun f391(x: Int) = x + 391
+fun f392(x: Int) = x + 392
+fun f393(x: Int) = x + 393
+fun f394(x: Int) = x + 394
+fun f395(x: Int) = x + 395
+fun f396(x: Int) = x + 396
+fun f397(x: Int) = x + 397
+fun f398(x: Int) = x + 398
+fun f399(x: Int) = x + 399
+fun f400(x: Int) = x + 400
+fun f401(x: Int) = x + 401
+fun f402(x: Int) = x + 402
+fun f403(x: Int) = x + 403
+fun f404(x: Int) = x + 404
+fun f405(x: Int) = x + 405
+fun f406(x: Int) = x + 406
+fun f407(x: Int) = x + 407
+fun f408(x: Int) = x + 408
+fun f409(x: Int) = x + 409
+fun f410(x: Int) = x + 410
+fun f411(x: Int) = x + 411
+fun f412(x: Int) = x + 412
+fun f413(x: Int) = x + 413
+fun f414(x: Int) = x + 414
+fun f415(x: Int) = x + 415
+fun f416(x: Int) = x + 416
+fun f417(x: Int) = x + 417
+fun f418(x: Int) = x + 418
+fun f419(x: Int) = x + 419
+fun f420(x: Int) = x + 420
+fun f421(x: Int) = x + 421
+fun f422(x: Int) = x + 422
+fun f423(x: Int) = x + 423
+fun f424(x: Int) = x + 424
+fun f425(x: Int) = x + 425
+fun f426(x: Int) = x + 426
+fun f427(x: Int) = x + 427
+fun f428(x: Int) = x + 428
+fun f429(x: Int) = x + 429
+fun f430(x: Int) = x + 430
+fun f431(x: Int) = x + 431
+fun f432(x: Int) = x + 432
+fun f433(x: Int) = x + 433
+fun f434(x: Int) = x + 434
+fun f435(x: Int) = x + 435
+fun f436(x: Int) = x + 436
+fun f437(x: Int) = x + 437
+fun f438(x: Int) = x + 438
+fun f439(x: Int) = x + 439
+fun f440(x: Int) = x + 440
+fun f441(x: Int) = x + 441
+fun f442(x: Int) = x + 442
+fun f443(x: Int) = x + 443
+fun f444(x: Int) = x + 444
+fun f445(x: Int) = x + 445
+fun f446(x: Int) = x + 446
+fun f447(x: Int) = x + 447
+fun f448(x: Int) = x + 448
+fun f449(x: Int) = x + 449
+fun f450(x: Int) = x + 450
+fun f451(x: Int) = x + 451
+fun f452(x: Int) = x + 452
+fun f453(x: Int) = x + 453
+fun f454(x: Int) = x + 454
+fun f455(x: Int) = x + 455
+fun f456(x: Int) = x + 456
+fun f457(x: Int) = x + 457
+fun f458(x: Int) = x + 458
+fun f459(x: Int) = x + 459
+fun f460(x: Int) = x + 460
+fun f461(x: Int) = x + 461
+fun f462(x: Int) = x + 462
+fun f463(x: Int) = x + 463
+fun f464(x: Int) = x + 464
+fun f465(x: Int) = x + 465
+fun f466(x: Int) = x + 466
+fun f467(x: Int) = x + 467
+fun f468(x: Int) = x + 468
+fun f469(x: Int) = x + 469
+fun f470(x: Int) = x + 470
+fun f471(x: Int) = x + 471
+fun f472(x: Int) = x + 472
+fun f473(x: Int) = x + 473
+fun f474(x: Int) = x + 474
+fun f475(x: Int) = x + 475
+fun f476(x: Int) = x + 476
+fun f477(x: Int) = x + 477
+fun f478(x: Int) = x + 478
+fun f479(x: Int) = x + 479
+fun f480(x: Int) = x + 480
+fun f481(x: Int) = x + 481
+fun f482(x: Int) = x + 482
+fun f483(x: Int) = x + 483
+fun f484(x: Int) = x + 484
+fun f485(x: Int) = x + 485
+fun f486(x: Int) = x + 486
+fun f487(x: Int) = x + 487
+fun f488(x: Int) = x + 488
+fun f489(x: Int) = x + 489
+fun f490(x: Int) = x + 490
+fun f491(x: Int) = x + 491
+fun f492(x: Int) = x + 492
+fun f493(x: Int) = x + 493
+fun f494(x: Int) = x + 494
+fun f495(x: Int) = x + 495
+fun f496(x: Int) = x + 496
+fun f497(x: Int) = x + 497
+fun f498(x: Int) = x + 498
+fun f499(x: Int) = x + 499
+fun f500(x: Int) = x + 500
+fun f501(x: Int) = x + 501
+fun f502(x: Int) = x + 502
+fun f503(x: Int) = x + 503
+fun f504(x: Int) = x + 504
+fun f505(x: Int) = x + 505
+fun f506(x: Int) = x + 506
+fun f507(x: Int) = x + 507
+fun f508(x: Int) = x + 508
+fun f509(x: Int) = x + 509
+fun f510(x: Int) = x + 510
+fun f511(x: Int) = x + 511
+fun f512(x: Int) = x + 512
+fun f513(x: Int) = x + 513
+fun f514(x: Int) = x + 514
+fun f515(x: Int) = x + 515
+fun f516(x: Int) = x + 516
+fun f517(x: Int) = x + 517
+fun f518(x: Int) = x + 518
+fun f519(x: Int) = x + 519
+fun f520(x: Int) = x + 520
+fun f521(x: Int) = x + 521
+fun f522(x: Int) = x + 522
+fun f523(x: Int) = x + 523
+fun f524(x: Int) = x + 524
+fun f525(x: Int) = x + 525
+fun f526(x: Int) = x + 526
+fun f527(x: Int) = x + 527
+fun f528(x: Int) = x + 528
+fun f529(x: Int) = x + 529
+fun f530(x: Int) = x + 530
+fun f531(x: Int) = x + 531
+fun f532(x: Int) = x + 532
+fun f533(x: Int) = x + 533
+fun f534(x: Int) = x + 534
+fun f535(x: Int) = x + 535
+fun f536(x: Int) = x + 536
+fun f537(x: Int) = x + 537
+fun f538(x: Int) = x + 538
+fun f539(x: Int) = x + 539
+fun f540(x: Int) = x + 540
+fun f541(x: Int) = x + 541
+fun f542(x: Int) = x + 542
+fun f543(x: Int) = x + 543
+fun f544(x: Int) = x + 544
+fun f545(x: Int) = x + 545
+fun f546(x: Int) = x + 546
+fun f547(x: Int) = x + 547
+fun f548(x: Int) = x + 548
+fun f549(x: Int) = x + 549
+fun f550(x: Int) = x + 550
+fun f551(x: Int) = x + 551
+fun f552(x: Int) = x + 552
+fun f553(x: Int) = x + 553
+fun f554(x: Int) = x + 554
+fun f555(x: Int) = x + 555
+fun f556(x: Int) = x + 556
+fun f557(x: Int) = x + 557
+fun f558(x: Int) = x + 558
+fun f559(x: Int) = x + 559
+fun f560(x: Int) = x + 560
+fun f561(x: Int) = x + 561
+fun f562(x: Int) = x + 562
+fun f563(x: Int) = x + 563
+fun f564(x: Int) = x + 564
+fun f565(x: Int) = x + 565
+fun f566(x: Int) = x + 566
+fun f567(x: Int) = x + 567
+fun f568(x: Int) = x + 568
+fun f569(x: Int) = x + 569
+fun f570(x: Int) = x + 570
+fun f571(x: Int) = x + 571
+fun f572(x: Int) = x + 572
+fun f573(x: Int) = x + 573
+fun f574(x: Int) = x + 574
+fun f575(x: Int) = x + 575
+fun f576(x: Int) = x + 576
+fun f577(x: Int) = x + 577
+fun f578(x: Int) = x + 578
+fun f579(x: Int) = x + 579
+fun f580(x: Int) = x + 580
+fun f581(x: Int) = x + 581
+fun f582(x: Int) = x + 582
+fun f583(x: Int) = x + 583
+fun f584(x: Int) = x + 584
+fun f585(x: Int) = x + 585
+fun f586(x: Int) = x + 586
+fun f587(x: Int) = x + 587
+fun f588(x: Int) = x + 588
+fun f589(x: Int) = x + 589
+fun f590(x: Int) = x + 590
+fun f591(x: Int) = x + 591
+fun f592(x: Int) = x + 592
+fun f593(x: Int) = x + 593
+fun f594(x: Int) = x + 594
+fun f595(x: Int) = x + 595
+fun f596(x: Int) = x + 596
+fun f597(x: Int) = x + 597
+fun f598(x: Int) = x + 598
+fun f599(x: Int) = x + 599
+fun f600(x: Int) = x + 600
+fun f601(x: Int) = x + 601
+fun f602(x: Int) = x + 602
+fun f603(x: Int) = x + 603
+fun f604(x: Int) = x + 604
+fun f605(x: Int) = x + 605
+fun f606(x: Int) = x + 606
+fun f607(x: Int) = x + 607
+fun f608(x: Int) = x + 608
+fun f609(x: Int) = x + 609
+fun f610(x: Int) = x + 610
+fun f611(x: Int) = x + 611
+fun f612(x: Int) = x + 612
+fun f613(x: Int) = x + 613
+fun f614(x: Int) = x + 614
+fun f615(x: Int) = x + 615
+fun f616(x: Int) = x + 616
+fun f617(x: Int) = x + 617
+fun f618(x: Int) = x + 618
+fun f619(x: Int) = x + 619
+fun f620(x: Int) = x + 620
+fun f621(x: Int) = x + 621
+fun f622(x: Int) = x + 622
+fun f623(x: Int) = x + 623
+fun f624(x: Int) = x + 624
+fun f625(x: Int) = x + 625
+fun f626(x: Int) = x + 626
+fun f627(x: Int) = x + 627
+fun f628(x: Int) = x + 628
+fun f629(x: Int) = x + 629
+fun f630(x: Int) = x + 630
+fun f631(x: Int) = x + 631
+fun f632(x: Int) = x + 632
+fun f633(x: Int) = x + 633
+fun f634(x: Int) = x + 634
+fun f635(x: Int) = x + 635
+fun f636(x: Int) = x + 636
+fun f637(x: Int) = x + 637
+fun f638(x: Int) = x + 638
+fun f639(x: Int) = x + 639
+fun f640(x: Int) = x + 640
+fun f641(x: Int) = x + 641
+fun f642(x: Int) = x + 642
+fun f643(x: Int) = x + 643
+fun f644(x: Int) = x + 644
+fun f645(x: Int) = x + 645
+fun f646(x: Int) = x + 646
+fun f647(x: Int) = x + 647
+fun f648(x: Int) = x + 648
+fun f649(x: Int) = x + 649
+fun f650(x: Int) = x + 650
+fun f651(x: Int) = x + 651
+fun f652(x: Int) = x + 652
+fun f653(x: Int) = x + 653
+fun f654(x: Int) = x + 654
+fun f655(x: Int) = x + 655
+fun f656(x: Int) = x + 656
+fun f657(x: Int) = x + 657
+fun f658(x: Int) = x + 658
+fun f659(x: Int) = x + 659
+fun f660(x: Int) = x + 660
+fun f661(x: Int) = x + 661
+fun f662(x: Int) = x + 662
+fun f663(x: Int) = x + 663
+fun f664(x: Int) = x + 664
+fun f665(x: Int) = x + 665
+fun f666(x: Int) = x + 666
+fun f667(x: Int) = x + 667
+fun f668(x: Int) = x + 668
+fun f669(x: Int) = x + 669
+fun f670(x: Int) = x + 670
+fun f671(x: Int) = x + 671
+fun f672(x: Int) = x + 672
+fun f673(x: Int) = x + 673
+fun f674(x: Int) = x + 674
+fun f675(x: Int) = x + 675
+fun f676(x: Int) = x + 676
+fun f677(x: Int) = x + 677
+fun f678(x: Int) = x + 678
+fun f679(x: Int) = x + 679
+fun f680(x: Int) = x + 680
+fun f681(x: Int) = x + 681
+fun f682(x: Int) = x + 682
+fun f683(x: Int) = x + 683
+fun f684(x: Int) = x + 684
+fun f685(x: Int) = x + 685
+fun f686(x: Int) = x + 686
+fun f687(x: Int) = x + 687
+fun f688(x: Int) = x + 688
+fun f689(x: Int) = x + 689
+fun f690(x: Int) = x + 690
+fun f691(x: Int) = x + 691
+fun f692(x: Int) = x + 692
+fun f693(x: Int) = x + 693
+fun f694(x: Int) = x + 694
+fun f695(x: Int) = x + 695
+fun f696(x: Int) = x + 696
+fun f697(x: Int) = x + 697
+fun f698(x: Int) = x + 698
+fun f699(x: Int) = x + 699
+fun f700(x: Int) = x + 700
+fun f701(x: Int) = x + 701
+fun f702(x: Int) = x + 702
+fun f703(x: Int) = x + 703
+fun f704(x: Int) = x + 704
+fun f705(x: Int) = x + 705
+fun f706(x: Int) = x + 706
+fun f707(x: Int) = x + 707
+fun f708(x: Int) = x + 708
+fun f709(x: Int) = x + 709
+fun f710(x: Int) = x + 710
+fun f711(x: Int) = x + 711
+fun f712(x: Int) = x + 712
+fun f713(x: Int) = x + 713
+fun f714(x: Int) = x + 714
+fun f715(x: Int) = x + 715
+fun f716(x: Int) = x + 716
+fun f717(x: Int) = x + 717
+fun f718(x: Int) = x + 718
+fun f719(x: Int) = x + 719
+fun f720(x: Int) = x + 720
+fun f721(x: Int) = x + 721
+fun f722(x: Int) = x + 722
+fun f723(x: Int) = x + 723
+fun f724(x: Int) = x + 724
+fun f725(x: Int) = x + 725
+fun f726(x: Int) = x + 726
+fun f727(x: Int) = x + 727
+fun f728(x: Int) = x + 728
+fun f729(x: Int) = x + 729
+fun f730(x: Int) = x + 730
+fun f731(x: Int) = x + 731
+fun f732(x: Int) = x + 732
+fun f733(x: Int) = x + 733
+fun f734(x: Int) = x + 734
+fun f735(x: Int) = x + 735
+fun f736(x: Int) = x + 736
+fun f737(x: Int) = x + 737
+fun f738(x: Int) = x + 738
+fun f739(x: Int) = x + 739
+fun f740(x: Int) = x + 740
+fun f741(x: Int) = x + 741
+fun f742(x: Int) = x + 742
+fun f743(x: Int) = x + 743
+fun f744(x: Int) = x + 744
+fun f745(x: Int) = x + 745
+fun f746(x: Int) = x + 746
+fun f747(x: Int) = x + 747
+fun f748(x: Int) = x + 748
+fun f749(x: Int) = x + 749
+fun f750(x: Int) = x + 750
+fun f751(x: Int) = x + 751
+fun f752(x: Int) = x + 752
+fun f753(x: Int) = x + 753
+fun f754(x: Int) = x + 754
+fun f755(x: Int) = x + 755
+fun f756(x: Int) = x + 756
+fun f757(x: Int) = x + 757
+fun f758(x: Int) = x + 758
+fun f759(x: Int) = x + 759
+fun f760(x: Int) = x + 760
+fun f761(x: Int) = x + 761
+fun f762(x: Int) = x + 762
+fun f763(x: Int) = x + 763
+fun f764(x: Int) = x + 764
+fun f765(x: Int) = x + 765
+fun f766(x: Int) = x + 766
+fun f767(x: Int) = x + 767
+fun f768(x: Int) = x + 768
+fun f769(x: Int) = x + 769
+fun f770(x: Int) = x + 770
+fun f771(x: Int) = x + 771
+fun f772(x: Int) = x + 772
+fun f773(x: Int) = x + 773
+fun f774(x: Int) = x + 774
+fun f775(x: Int) = x + 775
+fun f776(x: Int) = x + 776
+fun f777(x: Int) = x + 777
+fun f778(x: Int) = x + 778
+fun f779(x: Int) = x + 779
+fun f780(x: Int) = x + 780
+fun f781(x: Int) = x + 781
+fun f782(x: Int) = x + 782
+fun f783(x: Int) = x + 783
+fun f784(x: Int) = x + 784
+fun f785(x: Int) = x + 785
+fun f786(x: Int) = x + 786
+fun f787(x: Int) = x + 787
+fun f788(x: Int) = x + 788
+fun f789(x: Int) = x + 789
+fun f790(x: Int) = x + 790
+fun f791(x: Int) = x + 791
+fun f792(x: Int) = x + 792
+fun f793(x: Int) = x + 793
+fun f794(x: Int) = x + 794
+fun f795(x: Int) = x + 795
+fun f796(x: Int) = x + 796
+fun f797(x: Int) = x + 797
+fun f798(x: Int) = x + 798
+fun f799(x: Int) = x + 799
+fun f800(x: Int) = x + 800
+fun f801(x: Int) = x + 801
+fun f802(x: Int) = x + 802
+fun f803(x: Int) = x + 803
+fun f804(x: Int) = x + 804
+fun f805(x: Int) = x + 805
+fun f806(x: Int) = x + 806
+fun f807(x: Int) = x + 807
+fun f808(x: Int) = x + 808
+fun f809(x: Int) = x + 809
+fun f810(x: Int) = x + 810
+fun f811(x: Int) = x + 811
+fun f812(x: Int) = x + 812
+fun f813(x: Int) = x + 813
+fun f814(x: Int) = x + 814
+fun f815(x: Int) = x + 815
+fun f816(x: Int) = x + 816
+fun f817(x: Int) = x + 817
+fun f818(x: Int) = x + 818
+fun f819(x: Int) = x + 819
+fun f820(x: Int) = x + 820
+fun f821(x: Int) = x + 821
+fun f822(x: Int) = x + 822
+fun f823(x: Int) = x + 823
+fun f824(x: Int) = x + 824
+fun f825(x: Int) = x + 825
+fun f826(x: Int) = x + 826
+fun f827(x: Int) = x + 827
+fun f828(x: Int) = x + 828
+fun f829(x: Int) = x + 829
+fun f830(x: Int) = x + 830
+fun f831(x: Int) = x + 831
+fun f832(x: Int) = x + 832
+fun f833(x: Int) = x + 833
+fun f834(x: Int) = x + 834
+fun f835(x: Int) = x + 835
+fun f836(x: Int) = x + 836
+fun f837(x: Int) = x + 837
+fun f838(x: Int) = x + 838
+fun f839(x: Int) = x + 839
+fun f840(x: Int) = x + 840
+fun f841(x: Int) = x + 841
+fun f842(x: Int) = x + 842
+fun f843(x: Int) = x + 843
+fun f844(x: Int) = x + 844
+fun f845(x: Int) = x + 845
+fun f846(x: Int) = x + 846
+fun f847(x: Int) = x + 847
+fun f848(x: Int) = x + 848
+fun f849(x: Int) = x + 849
+fun f850(x: Int) = x + 850
+fun f851(x: Int) = x + 851
+fun f852(x: Int) = x + 852
+fun f853(x: Int) = x + 853
+fun f854(x: Int) = x + 854
+fun f855(x: Int) = x + 855
+fun f856(x: Int) = x + 856
+fun f857(x: Int) = x + 857
+fun f858(x: Int) = x + 858
+fun f859(x: Int) = x + 859
+fun f860(x: Int) = x + 860
+fun f861(x: Int) = x + 861
+fun f862(x: Int) = x + 862
+fun f863(x: Int) = x + 863
+fun f864(x: Int) = x + 864
+fun f865(x: Int) = x + 865
+fun f866(x: Int) = x + 866
+fun f867(x: Int) = x + 867
+fun f868(x: Int) = x + 868
+fun f869(x: Int) = x + 869
+fun f870(x: Int) = x + 870
+fun f871(x: Int) = x + 871
+fun f872(x: Int) = x + 872
+fun f873(x: Int) = x + 873
+fun f874(x: Int) = x + 874
+fun f875(x: Int) = x + 875
+fun f876(x: Int) = x + 876
+fun f877(x: Int) = x + 877
+fun f878(x: Int) = x + 878
+fun f879(x: Int) = x + 879
+fun f880(x: Int) = x + 880
+fun f881(x: Int) = x + 881
+fun f882(x: Int) = x + 882
+fun f883(x: Int) = x + 883
+fun f884(x: Int) = x + 884
+fun f885(x: Int) = x + 885
+fun f886(x: Int) = x + 886
+fun f887(x: Int) = x + 887
+fun f888(x: Int) = x + 888
+fun f889(x: Int) = x + 889
+fun f890(x: Int) = x + 890
+fun f891(x: Int) = x + 891
+fun f892(x: Int) = x + 892
+fun f893(x: Int) = x + 893
+fun f894(x: Int) = x + 894
+fun f895(x: Int) = x + 895
+fun f896(x: Int) = x + 896
+fun f897(x: Int) = x + 897
+fun f898(x: Int) = x + 898
+fun f899(x: Int) = x + 899
+fun f900(x: Int) = x + 900
+fun f901(x: Int) = x + 901
+fun f902(x: Int) = x + 902
+fun f903(x: Int) = x + 903
+fun f904(x: Int) = x + 904
+fun f905(x: Int) = x + 905
+fun f906(x: Int) = x + 906
+fun f907(x: Int) = x + 907
+fun f908(x: Int) = x + 908
+fun f909(x: Int) = x + 909
+fun f910(x: Int) = x + 910
+fun f911(x: Int) = x + 911
+fun f912(x: Int) = x + 912
+fun f913(x: Int) = x + 913
+fun f914(x: Int) = x + 914
+fun f915(x: Int) = x + 915
+fun f916(x: Int) = x + 916
+fun f917(x: Int) = x + 917
+fun f918(x: Int) = x + 918
+fun f919(x: Int) = x + 919
+fun f920(x: Int) = x + 920
+fun f921(x: Int) = x + 921
+fun f922(x: Int) = x + 922
+fun f923(x: Int) = x + 923
+fun f924(x: Int) = x + 924
+fun f925(x: Int) = x + 925
+fun f926(x: Int) = x + 926
+fun f927(x: Int) = x + 927
+fun f928(x: Int) = x + 928
+fun f929(x: Int) = x + 929
+fun f930(x: Int) = x + 930
+fun f931(x: Int) = x + 931
+fun f932(x: Int) = x + 932
+fun f933(x: Int) = x + 933
+fun f934(x: Int) = x + 934
+fun f935(x: Int) = x + 935
+fun f936(x: Int) = x + 936
+fun f937(x: Int) = x + 937
+fun f938(x: Int) = x + 938
+fun f939(x: Int) = x + 939
+fun f940(x: Int) = x + 940
+fun f941(x: Int) = x + 941
+fun f942(x: Int) = x + 942
+fun f943(x: Int) = x + 943
+fun f944(x: Int) = x + 944
+fun f945(x: Int) = x + 945
+fun f946(x: Int) = x + 946
+fun f947(x: Int) = x + 947
+fun f948(x: Int) = x + 948
+fun f949(x: Int) = x + 949
+fun f950(x: Int) = x + 950
+fun f951(x: Int) = x + 951
+fun f952(x: Int) = x + 952
+fun f953(x: Int) = x + 953
+fun f954(x: Int) = x + 954
+fun f955(x: Int) = x + 955
+fun f956(x: Int) = x + 956
+fun f957(x: Int) = x + 957
+fun f958(x: Int) = x + 958
+fun f959(x: Int) = x + 959
+fun f960(x: Int) = x + 960
+fun f961(x: Int) = x + 961
+fun f962(x: Int) = x + 962
+fun f963(x: Int) = x + 963
+fun f964(x: Int) = x + 964
+fun f965(x: Int) = x + 965
+fun f966(x: Int) = x + 966
+fun f967(x: Int) = x + 967
+fun f968(x: Int) = x + 968
+fun f969(x: Int) = x + 969
+fun f970(x: Int) = x + 970
+fun f971(x: Int) = x + 971
+fun f972(x: Int) = x + 972
+fun f973(x: Int) = x + 973
+fun f974(x: Int) = x + 974
+fun f975(x: Int) = x + 975
+fun f976(x: Int) = x + 976
+fun f977(x: Int) = x + 977
+fun f978(x: Int) = x + 978
+fun f979(x: Int) = x + 979
+fun f980(x: Int) = x + 980
+fun f981(x: Int) = x + 981
+fun f982(x: Int) = x + 982
+fun f983(x: Int) = x + 983
+fun f984(x: Int) = x + 984
+fun f985(x: Int) = x + 985
+fun f986(x: Int) = x + 986
+fun f987(x: Int) = x + 987
+fun f988(x: Int) = x + 988
+fun f989(x: Int) = x + 989
+fun f990(x: Int) = x + 990
+fun f991(x: Int) = x + 991
+fun f992(x: Int) = x + 992
+fun f993(x: Int) = x + 993
+fun f994(x: Int) = x + 994
+fun f995(x: Int) = x + 995
+fun f996(x: Int) = x + 996
+fun f997(x: Int) = x + 997
+fun f998(x: Int) = x + 998
+fun f999(x: Int) = x + 999
+
+fun box(): String {
+    return if (f999(1) == 1000) "OK" else "fail"
+}
@@ -0,0 +1,14 @@
+package foo
+
+// CHECK_DEFINED: fromInitializer
+// CHECK_NOT_DEFINED: unused
+
+val greeting = fromInitializer()
+
+fun fromInitializer() = "Hello from initializer"
+
+fun unused() = greeting
+
+fun main(args: Array<String>) {
+    print(greeting)
+}
@@ -0,0 +1,28 @@
+package foo
+
+// CHECK_DEFINED: used
+// CHECK_DEFINED: UsedClass
+// CHECK_DEFINED: UsedBase
+// CHECK_NOT_DEFINED: unused
+// CHECK_NOT_DEFINED: usedOnlyByUnused
+// CHECK_NOT_DEFINED: UnusedClass
+
+open class UsedBase {
+    open fun greeting() = "Hello"
+}
+
+class UsedClass() : UsedBase() {
+    override fun greeting() = super.greeting() + ", world!"
+}
+
+class UnusedClass
+
+fun used(): String = UsedClass().greeting()
+
+fun usedOnlyByUnused(): UnusedClass = UnusedClass()
+
+fun unused(): UnusedClass = usedOnlyByUnused()
+
+fun main(args: Array<String>) {
+    print(used())
+}
@@ -0,0 +1,20 @@
+package foo
+
+// CHECK_DEFINED: box
+// CHECK_DEFINED: usedByBox
+// CHECK_DEFINED: notUsed
+// CHECK_DEFINED: NotUsedClass
+// CHECK_NOT_DEFINED: unusedPrivate
+// CHECK_NOT_DEFINED: UnusedPrivateClass
+
+private class UnusedPrivateClass
+
+private fun unusedPrivate(): UnusedPrivateClass = UnusedPrivateClass()
+
+private fun usedByBox() = "OK"
+
+public class NotUsedClass
+
+public fun notUsed(): String = "fail"
+
+fun box(): String = usedByBox()